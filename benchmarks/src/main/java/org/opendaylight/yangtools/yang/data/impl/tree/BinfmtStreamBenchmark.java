@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.common.io.ByteStreams;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamDictionary;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Benchmark suite measuring encoding and decoding throughput of the binary stream format over a number of typical data
+ * shapes. Encoded size and the number of nodes processed are reported as auxiliary counters, so that bytes per node can
+ * be derived. It is meant to be run with the GC profiler, which {@link #main(String...)} enables, to track allocation
+ * rates. Decoding exercises QName caching in the reader, as every benchmark invocation starts with a fresh reader.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class BinfmtStreamBenchmark {
+    /**
+     * Data shapes being encoded.
+     */
+    public enum Shape {
+        /**
+         * A single map with a large number of entries.
+         */
+        WIDE_MAP,
+        /**
+         * A number of container chains, each {@value #DEPTH} levels deep.
+         */
+        DEEP_CONTAINER,
+        /**
+         * A single ordered leaf-list with a large number of entries.
+         */
+        LEAF_LIST,
+        /**
+         * A container with a number of anyxml children.
+         */
+        ANYXML,
+        /**
+         * A {@link DataTreeCandidate} writing a {@link #WIDE_MAP}.
+         */
+        CANDIDATE;
+
+        static final int DEPTH = 32;
+    }
+
+    /**
+     * Stream encodings being compared.
+     */
+    public enum Encoding {
+        /**
+         * {@link NormalizedNodeStreamVersion#POTASSIUM} without a dictionary.
+         */
+        POTASSIUM,
+        /**
+         * {@link NormalizedNodeStreamVersion#POTASSIUM} with a {@link NormalizedNodeStreamDictionary} holding all
+         * QNames used by the payload.
+         */
+        POTASSIUM_DICTIONARY;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StreamSize {
+        public long bytes;
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            nodes = 0;
+        }
+    }
+
+    private static final QName ITEM = QName.create(BenchmarkModel.ID_QNAME, "item").intern();
+    private static final QName LEVEL = QName.create(BenchmarkModel.ID_QNAME, "level").intern();
+    private static final QName ANYXML = QName.create(BenchmarkModel.ID_QNAME, "anyxml").intern();
+    private static final int ANYXML_ELEMENTS = 100;
+
+    @Param
+    public Shape shape;
+
+    @Param
+    public Encoding encoding;
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private NormalizedNode data;
+    private DataTreeCandidate candidate;
+    private NormalizedNodeStreamDictionary dictionary;
+    private byte[] bytes;
+    private long nodeCount;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + BinfmtStreamBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = switch (shape) {
+            case WIDE_MAP, CANDIDATE -> createWideMap(size);
+            case DEEP_CONTAINER -> createDeepContainer(size);
+            case LEAF_LIST -> createLeafList(size);
+            case ANYXML -> createAnyxml(size);
+        };
+        if (shape == Shape.CANDIDATE) {
+            candidate = DataTreeCandidates.fromNormalizedNode(BenchmarkModel.OUTER_LIST_PATH, data);
+        }
+
+        final var qnames = new HashSet<QName>();
+        nodeCount = collectNodes(qnames, data);
+        dictionary = switch (encoding) {
+            case POTASSIUM -> null;
+            case POTASSIUM_DICTIONARY -> NormalizedNodeStreamDictionary.of(List.of(), qnames);
+        };
+
+        bytes = encodeData();
+    }
+
+    @Benchmark
+    public int encode(final StreamSize counters) throws IOException {
+        final int length = encodeData().length;
+        counters.bytes += length;
+        counters.nodes += nodeCount;
+        return length;
+    }
+
+    @Benchmark
+    public Object decode(final StreamSize counters) throws IOException {
+        final var dataInput = ByteStreams.newDataInput(bytes);
+        final var input = dictionary == null ? NormalizedNodeDataInput.newDataInput(dataInput)
+            : NormalizedNodeDataInput.newDataInput(dataInput, dictionary);
+        final Object ret = shape == Shape.CANDIDATE ? DataTreeCandidateInputOutput.readDataTreeCandidate(input)
+            : input.readNormalizedNode();
+        counters.bytes += bytes.length;
+        counters.nodes += nodeCount;
+        return ret;
+    }
+
+    private byte[] encodeData() throws IOException {
+        final var output = ByteStreams.newDataOutput(bytes == null ? 4096 : bytes.length);
+        try (var out = newDataOutput(output)) {
+            if (candidate != null) {
+                DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+            } else {
+                out.writeNormalizedNode(data);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private NormalizedNodeDataOutput newDataOutput(final DataOutput output) {
+        return dictionary == null ? NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)
+            : NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output, dictionary);
+    }
+
+    private static long collectNodes(final Set<QName> qnames, final NormalizedNode node) {
+        qnames.add(node.name().getNodeType());
+        long ret = 1;
+        if (node instanceof NormalizedContainer<?> container) {
+            for (var child : container.body()) {
+                ret += collectNodes(qnames, child);
+            }
+        }
+        return ret;
+    }
+
+    private static SystemMapNode createWideMap(final int size) {
+        final var list = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < size; ++i) {
+            list.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                    BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, "name-" + i))
+                .build());
+        }
+        return list.build();
+    }
+
+    private static ContainerNode createDeepContainer(final int size) {
+        final var level = new NodeIdentifier(LEVEL);
+        final var root = Builders.containerBuilder().withNodeIdentifier(BenchmarkModel.TEST);
+        for (int i = 0; i < size / Shape.DEPTH; ++i) {
+            DataContainerChild chain = ImmutableNodes.leafNode(ITEM, i);
+            for (int j = 1; j < Shape.DEPTH; ++j) {
+                chain = Builders.containerBuilder().withNodeIdentifier(level).withChild(chain).build();
+            }
+            root.withChild(Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(QName.create(LEVEL, "chain-" + i)))
+                .withChild(chain)
+                .build());
+        }
+        return root.build();
+    }
+
+    private static NormalizedNode createLeafList(final int size) {
+        final var leafList = Builders.<Uint32>orderedLeafSetBuilder().withNodeIdentifier(new NodeIdentifier(ITEM));
+        for (int i = 0; i < size; ++i) {
+            leafList.withChildValue(Uint32.valueOf(i));
+        }
+        return leafList.build();
+    }
+
+    private static ContainerNode createAnyxml(final int size) throws IOException {
+        final var sb = new StringBuilder("<data xmlns=\"urn:example:anyxml\">");
+        for (int i = 0; i < ANYXML_ELEMENTS; ++i) {
+            sb.append("<item id=\"").append(i).append("\">value-").append(i).append("</item>");
+        }
+        final var xml = sb.append("</data>").toString();
+
+        final var factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final var root = Builders.containerBuilder().withNodeIdentifier(BenchmarkModel.TEST);
+        try {
+            final var builder = factory.newDocumentBuilder();
+            for (int i = 0; i < size / ANYXML_ELEMENTS; ++i) {
+                final Document doc = builder.parse(new InputSource(new StringReader(xml)));
+                root.withChild(Builders.anyXmlBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(QName.create(ANYXML, "anyxml-" + i)))
+                    .withValue(new DOMSource(doc.getDocumentElement()))
+                    .build());
+            }
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException(e);
+        }
+        return root.build();
+    }
+}
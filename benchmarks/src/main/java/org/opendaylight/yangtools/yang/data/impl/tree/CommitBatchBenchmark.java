@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing committing a number of small transactions one by one against committing them as a single batch
+ * via {@link DataTree#commitBatch(List)}. Each transaction writes a single outer-list entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class CommitBatchBenchmark {
+    private static final int TRANSACTION_COUNT = 1000;
+
+    private static final YangInstanceIdentifier[] OUTER_LIST_PATHS = new YangInstanceIdentifier[TRANSACTION_COUNT];
+    private static final MapEntryNode[] OUTER_LIST_ENTRIES = new MapEntryNode[TRANSACTION_COUNT];
+
+    static {
+        for (int i = 0; i < TRANSACTION_COUNT; ++i) {
+            final var id = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i);
+            OUTER_LIST_PATHS[i] = BenchmarkModel.OUTER_LIST_PATH.node(id).toOptimized();
+            OUTER_LIST_ENTRIES[i] = ImmutableNodes.mapEntryBuilder().withNodeIdentifier(id).build();
+        }
+    }
+
+    private DataTree datastore;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + CommitBatchBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() throws DataValidationFailedException {
+        datastore = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            BenchmarkModel.createTestContext());
+
+        final DataTreeModification modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.TEST_PATH, Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST).build())
+            .build());
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+
+    @TearDown
+    public void tearDown() {
+        datastore = null;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTION_COUNT)
+    public void commitIndividually() throws DataValidationFailedException {
+        for (int i = 0; i < TRANSACTION_COUNT; ++i) {
+            final DataTreeModification modification = datastore.takeSnapshot().newModification();
+            modification.write(OUTER_LIST_PATHS[i], OUTER_LIST_ENTRIES[i]);
+            modification.ready();
+            datastore.validate(modification);
+            datastore.commit(datastore.prepare(modification));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTION_COUNT)
+    public void commitBatched() throws DataValidationFailedException {
+        final var snapshot = datastore.takeSnapshot();
+        final List<DataTreeModification> batch = new ArrayList<>(TRANSACTION_COUNT);
+        for (int i = 0; i < TRANSACTION_COUNT; ++i) {
+            final DataTreeModification modification = snapshot.newModification();
+            modification.write(OUTER_LIST_PATHS[i], OUTER_LIST_ENTRIES[i]);
+            modification.ready();
+            batch.add(modification);
+        }
+        datastore.commitBatch(batch);
+    }
+}
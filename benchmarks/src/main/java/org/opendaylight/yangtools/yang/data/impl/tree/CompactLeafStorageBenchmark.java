@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Benchmark of compact leaf storage on an operational tree holding interface counters. The tree is populated with
+ * a number of interfaces, whose counters are then updated in batches, just like a telemetry collector would do.
+ * Aside from the time it takes to update a batch, the footprint of the populated tree is reported as
+ * {@code footprintBytes}. It is the size of the object graph reachable from a snapshot of the tree, excluding objects
+ * reachable from a snapshot of the empty tree, such as the schema, as measured by JOL. Allocation rate of updates is
+ * reported by the GC profiler when run through {@link #main(String...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+public class CompactLeafStorageBenchmark {
+    /**
+     * Footprint of the tree, as measured after it has been populated.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long footprintBytes;
+    }
+
+    private static final QName INTERFACES_QNAME = QName.create(
+        "urn:opendaylight:params:xml:ns:yang:yangtools:benchmark:telemetry", "2023-10-01", "interfaces").intern();
+    private static final NodeIdentifier INTERFACES = NodeIdentifier.create(INTERFACES_QNAME);
+    private static final QName INTERFACE_QNAME = QName.create(INTERFACES_QNAME, "interface").intern();
+    private static final NodeIdentifier INTERFACE = NodeIdentifier.create(INTERFACE_QNAME);
+    private static final QName INDEX_QNAME = QName.create(INTERFACES_QNAME, "index").intern();
+    private static final QName[] COUNTER_QNAMES = {
+        QName.create(INTERFACES_QNAME, "in-octets").intern(),
+        QName.create(INTERFACES_QNAME, "in-packets").intern(),
+        QName.create(INTERFACES_QNAME, "out-octets").intern(),
+        QName.create(INTERFACES_QNAME, "out-packets").intern()
+    };
+    private static final YangInstanceIdentifier INTERFACE_PATH = YangInstanceIdentifier.of(INTERFACES, INTERFACE);
+    private static final int BATCH_SIZE = 10000;
+
+    @Param({ "false", "true" })
+    public boolean compactLeaves;
+
+    @Param({ "1000000" })
+    public int interfaceCount;
+
+    private DataTree datastore;
+    private long footprint;
+    private long generation;
+    private int nextInterface;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + CompactLeafStorageBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws DataValidationFailedException {
+        datastore = new InMemoryDataTreeFactory().create(new DataTreeConfiguration.Builder(TreeType.OPERATIONAL)
+            .setCompactLeafStorage(compactLeaves)
+            .build(), YangParserTestUtils.parseYangResource("/telemetry-test.yang"));
+        final DataTreeSnapshot empty = datastore.takeSnapshot();
+
+        final var interfaces = Builders.mapBuilder().withNodeIdentifier(INTERFACE);
+        for (int i = 0; i < interfaceCount; ++i) {
+            interfaces.withChild(interfaceEntry(i, 0));
+        }
+        final DataTreeModification modification = datastore.takeSnapshot().newModification();
+        modification.write(YangInstanceIdentifier.of(INTERFACES), Builders.containerBuilder()
+            .withNodeIdentifier(INTERFACES)
+            .withChild(interfaces.build())
+            .build());
+        commit(modification);
+
+        // Update all counters once, so that every entry has been modified since its creation
+        for (int i = 0; i < interfaceCount; i += BATCH_SIZE) {
+            updateCounters();
+        }
+
+        footprint = GraphLayout.parseInstance(datastore.takeSnapshot())
+            .subtract(GraphLayout.parseInstance(empty))
+            .totalSize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        datastore = null;
+    }
+
+    @Benchmark
+    public void updateCounters(final Footprint counters) throws DataValidationFailedException {
+        // Counters are reset at the start of each iteration, hence we report the measurement from here
+        counters.footprintBytes = footprint;
+        updateCounters();
+    }
+
+    private void updateCounters() throws DataValidationFailedException {
+        generation++;
+        final DataTreeModification modification = datastore.takeSnapshot().newModification();
+        final int end = Math.min(nextInterface + BATCH_SIZE, interfaceCount);
+        for (int i = nextInterface; i < end; ++i) {
+            final YangInstanceIdentifier entryPath = INTERFACE_PATH.node(interfaceId(i));
+            for (QName counter : COUNTER_QNAMES) {
+                modification.write(entryPath.node(counter), ImmutableNodes.leafNode(counter,
+                    Uint64.valueOf(generation * i)));
+            }
+        }
+        nextInterface = end == interfaceCount ? 0 : end;
+        commit(modification);
+    }
+
+    private void commit(final DataTreeModification modification) throws DataValidationFailedException {
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+
+    private static NodeIdentifierWithPredicates interfaceId(final int index) {
+        return NodeIdentifierWithPredicates.of(INTERFACE_QNAME, INDEX_QNAME, Uint32.valueOf(index));
+    }
+
+    private static MapEntryNode interfaceEntry(final int index, final long value) {
+        final var builder = Builders.mapEntryBuilder()
+            .withNodeIdentifier(interfaceId(index))
+            .withChild(ImmutableNodes.leafNode(INDEX_QNAME, Uint32.valueOf(index)));
+        for (QName counter : COUNTER_QNAMES) {
+            builder.withChild(ImmutableNodes.leafNode(counter, Uint64.valueOf(value)));
+        }
+        return builder.build();
+    }
+}
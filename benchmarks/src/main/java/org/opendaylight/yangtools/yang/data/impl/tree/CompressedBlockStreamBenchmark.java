@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.CompressedBlockInputStream;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.CompressedBlockOutputStream;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.CompressedBlocks;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark measuring the cost of compressing a Potassium stream with {@link CompressedBlockOutputStream} and of
+ * decompressing it sequentially and in parallel. Sizes of compressed and uncompressed streams are reported as auxiliary
+ * counters, so that compression ratio can be compared with throughput across compression levels and block sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class CompressedBlockStreamBenchmark {
+    /**
+     * Sizes of the stream produced by a single operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StreamSize {
+        public long compressedBytes;
+        public long uncompressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            compressedBytes = 0;
+            uncompressedBytes = 0;
+        }
+    }
+
+    @Param({ "1000", "100000" })
+    public int entryCount;
+
+    @Param({ "1", "6" })
+    public int level;
+
+    @Param({ "16384", "65536", "262144" })
+    public int blockSize;
+
+    private ContainerNode data;
+    private byte[] uncompressed;
+    private byte[] compressed;
+    private ExecutorService executor;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + CompressedBlockStreamBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var list = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < entryCount; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                    BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, "name-" + i))
+                .build());
+        }
+        data = Builders.containerBuilder().withNodeIdentifier(BenchmarkModel.TEST).withChild(list.build()).build();
+
+        final var baos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(new DataOutputStream(baos))) {
+            out.writeNormalizedNode(data);
+        }
+        uncompressed = baos.toByteArray();
+        compressed = compressBytes(uncompressed);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public byte[] compress(final StreamSize size) throws IOException {
+        final var result = compressBytes(uncompressed);
+        size.compressedBytes += result.length;
+        size.uncompressedBytes += uncompressed.length;
+        return result;
+    }
+
+    @Benchmark
+    public byte[] writeCompressedStream() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(new CompressedBlockOutputStream(baos, blockSize, level))) {
+            try (var writer = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(out)) {
+                writer.writeNormalizedNode(data);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public NormalizedNode readCompressedStream() throws IOException {
+        try (var in = new DataInputStream(new CompressedBlockInputStream(new ByteArrayInputStream(compressed)))) {
+            return NormalizedNodeDataInput.newDataInput(in).readNormalizedNode();
+        }
+    }
+
+    @Benchmark
+    public NormalizedNode readParallelDecompressed() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(
+            ByteBuffer.wrap(CompressedBlocks.decompress(ByteBuffer.wrap(compressed), executor))).readNormalizedNode();
+    }
+
+    private byte[] compressBytes(final byte[] bytes) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (var out = new CompressedBlockOutputStream(baos, blockSize, level)) {
+            out.write(bytes);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateAggregator;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of aggregating a chain of {@link DataTreeCandidate}s, as a listener coalescing queued notifications
+ * would do. Each candidate modifies a single inner-list entry, with entries being touched by multiple candidates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class DataTreeCandidateAggregateBenchmark {
+    private static final int OUTER_LIST_SIZE = 100;
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "10", "100", "1000" })
+    public int candidateCount;
+
+    private List<DataTreeCandidate> candidates;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DataTreeCandidateAggregateBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() throws DataValidationFailedException {
+        final DataTree datastore = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            BenchmarkModel.createTestContext());
+        final var outerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            outerList.withChild(outerEntry(i));
+        }
+        final var initial = datastore.takeSnapshot().newModification();
+        initial.write(BenchmarkModel.TEST_PATH, ImmutableNodes.containerNode(BenchmarkModel.TEST));
+        initial.write(BenchmarkModel.OUTER_LIST_PATH, outerList.build());
+        commit(datastore, initial);
+
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; ++i) {
+            final var mod = datastore.takeSnapshot().newModification();
+            final int outer = i % OUTER_LIST_SIZE;
+            final var name = "name-" + i % INNER_LIST_SIZE;
+            mod.write(BenchmarkModel.OUTER_LIST_PATH.node(outerId(outer))
+                .node(BenchmarkModel.INNER_LIST)
+                .node(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.NAME_QNAME, name))
+                .node(BenchmarkModel.VALUE_QNAME), ImmutableNodes.leafNode(BenchmarkModel.VALUE_QNAME, "update-" + i));
+            candidates.add(commit(datastore, mod));
+        }
+    }
+
+    @Benchmark
+    public DataTreeCandidate aggregate() {
+        return DataTreeCandidates.aggregate(candidates);
+    }
+
+    @Benchmark
+    public DataTreeCandidate appendIncrementally() {
+        final var aggregator = new DataTreeCandidateAggregator(YangInstanceIdentifier.of());
+        for (var candidate : candidates) {
+            aggregator.append(candidate);
+        }
+        return aggregator.build();
+    }
+
+    private static DataTreeCandidate commit(final DataTree datastore, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        datastore.validate(mod);
+        final var candidate = datastore.prepare(mod);
+        datastore.commit(candidate);
+        return candidate;
+    }
+
+    private static NodeIdentifierWithPredicates outerId(final int id) {
+        return NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, id);
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        final var innerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.INNER_LIST_QNAME);
+        for (int i = 0; i < INNER_LIST_SIZE; ++i) {
+            final var name = "name-" + i;
+            innerList.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME,
+                    BenchmarkModel.NAME_QNAME, name))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, name))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.VALUE_QNAME, "value-" + id + "-" + i))
+                .build());
+        }
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(outerId(id))
+            .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, id))
+            .withChild(innerList.build())
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing serialization of a change notification stream, consisting of candidates rooted at individual
+ * entries of a single list, written one-by-one via
+ * {@link DataTreeCandidateInputOutput#writeDataTreeCandidate(
+ * org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput, DataTreeCandidate)} and as a batch via
+ * {@link DataTreeCandidateInputOutput#writeDataTreeCandidates(
+ * org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput, List)}. Serialized sizes are reported
+ * as auxiliary counters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class DataTreeCandidateBatchBenchmark {
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StreamSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static final NodeIdentifier NAME = new NodeIdentifier(BenchmarkModel.NAME_QNAME);
+
+    @Param({ "100", "10000" })
+    public int candidateCount;
+
+    private List<DataTreeCandidate> candidates;
+    private byte[] individual;
+    private byte[] batch;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DataTreeCandidateBatchBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; ++i) {
+            candidates.add(DataTreeCandidates.fromNormalizedNode(BenchmarkModel.OUTER_LIST_PATH
+                .node(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i))
+                .node(NAME), ImmutableNodes.leafNode(NAME, "name-" + i)));
+        }
+        individual = encodeIndividual();
+        batch = encodeBatch();
+    }
+
+    @Benchmark
+    public int writeIndividual(final StreamSize size) throws IOException {
+        final int length = encodeIndividual().length;
+        size.bytes += length;
+        return length;
+    }
+
+    @Benchmark
+    public int writeBatch(final StreamSize size) throws IOException {
+        final int length = encodeBatch().length;
+        size.bytes += length;
+        return length;
+    }
+
+    @Benchmark
+    public List<DataTreeCandidate> readIndividual() throws IOException {
+        final var in = newDataInput(individual);
+        final var ret = new ArrayList<DataTreeCandidate>(candidateCount);
+        for (int i = 0; i < candidateCount; ++i) {
+            ret.add(DataTreeCandidateInputOutput.readDataTreeCandidate(in));
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public List<DataTreeCandidate> readBatch() throws IOException {
+        return DataTreeCandidateInputOutput.readDataTreeCandidates(newDataInput(batch));
+    }
+
+    private byte[] encodeIndividual() throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bos))) {
+            for (var candidate : candidates) {
+                DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private byte[] encodeBatch() throws IOException {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bos))) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidates(out, candidates);
+        }
+        return bos.toByteArray();
+    }
+
+    private static NormalizedNodeDataInput newDataInput(final byte[] bytes) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateVisitor;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of consuming a serialized {@link org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate}, as
+ * a change notification publisher would do. The current path deserializes the candidate via
+ * {@link DataTreeCandidateInputOutput#readDataTreeCandidate(NormalizedNodeDataInput)} and then walks it, whereas
+ * the streaming path feeds the serialized form directly to a {@link DataTreeCandidateVisitor}. Both paths emit
+ * the data into the same counting {@link NormalizedNodeStreamWriter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class DataTreeCandidateStreamingBenchmark {
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "100", "10000" })
+    public int outerListSize;
+
+    private byte[] serialized;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DataTreeCandidateStreamingBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() throws DataValidationFailedException, IOException {
+        final DataTree datastore = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            BenchmarkModel.createTestContext());
+        final var mod = datastore.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.TEST_PATH, ImmutableNodes.containerNode(BenchmarkModel.TEST));
+        final var outerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST_QNAME);
+        for (int i = 0; i < outerListSize; ++i) {
+            outerList.withChild(outerEntry(i));
+        }
+        mod.write(BenchmarkModel.OUTER_LIST_PATH, outerList.build());
+        mod.ready();
+        datastore.validate(mod);
+        final var candidate = datastore.prepare(mod);
+        datastore.commit(candidate);
+
+        final var bos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bos))) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        }
+        serialized = bos.toByteArray();
+    }
+
+    @Benchmark
+    public long readAndVisit() throws IOException {
+        final var visitor = new CountingVisitor();
+        DataTreeCandidates.accept(DataTreeCandidateInputOutput.readDataTreeCandidate(newDataInput()), visitor);
+        return visitor.writer.events;
+    }
+
+    @Benchmark
+    public long stream() throws IOException {
+        final var visitor = new CountingVisitor();
+        DataTreeCandidateInputOutput.streamDataTreeCandidate(newDataInput(), visitor);
+        return visitor.writer.events;
+    }
+
+    private NormalizedNodeDataInput newDataInput() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(serialized)));
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        final var innerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.INNER_LIST_QNAME);
+        for (int i = 0; i < INNER_LIST_SIZE; ++i) {
+            final var name = "name-" + i;
+            innerList.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME,
+                    BenchmarkModel.NAME_QNAME, name))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, name))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.VALUE_QNAME, "value-" + id + "-" + i))
+                .build());
+        }
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                BenchmarkModel.ID_QNAME, id))
+            .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, id))
+            .withChild(innerList.build())
+            .build();
+    }
+
+    private static final class CountingVisitor implements DataTreeCandidateVisitor {
+        final CountingStreamWriter writer = new CountingStreamWriter();
+
+        @Override
+        public void startCandidate(final YangInstanceIdentifier rootPath) {
+            // No-op
+        }
+
+        @Override
+        public void enterNode(final PathArgument name, final ModificationType type) {
+            writer.events++;
+        }
+
+        @Override
+        public void exitNode() {
+            writer.events++;
+        }
+
+        @Override
+        public NormalizedNodeStreamWriter startWrite(final PathArgument name, final StreamableData before) {
+            return writer;
+        }
+
+        @Override
+        public void endWrite() {
+            // No-op
+        }
+
+        @Override
+        public void deleteNode(final PathArgument name, final StreamableData before) {
+            writer.events++;
+        }
+
+        @Override
+        public void endCandidate() {
+            // No-op
+        }
+    }
+
+    private static final class CountingStreamWriter implements NormalizedNodeStreamWriter {
+        long events;
+
+        @Override
+        public void startLeafNode(final NodeIdentifier name) {
+            events++;
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startLeafSetEntryNode(final NodeWithValue<?> name) {
+            events++;
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) {
+            events++;
+        }
+
+        @Override
+        public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) {
+            return false;
+        }
+
+        @Override
+        public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) {
+            return false;
+        }
+
+        @Override
+        public void domSourceValue(final DOMSource value) {
+            events++;
+        }
+
+        @Override
+        public void scalarValue(final Object value) {
+            events++;
+        }
+
+        @Override
+        public void endNode() {
+            events++;
+        }
+
+        @Override
+        public void close() {
+            // No-op
+        }
+
+        @Override
+        public void flush() {
+            // No-op
+        }
+    }
+}
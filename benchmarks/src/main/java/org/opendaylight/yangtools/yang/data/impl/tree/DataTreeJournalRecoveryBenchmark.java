@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeJournal;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of recovering a data tree from a {@link DataTreeJournal}. Each journal record writes a single outer-list
+ * entry. When {@link #snapshot} is set, half of the records are covered by a snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class DataTreeJournalRecoveryBenchmark {
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @Param({ "1000", "10000", "100000" })
+    public int recordCount;
+
+    @Param({ "false", "true" })
+    public boolean snapshot;
+
+    private EffectiveModelContext context;
+    private Path directory;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + DataTreeJournalRecoveryBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DataValidationFailedException {
+        context = BenchmarkModel.createTestContext();
+        directory = Files.createTempDirectory("journal");
+
+        try (var journal = open()) {
+            final var datastore = journal.dataTree();
+            final var initial = datastore.takeSnapshot().newModification();
+            initial.write(BenchmarkModel.TEST_PATH, ImmutableNodes.containerNode(BenchmarkModel.TEST));
+            initial.write(BenchmarkModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST_QNAME)
+                .build());
+            commit(journal, initial);
+
+            for (int i = 0; i < recordCount; ++i) {
+                if (snapshot && i == recordCount / 2) {
+                    journal.snapshot();
+                }
+                final var id = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                    BenchmarkModel.ID_QNAME, i);
+                final var mod = datastore.takeSnapshot().newModification();
+                mod.write(BenchmarkModel.OUTER_LIST_PATH.node(id), ImmutableNodes.mapEntryBuilder()
+                    .withNodeIdentifier(id)
+                    .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                    .build());
+                commit(journal, mod);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public DataTree recover() throws IOException {
+        try (var journal = open()) {
+            return journal.dataTree();
+        }
+    }
+
+    private DataTreeJournal open() throws IOException {
+        return DataTreeJournal.open(new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            context), directory, SEGMENT_SIZE, 0, ForkJoinPool.commonPool());
+    }
+
+    private static void commit(final DataTreeJournal journal, final DataTreeModification mod)
+            throws IOException, DataValidationFailedException {
+        final var datastore = journal.dataTree();
+        mod.ready();
+        datastore.validate(mod);
+        journal.commit(datastore.prepare(mod));
+    }
+}
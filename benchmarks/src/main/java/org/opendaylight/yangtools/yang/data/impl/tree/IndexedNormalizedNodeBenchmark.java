@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.IndexedNormalizedNodes;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of reading a single outer-list entry from a serialized container, comparing a full decode of a Potassium
+ * stream with a lookup through {@link IndexedNormalizedNodes}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class IndexedNormalizedNodeBenchmark {
+    @Param({ "1000", "100000" })
+    public int entryCount;
+
+    private NodeIdentifierWithPredicates key;
+    private byte[] stream;
+    private byte[] indexed;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + IndexedNormalizedNodeBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var list = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < entryCount; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i)
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, "name-" + i))
+                .build());
+        }
+        final var data = Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(list.build())
+            .build();
+        key = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME,
+            entryCount / 2);
+
+        var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            out.writeNormalizedNode(data);
+        }
+        stream = output.toByteArray();
+
+        output = ByteStreams.newDataOutput();
+        IndexedNormalizedNodes.writeNormalizedNode(output, data);
+        indexed = output.toByteArray();
+    }
+
+    @Benchmark
+    public MapEntryNode readStream() throws IOException {
+        final var data = (ContainerNode) NormalizedNodeDataInput.newDataInput(ByteBuffer.wrap(stream))
+            .readNormalizedNode();
+        return lookup(data);
+    }
+
+    @Benchmark
+    public MapEntryNode readIndexed() throws IOException {
+        return lookup((ContainerNode) IndexedNormalizedNodes.readNormalizedNode(ByteBuffer.wrap(indexed)));
+    }
+
+    private MapEntryNode lookup(final ContainerNode data) {
+        return ((SystemMapNode) data.getChildByArg(BenchmarkModel.OUTER_LIST)).childByArg(key);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.gson.stream.JsonReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing {@link JsonParserStream#parse(JsonReader)} and
+ * {@link JsonParserStream#parseStreaming(JsonReader)} on a document containing a large list. Each list entry also
+ * contains a choice member and a nested list, with its key being either the first or the last member, so that the cost
+ * of buffering in streaming mode can be assessed. Parsed data is either materialized or converted to XML, the latter
+ * showing how the streaming mode avoids retaining the whole document. It is meant to be run with the GC profiler, which
+ * {@link #main(String...)} enables, to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class JsonStreamingParseBenchmark {
+    /**
+     * Position of the key leaf within each list entry.
+     */
+    public enum KeyPosition {
+        FIRST,
+        LAST;
+    }
+
+    /**
+     * Target of parsed data.
+     */
+    public enum Sink {
+        /**
+         * {@link ImmutableNormalizedNodeStreamWriter}, materializing the data.
+         */
+        IMMUTABLE,
+        /**
+         * {@link XMLStreamNormalizedNodeStreamWriter} writing to a null stream.
+         */
+        XML;
+    }
+
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "1000", "100000" })
+    public int outerListSize;
+
+    @Param
+    public KeyPosition keyPosition;
+
+    @Param
+    public Sink sink;
+
+    private EffectiveModelContext context;
+    private JSONCodecFactory codecFactory;
+    private XMLOutputFactory xmlFactory;
+    private String json;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + JsonStreamingParseBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkModel.createTestContext();
+        codecFactory = JSONCodecFactorySupplier.RFC7951.getShared(context);
+        xmlFactory = XMLOutputFactory.newFactory();
+
+        final var sb = new StringBuilder("{\"odl-datastore-test:test\":{\"outer-list\":[");
+        for (int i = 0; i < outerListSize; ++i) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append('{');
+            if (keyPosition == KeyPosition.FIRST) {
+                sb.append("\"id\":").append(i).append(',');
+            }
+            sb.append("\"one\":\"one-").append(i).append("\",\"inner-list\":[");
+            for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                if (j != 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"name\":").append(j).append(",\"value\":\"value-").append(i).append('-').append(j)
+                    .append("\"}");
+            }
+            sb.append(']');
+            if (keyPosition == KeyPosition.LAST) {
+                sb.append(",\"id\":").append(i);
+            }
+            sb.append('}');
+        }
+        json = sb.append("]}}").toString();
+    }
+
+    @Benchmark
+    public Object parse() throws XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(newSink(result), codecFactory).parse(newReader());
+        return result;
+    }
+
+    @Benchmark
+    public Object parseStreaming() throws XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(newSink(result), codecFactory).parseStreaming(newReader());
+        return result;
+    }
+
+    private JsonReader newReader() {
+        return new JsonReader(new StringReader(json));
+    }
+
+    private NormalizedNodeStreamWriter newSink(final NormalizationResultHolder result) throws XMLStreamException {
+        return switch (sink) {
+            case IMMUTABLE -> ImmutableNormalizedNodeStreamWriter.from(result);
+            case XML -> XMLStreamNormalizedNodeStreamWriter.create(
+                xmlFactory.createXMLStreamWriter(OutputStream.nullOutputStream()), context);
+        };
+    }
+}
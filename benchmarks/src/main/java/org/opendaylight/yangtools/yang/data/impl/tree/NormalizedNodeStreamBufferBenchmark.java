@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.netty.ByteBufDataInput;
+import org.opendaylight.yangtools.yang.common.netty.ByteBufDataOutput;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing encoding and decoding of a Potassium stream through {@link DataOutputStream} and
+ * {@link DataInputStream} against direct {@link ByteBuffer} and {@link ByteBuf} access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class NormalizedNodeStreamBufferBenchmark {
+    @Param({ "10", "1000", "100000" })
+    public int entryCount;
+
+    private ContainerNode data;
+    private byte[] bytes;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+    private ByteBuf byteBuf;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + NormalizedNodeStreamBufferBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var list = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < entryCount; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                    BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, "name-" + i))
+                .build());
+        }
+        data = Builders.containerBuilder().withNodeIdentifier(BenchmarkModel.TEST).withChild(list.build()).build();
+
+        bytes = writeStream();
+        heapBuffer = ByteBuffer.allocate(bytes.length);
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuf = Unpooled.directBuffer(bytes.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        byteBuf.release();
+    }
+
+    @Benchmark
+    public byte[] writeStream() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(new DataOutputStream(baos))) {
+            out.writeNormalizedNode(data);
+        }
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public int writeHeapBuffer() throws IOException {
+        return writeBuffer(heapBuffer.clear());
+    }
+
+    @Benchmark
+    public int writeDirectBuffer() throws IOException {
+        return writeBuffer(directBuffer.clear());
+    }
+
+    @Benchmark
+    public int writeByteBuf() throws IOException {
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(new ByteBufDataOutput(byteBuf.clear()))) {
+            out.writeNormalizedNode(data);
+        }
+        return byteBuf.writerIndex();
+    }
+
+    @Benchmark
+    public NormalizedNode readStream() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(bytes)))
+            .readNormalizedNode();
+    }
+
+    @Benchmark
+    public NormalizedNode readHeapBuffer() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(ByteBuffer.wrap(bytes)).readNormalizedNode();
+    }
+
+    @Benchmark
+    public NormalizedNode readDirectBuffer() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(directBuffer.clear().put(bytes).flip()).readNormalizedNode();
+    }
+
+    @Benchmark
+    public NormalizedNode readByteBuf() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new ByteBufDataInput(byteBuf.clear().writeBytes(bytes)))
+            .readNormalizedNode();
+    }
+
+    private int writeBuffer(final ByteBuffer buffer) throws IOException {
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(buffer)) {
+            out.writeNormalizedNode(data);
+        }
+        return buffer.position();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of parallel apply/validation in InMemoryDataTree. A single transaction writes a number of independent
+ * outer-list entries, which is then sealed, validated, prepared and committed inside a {@link ForkJoinPool} of
+ * specified parallelism. A parallelism of {@code 0} runs with parallel processing disabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class ParallelApplyBenchmark {
+    private static final int OUTER_LIST_SIZE = 10000;
+    private static final int INNER_LIST_SIZE = 10;
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private static final YangInstanceIdentifier[] OUTER_LIST_PATHS = new YangInstanceIdentifier[OUTER_LIST_SIZE];
+    private static final MapEntryNode[] OUTER_LIST_ENTRIES = new MapEntryNode[OUTER_LIST_SIZE];
+
+    static {
+        final var innerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.INNER_LIST);
+        for (int i = 0; i < INNER_LIST_SIZE; ++i) {
+            innerList.withChild(ImmutableNodes.mapEntry(BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.NAME_QNAME,
+                String.valueOf(i)));
+        }
+        final MapNode inner = innerList.build();
+
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            final var id = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i);
+            OUTER_LIST_PATHS[i] = BenchmarkModel.OUTER_LIST_PATH.node(id).toOptimized();
+            OUTER_LIST_ENTRIES[i] = ImmutableNodes.mapEntryBuilder().withNodeIdentifier(id).withChild(inner).build();
+        }
+    }
+
+    @Param({ "0", "1", "2", "4", "8", "16" })
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private DataTree datastore;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ParallelApplyBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setupPool() {
+        pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupDatastore() throws DataValidationFailedException {
+        datastore = new InMemoryDataTreeFactory().create(new DataTreeConfiguration.Builder(TreeType.CONFIGURATION)
+            .setMandatoryNodesValidation(true)
+            .setParallelApplyThreshold(parallelism == 0 ? 0 : PARALLEL_THRESHOLD)
+            .build(), BenchmarkModel.createTestContext());
+
+        final DataTreeModification modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.TEST_PATH, Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST).build())
+            .build());
+        commit(modification);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        pool = null;
+        datastore = null;
+    }
+
+    @Benchmark
+    public void writeOuterListInOneCommit() throws InterruptedException, ExecutionException {
+        final DataTreeModification modification = datastore.takeSnapshot().newModification();
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            modification.write(OUTER_LIST_PATHS[i], OUTER_LIST_ENTRIES[i]);
+        }
+
+        // Parallel streams invoked from within a ForkJoinPool are executed in that pool
+        pool.submit(() -> {
+            commit(modification);
+            return null;
+        }).get();
+    }
+
+    private void commit(final DataTreeModification modification) throws DataValidationFailedException {
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+}
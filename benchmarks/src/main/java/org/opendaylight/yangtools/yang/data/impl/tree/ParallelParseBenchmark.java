@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link JsonParserStream#parseParallel(byte[], java.util.concurrent.Executor, int)} and
+ * {@link XmlParserStream#parseParallel(byte[], java.util.concurrent.Executor, int)} on a document containing a large
+ * list, showing how parsing scales with the number of cores used. Parallelism of 1 parses the document sequentially,
+ * providing the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class ParallelParseBenchmark {
+    /**
+     * Format of the document.
+     */
+    public enum Format {
+        /**
+         * RFC7951 JSON.
+         */
+        JSON,
+        /**
+         * RFC7950 XML.
+         */
+        XML;
+    }
+
+    private static final String NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:test";
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "100000" })
+    public int outerListSize;
+
+    @Param({ "1", "2", "4", "8", "16" })
+    public int parallelism;
+
+    @Param
+    public Format format;
+
+    private ForkJoinPool pool;
+    private Inference inference;
+    private JSONCodecFactory jsonCodecs;
+    private XmlCodecFactory xmlCodecs;
+    private byte[] input;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ParallelParseBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+
+        final var context = BenchmarkModel.createTestContext();
+        inference = Inference.ofDataTreePath(context, BenchmarkModel.TEST.getNodeType());
+        jsonCodecs = JSONCodecFactorySupplier.RFC7951.getShared(context);
+        xmlCodecs = XmlCodecFactory.create(context);
+
+        final var sb = new StringBuilder();
+        switch (format) {
+            case JSON -> {
+                sb.append("{\"odl-datastore-test:test\":{\"outer-list\":[");
+                for (int i = 0; i < outerListSize; ++i) {
+                    if (i != 0) {
+                        sb.append(',');
+                    }
+                    sb.append("{\"id\":").append(i).append(",\"one\":\"one-").append(i).append("\",\"inner-list\":[");
+                    for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                        if (j != 0) {
+                            sb.append(',');
+                        }
+                        sb.append("{\"name\":").append(j).append(",\"value\":\"value-").append(i).append('-')
+                            .append(j).append("\"}");
+                    }
+                    sb.append("]}");
+                }
+                sb.append("]}}");
+            }
+            case XML -> {
+                sb.append("<test xmlns=\"").append(NAMESPACE).append("\">");
+                for (int i = 0; i < outerListSize; ++i) {
+                    sb.append("<outer-list><id>").append(i).append("</id><one>one-").append(i).append("</one>");
+                    for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                        sb.append("<inner-list><name>").append(j).append("</name><value>value-").append(i)
+                            .append('-').append(j).append("</value></inner-list>");
+                    }
+                    sb.append("</outer-list>");
+                }
+                sb.append("</test>");
+            }
+            default -> throw new IllegalStateException("Unhandled format " + format);
+        }
+        input = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        pool = null;
+    }
+
+    @Benchmark
+    public NormalizedNode parse() throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        final var writer = ImmutableNormalizedNodeStreamWriter.from(result);
+        switch (format) {
+            case JSON -> JsonParserStream.create(writer, jsonCodecs).parseParallel(input, pool, parallelism);
+            case XML -> XmlParserStream.create(writer, xmlCodecs, inference).parseParallel(input, pool, parallelism);
+            default -> throw new IllegalStateException("Unhandled format " + format);
+        }
+        return result.getResult().data();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.ScalarValueExtension;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark streaming a counter-only payload out of a Potassium stream. Values are either delivered boxed through
+ * {@link NormalizedNodeStreamWriter#scalarValue(Object)} or as primitives through {@link ScalarValueExtension}. It is
+ * meant to be run with the GC profiler, which {@link #main(String...)} enables, to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class ScalarValueStreamingBenchmark {
+    /**
+     * A sink summing all {@code uint64} values it sees, ignoring structure.
+     */
+    private static class SummingWriter implements NormalizedNodeStreamWriter {
+        long sum;
+
+        @Override
+        public void startLeafNode(final NodeIdentifier name) {
+            // No-op
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startLeafSetEntryNode(final NodeWithValue<?> name) {
+            // No-op
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) {
+            // No-op
+        }
+
+        @Override
+        public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) {
+            return false;
+        }
+
+        @Override
+        public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) {
+            return false;
+        }
+
+        @Override
+        public void domSourceValue(final DOMSource value) {
+            // No-op
+        }
+
+        @Override
+        public void endNode() {
+            // No-op
+        }
+
+        @Override
+        public void scalarValue(final Object value) {
+            if (value instanceof Uint64 uint64) {
+                sum += uint64.longValue();
+            }
+        }
+
+        @Override
+        public void close() {
+            // No-op
+        }
+
+        @Override
+        public void flush() {
+            // No-op
+        }
+    }
+
+    /**
+     * A {@link SummingWriter} which also accepts primitive values.
+     */
+    private static final class PrimitiveSummingWriter extends SummingWriter implements ScalarValueExtension {
+        @Override
+        public List<ScalarValueExtension> supportedExtensions() {
+            return List.of(this);
+        }
+
+        @Override
+        public void booleanValue(final boolean value) {
+            // No-op
+        }
+
+        @Override
+        public void int8Value(final byte value) {
+            // No-op
+        }
+
+        @Override
+        public void int16Value(final short value) {
+            // No-op
+        }
+
+        @Override
+        public void int32Value(final int value) {
+            // No-op
+        }
+
+        @Override
+        public void int64Value(final long value) {
+            // No-op
+        }
+
+        @Override
+        public void uint8Value(final byte bits) {
+            // No-op
+        }
+
+        @Override
+        public void uint16Value(final short bits) {
+            // No-op
+        }
+
+        @Override
+        public void uint32Value(final int bits) {
+            // No-op
+        }
+
+        @Override
+        public void uint64Value(final long bits) {
+            sum += bits;
+        }
+    }
+
+    private static final NodeIdentifier COUNTERS = new NodeIdentifier(QName.create(BenchmarkModel.ID_QNAME,
+        "counters"));
+
+    @Param({ "10", "100", "1000" })
+    public int counterCount;
+
+    private byte[] bytes;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + ScalarValueStreamingBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var counters = Builders.containerBuilder().withNodeIdentifier(COUNTERS);
+        for (int i = 0; i < counterCount; ++i) {
+            counters.withChild(ImmutableNodes.leafNode(QName.create(BenchmarkModel.ID_QNAME, "counter-" + i),
+                // Spread values across the 4-byte and 8-byte encodings
+                Uint64.fromLongBits(i % 2 == 0 ? i * 1_000_003L : Long.MAX_VALUE - i)));
+        }
+        final ContainerNode data = counters.build();
+
+        final var baos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(new DataOutputStream(baos))) {
+            out.writeNormalizedNode(data);
+        }
+        bytes = baos.toByteArray();
+    }
+
+    @Benchmark
+    public NormalizedNode readImmutable() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(ByteBuffer.wrap(bytes)).readNormalizedNode();
+    }
+
+    @Benchmark
+    public long streamBoxed() throws IOException {
+        final var writer = new SummingWriter();
+        NormalizedNodeDataInput.newDataInput(ByteBuffer.wrap(bytes)).streamNormalizedNode(writer);
+        return writer.sum;
+    }
+
+    @Benchmark
+    public long streamPrimitive() throws IOException {
+        final var writer = new PrimitiveSummingWriter();
+        NormalizedNodeDataInput.newDataInput(ByteBuffer.wrap(bytes)).streamNormalizedNode(writer);
+        return writer.sum;
+    }
+}
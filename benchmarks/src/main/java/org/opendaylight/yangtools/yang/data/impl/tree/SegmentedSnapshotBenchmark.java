@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.SegmentedNormalizedNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing recovery of a large snapshot from a plain Potassium stream against its
+ * {@link SegmentedNormalizedNodes} layout decoded with a varying number of threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class SegmentedSnapshotBenchmark {
+    @Param({ "100000", "1000000" })
+    public int entryCount;
+
+    @Param({ "1", "4", "16" })
+    public int threads;
+
+    @Param({ "1024" })
+    public int segmentSize;
+
+    private byte[] plain;
+    private byte[] segmented;
+    private ForkJoinPool pool;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + SegmentedSnapshotBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var list = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < entryCount; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                    BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, "name-" + i))
+                .build());
+        }
+        final ContainerNode data = Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(list.build())
+            .build();
+
+        final var plainOutput = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(plainOutput)) {
+            out.writeNormalizedNode(data);
+        }
+        plain = plainOutput.toByteArray();
+
+        final var segmentedOutput = ByteStreams.newDataOutput();
+        SegmentedNormalizedNodes.writeNormalizedNode(segmentedOutput, data, segmentSize);
+        segmented = segmentedOutput.toByteArray();
+
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public NormalizedNode readPlain() throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(plain)))
+            .readNormalizedNode();
+    }
+
+    @Benchmark
+    public NormalizedNode readSegmented() throws IOException {
+        return SegmentedNormalizedNodes.readNormalizedNode(new DataInputStream(new ByteArrayInputStream(segmented)),
+            pool);
+    }
+}
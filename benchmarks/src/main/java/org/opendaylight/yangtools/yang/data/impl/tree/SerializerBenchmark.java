@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeSerializer;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonReaderFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLNormalizedNodeSerializer;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link JSONNormalizedNodeSerializer} and {@link XMLNormalizedNodeSerializer} against
+ * {@link JSONNormalizedNodeStreamWriter} and {@link XMLStreamNormalizedNodeStreamWriter} respectively, serializing
+ * a container with a large list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class SerializerBenchmark {
+    /**
+     * Serialization method.
+     */
+    public enum Method {
+        /**
+         * {@link JSONNormalizedNodeStreamWriter} driven by {@link NormalizedNodeWriter}.
+         */
+        JSON_STREAM_WRITER,
+        /**
+         * {@link JSONNormalizedNodeSerializer}.
+         */
+        JSON_SERIALIZER,
+        /**
+         * {@link XMLStreamNormalizedNodeStreamWriter} driven by {@link NormalizedNodeWriter}.
+         */
+        XML_STREAM_WRITER,
+        /**
+         * {@link XMLNormalizedNodeSerializer}.
+         */
+        XML_SERIALIZER;
+    }
+
+    private static final XMLOutputFactory XML_FACTORY = XMLOutputFactory.newFactory();
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "10000" })
+    public int outerListSize;
+
+    @Param
+    public Method method;
+
+    private EffectiveModelContext context;
+    private JSONCodecFactory jsonCodecs;
+    private JSONNormalizedNodeSerializer jsonSerializer;
+    private XMLNormalizedNodeSerializer xmlSerializer;
+    private NormalizedNode data;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + SerializerBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkModel.createTestContext();
+        jsonCodecs = JSONCodecFactorySupplier.RFC7951.getShared(context);
+        jsonSerializer = JSONNormalizedNodeSerializer.of(jsonCodecs);
+        xmlSerializer = XMLNormalizedNodeSerializer.of(context);
+
+        final var sb = new StringBuilder("{\"odl-datastore-test:test\":{\"outer-list\":[");
+        for (int i = 0; i < outerListSize; ++i) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"one\":\"one-").append(i).append("\",\"inner-list\":[");
+            for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                if (j != 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"name\":").append(j).append(",\"value\":\"value-").append(i).append('-').append(j)
+                    .append("\"}");
+            }
+            sb.append("]}");
+        }
+        sb.append("]}}");
+
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), jsonCodecs)
+            .parse(JsonReaderFactory.createUtf8JsonReader(
+                new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8))));
+        data = result.getResult().data();
+    }
+
+    @Benchmark
+    public void serialize() throws IOException, XMLStreamException {
+        final var out = OutputStream.nullOutputStream();
+        switch (method) {
+            case JSON_STREAM_WRITER -> {
+                try (var writer = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter
+                        .createExclusiveWriter(jsonCodecs, JsonWriterFactory.createUtf8JsonWriter(out)))) {
+                    writer.write(data);
+                }
+            }
+            case JSON_SERIALIZER -> jsonSerializer.write(out, data);
+            case XML_STREAM_WRITER -> {
+                try (var writer = NormalizedNodeWriter.forStreamWriter(XMLStreamNormalizedNodeStreamWriter.create(
+                        XML_FACTORY.createXMLStreamWriter(out, "UTF-8"), context))) {
+                    writer.write(data);
+                }
+            }
+            case XML_SERIALIZER -> {
+                final var writer = XML_FACTORY.createXMLStreamWriter(out, "UTF-8");
+                xmlSerializer.write(writer, data);
+                writer.close();
+            }
+            default -> throw new IllegalStateException("Unhandled method " + method);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ReadOnlyDataTree;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link DataTree#diff(DataTreeSnapshot, DataTreeSnapshot)} between two snapshots which differ in a single
+ * entry of a large outer-list. The version-driven implementation is compared against the default implementation, which
+ * compares the data of the snapshots and hence visits every entry of the list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SnapshotDiffBenchmark {
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private DataTree datastore;
+    private ReadOnlyDataTree dataOnly;
+    private DataTreeSnapshot before;
+    private DataTreeSnapshot after;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + SnapshotDiffBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() throws DataValidationFailedException {
+        datastore = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            BenchmarkModel.createTestContext());
+        dataOnly = new ReadOnlyDataTree() {
+            @Override
+            public YangInstanceIdentifier getRootPath() {
+                return datastore.getRootPath();
+            }
+
+            @Override
+            public DataTreeSnapshot takeSnapshot() {
+                return datastore.takeSnapshot();
+            }
+        };
+
+        final var entries = ImmutableNodes.mapNodeBuilder(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < size; ++i) {
+            entries.withChild(ImmutableNodes.mapEntry(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i));
+        }
+        DataTreeModification modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.TEST_PATH, Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(entries.build())
+            .build());
+        commit(modification);
+        before = datastore.takeSnapshot();
+
+        // Change a single entry
+        final var id = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME,
+            size / 2);
+        modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.OUTER_LIST_PATH.node(id).node(BenchmarkModel.INNER_LIST),
+            ImmutableNodes.mapNodeBuilder(BenchmarkModel.INNER_LIST)
+                .withChild(ImmutableNodes.mapEntry(BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.NAME_QNAME, 0))
+                .build());
+        commit(modification);
+        after = datastore.takeSnapshot();
+    }
+
+    @TearDown
+    public void tearDown() {
+        datastore = null;
+        dataOnly = null;
+        before = null;
+        after = null;
+    }
+
+    @Benchmark
+    public DataTreeCandidate versionedDiff() {
+        return datastore.diff(before, after);
+    }
+
+    @Benchmark
+    public DataTreeCandidate dataDiff() {
+        return dataOnly.diff(before, after);
+    }
+
+    private void commit(final DataTreeModification modification) throws DataValidationFailedException {
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeTranscoder;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing serving a Potassium-encoded snapshot as JSON or XML by decoding it into
+ * a {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode} and then encoding it, against
+ * {@link NormalizedNodeTranscoder}, which feeds the encoder directly. It is meant to be run with the GC profiler, which
+ * {@link #main(String...)} enables, to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class TranscoderBenchmark {
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "1000", "100000" })
+    public int outerListSize;
+
+    private EffectiveModelContext context;
+    private JSONCodecFactory codecFactory;
+    private XMLOutputFactory xmlFactory;
+    private byte[] bytes;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + TranscoderBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkModel.createTestContext();
+        codecFactory = JSONCodecFactorySupplier.RFC7951.getShared(context);
+        xmlFactory = XMLOutputFactory.newFactory();
+
+        final var outerList = Builders.mapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < outerListSize; ++i) {
+            outerList.withChild(outerEntry(i));
+        }
+        final ContainerNode data = Builders.containerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(outerList.build())
+            .build();
+
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            out.writeNormalizedNode(data);
+        }
+        bytes = output.toByteArray();
+    }
+
+    @Benchmark
+    public void decodeThenEncodeJson() throws IOException {
+        decodeThenEncode(newJsonSink());
+    }
+
+    @Benchmark
+    public void transcodeJson() throws IOException {
+        transcode(newJsonSink());
+    }
+
+    @Benchmark
+    public void decodeThenEncodeXml() throws IOException, XMLStreamException {
+        decodeThenEncode(newXmlSink());
+    }
+
+    @Benchmark
+    public void transcodeXml() throws IOException, XMLStreamException {
+        transcode(newXmlSink());
+    }
+
+    private void decodeThenEncode(final NormalizedNodeStreamWriter sink) throws IOException {
+        final var node = NormalizedNodeDataInput.newDataInput(newDataInput()).readNormalizedNode();
+        try (var writer = NormalizedNodeWriter.forStreamWriter(sink)) {
+            writer.write(node);
+        }
+    }
+
+    private void transcode(final NormalizedNodeStreamWriter sink) throws IOException {
+        try (sink) {
+            NormalizedNodeTranscoder.transcode(newDataInput(), sink);
+        }
+    }
+
+    private DataInputStream newDataInput() {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private NormalizedNodeStreamWriter newJsonSink() {
+        return JSONNormalizedNodeStreamWriter.createExclusiveWriter(codecFactory,
+            JsonWriterFactory.createJsonWriter(Writer.nullWriter()));
+    }
+
+    private NormalizedNodeStreamWriter newXmlSink() throws XMLStreamException {
+        return XMLStreamNormalizedNodeStreamWriter.create(
+            xmlFactory.createXMLStreamWriter(OutputStream.nullOutputStream()), context);
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        final var innerList = ImmutableNodes.mapNodeBuilder(BenchmarkModel.INNER_LIST_QNAME);
+        for (int i = 0; i < INNER_LIST_SIZE; ++i) {
+            innerList.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME,
+                    BenchmarkModel.NAME_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.VALUE_QNAME, "value-" + id + "-" + i))
+                .build());
+        }
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                BenchmarkModel.ID_QNAME, id))
+            .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, id))
+            .withChild(innerList.build())
+            .build();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonReaderFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing Gson's {@link JsonReader} and {@link JsonWriter} operating on a {@link java.io.Reader} and a
+ * {@link java.io.Writer} with their counterparts created by {@link JsonReaderFactory} and {@link JsonWriterFactory},
+ * which operate on UTF-8 bytes. The payload is an RFC7951-encoded container with a large list, whose entries contain
+ * a choice member and a nested list. It is parsed from bytes into a {@link NormalizedNode} and written back to a null
+ * stream. It is meant to be run with the GC profiler, which {@link #main(String...)} enables, to compare allocation
+ * rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class Utf8JsonBenchmark {
+    /**
+     * Implementation of JSON tokenization.
+     */
+    public enum Implementation {
+        /**
+         * Gson's {@link JsonReader} and {@link JsonWriter}, with UTF-8 handled by an {@link InputStreamReader} and an
+         * {@link OutputStreamWriter}.
+         */
+        GSON,
+        /**
+         * Reader and writer operating on UTF-8 bytes.
+         */
+        UTF8;
+    }
+
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "1000", "100000" })
+    public int outerListSize;
+
+    @Param
+    public Implementation implementation;
+
+    private JSONCodecFactory codecFactory;
+    private NormalizedNode data;
+    private byte[] json;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + Utf8JsonBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codecFactory = JSONCodecFactorySupplier.RFC7951.getShared(BenchmarkModel.createTestContext());
+
+        final var sb = new StringBuilder("{\"odl-datastore-test:test\":{\"outer-list\":[");
+        for (int i = 0; i < outerListSize; ++i) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"one\":\"one-").append(i).append("\",\"inner-list\":[");
+            for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                if (j != 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"name\":").append(j).append(",\"value\":\"value-").append(i).append('-')
+                    .append(j).append("\"}");
+            }
+            sb.append("]}");
+        }
+        json = sb.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+        data = parse();
+    }
+
+    @Benchmark
+    public NormalizedNode parse() {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecFactory).parse(newReader());
+        return result.getResult().data();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        try (var writer = NormalizedNodeWriter.forStreamWriter(
+                JSONNormalizedNodeStreamWriter.createExclusiveWriter(codecFactory, newWriter()))) {
+            writer.write(data);
+        }
+    }
+
+    private JsonReader newReader() {
+        final var stream = new ByteArrayInputStream(json);
+        return switch (implementation) {
+            case GSON -> new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            case UTF8 -> JsonReaderFactory.createUtf8JsonReader(stream);
+        };
+    }
+
+    private JsonWriter newWriter() {
+        final var stream = OutputStream.nullOutputStream();
+        return switch (implementation) {
+            case GSON -> JsonWriterFactory.createJsonWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            case UTF8 -> JsonWriterFactory.createUtf8JsonWriter(stream);
+        };
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing {@link XmlParserStream#parse(XMLStreamReader)} and
+ * {@link XmlParserStream#parseStreaming(XMLStreamReader)} on a document containing a large list, similar to a reply to
+ * a NETCONF {@code <get>}. Each list entry also contains a choice member and a nested list, with its key being either
+ * the first or the last element, so that the cost of buffering in streaming mode can be assessed. Parsed data is either
+ * materialized or converted to JSON, the latter showing how the streaming mode avoids retaining the whole document. It
+ * is meant to be run with the GC profiler, which {@link #main(String...)} enables, to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS)
+public class XmlStreamingParseBenchmark {
+    /**
+     * Position of the key leaf within each list entry.
+     */
+    public enum KeyPosition {
+        FIRST,
+        LAST;
+    }
+
+    /**
+     * Target of parsed data.
+     */
+    public enum Sink {
+        /**
+         * {@link ImmutableNormalizedNodeStreamWriter}, materializing the data.
+         */
+        IMMUTABLE,
+        /**
+         * {@link JSONNormalizedNodeStreamWriter} writing to a null writer.
+         */
+        JSON;
+    }
+
+    private static final String NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:test";
+    private static final int INNER_LIST_SIZE = 10;
+
+    @Param({ "1000", "100000" })
+    public int outerListSize;
+
+    @Param
+    public KeyPosition keyPosition;
+
+    @Param
+    public Sink sink;
+
+    private Inference inference;
+    private XmlCodecFactory xmlCodecs;
+    private JSONCodecFactory jsonCodecs;
+    private String xml;
+
+    public static void main(final String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(".*" + XmlStreamingParseBenchmark.class.getSimpleName() + ".*")
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var context = BenchmarkModel.createTestContext();
+        inference = Inference.ofDataTreePath(context, BenchmarkModel.TEST.getNodeType());
+        xmlCodecs = XmlCodecFactory.create(context);
+        jsonCodecs = JSONCodecFactorySupplier.RFC7951.getShared(context);
+
+        final var sb = new StringBuilder("<test xmlns=\"").append(NAMESPACE).append("\">");
+        for (int i = 0; i < outerListSize; ++i) {
+            sb.append("<outer-list>");
+            if (keyPosition == KeyPosition.FIRST) {
+                sb.append("<id>").append(i).append("</id>");
+            }
+            sb.append("<one>one-").append(i).append("</one>");
+            for (int j = 0; j < INNER_LIST_SIZE; ++j) {
+                sb.append("<inner-list><name>").append(j).append("</name><value>value-").append(i).append('-')
+                    .append(j).append("</value></inner-list>");
+            }
+            if (keyPosition == KeyPosition.LAST) {
+                sb.append("<id>").append(i).append("</id>");
+            }
+            sb.append("</outer-list>");
+        }
+        xml = sb.append("</test>").toString();
+    }
+
+    @Benchmark
+    public Object parse() throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        XmlParserStream.create(newSink(result), xmlCodecs, inference).parse(newReader());
+        return result;
+    }
+
+    @Benchmark
+    public Object parseStreaming() throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        XmlParserStream.create(newSink(result), xmlCodecs, inference).parseStreaming(newReader());
+        return result;
+    }
+
+    private XMLStreamReader newReader() throws XMLStreamException {
+        return UntrustedXML.createXMLStreamReader(new StringReader(xml));
+    }
+
+    private NormalizedNodeStreamWriter newSink(final NormalizationResultHolder result) {
+        return switch (sink) {
+            case IMMUTABLE -> ImmutableNormalizedNodeStreamWriter.from(result);
+            case JSON -> JSONNormalizedNodeStreamWriter.createExclusiveWriter(jsonCodecs,
+                JsonWriterFactory.createJsonWriter(Writer.nullWriter()));
+        };
+    }
+}
@@ -16,6 +16,7 @@ module org.opendaylight.yangtools.yang.data.codec.binfmt {
     requires transitive org.opendaylight.yangtools.yang.data.tree.spi;
     requires java.xml;
     requires org.opendaylight.yangtools.yang.data.impl;
+    requires org.opendaylight.yangtools.yang.data.spi;
     requires org.slf4j;
 
     // Annotations
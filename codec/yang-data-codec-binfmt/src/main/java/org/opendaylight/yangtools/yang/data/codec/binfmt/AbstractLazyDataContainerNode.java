@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+
+/**
+ * Abstract base class for {@link DataContainerNode} views of an {@link IndexedNodeSource}.
+ *
+ * @param <I> Identifier type
+ * @param <T> Implemented {@link DataContainerNode} specialization type
+ */
+abstract class AbstractLazyDataContainerNode<I extends PathArgument, T extends DataContainerNode>
+        extends AbstractNormalizedNode<I, T> implements DataContainerNode {
+    private final @NonNull IndexedChildren<NodeIdentifier, DataContainerChild> children;
+
+    AbstractLazyDataContainerNode(final I name, final IndexedChildren<NodeIdentifier, DataContainerChild> children) {
+        super(name);
+        this.children = requireNonNull(children);
+    }
+
+    @Override
+    public final DataContainerChild childByArg(final NodeIdentifier child) {
+        return children.get(child);
+    }
+
+    @Override
+    public final Collection<DataContainerChild> body() {
+        return children.values();
+    }
+
+    @Override
+    public final int size() {
+        return children.size();
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return children.size() == 0;
+    }
+
+    @Override
+    protected final int valueHashCode() {
+        // Consistent with immutable implementations, which store leaves as their values
+        int result = 0;
+        for (var child : body()) {
+            result += child.name().hashCode()
+                ^ (child instanceof LeafNode<?> leaf ? leaf.body().hashCode() : child.hashCode());
+        }
+        return result;
+    }
+
+    @Override
+    protected final boolean valueEquals(final T other) {
+        if (size() != other.size()) {
+            return false;
+        }
+        for (var child : body()) {
+            if (!child.equals(other.childByArg(child.name()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -15,15 +15,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.concepts.Either;
@@ -272,7 +271,7 @@ abstract class AbstractMagnesiumDataInput extends AbstractLegacyDataInput {
         final NodeIdentifier nodeId;
         try {
             nodeId = QNameFactory.getNodeIdentifier(module, localName);
-        } catch (ExecutionException e) {
+        } catch (IllegalArgumentException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QName module=" + module + " localName="
                     + localName, e);
         }
@@ -543,7 +542,7 @@ abstract class AbstractMagnesiumDataInput extends AbstractLegacyDataInput {
         final QNameModule module;
         try {
             module = QNameFactory.createModule(namespace, revision);
-        } catch (UncheckedExecutionException e) {
+        } catch (IllegalArgumentException | DateTimeParseException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QNameModule ns=" + namespace + " rev=" + revision,
                 e);
         }
@@ -48,6 +48,7 @@ abstract class AbstractNormalizedNodeDataOutput implements NormalizedNodeDataOut
         if (!headerWritten) {
             output.writeByte(TokenTypes.SIGNATURE_MARKER);
             output.writeShort(streamVersion());
+            writeHeaderExtension();
             headerWritten = true;
         }
     }
@@ -195,6 +196,15 @@ abstract class AbstractNormalizedNodeDataOutput implements NormalizedNodeDataOut
 
     abstract short streamVersion();
 
+    /**
+     * Write any version-specific information following the stream header. Default implementation does nothing.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void writeHeaderExtension() throws IOException {
+        // No-op
+    }
+
     abstract void writeQNameInternal(@NonNull QName qname) throws IOException;
 
     abstract void writePathArgumentInternal(PathArgument pathArgument) throws IOException;
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.ModifiedUtf8;
+import org.opendaylight.yangtools.yang.common.ModifiedUtf8.IndexedBytes;
+
+/**
+ * A {@link DataInput} reading directly from a {@link ByteBuffer}, starting at its current position and advancing it as
+ * data is read. Unlike {@link java.io.DataInputStream}, multi-byte values and modified UTF-8 strings are decoded
+ * straight from the buffer.
+ */
+final class ByteBufferDataInput implements DataInput {
+    private final @NonNull ByteBuffer buffer;
+    private final @NonNull IndexedBytes utfBytes;
+
+    ByteBufferDataInput(final ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer);
+        utfBytes = buffer::get;
+        checkArgument(buffer.order() == ByteOrder.BIG_ENDIAN, "Unsupported buffer byte order %s", buffer.order());
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int off, final int len) throws IOException {
+        require(len);
+        buffer.get(bytes, off, len);
+    }
+
+    @Override
+    public int skipBytes(final int count) {
+        final int skip = Math.max(0, Math.min(count, buffer.remaining()));
+        buffer.position(buffer.position() + skip);
+        return skip;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(Byte.BYTES);
+        return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(Short.BYTES);
+        return buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        require(Character.BYTES);
+        return buffer.getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    @Override
+    public String readLine() {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        final var sb = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            final char ch = (char) (buffer.get() & 0xFF);
+            if (ch == '\n') {
+                break;
+            }
+            if (ch == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        final int utflen = readUnsignedShort();
+        require(utflen);
+
+        final int start = buffer.position();
+        final var str = ModifiedUtf8.decode(utfBytes, start, utflen);
+        buffer.position(start + utflen);
+        return str;
+    }
+
+    private void require(final int size) throws EOFException {
+        if (buffer.remaining() < size) {
+            throw new EOFException("Required " + size + " bytes, only " + buffer.remaining() + " available");
+        }
+    }
+}
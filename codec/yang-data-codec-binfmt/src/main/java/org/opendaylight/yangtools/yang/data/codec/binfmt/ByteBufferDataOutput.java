@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A {@link DataOutput} writing directly to a {@link ByteBuffer}, starting at its current position and advancing it as
+ * data is written. Unlike {@link java.io.DataOutputStream}, multi-byte values and modified UTF-8 strings are encoded
+ * straight into the buffer. Attempts to write more data than the buffer has room for result in an
+ * {@link IOException}.
+ */
+final class ByteBufferDataOutput implements DataOutput {
+    private final @NonNull ByteBuffer buffer;
+
+    ByteBufferDataOutput(final ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer);
+        checkArgument(buffer.order() == ByteOrder.BIG_ENDIAN, "Unsupported buffer byte order %s", buffer.order());
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        writeByte(value);
+    }
+
+    @Override
+    public void write(final byte[] bytes) throws IOException {
+        write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int off, final int len) throws IOException {
+        ensure(len);
+        buffer.put(bytes, off, len);
+    }
+
+    @Override
+    public void writeBoolean(final boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    @Override
+    public void writeByte(final int value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void writeShort(final int value) throws IOException {
+        ensure(Short.BYTES);
+        buffer.putShort((short) value);
+    }
+
+    @Override
+    public void writeChar(final int value) throws IOException {
+        ensure(Character.BYTES);
+        buffer.putChar((char) value);
+    }
+
+    @Override
+    public void writeInt(final int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    @Override
+    public void writeLong(final long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    @Override
+    public void writeFloat(final float value) throws IOException {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    @Override
+    public void writeDouble(final double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    @Override
+    public void writeBytes(final String str) throws IOException {
+        final int len = str.length();
+        ensure(len);
+        for (int i = 0; i < len; ++i) {
+            buffer.put((byte) str.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeChars(final String str) throws IOException {
+        final int len = str.length();
+        ensure(len * Character.BYTES);
+        for (int i = 0; i < len; ++i) {
+            buffer.putChar(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeUTF(final String str) throws IOException {
+        final int strlen = str.length();
+        int utflen = strlen;
+        for (int i = 0; i < strlen; ++i) {
+            final char ch = str.charAt(i);
+            if (ch >= 0x80 || ch == 0) {
+                utflen += ch >= 0x800 ? 2 : 1;
+            }
+        }
+        if (utflen > 65535) {
+            throw new UTFDataFormatException("encoded string too long: " + utflen + " bytes");
+        }
+
+        ensure(Short.BYTES + utflen);
+        buffer.putShort((short) utflen);
+        if (utflen == strlen) {
+            // Pure ASCII
+            for (int i = 0; i < strlen; ++i) {
+                buffer.put((byte) str.charAt(i));
+            }
+            return;
+        }
+
+        for (int i = 0; i < strlen; ++i) {
+            final char ch = str.charAt(i);
+            if (ch != 0 && ch < 0x80) {
+                buffer.put((byte) ch);
+            } else if (ch >= 0x800) {
+                buffer.put((byte) (0xE0 | ch >> 12 & 0x0F))
+                    .put((byte) (0x80 | ch >> 6 & 0x3F))
+                    .put((byte) (0x80 | ch & 0x3F));
+            } else {
+                buffer.put((byte) (0xC0 | ch >> 6 & 0x1F))
+                    .put((byte) (0x80 | ch & 0x3F));
+            }
+        }
+    }
+
+    private void ensure(final int size) throws IOException {
+        if (buffer.remaining() < size) {
+            throw new IOException("Required " + size + " bytes, only " + buffer.remaining() + " available");
+        }
+    }
+}
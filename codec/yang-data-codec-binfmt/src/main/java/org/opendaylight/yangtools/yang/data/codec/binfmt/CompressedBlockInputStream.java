@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * An {@link InputStream} decompressing data written by {@link CompressedBlockOutputStream}. Blocks are decompressed
+ * and verified one at a time, as they are needed. Use {@link CompressedBlocks#decompress(ByteBuffer,
+ * java.util.concurrent.Executor)} to decompress an in-memory stream in parallel. Instances are not thread-safe.
+ */
+@Beta
+public final class CompressedBlockInputStream extends InputStream {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final @NonNull DataInputStream in;
+    private final int maxBlockSize;
+
+    private byte[] compressed = EMPTY;
+    private byte[] block = EMPTY;
+    private int position;
+    private int limit;
+    private boolean finished;
+
+    /**
+     * Create a new stream.
+     *
+     * @param in Underlying input stream
+     * @throws IOException if the stream does not start with a valid signature or an I/O error occurs
+     * @throws NullPointerException if {@code in} is {@code null}
+     */
+    public CompressedBlockInputStream(final InputStream in) throws IOException {
+        this.in = new DataInputStream(requireNonNull(in));
+        maxBlockSize = CompressedBlocks.readStreamHeader(this.in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return position == limit && !readBlock() ? -1 : Byte.toUnsignedInt(block[position++]);
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, bytes.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !readBlock()) {
+            return -1;
+        }
+
+        final int count = Math.min(len, limit - position);
+        System.arraycopy(block, position, bytes, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean readBlock() throws IOException {
+        // Skip over empty blocks
+        while (!finished) {
+            final byte type = in.readByte();
+            if (type == CompressedBlocks.BLOCK_END) {
+                finished = true;
+                break;
+            }
+
+            final int uncompressedLength = in.readInt();
+            final int length = in.readInt();
+            final int crc = in.readInt();
+            CompressedBlocks.checkBlock(type, uncompressedLength, length, maxBlockSize);
+
+            if (compressed.length < length) {
+                compressed = new byte[length];
+            }
+            in.readFully(compressed, 0, length);
+            if (block.length < uncompressedLength) {
+                block = new byte[uncompressedLength];
+            }
+            CompressedBlocks.decompressBlock(type, ByteBuffer.wrap(compressed, 0, length), block, 0,
+                uncompressedLength, crc);
+
+            position = 0;
+            limit = uncompressedLength;
+            if (limit != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
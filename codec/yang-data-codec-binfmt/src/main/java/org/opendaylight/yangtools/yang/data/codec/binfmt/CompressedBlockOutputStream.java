@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * An {@link OutputStream} which compresses data into independently-decodable blocks, as described in
+ * {@link CompressedBlocks}. It is meant to be placed underneath a {@link NormalizedNodeDataOutput}, for example:
+ * <pre>
+ *   try (var out = new DataOutputStream(new CompressedBlockOutputStream(file))) {
+ *       try (var writer = NormalizedNodeStreamVersion.current().newDataOutput(out)) {
+ *           writer.writeNormalizedNode(node);
+ *       }
+ *   }
+ * </pre>
+ *
+ * <p>
+ * {@link #flush()} terminates the current block, hence calling it often degrades compression. {@link #close()} writes
+ * the end-of-stream marker and closes the underlying stream. Instances are not thread-safe.
+ */
+@Beta
+public final class CompressedBlockOutputStream extends OutputStream {
+    private final @NonNull DataOutputStream out;
+    private final @NonNull Deflater deflater;
+    private final CRC32 checksum = new CRC32();
+    private final byte[] block;
+    private final byte[] compressed;
+
+    private int count;
+    private boolean closed;
+
+    /**
+     * Create a new stream using {@link CompressedBlocks#DEFAULT_BLOCK_SIZE} and {@link Deflater#BEST_SPEED}.
+     *
+     * @param out Underlying output stream
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if {@code out} is {@code null}
+     */
+    public CompressedBlockOutputStream(final OutputStream out) throws IOException {
+        this(out, CompressedBlocks.DEFAULT_BLOCK_SIZE, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Create a new stream.
+     *
+     * @param out Underlying output stream
+     * @param blockSize Maximum uncompressed size of a block
+     * @param level Compression level, as understood by {@link Deflater#setLevel(int)}
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IllegalArgumentException if {@code blockSize} is not positive or {@code level} is invalid
+     */
+    public CompressedBlockOutputStream(final OutputStream out, final int blockSize, final int level)
+            throws IOException {
+        checkArgument(blockSize > 0, "Invalid block size %s", blockSize);
+        checkArgument(level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION,
+            "Invalid compression level %s", level);
+        this.out = new DataOutputStream(requireNonNull(out));
+        deflater = new Deflater(level);
+        block = new byte[blockSize];
+        // Stored blocks are used whenever the compressed form would not fit
+        compressed = new byte[blockSize];
+
+        this.out.writeInt(CompressedBlocks.MAGIC);
+        this.out.writeInt(blockSize);
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        ensureOpen();
+        if (count == block.length) {
+            writeBlock();
+        }
+        block[count++] = (byte) value;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, bytes.length);
+        ensureOpen();
+
+        int offset = off;
+        int remaining = len;
+        while (remaining != 0) {
+            if (count == block.length) {
+                writeBlock();
+            }
+            final int chunk = Math.min(remaining, block.length - count);
+            System.arraycopy(bytes, offset, block, count, chunk);
+            count += chunk;
+            offset += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeBlock();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try (out) {
+                writeBlock();
+                out.writeByte(CompressedBlocks.BLOCK_END);
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (count == 0) {
+            return;
+        }
+
+        checksum.reset();
+        checksum.update(block, 0, count);
+
+        deflater.reset();
+        deflater.setInput(block, 0, count);
+        deflater.finish();
+        final int length = deflater.deflate(compressed, 0, compressed.length);
+
+        if (deflater.finished() && length < count) {
+            writeBlock(CompressedBlocks.BLOCK_DEFLATED, compressed, length);
+        } else {
+            writeBlock(CompressedBlocks.BLOCK_STORED, block, count);
+        }
+        count = 0;
+    }
+
+    private void writeBlock(final byte type, final byte[] data, final int length) throws IOException {
+        out.writeByte(type);
+        out.writeInt(count);
+        out.writeInt(length);
+        out.writeInt((int) checksum.getValue());
+        out.write(data, 0, length);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Block compression framing for binary streams, such as those produced by {@link NormalizedNodeDataOutput} and
+ * {@link DataTreeCandidateInputOutput}. Data is split into blocks, each of which is compressed and checksummed on its
+ * own. Blocks can therefore be decompressed independently, which {@link #decompress(ByteBuffer, Executor)} uses to
+ * decompress them in parallel.
+ *
+ * <p>
+ * The framing is:
+ * <pre>
+ *   int     signature (0x4B424C31)
+ *   int     maximum uncompressed length of a block
+ *   block*
+ *   byte    0 (end of stream)
+ * </pre>
+ * where each block is:
+ * <pre>
+ *   byte    1 (stored) or 2 (deflated)
+ *   int     uncompressed length
+ *   int     length of the following data
+ *   int     CRC32 of uncompressed data
+ *   byte[]  data
+ * </pre>
+ * Blocks which do not compress are stored as-is. Blocks exceeding the maximum length declared by the stream are
+ * rejected, hence a corrupted block header cannot cause a larger buffer to be allocated.
+ *
+ * @see CompressedBlockOutputStream
+ * @see CompressedBlockInputStream
+ */
+@Beta
+public final class CompressedBlocks {
+    /**
+     * Stream signature.
+     */
+    static final int MAGIC = 0x4B424C31;
+    // Signature and maximum block size
+    static final int STREAM_HEADER_SIZE = Integer.BYTES * 2;
+
+    static final byte BLOCK_END      = 0;
+    static final byte BLOCK_STORED   = 1;
+    static final byte BLOCK_DEFLATED = 2;
+
+    // Block type, uncompressed length, data length and CRC32
+    static final int BLOCK_HEADER_SIZE = Byte.BYTES + Integer.BYTES * 3;
+
+    /**
+     * Default size of a single block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private record Block(byte type, int offset, int length, int target, int uncompressedLength, int crc) {
+        // Nothing else
+    }
+
+    private CompressedBlocks() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Decompress a complete stream, starting at the buffer's current position. Individual blocks are decompressed in
+     * parallel using specified executor. The buffer's position is advanced past the end of the stream.
+     *
+     * @param buffer Buffer holding the stream
+     * @param executor Executor to use for decompressing blocks
+     * @return Decompressed data
+     * @throws IOException if the stream is malformed or corrupted
+     */
+    @SuppressWarnings("checkstyle:avoidHidingCauseException")
+    public static byte @NonNull [] decompress(final ByteBuffer buffer, final Executor executor) throws IOException {
+        final var local = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final var input = new ByteBufferDataInput(local);
+        final int maxBlockSize = readStreamHeader(input);
+
+        // Scan block headers to establish where each block's data goes
+        final var blocks = new ArrayList<Block>();
+        long total = 0;
+        for (byte type = input.readByte(); type != BLOCK_END; type = input.readByte()) {
+            final int uncompressedLength = input.readInt();
+            final int length = input.readInt();
+            final int crc = input.readInt();
+            checkBlock(type, uncompressedLength, length, maxBlockSize);
+            blocks.add(new Block(type, local.position(), length, (int) total, uncompressedLength, crc));
+            if (input.skipBytes(length) != length) {
+                throw new IOException("Truncated block at " + local.position());
+            }
+            total += uncompressedLength;
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IOException("Decompressed data too large");
+            }
+        }
+
+        final var result = new byte[(int) total];
+        final var futures = new CompletableFuture<?>[blocks.size()];
+        for (int i = 0; i < futures.length; ++i) {
+            final var block = blocks.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    decompressBlock(block.type, local.slice(block.offset, block.length), result, block.target,
+                        block.uncompressedLength, block.crc);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw new IOException("Failed to decompress blocks", e);
+        }
+        buffer.position(local.position());
+        return result;
+    }
+
+    /**
+     * Read the signature and the maximum block size of a stream.
+     *
+     * @param input Input to read from
+     * @return Maximum uncompressed length of a block
+     * @throws IOException if the header is invalid or cannot be read
+     */
+    static int readStreamHeader(final DataInput input) throws IOException {
+        final int magic = input.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Invalid signature " + Integer.toHexString(magic));
+        }
+        final int maxBlockSize = input.readInt();
+        if (maxBlockSize <= 0) {
+            throw new IOException("Invalid maximum block size " + maxBlockSize);
+        }
+        return maxBlockSize;
+    }
+
+    static void checkBlock(final byte type, final int uncompressedLength, final int length, final int maxBlockSize)
+            throws IOException {
+        if (type != BLOCK_STORED && type != BLOCK_DEFLATED) {
+            throw new IOException("Unknown block type " + type);
+        }
+        // Blocks are deflated only if that makes them smaller
+        if (uncompressedLength < 0 || uncompressedLength > maxBlockSize || length < 0 || length > uncompressedLength
+            || type == BLOCK_STORED && length != uncompressedLength) {
+            throw new IOException("Invalid block lengths " + length + "/" + uncompressedLength + ", maximum is "
+                + maxBlockSize);
+        }
+    }
+
+    /**
+     * Decompress a single block into a target array and verify its checksum.
+     *
+     * @param type Block type
+     * @param data Block data
+     * @param target Target array
+     * @param offset Offset in target array
+     * @param length Expected uncompressed length
+     * @param crc Expected CRC32
+     * @throws IOException if the block is corrupted
+     */
+    static void decompressBlock(final byte type, final ByteBuffer data, final byte[] target, final int offset,
+            final int length, final int crc) throws IOException {
+        if (type == BLOCK_STORED) {
+            data.get(target, offset, length);
+        } else {
+            final var inflater = new Inflater();
+            try {
+                inflater.setInput(data);
+                int inflated = 0;
+                while (inflated < length) {
+                    final int count = inflater.inflate(target, offset + inflated, length - inflated);
+                    if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+                if (inflated != length || !inflater.finished()) {
+                    throw new IOException("Block decompressed to " + inflated + " bytes, expected " + length);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted block", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        final var checksum = new CRC32();
+        checksum.update(target, offset, length);
+        if ((int) checksum.getValue() != crc) {
+            throw new IOException("Block checksum mismatch");
+        }
+    }
+}
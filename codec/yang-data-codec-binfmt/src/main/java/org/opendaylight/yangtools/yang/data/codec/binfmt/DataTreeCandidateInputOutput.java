@@ -13,13 +13,17 @@ import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.ReusableStreamReceiver;
 import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateVisitor;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,9 +53,51 @@ public final class DataTreeCandidateInputOutput {
     public static @NonNull DataTreeCandidate readDataTreeCandidate(final NormalizedNodeDataInput in,
             final ReusableStreamReceiver receiver) throws IOException {
         final var rootPath = in.readYangInstanceIdentifier();
-        final byte type = in.readByte();
+        return DataTreeCandidates.newDataTreeCandidate(rootPath, readRootNode(in, receiver));
+    }
+
+    /**
+     * Read a batch of {@link DataTreeCandidate}s written by
+     * {@link #writeDataTreeCandidates(NormalizedNodeDataOutput, List)}.
+     *
+     * @param in Input to read from
+     * @return Candidates, in the order they were written
+     * @throws IOException if an I/O error occurs
+     */
+    public static @NonNull List<DataTreeCandidate> readDataTreeCandidates(final NormalizedNodeDataInput in)
+            throws IOException {
+        return readDataTreeCandidates(in, ReusableImmutableNormalizedNodeStreamWriter.create());
+    }
 
-        final var rootNode = switch (type) {
+    /**
+     * Read a batch of {@link DataTreeCandidate}s written by
+     * {@link #writeDataTreeCandidates(NormalizedNodeDataOutput, List)}, using specified receiver to construct data.
+     *
+     * @param in Input to read from
+     * @param receiver Reusable receiver, expected to be reset
+     * @return Candidates, in the order they were written
+     * @throws IOException if an I/O error occurs
+     */
+    public static @NonNull List<DataTreeCandidate> readDataTreeCandidates(final NormalizedNodeDataInput in,
+            final ReusableStreamReceiver receiver) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid candidate count " + size);
+        }
+
+        final var ret = new ArrayList<DataTreeCandidate>(size);
+        var rootPath = YangInstanceIdentifier.of();
+        for (int i = 0; i < size; ++i) {
+            rootPath = readRootPathDelta(in, rootPath);
+            ret.add(DataTreeCandidates.newDataTreeCandidate(rootPath, readRootNode(in, receiver)));
+        }
+        return ret;
+    }
+
+    private static DataTreeCandidateNode readRootNode(final NormalizedNodeDataInput in,
+            final ReusableStreamReceiver receiver) throws IOException {
+        final byte type = in.readByte();
+        return switch (type) {
             case APPEARED -> ModifiedDataTreeCandidateNode.create(
                 ModificationType.APPEARED, readChildren(in, receiver));
             case DELETE -> DeletedDataTreeCandidateNode.create();
@@ -63,14 +109,109 @@ public final class DataTreeCandidateInputOutput {
             case UNMODIFIED -> UnmodifiedRootDataTreeCandidateNode.INSTANCE;
             default -> throw unhandledNodeType(type);
         };
-        return DataTreeCandidates.newDataTreeCandidate(rootPath, rootNode);
+    }
+
+    /**
+     * Read a {@link DataTreeCandidate} and report it to a {@link DataTreeCandidateVisitor}, without instantiating the
+     * candidate or its data. The events reported are the same as those reported by
+     * {@link DataTreeCandidates#accept(DataTreeCandidate, DataTreeCandidateVisitor)} on the result of
+     * {@link #readDataTreeCandidate(NormalizedNodeDataInput)}, except before-image data is never available.
+     *
+     * @param in Input to read from
+     * @param visitor Visitor to report to
+     * @throws IOException if an I/O error occurs or the visitor reports an error
+     */
+    public static void streamDataTreeCandidate(final NormalizedNodeDataInput in,
+            final DataTreeCandidateVisitor visitor) throws IOException {
+        final var rootPath = in.readYangInstanceIdentifier();
+        final byte type = in.readByte();
+
+        final var streamer = new DataTreeCandidateStreamer(visitor);
+        visitor.startCandidate(rootPath);
+        switch (type) {
+            case APPEARED -> streamModifiedRoot(ModificationType.APPEARED, in, streamer);
+            case DELETE -> streamer.deleteNode(null);
+            case DISAPPEARED -> streamModifiedRoot(ModificationType.DISAPPEARED, in, streamer);
+            case SUBTREE_MODIFIED -> streamModifiedRoot(ModificationType.SUBTREE_MODIFIED, in, streamer);
+            case WRITE -> streamer.writeNode(in, true);
+            case UNMODIFIED -> {
+                // No-op
+            }
+            default -> throw unhandledNodeType(type);
+        }
+        visitor.endCandidate();
     }
 
     public static void writeDataTreeCandidate(final NormalizedNodeDataOutput out, final DataTreeCandidate candidate)
             throws IOException {
         out.writeYangInstanceIdentifier(candidate.getRootPath());
+        writeRootNode(out, candidate.getRootNode());
+    }
+
+    /**
+     * Write a batch of {@link DataTreeCandidate}s. Unlike writing each candidate through
+     * {@link #writeDataTreeCandidate(NormalizedNodeDataOutput, DataTreeCandidate)}, the root path of each candidate is
+     * encoded relative to the root path of the preceding candidate, so that only the path arguments following their
+     * common prefix are written. This is efficient for batches of candidates rooted at siblings, such as entries of
+     * a single list. Candidates should be written to a single {@link NormalizedNodeDataOutput}, so that the coding
+     * state of QNames is shared across the batch.
+     *
+     * @param out Output to write to
+     * @param candidates Candidates to write
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeDataTreeCandidates(final NormalizedNodeDataOutput out,
+            final List<DataTreeCandidate> candidates) throws IOException {
+        out.writeInt(candidates.size());
+        var previous = YangInstanceIdentifier.of();
+        for (var candidate : candidates) {
+            final var rootPath = candidate.getRootPath();
+            writeRootPathDelta(out, previous, rootPath);
+            writeRootNode(out, candidate.getRootNode());
+            previous = rootPath;
+        }
+    }
 
-        final var node = candidate.getRootNode();
+    private static void writeRootPathDelta(final NormalizedNodeDataOutput out, final YangInstanceIdentifier previous,
+            final YangInstanceIdentifier rootPath) throws IOException {
+        final var prevArgs = previous.getPathArguments();
+        final var args = rootPath.getPathArguments();
+        final int limit = Math.min(prevArgs.size(), args.size());
+        int common = 0;
+        while (common < limit && prevArgs.get(common).equals(args.get(common))) {
+            common++;
+        }
+
+        out.writeInt(common);
+        out.writeInt(args.size() - common);
+        for (var arg : args.subList(common, args.size())) {
+            out.writePathArgument(arg);
+        }
+    }
+
+    private static YangInstanceIdentifier readRootPathDelta(final NormalizedNodeDataInput in,
+            final YangInstanceIdentifier previous) throws IOException {
+        final var prevArgs = previous.getPathArguments();
+        final int common = in.readInt();
+        final int suffix = in.readInt();
+        if (common < 0 || common > prevArgs.size() || suffix < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid path delta " + common + "/" + suffix
+                + " relative to " + previous);
+        }
+        if (common == prevArgs.size() && suffix == 0) {
+            return previous;
+        }
+
+        final var args = ImmutableList.<PathArgument>builderWithExpectedSize(common + suffix)
+            .addAll(prevArgs.subList(0, common));
+        for (int i = 0; i < suffix; ++i) {
+            args.add(in.readPathArgument());
+        }
+        return YangInstanceIdentifier.of(args.build());
+    }
+
+    private static void writeRootNode(final NormalizedNodeDataOutput out, final DataTreeCandidateNode node)
+            throws IOException {
         switch (node.modificationType()) {
             case APPEARED -> {
                 out.writeByte(APPEARED);
@@ -94,6 +235,45 @@ public final class DataTreeCandidateInputOutput {
         }
     }
 
+    private static void streamModifiedRoot(final ModificationType type, final NormalizedNodeDataInput in,
+            final DataTreeCandidateStreamer streamer) throws IOException {
+        // The root is always reported, even if it has no children
+        streamer.enterRoot(type);
+        streamChildren(in, streamer);
+        streamer.exitNode();
+    }
+
+    private static void streamModifiedNode(final ModificationType type, final NormalizedNodeDataInput in,
+            final DataTreeCandidateStreamer streamer) throws IOException {
+        streamer.enterNode(in.readPathArgument(), type);
+        streamChildren(in, streamer);
+        streamer.exitNode();
+    }
+
+    private static void streamChildren(final NormalizedNodeDataInput in, final DataTreeCandidateStreamer streamer)
+            throws IOException {
+        final int size = in.readInt();
+        for (int i = 0; i < size; ++i) {
+            streamNode(in, streamer);
+        }
+    }
+
+    private static void streamNode(final NormalizedNodeDataInput in, final DataTreeCandidateStreamer streamer)
+            throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case APPEARED -> streamModifiedNode(ModificationType.APPEARED, in, streamer);
+            case DELETE -> streamer.deleteNode(in.readPathArgument());
+            case DISAPPEARED -> streamModifiedNode(ModificationType.DISAPPEARED, in, streamer);
+            case SUBTREE_MODIFIED -> streamModifiedNode(ModificationType.SUBTREE_MODIFIED, in, streamer);
+            case UNMODIFIED -> {
+                // No-op
+            }
+            case WRITE -> streamer.writeNode(in, false);
+            default -> throw unhandledNodeType(type);
+        }
+    }
+
     private static DataTreeCandidateNode readModifiedNode(final ModificationType type, final NormalizedNodeDataInput in,
             final ReusableStreamReceiver receiver) throws IOException {
         final var identifier = in.readPathArgument();
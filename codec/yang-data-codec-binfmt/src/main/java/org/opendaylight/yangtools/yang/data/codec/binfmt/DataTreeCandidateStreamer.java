@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import javax.xml.transform.dom.DOMSource;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateVisitor;
+
+/**
+ * State of a single {@link DataTreeCandidateInputOutput#streamDataTreeCandidate(NormalizedNodeDataInput,
+ * DataTreeCandidateVisitor)} invocation. Modified nodes are reported to the visitor only once we encounter a change
+ * beneath them, mirroring how {@link DataTreeCandidateInputOutput#readDataTreeCandidate(NormalizedNodeDataInput)}
+ * does not instantiate modified nodes without children.
+ *
+ * <p>
+ * Written nodes do not have their identifier serialized separately, hence this class also acts as the
+ * {@link NormalizedNodeStreamWriter} for their data: the first event identifies the node, at which point we ask the
+ * visitor where the data should go. If it does not want it, the remainder of the events is discarded.
+ */
+final class DataTreeCandidateStreamer implements NormalizedNodeStreamWriter {
+    private record Modified(@Nullable PathArgument name, @NonNull ModificationType type) {
+        // Nothing else
+    }
+
+    private final ArrayList<Modified> modified = new ArrayList<>();
+    private final @NonNull DataTreeCandidateVisitor visitor;
+
+    // Number of nodes in 'modified' which have been reported to the visitor
+    private int entered;
+    // Set when a written node is being streamed
+    private boolean writing;
+    private boolean started;
+    private boolean root;
+    private @Nullable NormalizedNodeStreamWriter delegate;
+
+    DataTreeCandidateStreamer(final DataTreeCandidateVisitor visitor) {
+        this.visitor = requireNonNull(visitor);
+    }
+
+    void enterRoot(final ModificationType type) throws IOException {
+        modified.add(new Modified(null, type));
+        reportModified();
+    }
+
+    void enterNode(final PathArgument name, final ModificationType type) {
+        modified.add(new Modified(name, type));
+    }
+
+    void exitNode() throws IOException {
+        modified.remove(modified.size() - 1);
+        if (entered > modified.size()) {
+            entered = modified.size();
+            visitor.exitNode();
+        }
+    }
+
+    void deleteNode(final @Nullable PathArgument name) throws IOException {
+        reportModified();
+        visitor.deleteNode(name, null);
+    }
+
+    void writeNode(final NormalizedNodeDataInput in, final boolean isRoot) throws IOException {
+        reportModified();
+        writing = true;
+        started = false;
+        root = isRoot;
+        delegate = null;
+        try {
+            in.streamNormalizedNode(this);
+        } finally {
+            writing = false;
+            delegate = null;
+        }
+        if (started) {
+            visitor.endWrite();
+        }
+    }
+
+    private void reportModified() throws IOException {
+        for (int i = entered; i < modified.size(); ++i) {
+            final var node = modified.get(i);
+            visitor.enterNode(node.name(), node.type());
+        }
+        entered = modified.size();
+    }
+
+    private @Nullable NormalizedNodeStreamWriter delegate(final PathArgument name) throws IOException {
+        if (!started) {
+            if (!writing) {
+                throw new IllegalStateException("Unexpected node " + name);
+            }
+            started = true;
+            delegate = visitor.startWrite(root ? null : name, null);
+        }
+        return delegate;
+    }
+
+    @Override
+    public void startLeafNode(final NodeIdentifier name) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startLeafNode(name);
+        }
+    }
+
+    @Override
+    public void startLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startLeafSet(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startOrderedLeafSet(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startLeafSetEntryNode(final NodeWithValue<?> name) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startLeafSetEntryNode(name);
+        }
+    }
+
+    @Override
+    public void startContainerNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startContainerNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startUnkeyedList(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startUnkeyedListItem(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startMapNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+            throws IOException {
+        final var writer = delegate(identifier);
+        if (writer != null) {
+            writer.startMapEntryNode(identifier, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startOrderedMapNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+        final var writer = delegate(name);
+        if (writer != null) {
+            writer.startChoiceNode(name, childSizeHint);
+        }
+    }
+
+    @Override
+    public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
+        final var writer = delegate(name);
+        return writer != null && writer.startAnydataNode(name, objectModel);
+    }
+
+    @Override
+    public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
+        final var writer = delegate(name);
+        return writer != null && writer.startAnyxmlNode(name, objectModel);
+    }
+
+    @Override
+    public void domSourceValue(final DOMSource value) throws IOException {
+        if (delegate != null) {
+            delegate.domSourceValue(value);
+        }
+    }
+
+    @Override
+    public void scalarValue(final Object value) throws IOException {
+        if (delegate != null) {
+            delegate.scalarValue(value);
+        }
+    }
+
+    @Override
+    public void endNode() throws IOException {
+        if (delegate != null) {
+            delegate.endNode();
+        }
+    }
+
+    @Override
+    public void close() {
+        // No-op: the delegate is owned by the visitor
+    }
+
+    @Override
+    public void flush() {
+        // No-op: the delegate is owned by the visitor
+    }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A write-ahead journal for a {@link DataTree}. Each candidate {@link #commit(DataTreeCandidate) committed} through
+ * the journal is first appended to a segmented, memory-mapped log in {@link NormalizedNodeStreamVersion#POTASSIUM}
+ * format and then committed to the data tree. Periodically a full snapshot of the data tree is written, after which
+ * the log segments it covers are deleted.
+ *
+ * <p>
+ * A journal is {@link #open(DataTree, Path) opened} on an empty data tree. If the directory contains a previous
+ * journal, the latest snapshot and the tail of the log are decoded in parallel and then applied to the data tree in
+ * a single modification.
+ *
+ * <p>
+ * Appended records are visible to recovery as soon as the operating system writes the mapped pages back, which means
+ * they survive a process crash. Use {@link #flush()} to make them durable across an operating system crash. A record
+ * which has been torn by a crash is detected by its checksum and ignored, along with everything following it in its
+ * segment.
+ */
+@Beta
+public final class DataTreeJournal implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataTreeJournal.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Record length and CRC32
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    /**
+     * Default size of a single log segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    /**
+     * Default number of records between automatic snapshots.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    private final @NonNull DataTree dataTree;
+    private final @NonNull Path directory;
+    private final int segmentSize;
+    private final int snapshotInterval;
+
+    private MappedByteBuffer segment;
+    private long nextIndex;
+    private long snapshotIndex;
+    private boolean closed;
+
+    private DataTreeJournal(final DataTree dataTree, final Path directory, final int segmentSize,
+            final int snapshotInterval, final long nextIndex, final long snapshotIndex) throws IOException {
+        this.dataTree = requireNonNull(dataTree);
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+        this.snapshotInterval = snapshotInterval;
+        this.nextIndex = nextIndex;
+        this.snapshotIndex = snapshotIndex;
+        // Never append to a recovered segment, as its tail may have been torn
+        segment = createSegment(directory, nextIndex, segmentSize);
+    }
+
+    /**
+     * Open a journal with default settings, recovering the contents of the data tree from the specified directory.
+     *
+     * @param dataTree An empty data tree
+     * @param directory Journal directory, created if it does not exist
+     * @return A journal
+     * @throws IOException if the journal cannot be recovered or opened
+     */
+    public static @NonNull DataTreeJournal open(final DataTree dataTree, final Path directory) throws IOException {
+        return open(dataTree, directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SNAPSHOT_INTERVAL, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Open a journal, recovering the contents of the data tree from the specified directory.
+     *
+     * @param dataTree An empty data tree
+     * @param directory Journal directory, created if it does not exist
+     * @param segmentSize Size of a single log segment, in bytes. Records larger than this size are placed in dedicated
+     *                    segments.
+     * @param snapshotInterval Number of records after which a snapshot is taken automatically, {@code 0} to disable
+     *                         automatic snapshots
+     * @param executor Executor used to decode the snapshot and log segments during recovery
+     * @return A journal
+     * @throws IOException if the journal cannot be recovered or opened
+     * @throws IllegalArgumentException if {@code segmentSize} is not positive or {@code snapshotInterval} is negative
+     */
+    @SuppressWarnings("checkstyle:avoidHidingCauseException")
+    public static @NonNull DataTreeJournal open(final DataTree dataTree, final Path directory, final int segmentSize,
+            final int snapshotInterval, final Executor executor) throws IOException {
+        checkArgument(segmentSize > 0, "Invalid segment size %s", segmentSize);
+        checkArgument(snapshotInterval >= 0, "Invalid snapshot interval %s", snapshotInterval);
+        Files.createDirectories(directory);
+
+        final var snapshots = listFiles(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        final var segments = listFiles(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        final long snapshotIndex = snapshots.isEmpty() ? 0 : snapshots.lastKey();
+
+        // Decode the snapshot and all segments it does not cover concurrently
+        final var snapshotFuture = snapshots.isEmpty() ? CompletableFuture.<Optional<NormalizedNode>>completedFuture(
+            Optional.empty()) : CompletableFuture.supplyAsync(() -> readSnapshot(snapshots.lastEntry().getValue()),
+                executor);
+        final var segmentFutures = new TreeMap<Long, CompletableFuture<List<DataTreeCandidate>>>();
+        for (var entry : segments.tailMap(snapshotIndex, true).entrySet()) {
+            final var path = entry.getValue();
+            segmentFutures.put(entry.getKey(), CompletableFuture.supplyAsync(() -> readSegment(path), executor));
+        }
+
+        final Optional<NormalizedNode> snapshot;
+        final var candidates = new ArrayList<DataTreeCandidate>();
+        long nextIndex = snapshotIndex;
+        try {
+            snapshot = snapshotFuture.join();
+            for (var entry : segmentFutures.entrySet()) {
+                final long base = entry.getKey();
+                if (base != nextIndex) {
+                    throw new IOException("Journal segment " + segments.get(base) + " does not follow index "
+                        + nextIndex);
+                }
+                final var records = entry.getValue().join();
+                candidates.addAll(records);
+                nextIndex += records.size();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw new IOException("Failed to recover journal " + directory, e);
+        }
+
+        if (snapshot.isPresent() || !candidates.isEmpty()) {
+            final var mod = dataTree.takeSnapshot().newModification();
+            snapshot.ifPresent(data -> mod.write(dataTree.getRootPath(), data));
+            for (var candidate : candidates) {
+                DataTreeCandidates.applyToModification(mod, candidate);
+            }
+            mod.ready();
+            try {
+                dataTree.validate(mod);
+                dataTree.commit(dataTree.prepare(mod));
+            } catch (DataValidationFailedException e) {
+                throw new IOException("Recovered journal does not match data tree", e);
+            }
+            LOG.debug("Recovered {} records on top of snapshot at {} from {}", candidates.size(), snapshotIndex,
+                directory);
+        }
+
+        return new DataTreeJournal(dataTree, directory, segmentSize, snapshotInterval, nextIndex, snapshotIndex);
+    }
+
+    /**
+     * Return the data tree backed by this journal.
+     *
+     * @return Backing data tree
+     */
+    public @NonNull DataTree dataTree() {
+        return dataTree;
+    }
+
+    /**
+     * Append a prepared candidate to the log and commit it to the data tree.
+     *
+     * @param candidate Candidate prepared by {@link #dataTree()}
+     * @throws IOException if the candidate cannot be appended to the log, in which case it is not committed
+     * @throws IllegalStateException if this journal has been closed
+     * @throws RuntimeException if the data tree fails to commit the candidate, in which case it is removed from the log
+     */
+    @SuppressWarnings("checkstyle:illegalCatch")
+    public synchronized void commit(final DataTreeCandidate candidate) throws IOException {
+        checkState(!closed, "Journal %s has been closed", directory);
+        if (candidate.getRootNode().modificationType() != ModificationType.UNMODIFIED) {
+            final int position = append(candidate);
+            try {
+                dataTree.commit(candidate);
+            } catch (RuntimeException e) {
+                retract(position);
+                throw e;
+            }
+        } else {
+            dataTree.commit(candidate);
+        }
+
+        if (snapshotInterval != 0 && nextIndex - snapshotIndex >= snapshotInterval) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Write a snapshot of current data tree state and delete all log segments and snapshots it supersedes.
+     *
+     * @throws IOException if the snapshot cannot be written
+     * @throws IllegalStateException if this journal has been closed
+     */
+    public synchronized void snapshot() throws IOException {
+        checkState(!closed, "Journal %s has been closed", directory);
+
+        // Start a new segment, so the snapshot covers complete segments
+        if (segment.position() != 0) {
+            segment.force();
+            segment = createSegment(directory, nextIndex, segmentSize);
+        }
+
+        final var data = dataTree.takeSnapshot().readNode(dataTree.getRootPath()).orElse(null);
+        final var path = directory.resolve(fileName(SNAPSHOT_PREFIX, nextIndex, SNAPSHOT_SUFFIX));
+        final var temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel))))) {
+                out.writeOptionalNormalizedNode(data);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        snapshotIndex = nextIndex;
+
+        for (var entry : listFiles(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).headMap(snapshotIndex).values()) {
+            Files.delete(entry);
+        }
+        for (var entry : listFiles(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX).headMap(snapshotIndex).values()) {
+            Files.delete(entry);
+        }
+        LOG.debug("Journal {} snapshot taken at {}", directory, snapshotIndex);
+    }
+
+    /**
+     * Force all appended records to storage.
+     *
+     * @throws IllegalStateException if this journal has been closed
+     */
+    public synchronized void flush() {
+        checkState(!closed, "Journal %s has been closed", directory);
+        segment.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            segment.force();
+            segment = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("directory", directory)
+            .add("nextIndex", nextIndex)
+            .add("snapshotIndex", snapshotIndex)
+            .toString();
+    }
+
+    private int append(final DataTreeCandidate candidate) throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(bytes)) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        }
+        final var record = bytes.toByteArray();
+        final var crc = new CRC32();
+        crc.update(record);
+
+        var local = segment;
+        if (local.remaining() < HEADER_SIZE + record.length) {
+            local.force();
+            segment = local = createSegment(directory, nextIndex, Math.max(segmentSize, HEADER_SIZE + record.length));
+        }
+        // Write the length last, so that a partially-written record is never considered valid
+        final int position = local.position();
+        local.position(position + Integer.BYTES);
+        local.putInt((int) crc.getValue()).put(record);
+        local.putInt(position, record.length);
+        nextIndex++;
+        return position;
+    }
+
+    // Remove the last record, which starts at specified position of current segment. The record is zeroed out, so that
+    // it is not mistaken for a torn record once it is partially overwritten by a shorter one.
+    private void retract(final int position) {
+        final var local = segment;
+        local.put(position, new byte[local.position() - position]).position(position);
+        nextIndex--;
+        LOG.debug("Journal {} retracted record {}", directory, nextIndex);
+    }
+
+    private static @NonNull MappedByteBuffer createSegment(final Path directory, final long index, final int size)
+            throws IOException {
+        final var path = directory.resolve(fileName(SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        // An existing segment with the same index does not contain any valid records, hence we can overwrite it. The
+        // mapping remains valid after the channel is closed.
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static @NonNull List<DataTreeCandidate> readSegment(final Path path) {
+        final MappedByteBuffer buffer;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var ret = new ArrayList<DataTreeCandidate>();
+        final var crc = new CRC32();
+        while (buffer.remaining() >= HEADER_SIZE) {
+            final int length = buffer.getInt();
+            if (length == 0) {
+                // End of segment
+                break;
+            }
+            final int expected = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                LOG.warn("Journal segment {} has a torn record at {}, ignoring the rest of it", path,
+                    buffer.position() - HEADER_SIZE);
+                break;
+            }
+
+            final var record = new byte[length];
+            buffer.get(record);
+            crc.reset();
+            crc.update(record);
+            if ((int) crc.getValue() != expected) {
+                LOG.warn("Journal segment {} has a corrupted record at {}, ignoring the rest of it", path,
+                    buffer.position() - length - HEADER_SIZE);
+                break;
+            }
+
+            try {
+                ret.add(DataTreeCandidateInputOutput.readDataTreeCandidate(
+                    NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(record))));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to decode record in " + path, e);
+            }
+        }
+        return ret;
+    }
+
+    private static @NonNull Optional<NormalizedNode> readSnapshot(final Path path) {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return NormalizedNodeDataInput.newDataInput(in).readOptionalNormalizedNode();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read snapshot " + path, e);
+        }
+    }
+
+    private static @NonNull TreeMap<Long, Path> listFiles(final Path directory, final String prefix,
+            final String suffix) throws IOException {
+        final var ret = new TreeMap<Long, Path>();
+        try (var stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (var path : stream) {
+                final var index = parseIndex(path.getFileName().toString(), prefix, suffix);
+                if (index != null) {
+                    ret.put(index, path);
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static @Nullable Long parseIndex(final String fileName, final String prefix, final String suffix) {
+        try {
+            return Long.valueOf(fileName.substring(prefix.length(), fileName.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            LOG.debug("Ignoring unrecognized file {}", fileName, e);
+            return null;
+        }
+    }
+
+    private static @NonNull String fileName(final String prefix, final long index, final String suffix) {
+        return String.format("%s%020d%s", prefix, index, suffix);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Children of a node in an {@link IndexedNodeSource}. Each child is decoded on first access and cached afterwards.
+ * Identifiers of all children are decoded on first lookup by identifier.
+ *
+ * @param <K> Child identifier type
+ * @param <V> Child node type
+ */
+final class IndexedChildren<K extends PathArgument, V extends NormalizedNode> {
+    private final @NonNull IndexedNodeSource source;
+    private final @NonNull Class<K> keyType;
+    private final @NonNull Class<V> valueType;
+    private final @NonNull AtomicReferenceArray<V> nodes;
+    private final int indexOffset;
+    private final int base;
+    private final int end;
+
+    private volatile ImmutableMap<K, Integer> keys;
+
+    IndexedChildren(final IndexedNodeSource source, final Class<K> keyType, final Class<V> valueType,
+            final int indexOffset, final int base, final int end, final int size) {
+        this.source = requireNonNull(source);
+        this.keyType = requireNonNull(keyType);
+        this.valueType = requireNonNull(valueType);
+        this.indexOffset = indexOffset;
+        this.base = base;
+        this.end = end;
+        nodes = new AtomicReferenceArray<>(size);
+    }
+
+    int size() {
+        return nodes.length();
+    }
+
+    @NonNull V get(final int index) {
+        final var existing = nodes.get(index);
+        if (existing != null) {
+            return existing;
+        }
+
+        final V decoded;
+        try {
+            final var node = source.node(recordOffset(index));
+            if (!valueType.isInstance(node)) {
+                throw new InvalidNormalizedNodeStreamException("Unexpected child " + node);
+            }
+            decoded = valueType.cast(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode child " + index, e);
+        }
+
+        // Benign race: concurrent decodes produce equal nodes, we retain the first one
+        return nodes.compareAndSet(index, null, decoded) ? decoded : nodes.get(index);
+    }
+
+    @Nullable V get(final K key) {
+        final var index = keys().get(key);
+        return index == null ? null : get(index);
+    }
+
+    @NonNull List<V> values() {
+        return new AbstractList<>() {
+            @Override
+            public V get(final int index) {
+                return IndexedChildren.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return IndexedChildren.this.size();
+            }
+        };
+    }
+
+    private ImmutableMap<K, Integer> keys() {
+        var local = keys;
+        if (local == null) {
+            synchronized (this) {
+                local = keys;
+                if (local == null) {
+                    keys = local = loadKeys();
+                }
+            }
+        }
+        return local;
+    }
+
+    private ImmutableMap<K, Integer> loadKeys() {
+        final int size = size();
+        final var builder = ImmutableMap.<K, Integer>builderWithExpectedSize(size);
+        try {
+            for (int i = 0; i < size; ++i) {
+                final var name = source.name(recordOffset(i));
+                if (!keyType.isInstance(name)) {
+                    throw new InvalidNormalizedNodeStreamException("Unexpected child identifier " + name);
+                }
+                builder.put(keyType.cast(name), i);
+            }
+            return builder.build();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new UncheckedIOException(new InvalidNormalizedNodeStreamException("Failed to index children", e));
+        }
+    }
+
+    private int recordOffset(final int index) throws InvalidNormalizedNodeStreamException {
+        final int offset = source.childOffset(indexOffset + index * Integer.BYTES);
+        if (offset < 0 || offset >= end - base) {
+            throw new InvalidNormalizedNodeStreamException("Invalid offset " + offset + " of child " + index);
+        }
+        return base + offset;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A buffer holding node records in the layout described in {@link IndexedNormalizedNodes}, along with the dictionary
+ * they were written with. All accesses to the buffer use absolute positions, hence instances are safe for concurrent
+ * use.
+ */
+final class IndexedNodeSource {
+    private final @NonNull ByteBuffer buffer;
+    private final @NonNull NormalizedNodeStreamDictionary dictionary;
+
+    IndexedNodeSource(final ByteBuffer buffer, final NormalizedNodeStreamDictionary dictionary) {
+        this.buffer = requireNonNull(buffer);
+        this.dictionary = requireNonNull(dictionary);
+    }
+
+    /**
+     * Return the total size of the record at specified offset.
+     *
+     * @param offset Record offset
+     * @return Record size, including its header
+     * @throws IOException if the record is malformed
+     */
+    int recordSize(final int offset) throws IOException {
+        checkBounds(offset, IndexedNormalizedNodes.RECORD_HEADER_SIZE);
+        final int length = buffer.getInt(offset + Byte.BYTES);
+        checkBounds(offset + IndexedNormalizedNodes.RECORD_HEADER_SIZE, length);
+        return IndexedNormalizedNodes.RECORD_HEADER_SIZE + length;
+    }
+
+    /**
+     * Decode the identifier of the record at specified offset.
+     *
+     * @param offset Record offset
+     * @return Node identifier
+     * @throws IOException if the record is malformed
+     */
+    @NonNull PathArgument name(final int offset) throws IOException {
+        return newDataInput(recordBody(offset)).readPathArgument();
+    }
+
+    /**
+     * Decode the record at specified offset. Records with children are returned as views, which decode children on
+     * first access.
+     *
+     * @param offset Record offset
+     * @return A {@link NormalizedNode}
+     * @throws IOException if the record is malformed
+     */
+    @NonNull NormalizedNode node(final int offset) throws IOException {
+        final var body = recordBody(offset);
+        final var input = newDataInput(body);
+        final var name = input.readPathArgument();
+        final byte kind = buffer.get(offset);
+        return switch (kind) {
+            case IndexedNormalizedNodes.KIND_OPAQUE -> {
+                final var node = input.readNormalizedNode();
+                if (node == null || !name.equals(node.name())) {
+                    throw new InvalidNormalizedNodeStreamException("Record " + name + " contains mismatched " + node);
+                }
+                yield node;
+            }
+            case IndexedNormalizedNodes.KIND_CONTAINER ->
+                new LazyContainerNode(nodeIdentifier(name),
+                    children(offset, body, input, NodeIdentifier.class, DataContainerChild.class));
+            case IndexedNormalizedNodes.KIND_CHOICE ->
+                new LazyChoiceNode(nodeIdentifier(name),
+                    children(offset, body, input, NodeIdentifier.class, DataContainerChild.class));
+            case IndexedNormalizedNodes.KIND_MAP ->
+                new LazyMapNode(nodeIdentifier(name),
+                    children(offset, body, input, NodeIdentifierWithPredicates.class, MapEntryNode.class));
+            case IndexedNormalizedNodes.KIND_MAP_ENTRY -> {
+                if (!(name instanceof NodeIdentifierWithPredicates nip)) {
+                    throw new InvalidNormalizedNodeStreamException("Unexpected map entry identifier " + name);
+                }
+                yield new LazyMapEntryNode(nip,
+                    children(offset, body, input, NodeIdentifier.class, DataContainerChild.class));
+            }
+            default -> throw new InvalidNormalizedNodeStreamException("Unhandled record kind " + kind);
+        };
+    }
+
+    /**
+     * Return the offset of a child record stored in an offset table entry.
+     *
+     * @param indexOffset Offset of the table entry
+     * @return Child record offset, relative to the start of child records
+     */
+    int childOffset(final int indexOffset) {
+        return buffer.getInt(indexOffset);
+    }
+
+    private @NonNull ByteBuffer recordBody(final int offset) throws IOException {
+        final int size = recordSize(offset);
+        return buffer.slice(offset + IndexedNormalizedNodes.RECORD_HEADER_SIZE,
+            size - IndexedNormalizedNodes.RECORD_HEADER_SIZE);
+    }
+
+    private @NonNull PotassiumDataInput newDataInput(final ByteBuffer body) {
+        return new PotassiumDataInput(new ByteBufferDataInput(body), dictionary);
+    }
+
+    private <K extends PathArgument, V extends NormalizedNode> @NonNull IndexedChildren<K, V> children(
+            final int offset, final ByteBuffer body, final PotassiumDataInput input, final Class<K> keyType,
+            final Class<V> valueType) throws IOException {
+        // The input has consumed the identifier, the child count and the offset table follow
+        final int count = input.readInt();
+        if (count < 0 || count > body.remaining() / Integer.BYTES) {
+            throw new InvalidNormalizedNodeStreamException("Invalid child count " + count);
+        }
+        final int bodyOffset = offset + IndexedNormalizedNodes.RECORD_HEADER_SIZE;
+        final int indexOffset = bodyOffset + body.position();
+        return new IndexedChildren<>(this, keyType, valueType, indexOffset, indexOffset + count * Integer.BYTES,
+            bodyOffset + body.limit(), count);
+    }
+
+    private static @NonNull NodeIdentifier nodeIdentifier(final PathArgument name)
+            throws InvalidNormalizedNodeStreamException {
+        if (name instanceof NodeIdentifier nid) {
+            return nid;
+        }
+        throw new InvalidNormalizedNodeStreamException("Unexpected node identifier " + name);
+    }
+
+    private void checkBounds(final int offset, final int length) throws InvalidNormalizedNodeStreamException {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+            throw new InvalidNormalizedNodeStreamException("Record at " + offset + " length " + length
+                + " exceeds buffer size " + buffer.limit());
+        }
+    }
+}
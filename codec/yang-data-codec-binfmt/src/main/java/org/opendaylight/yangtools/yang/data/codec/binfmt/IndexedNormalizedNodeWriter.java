@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+
+/**
+ * Writer of node records in the layout described in {@link IndexedNormalizedNodes}. Records are assembled in memory,
+ * so that their lengths and child offsets can be filled in once they are known.
+ */
+final class IndexedNormalizedNodeWriter {
+    /**
+     * A {@link ByteArrayOutputStream} which allows already-written integers to be overwritten.
+     */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(4096);
+        }
+
+        void putInt(final int offset, final int value) {
+            buf[offset] = (byte) (value >>> 24);
+            buf[offset + 1] = (byte) (value >>> 16);
+            buf[offset + 2] = (byte) (value >>> 8);
+            buf[offset + 3] = (byte) value;
+        }
+
+        void writeTo(final DataOutput output) throws IOException {
+            output.write(buf, 0, count);
+        }
+    }
+
+    private final RecordBuffer buffer = new RecordBuffer();
+    private final DataOutputStream output = new DataOutputStream(buffer);
+    private final @NonNull NormalizedNodeStreamDictionary dictionary;
+
+    IndexedNormalizedNodeWriter(final NormalizedNodeStreamDictionary dictionary) {
+        this.dictionary = requireNonNull(dictionary);
+    }
+
+    void writeRecord(final NormalizedNode node) throws IOException {
+        final byte kind = recordKind(node);
+        output.writeByte(kind);
+        final int lengthOffset = buffer.size();
+        output.writeInt(0);
+        final int start = buffer.size();
+
+        // Each record starts with a fresh coding state, so that it can be decoded on its own
+        final var potassium = new PotassiumDataOutput(output, dictionary);
+        potassium.writePathArgumentInternal(node.name());
+        if (kind == IndexedNormalizedNodes.KIND_OPAQUE) {
+            NormalizedNodeWriter.forStreamWriter(potassium).write(node);
+        } else {
+            writeChildren((NormalizedNodeContainer<?>) node);
+        }
+
+        buffer.putInt(lengthOffset, buffer.size() - start);
+    }
+
+    void writeTo(final DataOutput out) throws IOException {
+        buffer.writeTo(out);
+    }
+
+    private void writeChildren(final NormalizedNodeContainer<?> container) throws IOException {
+        final var children = container.body();
+        final int count = children.size();
+        output.writeInt(count);
+
+        int indexOffset = buffer.size();
+        for (int i = 0; i < count; ++i) {
+            output.writeInt(0);
+        }
+
+        final int base = buffer.size();
+        for (var child : children) {
+            buffer.putInt(indexOffset, buffer.size() - base);
+            indexOffset += Integer.BYTES;
+            writeRecord(child);
+        }
+    }
+
+    private static byte recordKind(final NormalizedNode node) {
+        if (node instanceof ContainerNode) {
+            return IndexedNormalizedNodes.KIND_CONTAINER;
+        } else if (node instanceof ChoiceNode) {
+            return IndexedNormalizedNodes.KIND_CHOICE;
+        } else if (node instanceof MapEntryNode) {
+            return IndexedNormalizedNodes.KIND_MAP_ENTRY;
+        } else if (node instanceof SystemMapNode) {
+            return IndexedNormalizedNodes.KIND_MAP;
+        } else {
+            return IndexedNormalizedNodes.KIND_OPAQUE;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.ValueNode;
+
+/**
+ * Utilities for writing and reading {@link NormalizedNode}s in an indexed layout, which allows individual nodes to be
+ * decoded without decoding the entire tree.
+ *
+ * <p>
+ * The layout consists of a header, which holds a complete {@link NormalizedNodeStreamDictionary}, followed by a tree of
+ * node records. Each record is prefixed by its kind and length and starts with the node's identifier. Containers,
+ * choices, map entries and maps additionally carry the number of their children and a table of offsets to their
+ * records. Every other node is stored as a {@link NormalizedNodeStreamVersion#POTASSIUM} encoding. Each record uses
+ * its own coding state, so it can be decoded independently of its siblings.
+ *
+ * <p>
+ * {@link #readNormalizedNode(ByteBuffer)} returns a view of the tree, which decodes nodes on first access. Looking up a
+ * child by its identifier decodes identifiers of all the siblings once, but none of their contents. This makes it
+ * possible to access a single list entry in a large serialized snapshot without deserializing the rest of it. The
+ * price for this is a larger encoding than that of a plain stream.
+ */
+@Beta
+public final class IndexedNormalizedNodes {
+    // Record kinds
+    static final byte KIND_OPAQUE    = 0;
+    static final byte KIND_CONTAINER = 1;
+    static final byte KIND_CHOICE    = 2;
+    static final byte KIND_MAP       = 3;
+    static final byte KIND_MAP_ENTRY = 4;
+
+    // Size of record kind and length
+    static final int RECORD_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+
+    private IndexedNormalizedNodes() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Write a {@link NormalizedNode} in indexed layout. The dictionary is derived from QNames used in the node.
+     *
+     * @param output Output to write to
+     * @param node Node to write
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void writeNormalizedNode(final DataOutput output, final NormalizedNode node) throws IOException {
+        final var qnames = new HashSet<QName>();
+        collectQNames(qnames, node);
+        writeNormalizedNode(output, node, NormalizedNodeStreamDictionary.of(List.of(), qnames));
+    }
+
+    /**
+     * Write a {@link NormalizedNode} in indexed layout using specified dictionary. QNames not present in the dictionary
+     * are defined in the records which use them.
+     *
+     * @param output Output to write to
+     * @param node Node to write
+     * @param dictionary Dictionary to use
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void writeNormalizedNode(final DataOutput output, final NormalizedNode node,
+            final NormalizedNodeStreamDictionary dictionary) throws IOException {
+        final var writer = new IndexedNormalizedNodeWriter(dictionary);
+        writer.writeRecord(requireNonNull(node));
+
+        output.writeByte(TokenTypes.SIGNATURE_MARKER);
+        output.writeShort(TokenTypes.POTASSIUM_INDEXED_VERSION);
+        dictionary.writeTo(output);
+        writer.writeTo(output);
+    }
+
+    /**
+     * Open a view of a {@link NormalizedNode} written by {@link #writeNormalizedNode(DataOutput, NormalizedNode)},
+     * starting at the buffer's current position. The buffer's position is advanced past the node. Child nodes of the
+     * returned node are decoded on first access, hence contents of the buffer must not be modified while the view is
+     * in use. Errors encountered while decoding children are reported as {@link java.io.UncheckedIOException}s.
+     *
+     * @param buffer Buffer to read from
+     * @return A {@link NormalizedNode} view
+     * @throws InvalidNormalizedNodeStreamException if the buffer does not contain an indexed node
+     * @throws IOException if an error occurs reading from the buffer
+     * @throws NullPointerException if {@code buffer} is {@code null}
+     */
+    public static @NonNull NormalizedNode readNormalizedNode(final ByteBuffer buffer) throws IOException {
+        final var local = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final var input = new ByteBufferDataInput(local);
+        final byte marker = input.readByte();
+        if (marker != TokenTypes.SIGNATURE_MARKER) {
+            throw new InvalidNormalizedNodeStreamException(String.format("Invalid signature marker: %d", marker));
+        }
+        final short version = input.readShort();
+        if (version != TokenTypes.POTASSIUM_INDEXED_VERSION) {
+            throw new InvalidNormalizedNodeStreamException(String.format("Unhandled stream version %s", version));
+        }
+
+        // The dictionary has to be read before the records are sliced off the buffer
+        final var dictionary = NormalizedNodeStreamDictionary.readFrom(input);
+        final int origin = local.position();
+        final var source = new IndexedNodeSource(local.slice(), dictionary);
+        final var node = source.node(0);
+        buffer.position(origin + source.recordSize(0));
+        return node;
+    }
+
+    static void collectQNames(final Set<QName> qnames, final NormalizedNode node) {
+        final var name = node.name();
+        qnames.add(name.getNodeType());
+        if (name instanceof NodeIdentifierWithPredicates nip) {
+            for (var entry : nip.entrySet()) {
+                qnames.add(entry.getKey());
+                if (entry.getValue() instanceof QName qname) {
+                    qnames.add(qname);
+                }
+            }
+        }
+
+        if (node instanceof NormalizedNodeContainer<?> container) {
+            for (var child : container.body()) {
+                collectQNames(qnames, child);
+            }
+        } else if (node instanceof ValueNode<?> value && value.body() instanceof QName qname) {
+            qnames.add(qname);
+        }
+    }
+}
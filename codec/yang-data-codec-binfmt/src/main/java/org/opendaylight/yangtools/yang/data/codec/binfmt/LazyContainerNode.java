@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+
+/**
+ * A lazily-decoded {@link ContainerNode}, backed by an {@link IndexedNodeSource} container record.
+ */
+final class LazyContainerNode extends AbstractLazyDataContainerNode<NodeIdentifier, ContainerNode>
+        implements ContainerNode {
+    LazyContainerNode(final NodeIdentifier name, final IndexedChildren<NodeIdentifier, DataContainerChild> children) {
+        super(name, children);
+    }
+
+    @Override
+    protected Class<ContainerNode> implementedType() {
+        return ContainerNode.class;
+    }
+}
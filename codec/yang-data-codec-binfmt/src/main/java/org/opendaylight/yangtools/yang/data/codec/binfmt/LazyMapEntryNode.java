@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+
+/**
+ * A lazily-decoded {@link MapEntryNode}, backed by an {@link IndexedNodeSource} map entry record.
+ */
+final class LazyMapEntryNode extends AbstractLazyDataContainerNode<NodeIdentifierWithPredicates, MapEntryNode>
+        implements MapEntryNode {
+    LazyMapEntryNode(final NodeIdentifierWithPredicates name,
+            final IndexedChildren<NodeIdentifier, DataContainerChild> children) {
+        super(name, children);
+    }
+
+    @Override
+    protected Class<MapEntryNode> implementedType() {
+        return MapEntryNode.class;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+
+/**
+ * A lazily-decoded {@link SystemMapNode}, backed by an {@link IndexedNodeSource} map record.
+ */
+final class LazyMapNode extends AbstractNormalizedNode<NodeIdentifier, SystemMapNode> implements SystemMapNode {
+    private final class EntryMap extends AbstractMap<NodeIdentifierWithPredicates, MapEntryNode> {
+        @Override
+        public MapEntryNode get(final Object key) {
+            return key instanceof NodeIdentifierWithPredicates nip ? children.get(nip) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return children.size();
+        }
+
+        @Override
+        public Set<Entry<NodeIdentifierWithPredicates, MapEntryNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<NodeIdentifierWithPredicates, MapEntryNode>> iterator() {
+                    final var it = children.values().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<NodeIdentifierWithPredicates, MapEntryNode> next() {
+                            final var entry = it.next();
+                            return Map.entry(entry.name(), entry);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return children.size();
+                }
+            };
+        }
+
+        @Override
+        public Collection<MapEntryNode> values() {
+            return children.values();
+        }
+    }
+
+    private final @NonNull IndexedChildren<NodeIdentifierWithPredicates, MapEntryNode> children;
+
+    LazyMapNode(final NodeIdentifier name,
+            final IndexedChildren<NodeIdentifierWithPredicates, MapEntryNode> children) {
+        super(name);
+        this.children = requireNonNull(children);
+    }
+
+    @Override
+    public MapEntryNode childByArg(final NodeIdentifierWithPredicates child) {
+        return children.get(child);
+    }
+
+    @Override
+    public Map<NodeIdentifierWithPredicates, MapEntryNode> asMap() {
+        return new EntryMap();
+    }
+
+    @Override
+    public Collection<MapEntryNode> body() {
+        return children.values();
+    }
+
+    @Override
+    public int size() {
+        return children.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return children.size() == 0;
+    }
+
+    @Override
+    protected Class<SystemMapNode> implementedType() {
+        return SystemMapNode.class;
+    }
+
+    @Override
+    protected int valueHashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    protected boolean valueEquals(final SystemMapNode other) {
+        return asMap().equals(other.asMap());
+    }
+}
@@ -7,8 +7,12 @@
  */
 package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
 import java.io.DataInput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.concepts.Either;
@@ -119,6 +123,42 @@ public interface NormalizedNodeDataInput extends QNameAwareDataInput {
         return new VersionedNormalizedNodeDataInput(input).delegate();
     }
 
+    /**
+     * Creates a new {@link NormalizedNodeDataInput} instance that reads directly from the given buffer, starting at its
+     * current position. The buffer's position is advanced as data is read. This method first reads and validates that
+     * the input contains a valid NormalizedNode stream.
+     *
+     * @param buffer the buffer to read from, must use {@link java.nio.ByteOrder#BIG_ENDIAN}
+     * @return a new {@link NormalizedNodeDataInput} instance
+     * @throws InvalidNormalizedNodeStreamException if the stream version is not supported
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException if {@code buffer} uses little-endian byte order
+     */
+    @Beta
+    static @NonNull NormalizedNodeDataInput newDataInput(final @NonNull ByteBuffer buffer) throws IOException {
+        return newDataInput(new ByteBufferDataInput(buffer));
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataInput} instance that reads from the given input, using specified
+     * dictionary. This method first reads and validates that the input contains a valid NormalizedNode stream. Streams
+     * written without a dictionary are accepted as well.
+     *
+     * @param input the DataInput to read from
+     * @param dictionary the dictionary the stream was written with
+     * @return a new {@link NormalizedNodeDataInput} instance
+     * @throws InvalidNormalizedNodeStreamException if the stream version is not supported or the stream was written
+     *                                              with a different dictionary
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @Beta
+    static @NonNull NormalizedNodeDataInput newDataInput(final @NonNull DataInput input,
+            final @NonNull NormalizedNodeStreamDictionary dictionary) throws IOException {
+        return new VersionedNormalizedNodeDataInput(input, requireNonNull(dictionary)).delegate();
+    }
+
     /**
      * Creates a new {@link NormalizedNodeDataInput} instance that reads from the given input. This method does not
      * perform any initial validation of the input stream.
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.TreeSet;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IdentityEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaTreeEffectiveStatement;
+
+/**
+ * A dictionary of {@link QNameModule}s and {@link QName}s shared between the writer and the reader of a
+ * {@link NormalizedNodeStreamVersion#POTASSIUM} stream. Streams created with a dictionary refer to its entries by
+ * their integer codes, hence they do not need to define them, nor does the reader need to resolve them.
+ *
+ * <p>
+ * Codes are assigned in the natural order of modules and QNames, so that dictionaries derived from the same set of
+ * modules and QNames, for example via {@link #of(EffectiveModelContext)}, are identical. Each dictionary has a
+ * {@link #fingerprint()}, which is recorded in streams and checked by the reader.
+ */
+@Beta
+public final class NormalizedNodeStreamDictionary {
+    static final @NonNull NormalizedNodeStreamDictionary EMPTY =
+        new NormalizedNodeStreamDictionary(ImmutableList.of(), ImmutableList.of());
+
+    private final @NonNull ImmutableList<QNameModule> modules;
+    private final @NonNull ImmutableList<NodeIdentifier> nodeIdentifiers;
+    private final @NonNull ImmutableMap<QNameModule, Integer> moduleCodes;
+    private final @NonNull ImmutableMap<QName, Integer> qnameCodes;
+    private final long fingerprint;
+
+    private NormalizedNodeStreamDictionary(final ImmutableList<QNameModule> modules,
+            final ImmutableList<QName> qnames) {
+        this.modules = modules;
+
+        final var moduleBuilder = ImmutableMap.<QNameModule, Integer>builderWithExpectedSize(modules.size());
+        final var hasher = Hashing.murmur3_128().newHasher();
+        int code = 0;
+        for (var module : modules) {
+            moduleBuilder.put(module, code++);
+            hasher.putString(module.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        moduleCodes = moduleBuilder.build();
+
+        final var nodeIdentifierBuilder = ImmutableList.<NodeIdentifier>builderWithExpectedSize(qnames.size());
+        final var qnameBuilder = ImmutableMap.<QName, Integer>builderWithExpectedSize(qnames.size());
+        code = 0;
+        for (var qname : qnames) {
+            nodeIdentifierBuilder.add(NodeIdentifier.create(qname));
+            qnameBuilder.put(qname, code++);
+            hasher.putString(qname.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        nodeIdentifiers = nodeIdentifierBuilder.build();
+        qnameCodes = qnameBuilder.build();
+        fingerprint = hasher.hash().asLong();
+    }
+
+    /**
+     * Create a dictionary containing all modules, all schema tree nodes and all identities in an
+     * {@link EffectiveModelContext}.
+     *
+     * @param modelContext Model context
+     * @return A dictionary
+     */
+    public static @NonNull NormalizedNodeStreamDictionary of(final EffectiveModelContext modelContext) {
+        final var qnames = new TreeSet<QName>();
+        for (var module : modelContext.getModuleStatements().values()) {
+            collectQNames(qnames, module);
+        }
+        return of(modelContext.getModuleStatements().keySet(), qnames);
+    }
+
+    /**
+     * Create a dictionary containing specified modules and QNames. Modules of QNames are added to the dictionary
+     * automatically.
+     *
+     * @param modules Modules to include
+     * @param qnames QNames to include
+     * @return A dictionary
+     */
+    public static @NonNull NormalizedNodeStreamDictionary of(final Collection<QNameModule> modules,
+            final Collection<QName> qnames) {
+        final var sortedQNames = new TreeSet<>(qnames);
+        final var sortedModules = new TreeSet<>(modules);
+        sortedQNames.forEach(qname -> sortedModules.add(qname.getModule()));
+        return new NormalizedNodeStreamDictionary(ImmutableList.copyOf(sortedModules),
+            ImmutableList.copyOf(sortedQNames));
+    }
+
+    /**
+     * Return the fingerprint of this dictionary. Dictionaries with different contents have different fingerprints.
+     *
+     * @return Dictionary fingerprint
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Return the number of modules in this dictionary.
+     *
+     * @return Number of modules
+     */
+    public int moduleCount() {
+        return modules.size();
+    }
+
+    /**
+     * Return the number of QNames in this dictionary.
+     *
+     * @return Number of QNames
+     */
+    public int qnameCount() {
+        return nodeIdentifiers.size();
+    }
+
+    @Nullable Integer moduleCode(final QNameModule module) {
+        return moduleCodes.get(module);
+    }
+
+    @Nullable Integer qnameCode(final QName qname) {
+        return qnameCodes.get(qname);
+    }
+
+    @NonNull QNameModule module(final int code) {
+        return modules.get(code);
+    }
+
+    @NonNull NodeIdentifier nodeIdentifier(final int code) {
+        return nodeIdentifiers.get(code);
+    }
+
+    /**
+     * Write the contents of this dictionary, so that it can be restored by {@link #readFrom(DataInput)}.
+     *
+     * @param output Output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void writeTo(final DataOutput output) throws IOException {
+        output.writeInt(modules.size());
+        for (var module : modules) {
+            output.writeUTF(module.getNamespace().toString());
+            output.writeUTF(module.getRevision().map(Revision::toString).orElse(""));
+        }
+        output.writeInt(nodeIdentifiers.size());
+        for (var nodeId : nodeIdentifiers) {
+            final var qname = nodeId.getNodeType();
+            output.writeInt(moduleCodes.get(qname.getModule()));
+            output.writeUTF(qname.getLocalName());
+        }
+    }
+
+    /**
+     * Read a dictionary previously written by {@link #writeTo(DataOutput)}.
+     *
+     * @param input Input to read from
+     * @return A dictionary
+     * @throws IOException if an I/O error occurs or the data is not a valid dictionary
+     */
+    static @NonNull NormalizedNodeStreamDictionary readFrom(final DataInput input) throws IOException {
+        final int moduleCount = input.readInt();
+        if (moduleCount < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid dictionary module count " + moduleCount);
+        }
+        final var modules = new ArrayList<QNameModule>(moduleCount);
+        for (int i = 0; i < moduleCount; ++i) {
+            final var namespace = input.readUTF();
+            final var revision = input.readUTF();
+            try {
+                modules.add(QNameModule.create(XMLNamespace.of(namespace),
+                    revision.isEmpty() ? null : Revision.of(revision)));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidNormalizedNodeStreamException("Invalid dictionary module " + namespace, e);
+            }
+        }
+
+        final int qnameCount = input.readInt();
+        if (qnameCount < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid dictionary QName count " + qnameCount);
+        }
+        final var qnames = new ArrayList<QName>(qnameCount);
+        for (int i = 0; i < qnameCount; ++i) {
+            final int module = input.readInt();
+            final var localName = input.readUTF();
+            if (module < 0 || module >= moduleCount) {
+                throw new InvalidNormalizedNodeStreamException("Invalid dictionary module reference " + module);
+            }
+            try {
+                qnames.add(QName.create(modules.get(module), localName));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidNormalizedNodeStreamException("Invalid dictionary QName " + localName, e);
+            }
+        }
+        return of(modules, qnames);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("fingerprint", Long.toHexString(fingerprint))
+            .add("modules", modules.size())
+            .add("qnames", nodeIdentifiers.size())
+            .toString();
+    }
+
+    private static void collectQNames(final Collection<QName> qnames, final EffectiveStatement<?, ?> stmt) {
+        for (var substmt : stmt.effectiveSubstatements()) {
+            if (substmt instanceof SchemaTreeEffectiveStatement<?> schemaTree) {
+                qnames.add(schemaTree.argument());
+            } else if (substmt instanceof IdentityEffectiveStatement identity) {
+                qnames.add(identity.argument());
+            }
+            collectQNames(qnames, substmt);
+        }
+    }
+}
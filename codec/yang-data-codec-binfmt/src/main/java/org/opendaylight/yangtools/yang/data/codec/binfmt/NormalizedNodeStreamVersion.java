@@ -7,8 +7,12 @@
  */
 package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
 import java.io.DataOutput;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.data.api.schema.ValueNode;
@@ -107,6 +111,12 @@ public enum NormalizedNodeStreamVersion {
         public NormalizedNodeDataOutput newDataOutput(final DataOutput output) {
             return new PotassiumDataOutput(output);
         }
+
+        @Override
+        public NormalizedNodeDataOutput newDataOutput(final DataOutput output,
+                final NormalizedNodeStreamDictionary dictionary) {
+            return new PotassiumDataOutput(output, requireNonNull(dictionary));
+        }
     };
 
     /**
@@ -128,4 +138,37 @@ public enum NormalizedNodeStreamVersion {
      * @throws UnsupportedOperationException if this version cannot be created in this runtime
      */
     public abstract NormalizedNodeDataOutput newDataOutput(DataOutput output);
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} instance that writes directly to the given buffer, starting at its
+     * current position. The buffer's position is advanced as data is written. Attempts to write more data than the
+     * buffer has room for result in an {@link java.io.IOException}.
+     *
+     * @param buffer the buffer to write to, must use {@link java.nio.ByteOrder#BIG_ENDIAN}
+     * @return a new {@link NormalizedNodeDataOutput} instance
+     * @throws NullPointerException if {@code buffer} is null
+     * @throws IllegalArgumentException if {@code buffer} uses little-endian byte order
+     * @throws UnsupportedOperationException if this version cannot be created in this runtime
+     */
+    @Beta
+    public NormalizedNodeDataOutput newDataOutput(final ByteBuffer buffer) {
+        return newDataOutput(new ByteBufferDataOutput(buffer));
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} instance that writes to the given output, referring to entries in
+     * a dictionary instead of defining them in the stream. The resulting stream can only be read using
+     * {@link NormalizedNodeDataInput#newDataInput(DataInput, NormalizedNodeStreamDictionary)} with the same dictionary.
+     *
+     * @param output the DataOutput to write to
+     * @param dictionary the dictionary to use
+     * @return a new {@link NormalizedNodeDataOutput} instance
+     * @throws NullPointerException if any argument is null
+     * @throws UnsupportedOperationException if this version does not support dictionaries
+     */
+    @Beta
+    public NormalizedNodeDataOutput newDataOutput(final DataOutput output,
+            final NormalizedNodeStreamDictionary dictionary) {
+        throw new UnsupportedOperationException(this + " does not support dictionaries");
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.DataInput;
+import java.io.IOException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Utilities for transcoding a serialized {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode} into
+ * another format without materializing it. Events are fed from
+ * {@link NormalizedNodeDataInput#streamNormalizedNode(NormalizedNodeStreamWriter)} directly to a sink
+ * {@link NormalizedNodeStreamWriter}, such as a schema-aware JSON or XML writer, hence the memory required does not
+ * depend on the size of the payload, but only on its depth and the size of its largest value.
+ *
+ * <p>
+ * The sink is expected to be positioned at the parent of the serialized node, for example
+ * {@code JSONNormalizedNodeStreamWriter.createExclusiveWriter()} with an {@code EffectiveStatementInference} pointing
+ * to the parent. A serialized datastore root, i.e. a container named {@link SchemaContext#NAME}, does not correspond
+ * to any schema node, hence only its children are passed to the sink, which is expected to be positioned at the root
+ * of the schema.
+ */
+@Beta
+public final class NormalizedNodeTranscoder {
+    /**
+     * A {@link NormalizedNodeStreamWriter} suppressing the events of a datastore root container.
+     */
+    private static final class DataRootWriter extends ForwardingNormalizedNodeStreamWriter {
+        private final NormalizedNodeStreamWriter delegate;
+
+        private boolean inDataRoot;
+        private int depth;
+
+        DataRootWriter(final NormalizedNodeStreamWriter delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        protected NormalizedNodeStreamWriter delegate() {
+            return delegate;
+        }
+
+        @Override
+        public void startLeafNode(final NodeIdentifier name) throws IOException {
+            super.startLeafNode(name);
+            depth++;
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startLeafSet(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startOrderedLeafSet(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startLeafSetEntryNode(final NodeWithValue<?> name) throws IOException {
+            super.startLeafSetEntryNode(name);
+            depth++;
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            if (depth == 0 && !inDataRoot && SchemaContext.NAME.equals(name.getNodeType())) {
+                inDataRoot = true;
+                return;
+            }
+            super.startContainerNode(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startUnkeyedList(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startUnkeyedListItem(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startMapNode(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                throws IOException {
+            super.startMapEntryNode(identifier, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startOrderedMapNode(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            super.startChoiceNode(name, childSizeHint);
+            depth++;
+        }
+
+        @Override
+        public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
+            final boolean ret = super.startAnyxmlNode(name, objectModel);
+            if (ret) {
+                depth++;
+            }
+            return ret;
+        }
+
+        @Override
+        public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) throws IOException {
+            final boolean ret = super.startAnydataNode(name, objectModel);
+            if (ret) {
+                depth++;
+            }
+            return ret;
+        }
+
+        @Override
+        public void endNode() throws IOException {
+            if (depth == 0) {
+                if (!inDataRoot) {
+                    throw new IllegalStateException("Unbalanced endNode()");
+                }
+                inDataRoot = false;
+                return;
+            }
+            depth--;
+            super.endNode();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The caller owns the sink
+            flush();
+        }
+    }
+
+    private NormalizedNodeTranscoder() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Transcode a single {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode} from a
+     * {@link NormalizedNodeDataInput} into a {@link NormalizedNodeStreamWriter}. The sink is flushed, but not closed,
+     * once the node has been transcoded.
+     *
+     * @param input Input to read from
+     * @param sink Writer to emit the node into
+     * @throws IOException if an I/O error occurs, or the sink rejects the node
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void transcode(final NormalizedNodeDataInput input, final NormalizedNodeStreamWriter sink)
+            throws IOException {
+        final var writer = new DataRootWriter(sink);
+        input.streamNormalizedNode(writer);
+        writer.flush();
+    }
+
+    /**
+     * Transcode a single {@link org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode} from a
+     * {@link DataInput} holding any supported {@link NormalizedNodeStreamVersion} into
+     * a {@link NormalizedNodeStreamWriter}. The sink is flushed, but not closed, once the node has been transcoded.
+     *
+     * @param input Input to read from
+     * @param sink Writer to emit the node into
+     * @throws IOException if an I/O error occurs, the input does not hold a supported stream, or the sink rejects
+     *                     the node
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void transcode(final DataInput input, final NormalizedNodeStreamWriter sink) throws IOException {
+        transcode(NormalizedNodeDataInput.newDataInput(input), sink);
+    }
+}
@@ -15,14 +15,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.concepts.Either;
@@ -42,6 +41,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.ScalarValueExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.InputSource;
@@ -61,12 +61,22 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
     private static final @NonNull Long INT64_0 = 0L;
     private static final byte @NonNull[] BINARY_0 = new byte[0];
 
+    // Coded modules and QNames follow those in the dictionary
     private final List<NodeIdentifier> codedNodeIdentifiers = new ArrayList<>();
     private final List<QNameModule> codedModules = new ArrayList<>();
     private final List<String> codedStrings = new ArrayList<>();
+    private final @NonNull NormalizedNodeStreamDictionary dictionary;
+
+    // Extension of the writer being streamed to, if it supports primitive values
+    private ScalarValueExtension scalarValues;
 
     PotassiumDataInput(final DataInput input) {
+        this(input, NormalizedNodeStreamDictionary.EMPTY);
+    }
+
+    PotassiumDataInput(final DataInput input, final NormalizedNodeStreamDictionary dictionary) {
         super(input);
+        this.dictionary = requireNonNull(dictionary);
     }
 
     @Override
@@ -76,7 +86,12 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
 
     @Override
     public void streamNormalizedNode(final NormalizedNodeStreamWriter writer) throws IOException {
-        streamNormalizedNode(requireNonNull(writer), null, input.readByte());
+        scalarValues = writer.extension(ScalarValueExtension.class);
+        try {
+            streamNormalizedNode(writer, null, input.readByte());
+        } finally {
+            scalarValues = null;
+        }
     }
 
     private void streamNormalizedNode(final NormalizedNodeStreamWriter writer, final PathArgument parent,
@@ -154,23 +169,22 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         LOG.trace("Streaming leaf node {}", identifier);
         writer.startLeafNode(identifier);
 
-        final Object value;
         if ((nodeHeader & PotassiumNode.PREDICATE_ONE) == PotassiumNode.PREDICATE_ONE) {
             if (!(parent instanceof NodeIdentifierWithPredicates nip)) {
                 throw new InvalidNormalizedNodeStreamException("Invalid predicate leaf " + identifier + " in parent "
                         + parent);
             }
 
-            value = nip.getValue(identifier.getNodeType());
+            final Object value = nip.getValue(identifier.getNodeType());
             if (value == null) {
                 throw new InvalidNormalizedNodeStreamException("Failed to find predicate leaf " + identifier
                     + " in parent " + parent);
             }
+            writer.scalarValue(value);
         } else {
-            value = readLeafValue();
+            streamLeafValue(writer);
         }
 
-        writer.scalarValue(value);
         writer.endNode();
     }
 
@@ -263,7 +277,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         final NodeIdentifier nodeId;
         try {
             nodeId = QNameFactory.getNodeIdentifier(module, localName);
-        } catch (ExecutionException e) {
+        } catch (IllegalArgumentException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QName module=" + module + " localName="
                     + localName, e);
         }
@@ -297,11 +311,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
                         + nodeHeader);
         }
 
-        try {
-            return codedNodeIdentifiers.get(index);
-        } catch (IndexOutOfBoundsException e) {
-            throw new InvalidNormalizedNodeStreamException("Invalid QName reference " + index, e);
-        }
+        return lookupNodeIdentifier(index);
     }
 
     @Override
@@ -465,7 +475,8 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         }
 
         try {
-            return codedModules.get(index);
+            final int base = dictionary.moduleCount();
+            return index < base ? dictionary.module(index) : codedModules.get(index - base);
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidNormalizedNodeStreamException("Invalid QNameModule reference " + index, e);
         }
@@ -480,7 +491,7 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         final QNameModule module;
         try {
             module = QNameFactory.createModule(namespace, revision);
-        } catch (UncheckedExecutionException e) {
+        } catch (IllegalArgumentException | DateTimeParseException e) {
             throw new InvalidNormalizedNodeStreamException("Illegal QNameModule ns=" + namespace + " rev=" + revision,
                 e);
         }
@@ -574,7 +585,8 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
 
     private @NonNull NodeIdentifier lookupNodeIdentifier(final int index) throws InvalidNormalizedNodeStreamException {
         try {
-            return codedNodeIdentifiers.get(index);
+            final int base = dictionary.qnameCount();
+            return index < base ? dictionary.nodeIdentifier(index) : codedNodeIdentifiers.get(index - base);
         } catch (IndexOutOfBoundsException e) {
             throw new InvalidNormalizedNodeStreamException("Invalid QName reference " + index, e);
         }
@@ -602,8 +614,53 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
         }
     }
 
-    private @NonNull Object readLeafValue() throws IOException {
+    /**
+     * Stream a leaf value to a writer. Primitive values are passed to {@link #scalarValues}, if available, so that
+     * they do not need to be boxed.
+     *
+     * @param writer Target writer
+     * @throws IOException if an I/O error occurs
+     */
+    private void streamLeafValue(final NormalizedNodeStreamWriter writer) throws IOException {
+        final var local = scalarValues;
+        if (local == null) {
+            writer.scalarValue(readLeafValue());
+            return;
+        }
+
         final byte type = input.readByte();
+        switch (type) {
+            case PotassiumValue.BOOLEAN_FALSE -> local.booleanValue(false);
+            case PotassiumValue.BOOLEAN_TRUE -> local.booleanValue(true);
+            case PotassiumValue.INT8 -> local.int8Value(input.readByte());
+            case PotassiumValue.INT8_0 -> local.int8Value((byte) 0);
+            case PotassiumValue.INT16 -> local.int16Value(input.readShort());
+            case PotassiumValue.INT16_0 -> local.int16Value((short) 0);
+            case PotassiumValue.INT32 -> local.int32Value(input.readInt());
+            case PotassiumValue.INT32_0 -> local.int32Value(0);
+            case PotassiumValue.INT32_2B -> local.int32Value(input.readShort() & 0xFFFF);
+            case PotassiumValue.INT64 -> local.int64Value(input.readLong());
+            case PotassiumValue.INT64_0 -> local.int64Value(0);
+            case PotassiumValue.INT64_4B -> local.int64Value(input.readInt() & 0xFFFFFFFFL);
+            case PotassiumValue.UINT8 -> local.uint8Value(input.readByte());
+            case PotassiumValue.UINT8_0 -> local.uint8Value((byte) 0);
+            case PotassiumValue.UINT16 -> local.uint16Value(input.readShort());
+            case PotassiumValue.UINT16_0 -> local.uint16Value((short) 0);
+            case PotassiumValue.UINT32 -> local.uint32Value(input.readInt());
+            case PotassiumValue.UINT32_0 -> local.uint32Value(0);
+            case PotassiumValue.UINT32_2B -> local.uint32Value(input.readShort() & 0xFFFF);
+            case PotassiumValue.UINT64 -> local.uint64Value(input.readLong());
+            case PotassiumValue.UINT64_0 -> local.uint64Value(0);
+            case PotassiumValue.UINT64_4B -> local.uint64Value(input.readInt() & 0xFFFFFFFFL);
+            default -> writer.scalarValue(readLeafValue(type));
+        }
+    }
+
+    private @NonNull Object readLeafValue() throws IOException {
+        return readLeafValue(input.readByte());
+    }
+
+    private @NonNull Object readLeafValue(final byte type) throws IOException {
         switch (type) {
             case PotassiumValue.BOOLEAN_FALSE:
                 return Boolean.FALSE;
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 import java.io.DataOutput;
 import java.io.IOException;
@@ -26,6 +27,7 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.WritableObjects;
 import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.Empty;
@@ -41,6 +43,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.ScalarValueExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,7 +51,7 @@ import org.slf4j.LoggerFactory;
  * Abstract base class for NormalizedNodeDataOutput based on {@link PotassiumNode}, {@link PotassiumPathArgument} and
  * {@link PotassiumValue}.
  */
-final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
+final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput implements ScalarValueExtension {
     private static final Logger LOG = LoggerFactory.getLogger(PotassiumDataOutput.class);
 
     // Marker for encoding state when we have entered startLeafNode() within a startMapEntry() and that leaf corresponds
@@ -66,13 +69,19 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
      */
     private final Deque<Object> stack = new ArrayDeque<>();
 
-    // Coding maps
+    // Coding maps, codes of modules and QNames start after those in the dictionary
     private final Map<QNameModule, Integer> moduleCodeMap = new HashMap<>();
     private final Map<String, Integer> stringCodeMap = new HashMap<>();
     private final Map<QName, Integer> qnameCodeMap = new HashMap<>();
+    private final @NonNull NormalizedNodeStreamDictionary dictionary;
 
     PotassiumDataOutput(final DataOutput output) {
+        this(output, NormalizedNodeStreamDictionary.EMPTY);
+    }
+
+    PotassiumDataOutput(final DataOutput output, final NormalizedNodeStreamDictionary dictionary) {
         super(output);
+        this.dictionary = requireNonNull(dictionary);
     }
 
     @Override
@@ -188,21 +197,97 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
 
     @Override
     public void scalarValue(final Object value) throws IOException {
-        if (KEY_LEAF_STATE.equals(stack.peek())) {
+        if (inKeyLeaf()) {
             LOG.trace("Inside a map entry key leaf, not emitting value {}", value);
         } else {
             writeObject(value);
         }
     }
 
+    @Override
+    public List<ScalarValueExtension> supportedExtensions() {
+        return List.of(this);
+    }
+
+    @Override
+    public void booleanValue(final boolean value) throws IOException {
+        if (!inKeyLeaf()) {
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void int8Value(final byte value) throws IOException {
+        if (!inKeyLeaf()) {
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void int16Value(final short value) throws IOException {
+        if (!inKeyLeaf()) {
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void int32Value(final int value) throws IOException {
+        if (!inKeyLeaf()) {
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void int64Value(final long value) throws IOException {
+        if (!inKeyLeaf()) {
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void uint8Value(final byte bits) throws IOException {
+        if (!inKeyLeaf()) {
+            writeUint8(bits);
+        }
+    }
+
+    @Override
+    public void uint16Value(final short bits) throws IOException {
+        if (!inKeyLeaf()) {
+            writeUint16(bits);
+        }
+    }
+
+    @Override
+    public void uint32Value(final int bits) throws IOException {
+        if (!inKeyLeaf()) {
+            writeUint32(bits);
+        }
+    }
+
+    @Override
+    public void uint64Value(final long bits) throws IOException {
+        if (!inKeyLeaf()) {
+            writeUint64(bits);
+        }
+    }
+
     @Override
     short streamVersion() {
-        return TokenTypes.POTASSIUM_VERSION;
+        return dictionary == NormalizedNodeStreamDictionary.EMPTY ? TokenTypes.POTASSIUM_VERSION
+            : TokenTypes.POTASSIUM_DICTIONARY_VERSION;
+    }
+
+    @Override
+    void writeHeaderExtension() throws IOException {
+        if (dictionary != NormalizedNodeStreamDictionary.EMPTY) {
+            output.writeLong(dictionary.fingerprint());
+        }
     }
 
     @Override
     void writeQNameInternal(final QName qname) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code == null) {
             output.writeByte(PotassiumValue.QNAME);
             encodeQName(qname);
@@ -264,7 +349,7 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     }
 
     private void writePathArgumentQName(final QName qname, final byte typeHeader) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code != null) {
             final int val = code;
             if (val < 256) {
@@ -303,13 +388,13 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
         } else if (value instanceof Long longVal) {
             writeValue(longVal);
         } else if (value instanceof Uint8 uint8) {
-            writeValue(uint8);
+            writeUint8(uint8.byteValue());
         } else if (value instanceof Uint16 uint16) {
-            writeValue(uint16);
+            writeUint16(uint16.shortValue());
         } else if (value instanceof Uint32 uint32) {
-            writeValue(uint32);
+            writeUint32(uint32.intValue());
         } else if (value instanceof Uint64 uint64) {
-            writeValue(uint64);
+            writeUint64(uint64.longValue());
         } else if (value instanceof QName qname) {
             writeQNameInternal(qname);
         } else if (value instanceof YangInstanceIdentifier id) {
@@ -375,52 +460,6 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
         }
     }
 
-    private void writeValue(final Uint8 value) throws IOException {
-        final byte b = value.byteValue();
-        if (b != 0) {
-            output.writeByte(PotassiumValue.UINT8);
-            output.writeByte(b);
-        } else {
-            output.writeByte(PotassiumValue.UINT8_0);
-        }
-    }
-
-    private void writeValue(final Uint16 value) throws IOException {
-        final short s = value.shortValue();
-        if (s != 0) {
-            output.writeByte(PotassiumValue.UINT16);
-            output.writeShort(s);
-        } else {
-            output.writeByte(PotassiumValue.UINT16_0);
-        }
-    }
-
-    private void writeValue(final Uint32 value) throws IOException {
-        final int i = value.intValue();
-        if ((i & 0xFFFF0000) != 0) {
-            output.writeByte(PotassiumValue.UINT32);
-            output.writeInt(i);
-        } else if (i != 0) {
-            output.writeByte(PotassiumValue.UINT32_2B);
-            output.writeShort(i);
-        } else {
-            output.writeByte(PotassiumValue.UINT32_0);
-        }
-    }
-
-    private void writeValue(final Uint64 value) throws IOException {
-        final long l = value.longValue();
-        if ((l & 0xFFFFFFFF00000000L) != 0) {
-            output.writeByte(PotassiumValue.UINT64);
-            output.writeLong(l);
-        } else if (l != 0) {
-            output.writeByte(PotassiumValue.UINT64_4B);
-            output.writeInt((int) l);
-        } else {
-            output.writeByte(PotassiumValue.UINT64_0);
-        }
-    }
-
     private void writeValue(final String value) throws IOException {
         if (value.isEmpty()) {
             output.writeByte(PotassiumValue.STRING_EMPTY);
@@ -495,6 +534,52 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
         }
     }
 
+    private void writeUint8(final byte bits) throws IOException {
+        if (bits != 0) {
+            output.writeByte(PotassiumValue.UINT8);
+            output.writeByte(bits);
+        } else {
+            output.writeByte(PotassiumValue.UINT8_0);
+        }
+    }
+
+    private void writeUint16(final short bits) throws IOException {
+        if (bits != 0) {
+            output.writeByte(PotassiumValue.UINT16);
+            output.writeShort(bits);
+        } else {
+            output.writeByte(PotassiumValue.UINT16_0);
+        }
+    }
+
+    private void writeUint32(final int bits) throws IOException {
+        if ((bits & 0xFFFF0000) != 0) {
+            output.writeByte(PotassiumValue.UINT32);
+            output.writeInt(bits);
+        } else if (bits != 0) {
+            output.writeByte(PotassiumValue.UINT32_2B);
+            output.writeShort(bits);
+        } else {
+            output.writeByte(PotassiumValue.UINT32_0);
+        }
+    }
+
+    private void writeUint64(final long bits) throws IOException {
+        if ((bits & 0xFFFFFFFF00000000L) != 0) {
+            output.writeByte(PotassiumValue.UINT64);
+            output.writeLong(bits);
+        } else if (bits != 0) {
+            output.writeByte(PotassiumValue.UINT64_4B);
+            output.writeInt((int) bits);
+        } else {
+            output.writeByte(PotassiumValue.UINT64_0);
+        }
+    }
+
+    private boolean inKeyLeaf() {
+        return KEY_LEAF_STATE.equals(stack.peek());
+    }
+
     // Check if the proposed QName matches the parent. This is only effective if the parent is identified by
     // NodeIdentifier -- which is typically true
     private boolean matchesParentQName(final QName qname) {
@@ -529,7 +614,7 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     // Encode a QName-based (i.e. NodeIdentifier*) node with a particular QName. This will either result in a QName
     // definition, or a reference, where this is encoded along with the node type.
     private void writeQNameNode(final int type, final @NonNull QName qname) throws IOException {
-        final Integer code = qnameCodeMap.get(qname);
+        final Integer code = lookupQName(qname);
         if (code == null) {
             output.writeByte(type | PotassiumNode.ADDR_DEFINE);
             encodeQName(qname);
@@ -552,16 +637,16 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
     // Encode a QName using lookup tables, resuling either in a reference to an existing entry, or emitting two
     // String values.
     private void encodeQName(final @NonNull QName qname) throws IOException {
-        final Integer prev = qnameCodeMap.put(qname, qnameCodeMap.size());
+        final Integer prev = qnameCodeMap.put(qname, dictionary.qnameCount() + qnameCodeMap.size());
         if (prev != null) {
             throw new IOException("Internal coding error: attempted to re-encode " + qname + "%s already encoded as "
                     + prev);
         }
 
         final QNameModule module = qname.getModule();
-        final Integer code = moduleCodeMap.get(module);
+        final Integer code = lookupModule(module);
         if (code == null) {
-            moduleCodeMap.put(module, moduleCodeMap.size());
+            moduleCodeMap.put(module, dictionary.moduleCount() + moduleCodeMap.size());
             encodeString(module.getNamespace().toString());
             final Optional<Revision> rev = module.getRevision();
             if (rev.isPresent()) {
@@ -575,6 +660,18 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
         encodeString(qname.getLocalName());
     }
 
+    // Look up the code of a QName, consulting the dictionary first
+    private @Nullable Integer lookupQName(final @NonNull QName qname) {
+        final Integer code = dictionary.qnameCode(qname);
+        return code != null ? code : qnameCodeMap.get(qname);
+    }
+
+    // Look up the code of a QNameModule, consulting the dictionary first
+    private @Nullable Integer lookupModule(final @NonNull QNameModule module) {
+        final Integer code = dictionary.moduleCode(module);
+        return code != null ? code : moduleCodeMap.get(module);
+    }
+
     // Encode a String using lookup tables, resulting either in a reference to an existing entry, or emitting as
     // a literal value
     private void encodeString(final @NonNull String str) throws IOException {
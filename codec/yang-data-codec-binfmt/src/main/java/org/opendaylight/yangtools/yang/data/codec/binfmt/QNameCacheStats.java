@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Statistics of one of the global caches used to resolve {@link org.opendaylight.yangtools.yang.common.QName}s and
+ * related objects while decoding streams. Counters are cumulative since the caches were initialized.
+ *
+ * @param name Cache name
+ * @param capacity Maximum number of entries the cache can hold
+ * @param hitCount Number of lookups which were satisfied from the cache
+ * @param missCount Number of lookups which resulted in a new object being created
+ */
+@Beta
+public record QNameCacheStats(@NonNull String name, int capacity, long hitCount, long missCount) {
+    public QNameCacheStats {
+        requireNonNull(name);
+    }
+
+    /**
+     * Return current statistics of all caches.
+     *
+     * @return Current statistics
+     */
+    public static @NonNull List<QNameCacheStats> current() {
+        return QNameFactory.stats();
+    }
+
+    /**
+     * Return the ratio of lookups which were satisfied from the cache. If there were no lookups, {@code 1.0} is
+     * returned.
+     *
+     * @return Hit rate, between {@code 0.0} and {@code 1.0}
+     */
+    public double hitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
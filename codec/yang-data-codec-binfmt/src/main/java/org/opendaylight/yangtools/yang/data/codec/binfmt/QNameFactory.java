@@ -9,96 +9,78 @@ package org.opendaylight.yangtools.yang.data.codec.binfmt;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
-import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 
+/**
+ * Global caches of {@link QName}s, {@link QNameModule}s and {@link NodeIdentifier}s created from their decoded
+ * components. Each cache is a fixed-size, direct-mapped table of immutable entries: a lookup reads a single slot and
+ * compares the components in place, hence hits neither lock nor allocate, and a miss simply replaces the slot's entry.
+ * This keeps lookups cheap when many threads decode streams concurrently, at the cost of evicting entries on hash
+ * collisions.
+ */
 final class QNameFactory {
-    private static final class StringQName implements Immutable {
-        private final @NonNull String localName;
-        private final @NonNull String namespace;
-        private final @Nullable String revision;
-
-        StringQName(final String localName, final String namespace, final String revision) {
-            this.localName = requireNonNull(localName);
-            this.namespace = requireNonNull(namespace);
-            this.revision = revision;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(localName, namespace, revision);
+    /**
+     * A direct-mapped table of entries, tracking its hit and miss counts.
+     *
+     * @param <E> entry type
+     */
+    private static final class Table<E> {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final AtomicReferenceArray<E> slots;
+        private final @NonNull String name;
+        private final int mask;
+
+        Table(final String name, final int maxSize) {
+            this.name = requireNonNull(name);
+            // Round up to the next power of two
+            final int capacity = maxSize <= 1 ? 1 : Integer.highestOneBit(Math.min(maxSize - 1, 1 << 29)) << 1;
+            slots = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
         }
 
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof StringQName other && localName.equals(other.localName)
-                && namespace.equals(other.namespace) && Objects.equals(revision, other.revision);
+        @Nullable E get(final int hash) {
+            return slots.getAcquire(index(hash));
         }
 
-        QName toQName() {
-            return revision != null ? QName.create(namespace, revision, localName) : QName.create(namespace, localName);
-        }
-    }
-
-    private static final class ModuleQName implements Immutable {
-        private final @NonNull QNameModule module;
-        private final @NonNull String localName;
-
-        ModuleQName(final QNameModule module, final String localName) {
-            this.module = requireNonNull(module);
-            this.localName = requireNonNull(localName);
+        void hit() {
+            hits.increment();
         }
 
-        @Override
-        public int hashCode() {
-            return 31 * module.hashCode() + localName.hashCode();
+        void miss(final int hash, final E entry) {
+            misses.increment();
+            slots.setRelease(index(hash), entry);
         }
 
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof ModuleQName other && localName.equals(other.localName)
-                && module.equals(other.module);
+        @NonNull QNameCacheStats stats() {
+            return new QNameCacheStats(name, slots.length(), hits.sum(), misses.sum());
         }
 
-        QName toQName() {
-            return QName.create(module, localName);
+        private int index(final int hash) {
+            return (hash ^ hash >>> 16) & mask;
         }
     }
 
-    private static final class StringModule implements Immutable {
-        private final @NonNull String namespace;
-        private final @Nullable String revision;
-
-        StringModule(final String namespace, final String revision) {
-            this.namespace = requireNonNull(namespace);
-            this.revision = revision;
-        }
-
-        @Override
-        public int hashCode() {
-            return 31 * namespace.hashCode() + Objects.hashCode(revision);
-        }
+    private record StringQNameEntry(String localName, String namespace, @Nullable String revision, QName qname) {
+        // Nothing else
+    }
 
-        @Override
-        public boolean equals(final Object obj) {
-            return this == obj || obj instanceof StringModule other && namespace.equals(other.namespace)
-                && Objects.equals(revision, other.revision);
-        }
+    private record StringModuleEntry(String namespace, @Nullable String revision, QNameModule module) {
+        // Nothing else
+    }
 
-        QNameModule toQNameModule() {
-            return QNameModule.create(XMLNamespace.of(namespace), Revision.ofNullable(revision));
-        }
+    private record ModuleQNameEntry(QNameModule module, String localName, NodeIdentifier nodeId) {
+        // Nothing else
     }
 
     private static final int MAX_QNAME_CACHE_SIZE = Integer.getInteger(
@@ -106,53 +88,60 @@ final class QNameFactory {
     private static final int MAX_MODULE_CACHE_SIZE = Integer.getInteger(
         "org.opendaylight.controller.cluster.datastore.node.utils.module-cache.max-size", 2000);
 
-    private static final LoadingCache<StringQName, QName> STRING_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<StringQName, QName>() {
-                @Override
-                public QName load(final StringQName key) {
-                    return key.toQName().intern();
-                }
-            });
-    private static final LoadingCache<ModuleQName, QName> QNAME_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<ModuleQName, QName>() {
-                @Override
-                public QName load(final ModuleQName key) {
-                    return key.toQName().intern();
-                }
-            });
-    private static final LoadingCache<StringModule, QNameModule> MODULE_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_MODULE_CACHE_SIZE).weakValues().build(new CacheLoader<StringModule, QNameModule>() {
-                @Override
-                public QNameModule load(final StringModule key) {
-                    return key.toQNameModule().intern();
-                }
-            });
-    private static final LoadingCache<ModuleQName, NodeIdentifier> NODEID_CACHE = CacheBuilder.newBuilder()
-            .maximumSize(MAX_QNAME_CACHE_SIZE).weakValues().build(new CacheLoader<ModuleQName, NodeIdentifier>() {
-                @Override
-                public NodeIdentifier load(final ModuleQName key) throws ExecutionException {
-                    return NodeIdentifier.create(QNAME_CACHE.get(key));
-                }
-            });
+    private static final Table<StringQNameEntry> STRING_CACHE = new Table<>("string-qname", MAX_QNAME_CACHE_SIZE);
+    private static final Table<StringModuleEntry> MODULE_CACHE = new Table<>("module", MAX_MODULE_CACHE_SIZE);
+    private static final Table<ModuleQNameEntry> NODEID_CACHE = new Table<>("node-identifier", MAX_QNAME_CACHE_SIZE);
 
     private QNameFactory() {
 
     }
 
     static QName create(final String localName, final String namespace, final @Nullable String revision) {
-        return STRING_CACHE.getUnchecked(new StringQName(localName, namespace, revision));
+        final int hash = 31 * (31 * localName.hashCode() + namespace.hashCode()) + Objects.hashCode(revision);
+        final var entry = STRING_CACHE.get(hash);
+        if (entry != null && localName.equals(entry.localName) && namespace.equals(entry.namespace)
+                && Objects.equals(revision, entry.revision)) {
+            STRING_CACHE.hit();
+            return entry.qname;
+        }
+
+        final var qname = (revision != null ? QName.create(namespace, revision, localName)
+            : QName.create(namespace, localName)).intern();
+        STRING_CACHE.miss(hash, new StringQNameEntry(localName, namespace, revision, qname));
+        return qname;
     }
 
     static QName create(final QNameModule module, final String localName) {
-        return QNAME_CACHE.getUnchecked(new ModuleQName(module, localName));
+        return getNodeIdentifier(module, localName).getNodeType();
     }
 
     static QNameModule createModule(final String namespace, final @Nullable String revision) {
-        return MODULE_CACHE.getUnchecked(new StringModule(namespace, revision));
+        final int hash = 31 * namespace.hashCode() + Objects.hashCode(revision);
+        final var entry = MODULE_CACHE.get(hash);
+        if (entry != null && namespace.equals(entry.namespace) && Objects.equals(revision, entry.revision)) {
+            MODULE_CACHE.hit();
+            return entry.module;
+        }
+
+        final var module = QNameModule.create(XMLNamespace.of(namespace), Revision.ofNullable(revision)).intern();
+        MODULE_CACHE.miss(hash, new StringModuleEntry(namespace, revision, module));
+        return module;
+    }
+
+    static @NonNull NodeIdentifier getNodeIdentifier(final QNameModule module, final String localName) {
+        final int hash = 31 * module.hashCode() + localName.hashCode();
+        final var entry = NODEID_CACHE.get(hash);
+        if (entry != null && localName.equals(entry.localName) && module.equals(entry.module)) {
+            NODEID_CACHE.hit();
+            return entry.nodeId;
+        }
+
+        final var nodeId = NodeIdentifier.create(QName.create(module, localName).intern());
+        NODEID_CACHE.miss(hash, new ModuleQNameEntry(module, localName, nodeId));
+        return nodeId;
     }
 
-    static @NonNull NodeIdentifier getNodeIdentifier(final QNameModule module, final String localName)
-            throws ExecutionException {
-        return NODEID_CACHE.get(new ModuleQName(module, localName));
+    static @NonNull List<QNameCacheStats> stats() {
+        return List.of(STRING_CACHE.stats(), MODULE_CACHE.stats(), NODEID_CACHE.stats());
     }
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+
+/**
+ * Utilities for writing and reading {@link NormalizedNode}s in a segmented layout, which allows large snapshots to be
+ * decoded by multiple threads.
+ *
+ * <p>
+ * The layout consists of a header, which holds a complete {@link NormalizedNodeStreamDictionary}, followed by the root
+ * node with all its list children removed and then the entries of those lists. Entries are split into segments of a
+ * bounded size and each segment is a {@link NormalizedNodeStreamVersion#POTASSIUM} encoding with its own coding state,
+ * hence segments can be decoded independently of each other. Lists are segmented only when they are immediate children
+ * of a root {@link ContainerNode}, such as a datastore root, every other root is stored as a single segment.
+ *
+ * <p>
+ * {@link #readNormalizedNode(DataInput, Executor)} reads segments sequentially, but hands them off for decoding as soon
+ * as they are read, hence decoding overlaps with I/O and the decoded node is assembled once all segments are done.
+ */
+@Beta
+public final class SegmentedNormalizedNodes {
+    /**
+     * Default maximum number of list entries in a single segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    private record SegmentedMap(NodeIdentifier name, boolean ordered,
+            List<CompletableFuture<List<MapEntryNode>>> segments) {
+        // Nothing else
+    }
+
+    private SegmentedNormalizedNodes() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Write a {@link NormalizedNode} in segmented layout, using {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @param output Output to write to
+     * @param node Node to write
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static void writeNormalizedNode(final DataOutput output, final NormalizedNode node) throws IOException {
+        writeNormalizedNode(output, node, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Write a {@link NormalizedNode} in segmented layout.
+     *
+     * @param output Output to write to
+     * @param node Node to write
+     * @param segmentSize Maximum number of list entries in a single segment
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code segmentSize} is not positive
+     */
+    public static void writeNormalizedNode(final DataOutput output, final NormalizedNode node, final int segmentSize)
+            throws IOException {
+        checkArgument(segmentSize > 0, "Invalid segment size %s", segmentSize);
+        final var qnames = new HashSet<QName>();
+        IndexedNormalizedNodes.collectQNames(qnames, requireNonNull(node));
+        final var dictionary = NormalizedNodeStreamDictionary.of(List.of(), qnames);
+
+        output.writeByte(TokenTypes.SIGNATURE_MARKER);
+        output.writeShort(TokenTypes.POTASSIUM_SEGMENTED_VERSION);
+        dictionary.writeTo(output);
+
+        final var maps = new ArrayList<MapNode>();
+        final NormalizedNode root;
+        if (node instanceof ContainerNode container) {
+            final var builder = Builders.containerBuilder(container);
+            for (var child : container.body()) {
+                if (child instanceof MapNode map) {
+                    maps.add(map);
+                    builder.withoutChild(map.name());
+                }
+            }
+            root = builder.build();
+        } else {
+            root = node;
+        }
+
+        final var segment = new SegmentWriter(dictionary);
+        segment.writeNode(root);
+        segment.writeTo(output);
+
+        output.writeInt(maps.size());
+        for (var map : maps) {
+            segment.writeName(map.name());
+            segment.writeTo(output);
+            output.writeBoolean(map instanceof UserMapNode);
+
+            final var entries = map.body();
+            output.writeInt((entries.size() + segmentSize - 1) / segmentSize);
+            for (var chunk : Iterables.partition(entries, segmentSize)) {
+                segment.writeEntries(chunk);
+                segment.writeTo(output);
+            }
+        }
+    }
+
+    /**
+     * Read a {@link NormalizedNode} written by {@link #writeNormalizedNode(DataOutput, NormalizedNode)}, decoding its
+     * segments in {@link ForkJoinPool#commonPool()}.
+     *
+     * @param input Input to read from
+     * @return A {@link NormalizedNode}
+     * @throws InvalidNormalizedNodeStreamException if the input does not contain a segmented node
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if {@code input} is {@code null}
+     */
+    public static @NonNull NormalizedNode readNormalizedNode(final DataInput input) throws IOException {
+        return readNormalizedNode(input, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Read a {@link NormalizedNode} written by {@link #writeNormalizedNode(DataOutput, NormalizedNode)}, decoding its
+     * segments using specified executor.
+     *
+     * @param input Input to read from
+     * @param executor Executor to use for decoding segments
+     * @return A {@link NormalizedNode}
+     * @throws InvalidNormalizedNodeStreamException if the input does not contain a segmented node
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @SuppressWarnings("checkstyle:avoidHidingCauseException")
+    public static @NonNull NormalizedNode readNormalizedNode(final DataInput input, final Executor executor)
+            throws IOException {
+        requireNonNull(executor);
+        final byte marker = input.readByte();
+        if (marker != TokenTypes.SIGNATURE_MARKER) {
+            throw new InvalidNormalizedNodeStreamException(String.format("Invalid signature marker: %d", marker));
+        }
+        final short version = input.readShort();
+        if (version != TokenTypes.POTASSIUM_SEGMENTED_VERSION) {
+            throw new InvalidNormalizedNodeStreamException(String.format("Unhandled stream version %s", version));
+        }
+        final var dictionary = NormalizedNodeStreamDictionary.readFrom(input);
+
+        final var rootBytes = readSegment(input);
+        final var rootFuture = CompletableFuture.supplyAsync(() -> decodeNode(rootBytes, dictionary), executor);
+
+        final int mapCount = input.readInt();
+        if (mapCount < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid list count " + mapCount);
+        }
+        final var maps = new ArrayList<SegmentedMap>(mapCount);
+        for (int i = 0; i < mapCount; ++i) {
+            final var name = newDataInput(readSegment(input), dictionary).readPathArgument();
+            if (!(name instanceof NodeIdentifier nid)) {
+                throw new InvalidNormalizedNodeStreamException("Unexpected list identifier " + name);
+            }
+            final boolean ordered = input.readBoolean();
+            final int segmentCount = input.readInt();
+            if (segmentCount < 0) {
+                throw new InvalidNormalizedNodeStreamException("Invalid segment count " + segmentCount);
+            }
+
+            final var segments = new ArrayList<CompletableFuture<List<MapEntryNode>>>(segmentCount);
+            for (int j = 0; j < segmentCount; ++j) {
+                final var bytes = readSegment(input);
+                segments.add(CompletableFuture.supplyAsync(() -> decodeEntries(bytes, dictionary), executor));
+            }
+            maps.add(new SegmentedMap(nid, ordered, segments));
+        }
+
+        try {
+            final var root = rootFuture.join();
+            if (maps.isEmpty()) {
+                return root;
+            }
+            if (!(root instanceof ContainerNode container)) {
+                throw new InvalidNormalizedNodeStreamException("Unexpected root " + root.name() + " with lists");
+            }
+
+            final var builder = Builders.containerBuilder(container);
+            for (var map : maps) {
+                builder.withChild(assembleMap(map));
+            }
+            return builder.build();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            }
+            throw new IOException("Failed to decode segments", e);
+        }
+    }
+
+    private static MapNode assembleMap(final SegmentedMap map) {
+        final var segments = new ArrayList<List<MapEntryNode>>(map.segments.size());
+        int size = 0;
+        for (var segment : map.segments) {
+            final var entries = segment.join();
+            segments.add(entries);
+            size += entries.size();
+        }
+
+        final CollectionNodeBuilder<MapEntryNode, ? extends MapNode> builder = map.ordered
+            ? Builders.orderedMapBuilder(size) : Builders.mapBuilder(size);
+        builder.withNodeIdentifier(map.name);
+        for (var entries : segments) {
+            for (var entry : entries) {
+                builder.withChild(entry);
+            }
+        }
+        return builder.build();
+    }
+
+    private static byte[] readSegment(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            throw new InvalidNormalizedNodeStreamException("Invalid segment length " + length);
+        }
+        final var bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static @NonNull PotassiumDataInput newDataInput(final byte[] bytes,
+            final NormalizedNodeStreamDictionary dictionary) {
+        return new PotassiumDataInput(new ByteBufferDataInput(ByteBuffer.wrap(bytes)), dictionary);
+    }
+
+    private static @NonNull NormalizedNode decodeNode(final byte[] bytes,
+            final NormalizedNodeStreamDictionary dictionary) {
+        try {
+            return newDataInput(bytes, dictionary).readNormalizedNode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static @NonNull List<MapEntryNode> decodeEntries(final byte[] bytes,
+            final NormalizedNodeStreamDictionary dictionary) {
+        final var input = newDataInput(bytes, dictionary);
+        try {
+            final int count = input.readInt();
+            if (count < 0) {
+                throw new InvalidNormalizedNodeStreamException("Invalid entry count " + count);
+            }
+            final var entries = new ArrayList<MapEntryNode>(count);
+            for (int i = 0; i < count; ++i) {
+                final var node = input.readNormalizedNode();
+                if (!(node instanceof MapEntryNode entry)) {
+                    throw new InvalidNormalizedNodeStreamException("Unexpected list entry " + node);
+                }
+                entries.add(entry);
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writer of length-prefixed segments. Each segment is assembled in memory and uses a fresh coding state.
+     */
+    private static final class SegmentWriter {
+        private static final class SegmentBuffer extends ByteArrayOutputStream {
+            SegmentBuffer() {
+                super(4096);
+            }
+
+            void writeTo(final DataOutput out) throws IOException {
+                out.writeInt(count);
+                out.write(buf, 0, count);
+                reset();
+            }
+        }
+
+        private final SegmentBuffer buffer = new SegmentBuffer();
+        private final DataOutputStream output = new DataOutputStream(buffer);
+        private final @NonNull NormalizedNodeStreamDictionary dictionary;
+
+        SegmentWriter(final NormalizedNodeStreamDictionary dictionary) {
+            this.dictionary = requireNonNull(dictionary);
+        }
+
+        void writeNode(final NormalizedNode node) throws IOException {
+            NormalizedNodeWriter.forStreamWriter(newDataOutput()).write(node);
+        }
+
+        void writeName(final NodeIdentifier name) throws IOException {
+            newDataOutput().writePathArgumentInternal(name);
+        }
+
+        void writeEntries(final List<MapEntryNode> entries) throws IOException {
+            output.writeInt(entries.size());
+            final var writer = NormalizedNodeWriter.forStreamWriter(newDataOutput());
+            for (var entry : entries) {
+                writer.write(entry);
+            }
+        }
+
+        void writeTo(final DataOutput out) throws IOException {
+            buffer.writeTo(out);
+        }
+
+        private @NonNull PotassiumDataOutput newDataOutput() {
+            return new PotassiumDataOutput(output, dictionary);
+        }
+    }
+}
@@ -33,6 +33,26 @@ final class TokenTypes {
      * and AugmentationIdentifiers are not preserved.
      */
     static final short POTASSIUM_VERSION = 5;
+    /**
+     * Potassium version using a {@link NormalizedNodeStreamDictionary}. Structurally matches
+     * {@link #POTASSIUM_VERSION}, except the header is followed by the dictionary fingerprint and lookup codes are
+     * offset by the size of the dictionary.
+     */
+    static final short POTASSIUM_DICTIONARY_VERSION = 6;
+    /**
+     * Indexed Potassium layout, as produced by {@link IndexedNormalizedNodes}. The header is followed by the complete
+     * dictionary and a tree of length-prefixed node records, each of which is encoded using
+     * {@link #POTASSIUM_DICTIONARY_VERSION} rules with its own coding state. This layout cannot be read through
+     * {@link NormalizedNodeDataInput}.
+     */
+    static final short POTASSIUM_INDEXED_VERSION = 7;
+    /**
+     * Segmented Potassium layout, as produced by {@link SegmentedNormalizedNodes}. The header is followed by the
+     * complete dictionary, the root node without its lists and then entries of those lists, split into
+     * length-prefixed segments. Each segment is encoded using {@link #POTASSIUM_DICTIONARY_VERSION} rules with its own
+     * coding state. This layout cannot be read through {@link NormalizedNodeDataInput}.
+     */
+    static final short POTASSIUM_SEGMENTED_VERSION = 8;
 
     private TokenTypes() {
         // Utility class
@@ -11,13 +11,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.DataInput;
 import java.io.IOException;
+import org.eclipse.jdt.annotation.Nullable;
 
 final class VersionedNormalizedNodeDataInput extends ForwardingNormalizedNodeDataInput {
+    private final @Nullable NormalizedNodeStreamDictionary dictionary;
+
     private DataInput input;
     private NormalizedNodeDataInput delegate;
 
     VersionedNormalizedNodeDataInput(final DataInput input) {
+        this(input, null);
+    }
+
+    VersionedNormalizedNodeDataInput(final DataInput input, final @Nullable NormalizedNodeStreamDictionary dictionary) {
         this.input = requireNonNull(input);
+        this.dictionary = dictionary;
     }
 
     @Override
@@ -38,6 +46,17 @@ final class VersionedNormalizedNodeDataInput extends ForwardingNormalizedNodeDat
             case TokenTypes.SODIUM_SR1_VERSION -> new SodiumSR1DataInput(input);
             case TokenTypes.MAGNESIUM_VERSION -> new MagnesiumDataInput(input);
             case TokenTypes.POTASSIUM_VERSION -> new PotassiumDataInput(input);
+            case TokenTypes.POTASSIUM_DICTIONARY_VERSION -> {
+                final long fingerprint = input.readLong();
+                if (dictionary == null) {
+                    throw defunct("Stream requires dictionary %016x", fingerprint);
+                }
+                if (dictionary.fingerprint() != fingerprint) {
+                    throw defunct("Stream requires dictionary %016x, %016x provided", fingerprint,
+                        dictionary.fingerprint());
+                }
+                yield new PotassiumDataInput(input, dictionary);
+            }
             default -> throw defunct("Unhandled stream version %s", version);
         };
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public class ByteBufferDataInputOutputTest {
+    private static final String UTF = "ascii " + String.valueOf(new char[] { 0, ' ', 0xE9, ' ', 0x20AC, ' ', 0xFFFF });
+
+    @Test
+    public void testHeapRoundTrip() throws IOException {
+        assertRoundTrip(ByteBuffer.allocate(65536));
+    }
+
+    @Test
+    public void testDirectRoundTrip() throws IOException {
+        assertRoundTrip(ByteBuffer.allocateDirect(65536));
+    }
+
+    @Test
+    public void testSameAsDataOutputStream() throws IOException {
+        final var expected = ByteStreams.newDataOutput();
+        writePrimitives(expected);
+
+        final var buffer = ByteBuffer.allocate(1024);
+        writePrimitives(new ByteBufferDataOutput(buffer));
+        final var actual = new byte[buffer.flip().remaining()];
+        buffer.get(actual);
+        assertArrayEquals(expected.toByteArray(), actual);
+
+        final var in = new ByteBufferDataInput(ByteBuffer.wrap(actual));
+        assertTrue(in.readBoolean());
+        assertEquals(-2, in.readByte());
+        assertEquals(0xFEDC, in.readUnsignedShort());
+        assertEquals('x', in.readChar());
+        assertEquals(0x12345678, in.readInt());
+        assertEquals(0x123456789ABCDEF0L, in.readLong());
+        assertEquals(1.5F, in.readFloat(), 0);
+        assertEquals(-2.5D, in.readDouble(), 0);
+        assertEquals("ascii", in.readUTF());
+        assertEquals(UTF, in.readUTF());
+        assertEquals(0, in.skipBytes(1));
+    }
+
+    @Test
+    public void testOverflow() {
+        final var output = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(ByteBuffer.allocate(16));
+        assertThrows(IOException.class, () -> output.writeNormalizedNode(TestModel.createTestContainer()));
+    }
+
+    @Test
+    public void testUnderflow() {
+        final var in = new ByteBufferDataInput(ByteBuffer.wrap(new byte[] { 0, 5, 'a' }));
+        assertThrows(EOFException.class, in::readUTF);
+    }
+
+    @Test
+    public void testLittleEndian() {
+        final var buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        assertThrows(IllegalArgumentException.class, () -> NormalizedNodeDataInput.newDataInput(buffer));
+        assertThrows(IllegalArgumentException.class,
+            () -> NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(buffer));
+    }
+
+    private static void assertRoundTrip(final ByteBuffer buffer) throws IOException {
+        final var data = TestModel.createTestContainer();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(buffer)) {
+            out.writeNormalizedNode(data);
+        }
+
+        final var expected = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(expected)) {
+            out.writeNormalizedNode(data);
+        }
+        assertEquals(expected.toByteArray().length, buffer.position());
+
+        buffer.flip();
+        assertEquals(data, NormalizedNodeDataInput.newDataInput(buffer).readNormalizedNode());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    private static void writePrimitives(final DataOutput out) throws IOException {
+        out.writeBoolean(true);
+        out.writeByte(-2);
+        out.writeShort(0xFEDC);
+        out.writeChar('x');
+        out.writeInt(0x12345678);
+        out.writeLong(0x123456789ABCDEF0L);
+        out.writeFloat(1.5F);
+        out.writeDouble(-2.5D);
+        out.writeUTF("ascii");
+        out.writeUTF(UTF);
+    }
+}
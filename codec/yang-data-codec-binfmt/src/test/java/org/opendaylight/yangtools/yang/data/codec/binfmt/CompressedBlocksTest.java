@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CompressedBlocksTest {
+    private static ExecutorService EXECUTOR;
+
+    @BeforeClass
+    public static void beforeClass() {
+        EXECUTOR = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    public void testNormalizedNodeRoundTrip() throws IOException {
+        final var node = TestModel.createTestContainer();
+
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(new CompressedBlockOutputStream(bytes, 256, Deflater.BEST_SPEED))) {
+            NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(out).writeNormalizedNode(node);
+        }
+
+        try (var in = new DataInputStream(new CompressedBlockInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())))) {
+            assertEquals(node, NormalizedNodeDataInput.newDataInput(in).readNormalizedNode());
+            assertEquals(-1, in.read());
+        }
+
+        final var buffer = ByteBuffer.wrap(bytes.toByteArray());
+        final var decompressed = CompressedBlocks.decompress(buffer, EXECUTOR);
+        assertEquals(0, buffer.remaining());
+        assertEquals(node, NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(decompressed))
+            .readNormalizedNode());
+    }
+
+    @Test
+    public void testCompressible() throws IOException {
+        final var data = new byte[100_000];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = (byte) (i % 7);
+        }
+
+        final var compressed = compress(data, 4096);
+        assertTrue(compressed.length < data.length / 10);
+        assertArrayEquals(data, decompress(compressed));
+        assertArrayEquals(data, CompressedBlocks.decompress(ByteBuffer.wrap(compressed), EXECUTOR));
+    }
+
+    @Test
+    public void testIncompressible() throws IOException {
+        final var data = new byte[100_000];
+        new Random(0).nextBytes(data);
+
+        final var compressed = compress(data, 4096);
+        // Every block is stored, adding only its header
+        final int blocks = (data.length + 4095) / 4096;
+        assertEquals(CompressedBlocks.STREAM_HEADER_SIZE + blocks * CompressedBlocks.BLOCK_HEADER_SIZE + data.length
+            + 1, compressed.length);
+        assertArrayEquals(data, decompress(compressed));
+        assertArrayEquals(data, CompressedBlocks.decompress(ByteBuffer.wrap(compressed), EXECUTOR));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        final var compressed = compress(new byte[0], 4096);
+        assertEquals(CompressedBlocks.STREAM_HEADER_SIZE + 1, compressed.length);
+        assertArrayEquals(new byte[0], decompress(compressed));
+        assertArrayEquals(new byte[0], CompressedBlocks.decompress(ByteBuffer.wrap(compressed), EXECUTOR));
+    }
+
+    @Test
+    public void testCorruptedBlock() throws IOException {
+        final var data = new byte[10_000];
+        new Random(1).nextBytes(data);
+        final var compressed = compress(data, 4096);
+        // Flip a bit in the payload of the second block
+        compressed[CompressedBlocks.STREAM_HEADER_SIZE + CompressedBlocks.BLOCK_HEADER_SIZE * 2 + 4096 + 10] ^= 1;
+
+        assertThrows(IOException.class, () -> decompress(compressed));
+        final var ex = assertThrows(IOException.class,
+            () -> CompressedBlocks.decompress(ByteBuffer.wrap(compressed), EXECUTOR));
+        assertEquals("Block checksum mismatch", ex.getMessage());
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        final var compressed = compress(new byte[10_000], 4096);
+        final var truncated = Arrays.copyOf(compressed, compressed.length - 2);
+
+        assertThrows(IOException.class, () -> decompress(truncated));
+        assertThrows(IOException.class, () -> CompressedBlocks.decompress(ByteBuffer.wrap(truncated), EXECUTOR));
+    }
+
+    @Test
+    public void testOversizedBlock() throws IOException {
+        final var compressed = compress(new byte[10_000], 4096);
+        // Claim the first block is larger than the maximum block size
+        ByteBuffer.wrap(compressed).putInt(CompressedBlocks.STREAM_HEADER_SIZE + Byte.BYTES, Integer.MAX_VALUE);
+
+        assertThrows(IOException.class, () -> decompress(compressed));
+        final var ex = assertThrows(IOException.class,
+            () -> CompressedBlocks.decompress(ByteBuffer.wrap(compressed), EXECUTOR));
+        assertTrue(ex.getMessage().startsWith("Invalid block lengths"));
+    }
+
+    @Test
+    public void testInvalidSignature() {
+        final var bytes = new byte[] { 1, 2, 3, 4, 0 };
+        assertThrows(IOException.class, () -> decompress(bytes));
+        assertThrows(IOException.class, () -> CompressedBlocks.decompress(ByteBuffer.wrap(bytes), EXECUTOR));
+    }
+
+    private static byte[] compress(final byte[] data, final int blockSize) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new CompressedBlockOutputStream(bytes, blockSize, Deflater.BEST_SPEED)) {
+            // Write in odd-sized chunks to exercise block boundaries
+            for (int offset = 0; offset < data.length; offset += 1000) {
+                out.write(data, offset, Math.min(1000, data.length - offset));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decompress(final byte[] compressed) throws IOException {
+        try (var in = new CompressedBlockInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -15,8 +15,11 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -24,14 +27,21 @@ import org.junit.Test;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateVisitor;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
@@ -118,6 +128,31 @@ public class DataTreeCandidateInputOutputTest {
         }));
     }
 
+    @Test
+    public void testBatch() throws IOException {
+        final var candidates = List.of(
+            createCandidate(mod -> mod.write(BAR_PATH, ImmutableNodes.containerNode(BAR))),
+            DataTreeCandidates.fromNormalizedNode(BAR_BAZ_PATH, ImmutableNodes.leafNode(BAZ, "one")),
+            DataTreeCandidates.fromNormalizedNode(BAR_BAZ_PATH, ImmutableNodes.leafNode(BAZ, "two")),
+            createCandidate(mod -> mod.write(FOO_BAR_PATH, ImmutableNodes.leafNode(BAR, "value"))),
+            createCandidate(mod -> mod.delete(BAR_PATH)),
+            createCandidate(mod -> mod.merge(YangInstanceIdentifier.of(),
+                ImmutableNodes.containerNode(SchemaContext.NAME))));
+
+        final var bos = new ByteArrayOutputStream();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(new DataOutputStream(bos))) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidates(out, candidates);
+        }
+
+        final var read = DataTreeCandidateInputOutput.readDataTreeCandidates(newDataInput(bos));
+        assertEquals(candidates.size(), read.size());
+        for (int i = 0; i < candidates.size(); ++i) {
+            final var orig = candidates.get(i);
+            assertEquals(orig.getRootPath(), read.get(i).getRootPath());
+            assertEqualMod(orig.getRootNode(), read.get(i).getRootNode());
+        }
+    }
+
     private DataTreeCandidate createCandidate(final Consumer<DataTreeModification> function) {
         final DataTreeModification mod = dataTree.takeSnapshot().newModification();
         function.accept(mod);
@@ -141,10 +176,20 @@ public class DataTreeCandidateInputOutputTest {
             DataTreeCandidateInputOutput.writeDataTreeCandidate(out, orig);
         }
 
-        final DataTreeCandidate read = DataTreeCandidateInputOutput.readDataTreeCandidate(
-            NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(bos.toByteArray()))));
+        final DataTreeCandidate read = DataTreeCandidateInputOutput.readDataTreeCandidate(newDataInput(bos));
         assertEquals(orig.getRootPath(), read.getRootPath());
         assertEqualMod(orig.getRootNode(), read.getRootNode());
+
+        // Streaming the serialized form has to result in the same events as visiting the deserialized candidate
+        final var expected = new RecordingVisitor();
+        DataTreeCandidates.accept(read, expected);
+        final var actual = new RecordingVisitor();
+        DataTreeCandidateInputOutput.streamDataTreeCandidate(newDataInput(bos), actual);
+        assertEquals(expected.events, actual.events);
+    }
+
+    private static NormalizedNodeDataInput newDataInput(final ByteArrayOutputStream bos) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
     }
 
     private static void assertEqualMod(final DataTreeCandidateNode expected, final DataTreeCandidateNode actual) {
@@ -168,6 +213,49 @@ public class DataTreeCandidateInputOutputTest {
         }
     }
 
+    private static final class RecordingVisitor implements DataTreeCandidateVisitor {
+        final List<List<?>> events = new ArrayList<>();
+
+        private NormalizationResultHolder holder;
+
+        @Override
+        public void startCandidate(final YangInstanceIdentifier rootPath) {
+            events.add(List.of("start", rootPath));
+        }
+
+        @Override
+        public void enterNode(final PathArgument name, final ModificationType type) {
+            events.add(Arrays.asList("enter", name, type));
+        }
+
+        @Override
+        public void exitNode() {
+            events.add(List.of("exit"));
+        }
+
+        @Override
+        public NormalizedNodeStreamWriter startWrite(final PathArgument name, final StreamableData before) {
+            events.add(Arrays.asList("write", name));
+            holder = new NormalizationResultHolder();
+            return ImmutableNormalizedNodeStreamWriter.from(holder);
+        }
+
+        @Override
+        public void endWrite() {
+            events.add(List.of("data", holder.getResult().data()));
+        }
+
+        @Override
+        public void deleteNode(final PathArgument name, final StreamableData before) {
+            events.add(Arrays.asList("delete", name));
+        }
+
+        @Override
+        public void endCandidate() {
+            events.add(List.of("end"));
+        }
+    }
+
     private static void assertEqualNodes(final DataTreeCandidateNode expected, final DataTreeCandidateNode actual) {
         assertEquals(expected.name(), actual.name());
         assertEqualMod(expected, actual);
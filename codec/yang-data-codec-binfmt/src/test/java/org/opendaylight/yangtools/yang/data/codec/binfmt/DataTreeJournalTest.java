@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class DataTreeJournalTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final QName NAME = QName.create(FOO, "name");
+    private static final QName VALUE = QName.create(FOO, "value");
+    private static final YangInstanceIdentifier FOO_PATH = YangInstanceIdentifier.of(FOO);
+    private static final YangInstanceIdentifier BAR_PATH = FOO_PATH.node(BAR);
+
+    private static EffectiveModelContext CONTEXT;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+
+    @BeforeClass
+    public static void beforeClass() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo {
+                list bar {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @Before
+    public void before() throws IOException {
+        directory = folder.newFolder().toPath();
+    }
+
+    @Test
+    public void testRecoverLog() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(1024 * 1024, 0)) {
+            commit(journal, mod -> mod.write(FOO_PATH, ImmutableNodes.containerNode(FOO)));
+            for (int i = 0; i < 10; ++i) {
+                final var name = "name" + i;
+                commit(journal, mod -> mod.write(barPath(name), bar(name, "value")));
+            }
+            commit(journal, mod -> mod.delete(barPath("name3")));
+            commit(journal, mod -> mod.merge(barPath("name5"), bar("name5", "updated")));
+            expected = readRoot(journal.dataTree());
+        }
+
+        final NormalizedNode updated;
+        try (var journal = open(1024 * 1024, 0)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+
+            // Recovered journal continues appending
+            commit(journal, mod -> mod.delete(barPath("name7")));
+            updated = readRoot(journal.dataTree());
+        }
+
+        try (var journal = open(1024 * 1024, 0)) {
+            assertEquals(updated, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testRecoverSnapshot() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(1024 * 1024, 4)) {
+            commit(journal, mod -> mod.write(FOO_PATH, ImmutableNodes.containerNode(FOO)));
+            for (int i = 0; i < 10; ++i) {
+                final var name = "name" + i;
+                commit(journal, mod -> mod.write(barPath(name), bar(name, "value")));
+            }
+            expected = readRoot(journal.dataTree());
+        }
+
+        // 11 records with snapshots after 4 and 8 records
+        assertEquals(List.of("segment-00000000000000000008.log", "snapshot-00000000000000000008.bin"),
+            listDirectory());
+
+        try (var journal = open(1024 * 1024, 4)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testExplicitSnapshot() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(1024 * 1024, 0)) {
+            commit(journal, mod -> mod.write(FOO_PATH, ImmutableNodes.containerNode(FOO)));
+            commit(journal, mod -> mod.write(barPath("one"), bar("one", "value")));
+            journal.snapshot();
+            // Back-to-back snapshots reuse the empty segment
+            journal.snapshot();
+            expected = readRoot(journal.dataTree());
+        }
+
+        try (var journal = open(1024 * 1024, 0)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testSegmentRollover() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(64, 0)) {
+            commit(journal, mod -> mod.write(FOO_PATH, ImmutableNodes.containerNode(FOO)));
+            for (int i = 0; i < 5; ++i) {
+                final var name = "name" + i;
+                commit(journal, mod -> mod.write(barPath(name), bar(name, "a value long enough to overflow")));
+            }
+            expected = readRoot(journal.dataTree());
+        }
+
+        assertTrue(listDirectory().size() > 2);
+
+        try (var journal = open(64, 0)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testTornRecord() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(1024 * 1024, 0)) {
+            commit(journal, mod -> mod.write(barPath("one"), bar("one", "value")));
+            expected = readRoot(journal.dataTree());
+            commit(journal, mod -> mod.write(barPath("two"), bar("two", "value")));
+        }
+
+        // Corrupt the last byte of the second record
+        try (var channel = FileChannel.open(directory.resolve("segment-00000000000000000000.log"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var buf = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buf, 0);
+            final int second = Integer.BYTES * 2 + buf.flip().getInt();
+            channel.read(buf.clear(), second);
+            final int secondLength = buf.flip().getInt();
+            assertTrue(secondLength > 0);
+            final long last = second + Integer.BYTES * 2 + secondLength - 1;
+            final var data = ByteBuffer.allocate(1);
+            channel.read(data, last);
+            channel.write(ByteBuffer.wrap(new byte[] { (byte) (data.get(0) ^ 0xFF) }), last);
+        }
+
+        try (var journal = open(1024 * 1024, 0)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testFailedCommit() throws Exception {
+        final NormalizedNode expected;
+        try (var journal = open(1024 * 1024, 0)) {
+            final var dataTree = journal.dataTree();
+            final var first = prepare(dataTree, mod -> mod.write(barPath("one"), bar("one", "value")));
+            final var stale = prepare(dataTree, mod -> mod.write(barPath("two"), bar("two", "value")));
+            journal.commit(first);
+
+            // The stale candidate is not applicable anymore and must not be recovered
+            assertThrows(IllegalStateException.class, () -> journal.commit(stale));
+            commit(journal, mod -> mod.write(barPath("three"), bar("three", "value")));
+            expected = readRoot(dataTree);
+        }
+
+        try (var journal = open(1024 * 1024, 0)) {
+            assertEquals(expected, readRoot(journal.dataTree()));
+        }
+    }
+
+    @Test
+    public void testClosed() throws Exception {
+        final var journal = open(1024 * 1024, 0);
+        journal.close();
+        assertThrows(IllegalStateException.class, journal::snapshot);
+        assertThrows(IllegalStateException.class, journal::flush);
+    }
+
+    private DataTreeJournal open(final int segmentSize, final int snapshotInterval) throws IOException {
+        return DataTreeJournal.open(new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL,
+            CONTEXT), directory, segmentSize, snapshotInterval, ForkJoinPool.commonPool());
+    }
+
+    private List<String> listDirectory() throws IOException {
+        try (var stream = Files.list(directory)) {
+            return stream.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void commit(final DataTreeJournal journal, final Consumer<DataTreeModification> action)
+            throws IOException, DataValidationFailedException {
+        journal.commit(prepare(journal.dataTree(), action));
+    }
+
+    private static DataTreeCandidate prepare(final DataTree dataTree, final Consumer<DataTreeModification> action)
+            throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        action.accept(mod);
+        mod.ready();
+        dataTree.validate(mod);
+        return dataTree.prepare(mod);
+    }
+
+    private static NormalizedNode readRoot(final DataTree dataTree) {
+        return dataTree.takeSnapshot().readNode(YangInstanceIdentifier.of()).orElseThrow();
+    }
+
+    private static YangInstanceIdentifier barPath(final String name) {
+        return BAR_PATH.node(NodeIdentifierWithPredicates.of(BAR, NAME, name));
+    }
+
+    private static MapEntryNode bar(final String name, final String value) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(BAR, NAME, name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(VALUE, value))
+            .build();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class IndexedNormalizedNodesTest {
+    private static final NodeIdentifier OUTER_LIST = new NodeIdentifier(TestModel.OUTER_LIST_QNAME);
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final var expected = TestModel.createTestContainer();
+        final var actual = IndexedNormalizedNodes.readNormalizedNode(ByteBuffer.wrap(write(expected)));
+        assertTrue(actual instanceof ContainerNode);
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        final var expected = createListContainer(1000);
+        final var actual = (ContainerNode) IndexedNormalizedNodes.readNormalizedNode(ByteBuffer.wrap(write(expected)));
+        assertEquals(expected.size(), actual.size());
+
+        final var list = actual.childByArg(OUTER_LIST);
+        assertTrue(list instanceof SystemMapNode);
+        final var map = (SystemMapNode) list;
+        assertEquals(1000, map.size());
+
+        final var key = NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 500);
+        assertEquals(((SystemMapNode) expected.getChildByArg(OUTER_LIST)).childByArg(key), map.childByArg(key));
+        assertNull(map.childByArg(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME,
+            1000)));
+        assertNull(actual.childByArg(new NodeIdentifier(TestModel.DESC_QNAME)));
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void testSequentialNodes() throws IOException {
+        final var first = createListContainer(10);
+        final var second = ImmutableNodes.leafNode(TestModel.DESC_QNAME, "desc");
+        final var output = ByteStreams.newDataOutput();
+        IndexedNormalizedNodes.writeNormalizedNode(output, first);
+        IndexedNormalizedNodes.writeNormalizedNode(output, second);
+
+        final var buffer = ByteBuffer.wrap(output.toByteArray());
+        assertEquals(first, IndexedNormalizedNodes.readNormalizedNode(buffer));
+        assertEquals(second, IndexedNormalizedNodes.readNormalizedNode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testPlainStream() throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            out.writeNormalizedNode(TestModel.createTestContainer());
+        }
+        assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> IndexedNormalizedNodes.readNormalizedNode(ByteBuffer.wrap(output.toByteArray())));
+    }
+
+    private static byte[] write(final NormalizedNode node) throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        IndexedNormalizedNodes.writeNormalizedNode(output, node);
+        return output.toByteArray();
+    }
+
+    private static ContainerNode createListContainer(final int size) {
+        final var list = Builders.mapBuilder().withNodeIdentifier(OUTER_LIST);
+        for (int i = 0; i < size; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i)
+                .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "entry " + i))
+                .build());
+        }
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(list.build())
+            .withChild(ImmutableNodes.leafNode(TestModel.BOOLEAN_LEAF_QNAME, true))
+            .build();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class NormalizedNodeStreamDictionaryTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final QName NAME = QName.create(FOO, "name");
+    private static final QName VALUE = QName.create(FOO, "value");
+    private static final QName IDENT = QName.create(FOO, "ident");
+
+    private static EffectiveModelContext CONTEXT;
+    private static ContainerNode DATA;
+
+    @BeforeClass
+    public static void beforeClass() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              identity ident;
+              container foo {
+                list bar {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type identityref {
+                      base ident;
+                    }
+                  }
+                }
+              }
+            }""");
+
+        final var bar = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(BAR));
+        for (int i = 0; i < 10; ++i) {
+            bar.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(BAR, NAME, "name" + i))
+                .withChild(ImmutableNodes.leafNode(NAME, "name" + i))
+                .withChild(ImmutableNodes.leafNode(VALUE, IDENT))
+                .build());
+        }
+        DATA = Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(FOO)).withChild(bar.build()).build();
+    }
+
+    @Test
+    public void testDeterministic() {
+        final var first = NormalizedNodeStreamDictionary.of(CONTEXT);
+        final var second = NormalizedNodeStreamDictionary.of(List.of(), List.of(IDENT, VALUE, NAME, BAR, FOO));
+        assertEquals(1, first.moduleCount());
+        assertEquals(5, first.qnameCount());
+        assertEquals(first.fingerprint(), second.fingerprint());
+        assertEquals(first.fingerprint(), NormalizedNodeStreamDictionary.of(CONTEXT).fingerprint());
+        assertNotEquals(first.fingerprint(),
+            NormalizedNodeStreamDictionary.of(List.of(), List.of(FOO, BAR)).fingerprint());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final var dictionary = NormalizedNodeStreamDictionary.of(CONTEXT);
+        final var bytes = write(dictionary, DATA);
+        assertTrue(bytes.length < write(null, DATA).length);
+        assertEquals(DATA, read(dictionary, bytes));
+    }
+
+    @Test
+    public void testPartialDictionary() throws IOException {
+        // QNames not present in dictionary are defined in the stream
+        final var dictionary = NormalizedNodeStreamDictionary.of(List.of(), List.of(FOO, NAME));
+        final var bytes = write(dictionary, DATA);
+        assertEquals(DATA, read(dictionary, bytes));
+
+        final var yiid = YangInstanceIdentifier.of(new NodeIdentifier(FOO), new NodeIdentifier(BAR),
+            NodeIdentifierWithPredicates.of(BAR, NAME, "name0"));
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output, dictionary)) {
+            out.writeYangInstanceIdentifier(yiid);
+            out.writeQName(IDENT);
+        }
+        final var in = NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(output.toByteArray()),
+            dictionary);
+        assertEquals(yiid, in.readYangInstanceIdentifier());
+        assertEquals(IDENT, in.readQName());
+    }
+
+    @Test
+    public void testPlainStreamWithDictionary() throws IOException {
+        assertEquals(DATA, read(NormalizedNodeStreamDictionary.of(CONTEXT), write(null, DATA)));
+    }
+
+    @Test
+    public void testMissingDictionary() throws IOException {
+        final var bytes = write(NormalizedNodeStreamDictionary.of(CONTEXT), DATA);
+        assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(bytes)));
+    }
+
+    @Test
+    public void testMismatchedDictionary() throws IOException {
+        final var bytes = write(NormalizedNodeStreamDictionary.of(CONTEXT), DATA);
+        assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> read(NormalizedNodeStreamDictionary.of(List.of(), List.of(FOO, BAR)), bytes));
+    }
+
+    private static byte[] write(final NormalizedNodeStreamDictionary dictionary, final NormalizedNode data)
+            throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        try (var out = dictionary == null ? NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)
+                : NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output, dictionary)) {
+            out.writeNormalizedNode(data);
+        }
+        return output.toByteArray();
+    }
+
+    private static NormalizedNode read(final NormalizedNodeStreamDictionary dictionary, final byte[] bytes)
+            throws IOException {
+        return NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(bytes), dictionary).readNormalizedNode();
+    }
+}
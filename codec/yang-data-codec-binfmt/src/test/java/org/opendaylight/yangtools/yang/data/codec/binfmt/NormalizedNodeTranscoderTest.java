@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.StringWriter;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class NormalizedNodeTranscoderTest {
+    @FunctionalInterface
+    private interface SinkFactory {
+        NormalizedNodeStreamWriter create(StringWriter writer) throws IOException;
+    }
+
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final QName BAR = QName.create(FOO, "bar");
+    private static final QName BAZ = QName.create(FOO, "baz");
+    private static final QName ID = QName.create(FOO, "id");
+    private static final QName VALUE = QName.create(FOO, "value");
+    private static final QName QUX = QName.create(FOO, "qux");
+
+    private static EffectiveModelContext CONTEXT;
+
+    @BeforeClass
+    public static void beforeClass() {
+        CONTEXT = YangParserTestUtils.parseYang("""
+            module foo {
+              namespace foo;
+              prefix foo;
+              container foo {
+                leaf bar {
+                  type string;
+                }
+                list baz {
+                  key id;
+                  leaf id {
+                    type int32;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                }
+                leaf-list qux {
+                  type uint32;
+                }
+              }
+            }""");
+    }
+
+    @Test
+    public void testJson() throws IOException {
+        final var foo = createFoo(10);
+        assertEquals(encode(foo, NormalizedNodeTranscoderTest::newJsonSink),
+            transcode(write(foo), NormalizedNodeTranscoderTest::newJsonSink));
+    }
+
+    @Test
+    public void testJsonDataRoot() throws IOException {
+        final var foo = createFoo(3);
+        assertEquals(encode(foo, NormalizedNodeTranscoderTest::newJsonSink),
+            transcode(write(Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(SchemaContext.NAME))
+                .withChild(foo)
+                .build()), NormalizedNodeTranscoderTest::newJsonSink));
+    }
+
+    @Test
+    public void testXml() throws IOException {
+        final var foo = createFoo(10);
+        assertEquals(encode(foo, NormalizedNodeTranscoderTest::newXmlSink),
+            transcode(write(foo), NormalizedNodeTranscoderTest::newXmlSink));
+    }
+
+    @Test
+    public void testUnknownNode() throws IOException {
+        final var bytes = write(ImmutableNodes.leafNode(QName.create(FOO, "unknown"), "value"));
+        assertThrows(IllegalArgumentException.class,
+            () -> transcode(bytes, NormalizedNodeTranscoderTest::newJsonSink));
+    }
+
+    private static String encode(final NormalizedNode node, final SinkFactory factory) throws IOException {
+        final var writer = new StringWriter();
+        try (var sink = factory.create(writer)) {
+            NormalizedNodeWriter.forStreamWriter(sink).write(node).flush();
+        }
+        return writer.toString();
+    }
+
+    private static String transcode(final byte[] bytes, final SinkFactory factory) throws IOException {
+        final var writer = new StringWriter();
+        try (var sink = factory.create(writer)) {
+            NormalizedNodeTranscoder.transcode(ByteStreams.newDataInput(bytes), sink);
+        }
+        return writer.toString();
+    }
+
+    private static byte[] write(final NormalizedNode node) throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(output)) {
+            out.writeNormalizedNode(node);
+        }
+        return output.toByteArray();
+    }
+
+    private static NormalizedNodeStreamWriter newJsonSink(final StringWriter writer) {
+        return JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+            JSONCodecFactorySupplier.RFC7951.getShared(CONTEXT), JsonWriterFactory.createJsonWriter(writer));
+    }
+
+    private static NormalizedNodeStreamWriter newXmlSink(final StringWriter writer) throws IOException {
+        try {
+            return XMLStreamNormalizedNodeStreamWriter.create(
+                XMLOutputFactory.newFactory().createXMLStreamWriter(writer), CONTEXT);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static ContainerNode createFoo(final int size) {
+        final var baz = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(BAZ));
+        final var qux = Builders.<Uint32>orderedLeafSetBuilder().withNodeIdentifier(new NodeIdentifier(QUX));
+        for (int i = 0; i < size; ++i) {
+            baz.withChild(ImmutableNodes.mapEntryBuilder(BAZ, ID, i)
+                .withChild(ImmutableNodes.leafNode(VALUE, "value " + i))
+                .build());
+            qux.withChildValue(Uint32.valueOf(i));
+        }
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.leafNode(BAR, "bar"))
+            .withChild(baz.build())
+            .withChild(qux.build())
+            .build();
+    }
+}
@@ -10,10 +10,15 @@ package org.opendaylight.yangtools.yang.data.codec.binfmt;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import org.junit.Test;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
 
 public class QNameFactoryTest {
     @Test
@@ -27,6 +32,49 @@ public class QNameFactoryTest {
         assertSame(created, cached);
     }
 
+    @Test
+    public void testNodeIdentifier() {
+        final var expected = TestModel.AUG_NAME_QNAME;
+        final var created = QNameFactory.getNodeIdentifier(expected.getModule(), expected.getLocalName());
+        assertEquals(expected, created.getNodeType());
+        assertSame(created, QNameFactory.getNodeIdentifier(expected.getModule(), expected.getLocalName()));
+        assertSame(created.getNodeType(), QNameFactory.create(expected.getModule(), expected.getLocalName()));
+    }
+
+    @Test
+    public void testModule() {
+        final var created = QNameFactory.createModule("urn:foo", "2023-10-01");
+        assertEquals(QNameModule.create(XMLNamespace.of("urn:foo"), Revision.of("2023-10-01")), created);
+        assertSame(created, QNameFactory.createModule("urn:foo", "2023-10-01"));
+        assertNotSame(created, QNameFactory.createModule("urn:foo", null));
+    }
+
+    @Test
+    public void testInvalidLocalName() {
+        assertThrows(IllegalArgumentException.class,
+            () -> QNameFactory.getNodeIdentifier(TestModel.AUG_NAME_QNAME.getModule(), "invalid name"));
+    }
+
+    @Test
+    public void testStats() {
+        final var qname = QName.create(TestModel.AUG_NAME_QNAME, "stats");
+        final long before = nodeIdentifierStats().hitCount();
+        QNameFactory.getNodeIdentifier(qname.getModule(), qname.getLocalName());
+        QNameFactory.getNodeIdentifier(qname.getModule(), qname.getLocalName());
+
+        final var after = nodeIdentifierStats();
+        assertTrue(after.hitCount() > before);
+        assertTrue(after.capacity() >= 10000);
+        assertTrue(after.hitRate() > 0.0);
+        assertEquals(1.0, new QNameCacheStats("empty", 1, 0, 0).hitRate(), 0.0);
+    }
+
+    private static QNameCacheStats nodeIdentifierStats() {
+        final List<QNameCacheStats> stats = QNameCacheStats.current();
+        assertEquals(3, stats.size());
+        return stats.stream().filter(stat -> stat.name().equals("node-identifier")).findFirst().orElseThrow();
+    }
+
     private static QName lookup(final QName qname) {
         return QNameFactory.create(qname.getLocalName(), qname.getNamespace().toString(),
             qname.getRevision().map(Revision::toString).orElse(null));
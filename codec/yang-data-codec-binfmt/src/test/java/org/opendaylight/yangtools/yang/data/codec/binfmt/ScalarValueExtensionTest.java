@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizationResult;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.ScalarValueExtension;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ReusableStreamReceiver;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ReusableImmutableNormalizedNodeStreamWriter;
+
+public class ScalarValueExtensionTest {
+    /**
+     * A {@link ReusableStreamReceiver} which counts primitive values and forwards them boxed.
+     */
+    private static final class CountingReceiver extends ForwardingNormalizedNodeStreamWriter
+            implements ReusableStreamReceiver, ScalarValueExtension {
+        private final ReusableImmutableNormalizedNodeStreamWriter delegate =
+            ReusableImmutableNormalizedNodeStreamWriter.create();
+
+        int primitives;
+
+        @Override
+        protected ReusableImmutableNormalizedNodeStreamWriter delegate() {
+            return delegate;
+        }
+
+        @Override
+        public <T extends Extension> T extension(final Class<T> type) {
+            return type.isInstance(this) ? type.cast(this) : null;
+        }
+
+        @Override
+        public List<ScalarValueExtension> supportedExtensions() {
+            return List.of(this);
+        }
+
+        @Override
+        public NormalizationResult result() {
+            return delegate.result();
+        }
+
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+
+        @Override
+        public void booleanValue(final boolean value) throws IOException {
+            primitive(value);
+        }
+
+        @Override
+        public void int8Value(final byte value) throws IOException {
+            primitive(value);
+        }
+
+        @Override
+        public void int16Value(final short value) throws IOException {
+            primitive(value);
+        }
+
+        @Override
+        public void int32Value(final int value) throws IOException {
+            primitive(value);
+        }
+
+        @Override
+        public void int64Value(final long value) throws IOException {
+            primitive(value);
+        }
+
+        @Override
+        public void uint8Value(final byte bits) throws IOException {
+            primitive(Uint8.fromByteBits(bits));
+        }
+
+        @Override
+        public void uint16Value(final short bits) throws IOException {
+            primitive(Uint16.fromShortBits(bits));
+        }
+
+        @Override
+        public void uint32Value(final int bits) throws IOException {
+            primitive(Uint32.fromIntBits(bits));
+        }
+
+        @Override
+        public void uint64Value(final long bits) throws IOException {
+            primitive(Uint64.fromLongBits(bits));
+        }
+
+        private void primitive(final Object value) throws IOException {
+            primitives++;
+            delegate.scalarValue(value);
+        }
+    }
+
+    private static final NodeIdentifier TEST = new NodeIdentifier(TestModel.TEST_QNAME);
+
+    @Test
+    public void testReadPrimitives() throws IOException {
+        final var expected = Builders.containerBuilder()
+            .withNodeIdentifier(TEST)
+            .withChild(leaf("bool", Boolean.TRUE))
+            .withChild(leaf("int8", (byte) -1))
+            .withChild(leaf("int16-zero", (short) 0))
+            .withChild(leaf("int32", 0x1234))
+            .withChild(leaf("int64", Long.MIN_VALUE))
+            .withChild(leaf("uint8", Uint8.MAX_VALUE))
+            .withChild(leaf("uint16", Uint16.valueOf(1234)))
+            .withChild(leaf("uint32", Uint32.MAX_VALUE))
+            .withChild(leaf("uint64-4b", Uint64.valueOf(0xFFFFFFFFL)))
+            .withChild(leaf("string", "str"))
+            .build();
+
+        final var receiver = new CountingReceiver();
+        final var input = NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(write(expected)));
+        assertEquals(expected, input.readNormalizedNode(receiver));
+        assertEquals(9, receiver.primitives);
+    }
+
+    @Test
+    public void testWritePrimitives() throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        final var writer = new PotassiumDataOutput(output);
+        writer.startContainerNode(TEST, 3);
+        writer.startLeafNode(new NodeIdentifier(qname("counter")));
+        writer.uint64Value(-1L);
+        writer.endNode();
+        writer.startLeafNode(new NodeIdentifier(qname("small")));
+        writer.uint32Value(42);
+        writer.endNode();
+        writer.startLeafNode(new NodeIdentifier(qname("signed")));
+        writer.int16Value((short) -2);
+        writer.endNode();
+        writer.endNode();
+
+        final var expected = Builders.containerBuilder()
+            .withNodeIdentifier(TEST)
+            .withChild(leaf("counter", Uint64.MAX_VALUE))
+            .withChild(leaf("small", Uint32.valueOf(42)))
+            .withChild(leaf("signed", (short) -2))
+            .build();
+        assertEquals(expected, new PotassiumDataInput(ByteStreams.newDataInput(output.toByteArray()))
+            .readNormalizedNode());
+    }
+
+    private static byte[] write(final ContainerNode node) throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            out.writeNormalizedNode(node);
+        }
+        return output.toByteArray();
+    }
+
+    private static QName qname(final String localName) {
+        return QName.create(TestModel.TEST_QNAME, localName);
+    }
+
+    private static <T> LeafNode<T> leaf(final String localName, final T value) {
+        return ImmutableNodes.leafNode(qname(localName), value);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class SegmentedNormalizedNodesTest {
+    private static final NodeIdentifier OUTER_LIST = new NodeIdentifier(TestModel.OUTER_LIST_QNAME);
+    private static final NodeIdentifier ORDERED_LIST = new NodeIdentifier(TestModel.ORDERED_LIST_QNAME);
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final var expected = TestModel.createTestContainer();
+        assertEquals(expected, read(write(expected, SegmentedNormalizedNodes.DEFAULT_SEGMENT_SIZE)));
+    }
+
+    @Test
+    public void testSegmentedLists() throws IOException {
+        final var expected = createListContainer(1000);
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var actual = (ContainerNode) SegmentedNormalizedNodes.readNormalizedNode(
+                new DataInputStream(new ByteArrayInputStream(write(expected, 7))), executor);
+            assertEquals(expected, actual);
+            assertTrue(actual.childByArg(OUTER_LIST) instanceof SystemMapNode);
+
+            // Ordered lists retain entry order across segments
+            final var ordered = actual.childByArg(ORDERED_LIST);
+            assertTrue(ordered instanceof UserMapNode);
+            assertEquals(List.copyOf(((UserMapNode) expected.childByArg(ORDERED_LIST)).body()),
+                List.copyOf(((UserMapNode) ordered).body()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNonContainerRoot() throws IOException {
+        final var expected = ImmutableNodes.leafNode(TestModel.DESC_QNAME, "desc");
+        assertEquals(expected, read(write(expected, 1)));
+    }
+
+    @Test
+    public void testEmptyList() throws IOException {
+        final var expected = createListContainer(0);
+        assertEquals(expected, read(write(expected, 1)));
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        final var bytes = write(createListContainer(100), 10);
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void testPlainStream() throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(output)) {
+            out.writeNormalizedNode(TestModel.createTestContainer());
+        }
+        assertThrows(InvalidNormalizedNodeStreamException.class, () -> read(output.toByteArray()));
+    }
+
+    @Test
+    public void testInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentedNormalizedNodes.writeNormalizedNode(
+            ByteStreams.newDataOutput(), TestModel.createTestContainer(), 0));
+    }
+
+    private static byte[] write(final NormalizedNode node, final int segmentSize) throws IOException {
+        final var output = ByteStreams.newDataOutput();
+        SegmentedNormalizedNodes.writeNormalizedNode(output, node, segmentSize);
+        return output.toByteArray();
+    }
+
+    private static NormalizedNode read(final byte[] bytes) throws IOException {
+        return SegmentedNormalizedNodes.readNormalizedNode(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static ContainerNode createListContainer(final int size) {
+        final var list = Builders.mapBuilder().withNodeIdentifier(OUTER_LIST);
+        final var ordered = Builders.orderedMapBuilder().withNodeIdentifier(ORDERED_LIST);
+        for (int i = 0; i < size; ++i) {
+            list.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i)
+                .withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, "entry " + i))
+                .build());
+            ordered.withChild(ImmutableNodes.mapEntryBuilder(TestModel.ORDERED_LIST_QNAME,
+                TestModel.ORDERED_LIST_ENTRY_QNAME, "entry " + (size - i)).build());
+        }
+        return Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(list.build())
+            .withChild(ordered.build())
+            .withChild(ImmutableNodes.leafNode(TestModel.BOOLEAN_LEAF_QNAME, true))
+            .build();
+    }
+}
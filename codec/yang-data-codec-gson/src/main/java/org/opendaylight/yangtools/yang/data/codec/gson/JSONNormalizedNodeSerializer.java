@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.transform.dom.DOMSource;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.AnydataNode;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyxmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedAnydata;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * A serializer of {@link NormalizedNode}s into UTF-8 encoded RFC7951 JSON, producing the same output as
+ * an {@link JSONNormalizedNodeStreamWriter#createExclusiveWriter(JSONCodecFactory, com.google.gson.stream.JsonWriter)
+ * exclusive} {@link JSONNormalizedNodeStreamWriter} driven by a {@link NormalizedNodeWriter}.
+ *
+ * <p>
+ * Rather than tracking schema and resolving names and codecs for each node it encounters, this serializer compiles
+ * each schema node it encounters, remembering its encoded member name, including the module prefix if it is needed,
+ * and, for leaves and leaf-lists, its {@link JSONCodec}. Serializing a node then is a walk over the data, emitting
+ * these precomputed fragments. Schema nodes are compiled lazily, as data conforming to them is encountered, hence
+ * instances should be retained and reused, typically one per {@link JSONCodecFactory}. Instances are thread-safe.
+ *
+ * <p>
+ * The contents of {@code anyxml} and {@code anydata} nodes are emitted through
+ * a {@link JSONNormalizedNodeStreamWriter}.
+ */
+@Beta
+public final class JSONNormalizedNodeSerializer {
+    /**
+     * Serializer of a child of a data node container, corresponding to a single schema node.
+     */
+    private abstract static class ChildSerializer {
+        abstract void write(Output out, NormalizedNode node) throws IOException;
+
+        static IllegalArgumentException unexpectedNode(final NormalizedNode node, final String expected) {
+            return new IllegalArgumentException("Node " + node.name() + " is not " + expected);
+        }
+    }
+
+    /**
+     * Serializer of children of a data node container, such as a container, a list entry or a choice.
+     */
+    private final class ChildrenSerializer {
+        private final ConcurrentHashMap<QName, ChildSerializer> children = new ConcurrentHashMap<>();
+        // Positioned at this node, never modified
+        private final @NonNull SchemaInferenceStack stack;
+        // Nearest data node container, used for anyxml and anydata
+        private final @NonNull EffectiveStatementInference parentInference;
+        private final @Nullable XMLNamespace namespace;
+
+        ChildrenSerializer(final SchemaInferenceStack stack, final EffectiveStatementInference parentInference,
+                final @Nullable XMLNamespace namespace) {
+            this.stack = requireNonNull(stack);
+            this.parentInference = requireNonNull(parentInference);
+            this.namespace = namespace;
+        }
+
+        void writeChildren(final Output out, final Iterable<? extends NormalizedNode> body) throws IOException {
+            for (var child : body) {
+                writeChild(out, child);
+            }
+        }
+
+        void writeMapEntry(final Output out, final MapEntryNode entry) throws IOException {
+            // Keys first, just as NormalizedNodeWriter does
+            final var keys = entry.name().keySet();
+            for (var key : keys) {
+                final var child = entry.childByArg(NodeIdentifier.create(key));
+                if (child != null) {
+                    writeChild(out, child);
+                }
+            }
+            for (var child : entry.body()) {
+                if (!keys.contains(child.name().getNodeType())) {
+                    writeChild(out, child);
+                }
+            }
+        }
+
+        void writeChild(final Output out, final NormalizedNode child) throws IOException {
+            final var qname = child.name().getNodeType();
+            var serializer = children.get(qname);
+            if (serializer == null) {
+                serializer = children.computeIfAbsent(qname, ignored -> compileChild(child));
+            }
+            serializer.write(out, child);
+        }
+
+        private @NonNull ChildSerializer compileChild(final NormalizedNode child) {
+            final var qname = child.name().getNodeType();
+            final var childStack = stack.copy();
+            if (child instanceof ChoiceNode) {
+                childStack.enterChoice(qname);
+                return new ChoiceSerializer(new ChildrenSerializer(childStack, parentInference, namespace));
+            }
+
+            final var stmt = childStack.enterDataTree(qname);
+            if (stmt instanceof AnyxmlSchemaNode || stmt instanceof AnydataSchemaNode) {
+                return new ForeignSerializer(parentInference, namespace);
+            }
+
+            final var name = encodeName(qname, namespace);
+            if (stmt instanceof LeafSchemaNode leaf) {
+                return new LeafSerializer(name, codecs.codecFor(leaf, childStack));
+            } else if (stmt instanceof LeafListSchemaNode leafList) {
+                return new LeafSetSerializer(name, codecs.codecFor(leafList, childStack));
+            } else if (stmt instanceof ContainerLike) {
+                return new ContainerSerializer(name,
+                    !(stmt instanceof ContainerSchemaNode container) || container.isPresenceContainer(),
+                    new ChildrenSerializer(childStack, childStack.toInference(), qname.getNamespace()));
+            } else if (stmt instanceof ListSchemaNode) {
+                return new ListSerializer(name,
+                    new ChildrenSerializer(childStack, childStack.toInference(), qname.getNamespace()));
+            } else {
+                throw new IllegalArgumentException("Unsupported schema node " + stmt);
+            }
+        }
+    }
+
+    private static final class LeafSerializer extends ChildSerializer {
+        private final byte[] name;
+        private final JSONCodec<Object> codec;
+
+        @SuppressWarnings("unchecked")
+        LeafSerializer(final byte[] name, final JSONCodec<?> codec) {
+            this.name = requireNonNull(name);
+            this.codec = (JSONCodec<Object>) requireNonNull(codec);
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            if (!(node instanceof LeafNode<?> leaf)) {
+                throw unexpectedNode(node, "a leaf");
+            }
+            out.emittingChild();
+            out.writer.name(name);
+            codec.writeValue(out.writer, leaf.body());
+        }
+    }
+
+    private static final class LeafSetSerializer extends ChildSerializer {
+        private final byte[] name;
+        private final JSONCodec<Object> codec;
+
+        @SuppressWarnings("unchecked")
+        LeafSetSerializer(final byte[] name, final JSONCodec<?> codec) {
+            this.name = requireNonNull(name);
+            this.codec = (JSONCodec<Object>) requireNonNull(codec);
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            if (!(node instanceof LeafSetNode<?> leafSet)) {
+                throw unexpectedNode(node, "a leaf-list");
+            }
+            if (leafSet.size() == 0) {
+                return;
+            }
+
+            final var writer = out.writer;
+            out.emittingChild();
+            writer.name(name);
+            writer.beginArray();
+            for (var entry : leafSet.body()) {
+                codec.writeValue(writer, entry.body());
+            }
+            writer.endArray();
+        }
+    }
+
+    private static final class ContainerSerializer extends ChildSerializer {
+        private final byte[] name;
+        private final boolean presence;
+        private final ChildrenSerializer children;
+
+        ContainerSerializer(final byte[] name, final boolean presence, final ChildrenSerializer children) {
+            this.name = requireNonNull(name);
+            this.presence = presence;
+            this.children = requireNonNull(children);
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            if (!(node instanceof ContainerNode container)) {
+                throw unexpectedNode(node, "a container");
+            }
+
+            if (presence) {
+                final var writer = out.writer;
+                out.emittingChild();
+                writer.name(name);
+                writer.beginObject();
+                children.writeChildren(out, container.body());
+                writer.endObject();
+            } else {
+                // Non-presence containers are emitted only if they have some content
+                final int index = out.defer(name);
+                children.writeChildren(out, container.body());
+                out.endDeferred(index);
+            }
+        }
+    }
+
+    private static final class ListSerializer extends ChildSerializer {
+        private final byte[] name;
+        private final ChildrenSerializer entries;
+
+        ListSerializer(final byte[] name, final ChildrenSerializer entries) {
+            this.name = requireNonNull(name);
+            this.entries = requireNonNull(entries);
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            final var writer = out.writer;
+            if (node instanceof MapNode map) {
+                if (map.size() != 0) {
+                    out.emittingChild();
+                    writer.name(name);
+                    writer.beginArray();
+                    for (var entry : map.body()) {
+                        writer.beginObject();
+                        entries.writeMapEntry(out, entry);
+                        writer.endObject();
+                    }
+                    writer.endArray();
+                }
+            } else if (node instanceof UnkeyedListNode list) {
+                if (list.size() != 0) {
+                    out.emittingChild();
+                    writer.name(name);
+                    writer.beginArray();
+                    for (var entry : list.body()) {
+                        writer.beginObject();
+                        entries.writeChildren(out, entry.body());
+                        writer.endObject();
+                    }
+                    writer.endArray();
+                }
+            } else {
+                throw unexpectedNode(node, "a list");
+            }
+        }
+    }
+
+    private static final class ChoiceSerializer extends ChildSerializer {
+        private final ChildrenSerializer children;
+
+        ChoiceSerializer(final ChildrenSerializer children) {
+            this.children = requireNonNull(children);
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            if (!(node instanceof ChoiceNode choice)) {
+                throw unexpectedNode(node, "a choice");
+            }
+            children.writeChildren(out, choice.body());
+        }
+    }
+
+    /**
+     * Serializer of anyxml and anydata nodes, which delegates to a nested {@link JSONNormalizedNodeStreamWriter}.
+     */
+    private final class ForeignSerializer extends ChildSerializer {
+        private final @NonNull EffectiveStatementInference parentInference;
+        private final @Nullable XMLNamespace parentNamespace;
+
+        ForeignSerializer(final EffectiveStatementInference parentInference,
+                final @Nullable XMLNamespace parentNamespace) {
+            this.parentInference = requireNonNull(parentInference);
+            this.parentNamespace = parentNamespace;
+        }
+
+        @Override
+        void write(final Output out, final NormalizedNode node) throws IOException {
+            if (node instanceof AnyxmlNode<?> anyxml) {
+                if (DOMSource.class.isAssignableFrom(anyxml.bodyObjectModel())) {
+                    out.emittingChild();
+                }
+            } else if (node instanceof AnydataNode<?> anydata) {
+                if (NormalizedAnydata.class.isAssignableFrom(anydata.bodyObjectModel())) {
+                    out.emittingChild();
+                }
+            } else {
+                throw unexpectedNode(node, "anyxml nor anydata");
+            }
+
+            NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter.createNestedWriter(codecs,
+                parentInference, parentNamespace, out.writer)).write(node);
+        }
+    }
+
+    /**
+     * State of a single serialization. Non-presence containers are not emitted until some of their children is, hence
+     * we keep the names of such containers which have been entered, but not emitted.
+     */
+    private static final class Output {
+        final @NonNull Utf8JsonWriter writer;
+
+        private byte[][] pending = new byte[8][];
+        private int pendingCount;
+
+        Output(final Utf8JsonWriter writer) {
+            this.writer = requireNonNull(writer);
+        }
+
+        int defer(final byte[] name) {
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, pendingCount * 2);
+            }
+            pending[pendingCount] = name;
+            return pendingCount++;
+        }
+
+        void endDeferred(final int index) throws IOException {
+            if (pendingCount > index) {
+                // Not emitted
+                pendingCount = index;
+            } else {
+                writer.endObject();
+            }
+        }
+
+        void emittingChild() throws IOException {
+            if (pendingCount != 0) {
+                for (int i = 0; i < pendingCount; ++i) {
+                    writer.name(pending[i]);
+                    writer.beginObject();
+                }
+                pendingCount = 0;
+            }
+        }
+    }
+
+    private final @NonNull JSONCodecFactory codecs;
+    private final @NonNull ChildrenSerializer root;
+
+    private JSONNormalizedNodeSerializer(final JSONCodecFactory codecs, final SchemaInferenceStack stack) {
+        this.codecs = requireNonNull(codecs);
+        root = new ChildrenSerializer(stack, stack.toInference(), null);
+    }
+
+    /**
+     * Create a new serializer for top-level data of the {@link JSONCodecFactory}'s {@code EffectiveModelContext}.
+     *
+     * @param codecs JSON codec factory
+     * @return A new serializer
+     * @throws NullPointerException if {@code codecs} is null
+     */
+    public static @NonNull JSONNormalizedNodeSerializer of(final JSONCodecFactory codecs) {
+        return new JSONNormalizedNodeSerializer(codecs, SchemaInferenceStack.of(codecs.getEffectiveModelContext()));
+    }
+
+    /**
+     * Create a new serializer for children of the specified data node container.
+     *
+     * @param codecs JSON codec factory
+     * @param parent Parent node inference
+     * @return A new serializer
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull JSONNormalizedNodeSerializer of(final JSONCodecFactory codecs,
+            final EffectiveStatementInference parent) {
+        return new JSONNormalizedNodeSerializer(codecs, SchemaInferenceStack.ofInference(parent));
+    }
+
+    /**
+     * Serialize a node as a JSON document into an output stream. The stream is flushed, but not closed.
+     *
+     * @param out Output stream
+     * @param data Node to serialize
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the data does not conform to the schema
+     */
+    public void write(final OutputStream out, final NormalizedNode data) throws IOException {
+        write(out, data, 0);
+    }
+
+    /**
+     * Serialize a node as a JSON document into an output stream. The stream is flushed, but not closed.
+     *
+     * @param out Output stream
+     * @param data Node to serialize
+     * @param indentSize size of the indent, 0 for compact output
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the data does not conform to the schema
+     */
+    public void write(final OutputStream out, final NormalizedNode data, final int indentSize) throws IOException {
+        final var writer = new Utf8JsonWriter(out, " ".repeat(indentSize));
+        writer.beginObject();
+        root.writeChild(new Output(writer), data);
+        writer.endObject();
+        writer.flush();
+    }
+
+    private byte @NonNull [] encodeName(final QName qname, final @Nullable XMLNamespace parentNamespace) {
+        // Prepend module name if namespaces do not match
+        final var module = qname.getModule();
+        if (module.getNamespace().equals(parentNamespace)) {
+            return Utf8JsonWriter.encodeName(qname.getLocalName());
+        }
+        final var moduleName = codecs.getEffectiveModelContext().findModuleStatement(module)
+            .map(mod -> mod.argument().getLocalName())
+            .orElseThrow(() -> new IllegalArgumentException("Could not find module for namespace " + module));
+        return Utf8JsonWriter.encodeName(moduleName + ':' + qname.getLocalName());
+    }
+}
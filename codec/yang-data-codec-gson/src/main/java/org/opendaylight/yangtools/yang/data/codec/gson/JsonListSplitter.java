@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Splitter of a UTF-8 encoded JSON document of the form {@code {"top":{..., "list":[{...}, {...}, ...], ...}}} into
+ * documents holding consecutive entries of the list and a document holding everything else, including the first entry
+ * of the list, so that the list retains its position among its siblings. The list is located by a
+ * structural pre-scan, which does not validate anything beyond what is needed to find the boundaries of the entries,
+ * leaving that to the parser. Since each document retains the names of the top-level member and of the list, they are
+ * resolved to the same schema nodes as in the original document.
+ */
+final class JsonListSplitter {
+    /**
+     * Minimum number of list entries in a chunk, so that per-chunk overheads do not dominate.
+     */
+    static final int MIN_CHUNK_ENTRIES = 128;
+
+    private static final byte[] CHUNK_SUFFIX = { ']', '}', '}' };
+
+    private final byte[] input;
+    private final byte[] chunkPrefix;
+    // Start and end offsets of each entry
+    private final int[] entries;
+
+    private JsonListSplitter(final byte[] input, final byte[] chunkPrefix, final int[] entries) {
+        this.input = requireNonNull(input);
+        this.chunkPrefix = requireNonNull(chunkPrefix);
+        this.entries = requireNonNull(entries);
+    }
+
+    /**
+     * Scan a document and locate the list with most entries among the members of its sole top-level member.
+     *
+     * @param input UTF-8 encoded document
+     * @return A splitter, or {@code null} if the document does not have the expected shape
+     */
+    static @Nullable JsonListSplitter of(final byte[] input) {
+        return new Scanner(input).scan();
+    }
+
+    int entryCount() {
+        return entries.length / 2;
+    }
+
+    /**
+     * Return a document holding entries of the list, as members of the top-level member.
+     *
+     * @param from index of the first entry, inclusive
+     * @param to index of the last entry, exclusive
+     * @return A document
+     */
+    InputStream chunk(final int from, final int to) {
+        final int start = entries[from * 2];
+        return new SequenceInputStream(Collections.enumeration(List.of(new ByteArrayInputStream(chunkPrefix),
+            new ByteArrayInputStream(input, start, entries[to * 2 - 1] - start),
+            new ByteArrayInputStream(CHUNK_SUFFIX))));
+    }
+
+    /**
+     * Return the document with all entries of the list except the first one removed.
+     *
+     * @return A document
+     */
+    InputStream rest() {
+        final int cutStart = entries[1];
+        final int cutEnd = entries[entries.length - 1];
+        return new SequenceInputStream(new ByteArrayInputStream(input, 0, cutStart),
+            new ByteArrayInputStream(input, cutEnd, input.length - cutEnd));
+    }
+
+    private static final class Scanner {
+        private final byte[] in;
+        private int pos;
+
+        Scanner(final byte[] in) {
+            this.in = requireNonNull(in);
+        }
+
+        @Nullable JsonListSplitter scan() {
+            // Skip a byte order mark, if present
+            if (in.length >= 3 && in[0] == (byte) 0xEF && in[1] == (byte) 0xBB && in[2] == (byte) 0xBF) {
+                pos = 3;
+            }
+            if (!consume('{')) {
+                return null;
+            }
+            skipWhitespace();
+            final int topNameStart = pos;
+            if (!skipString()) {
+                return null;
+            }
+            final int topNameEnd = pos;
+            if (!consume(':') || !consume('{')) {
+                return null;
+            }
+
+            // Offsets of member names, so that namesakes of the list can be detected
+            final var names = new IntList();
+            int[] bestEntries = null;
+            int bestNameStart = 0;
+            int bestNameEnd = 0;
+
+            skipWhitespace();
+            if (peek() == '}') {
+                return null;
+            }
+            while (true) {
+                skipWhitespace();
+                final int nameStart = pos;
+                if (!skipString()) {
+                    return null;
+                }
+                final int nameEnd = pos;
+                names.add(nameStart);
+                names.add(nameEnd);
+                if (!consume(':')) {
+                    return null;
+                }
+
+                skipWhitespace();
+                final int[] memberEntries;
+                if (peek() == '[') {
+                    memberEntries = scanEntries();
+                    if (memberEntries == null) {
+                        return null;
+                    }
+                } else {
+                    if (!skipValue()) {
+                        return null;
+                    }
+                    memberEntries = null;
+                }
+                if (memberEntries != null && (bestEntries == null || memberEntries.length > bestEntries.length)) {
+                    bestEntries = memberEntries;
+                    bestNameStart = nameStart;
+                    bestNameEnd = nameEnd;
+                }
+
+                skipWhitespace();
+                final int separator = next();
+                if (separator == '}') {
+                    break;
+                }
+                if (separator != ',') {
+                    return null;
+                }
+            }
+
+            // The top-level object has to end here, with nothing following it
+            if (!consume('}')) {
+                return null;
+            }
+            skipWhitespace();
+            if (pos != in.length || bestEntries == null || bestEntries.length == 0) {
+                return null;
+            }
+
+            // Namesakes would be reported as duplicates by the parser
+            for (int i = 0; i < names.size(); i += 2) {
+                final int start = names.get(i);
+                if (start != bestNameStart
+                        && Arrays.equals(in, start, names.get(i + 1), in, bestNameStart, bestNameEnd)) {
+                    return null;
+                }
+            }
+
+            final int topNameLength = topNameEnd - topNameStart;
+            final int listNameLength = bestNameEnd - bestNameStart;
+            final byte[] prefix = new byte[topNameLength + listNameLength + 5];
+            prefix[0] = '{';
+            System.arraycopy(in, topNameStart, prefix, 1, topNameLength);
+            prefix[topNameLength + 1] = ':';
+            prefix[topNameLength + 2] = '{';
+            System.arraycopy(in, bestNameStart, prefix, topNameLength + 3, listNameLength);
+            prefix[prefix.length - 2] = ':';
+            prefix[prefix.length - 1] = '[';
+            return new JsonListSplitter(in, prefix, bestEntries);
+        }
+
+        /**
+         * Scan an array, returning offsets of its elements if they all are objects.
+         *
+         * @return offsets of elements, or {@code null} if the array is malformed
+         */
+        @SuppressFBWarnings(value = "PZLA_PREFER_ZERO_LENGTH_ARRAYS",
+            justification = "Empty array means no usable entries, null means malformed input")
+        private int @Nullable [] scanEntries() {
+            final var entries = new IntList();
+            boolean objects = true;
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return new int[0];
+            }
+            while (true) {
+                skipWhitespace();
+                final int start = pos;
+                objects &= peek() == '{';
+                if (!skipValue()) {
+                    return null;
+                }
+                entries.add(start);
+                entries.add(pos);
+
+                skipWhitespace();
+                final int separator = next();
+                if (separator == ']') {
+                    return objects ? entries.toArray() : new int[0];
+                }
+                if (separator != ',') {
+                    return null;
+                }
+            }
+        }
+
+        private boolean skipValue() {
+            skipWhitespace();
+            final int start = pos;
+            switch (peek()) {
+                case '"':
+                    return skipString();
+                case '{':
+                case '[':
+                    int depth = 0;
+                    while (pos < in.length) {
+                        switch (in[pos]) {
+                            case '"':
+                                if (!skipString()) {
+                                    return false;
+                                }
+                                continue;
+                            case '{':
+                            case '[':
+                                depth++;
+                                break;
+                            case '}':
+                            case ']':
+                                if (--depth == 0) {
+                                    pos++;
+                                    return true;
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                        pos++;
+                    }
+                    return false;
+                default:
+                    // Literal or number: the parser will validate it
+                    while (pos < in.length && !isDelimiter(in[pos])) {
+                        pos++;
+                    }
+                    return pos != start;
+            }
+        }
+
+        private boolean skipString() {
+            if (peek() != '"') {
+                return false;
+            }
+            pos++;
+            while (pos < in.length) {
+                final byte b = in[pos++];
+                if (b == '\\') {
+                    pos++;
+                } else if (b == '"') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean consume(final char expected) {
+            skipWhitespace();
+            if (peek() != expected) {
+                return false;
+            }
+            pos++;
+            return true;
+        }
+
+        private int next() {
+            return pos < in.length ? in[pos++] : -1;
+        }
+
+        private int peek() {
+            return pos < in.length ? in[pos] : -1;
+        }
+
+        private void skipWhitespace() {
+            while (pos < in.length && isWhitespace(in[pos])) {
+                pos++;
+            }
+        }
+
+        private static boolean isDelimiter(final byte ch) {
+            return isWhitespace(ch) || ch == ',' || ch == ']' || ch == '}';
+        }
+
+        private static boolean isWhitespace(final byte ch) {
+            return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+        }
+    }
+
+    /**
+     * A minimal growable list of ints.
+     */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(final int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
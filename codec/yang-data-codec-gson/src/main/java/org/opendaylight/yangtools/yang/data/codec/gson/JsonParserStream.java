@@ -11,27 +11,47 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.Beta;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.EOFException;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.rfc8040.model.api.YangDataSchemaNode;
 import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
@@ -43,11 +63,16 @@ import org.opendaylight.yangtools.yang.data.util.ListNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.MultipleEntryDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.SplitListMerger;
 import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
@@ -66,8 +91,63 @@ import org.w3c.dom.Text;
 public final class JsonParserStream implements Closeable, Flushable {
     static final String ANYXML_ARRAY_ELEMENT_ID = "array-element";
 
+    /**
+     * Resolution of a member name within an object.
+     *
+     * @param context Namespace of the object, which may affect the resolution of an unqualified name
+     * @param namespace Namespace of the member
+     * @param schemas Schema nodes of the member, including any choices and cases it is nested in
+     * @param index Index of the member among members of its parent schema node
+     */
+    private record Member(@Nullable XMLNamespace context, @NonNull XMLNamespace namespace,
+            @NonNull ImmutableList<DataSchemaNode> schemas, int index) {
+        @NonNull DataSchemaNode schema() {
+            return schemas.get(schemas.size() - 1);
+        }
+
+        boolean isInChoice() {
+            return schemas.size() > 1;
+        }
+    }
+
+    /**
+     * Members encountered so far in an object. Members are tracked by their index in a bitmask, unless there are too
+     * many of them. Instances are reused for all objects at the same depth.
+     */
+    private static final class SeenMembers {
+        private long mask;
+        private Set<Member> overflow;
+
+        void reset() {
+            mask = 0;
+            if (overflow != null) {
+                overflow.clear();
+            }
+        }
+
+        boolean add(final Member member) {
+            final int index = member.index();
+            if (index < Long.SIZE) {
+                final long bit = 1L << index;
+                if ((mask & bit) != 0) {
+                    return false;
+                }
+                mask |= bit;
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new HashSet<>();
+            }
+            return overflow.add(member);
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(JsonParserStream.class);
     private final Deque<XMLNamespace> namespaces = new ArrayDeque<>();
+    // Resolved member names of objects, keyed by schema node of the object and then by member name
+    private final Map<DataSchemaNode, Map<String, Member>> members = new IdentityHashMap<>();
+    private final List<SeenMembers> seenMembers = new ArrayList<>();
+    private int objectDepth;
     private final NormalizedNodeStreamWriter writer;
     private final JSONCodecFactory codecs;
     private final DataSchemaNode parentNode;
@@ -177,6 +257,20 @@ public final class JsonParserStream implements Closeable, Flushable {
     }
 
     public JsonParserStream parse(final JsonReader reader) {
+        return parse(reader, false);
+    }
+
+    private JsonParserStream parse(final JsonReader reader, final boolean streaming) {
+        // FIXME: this has a special-case bypass for SchemaContext, where we end up emitting just the child while
+        //        the usual of() would result in SchemaContext.NAME being the root
+        parse(reader, streaming ? null : new CompositeNodeDataWithSchema<>(parentNode), true);
+        return this;
+    }
+
+    // Parse a document. If tree is null, events are streamed into the writer. Otherwise the document is read into tree,
+    // which is then written into the writer if emit is true.
+    private void parse(final JsonReader reader, final @Nullable CompositeNodeDataWithSchema<?> tree,
+            final boolean emit) {
         // code copied from gson's JsonParser and Stream classes
 
         final boolean readerLenient = reader.isLenient();
@@ -185,16 +279,20 @@ public final class JsonParserStream implements Closeable, Flushable {
         try {
             reader.peek();
             isEmpty = false;
-            // FIXME: this has a special-case bypass for SchemaContext, where we end up emitting just the child while
-            //        the usual of() would result in SchemaContext.NAME being the root
-            final var compositeNodeDataWithSchema = new CompositeNodeDataWithSchema<>(parentNode);
-            read(reader, compositeNodeDataWithSchema);
-            compositeNodeDataWithSchema.write(writer);
+            if (tree == null) {
+                // Same bypass as above: we emit only the children of parentNode
+                checkObject(reader, parentNode);
+                streamMembers(reader, parentNode, false);
+                return;
+            }
 
-            return this;
+            read(reader, tree);
+            if (emit) {
+                tree.write(writer);
+            }
         } catch (final EOFException e) {
             if (isEmpty) {
-                return this;
+                return;
             }
             // The stream ended prematurely so it is likely a syntax error.
             throw new JsonSyntaxException(e);
@@ -209,6 +307,115 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
     }
 
+    /**
+     * Parse a JSON document, emitting events into the backing {@link NormalizedNodeStreamWriter} as soon as the schema
+     * allows it, rather than after the entire document has been read, as {@link #parse(JsonReader)} does. Containers,
+     * lists and leaf-lists are emitted as they are encountered, so the memory required is not proportional to the size
+     * of the document. Buffering is still required in two cases:
+     * <ul>
+     *   <li>members of a list entry which precede its key leaves are buffered until all keys have been read, as the
+     *       entry cannot be started without them</li>
+     *   <li>members of a choice are buffered until the enclosing object ends, as other members may be interleaved with
+     *       them and case conflicts need to be detected</li>
+     * </ul>
+     * Memory requirements are therefore bounded by the largest such buffered subtree. The resulting sequence of events
+     * is equivalent to the one produced by {@link #parse(JsonReader)}, except choices being emitted after their sibling
+     * nodes. Since events are emitted while parsing, a malformed document may result in a partial sequence of events
+     * being emitted before parsing fails.
+     *
+     * @param reader JsonReader to parse
+     * @return This parser
+     */
+    public JsonParserStream parseStreaming(final JsonReader reader) {
+        return parse(reader, true);
+    }
+
+    /**
+     * Parse a UTF-8 encoded JSON document, parsing entries of its largest list in parallel. This is meant for bulk
+     * payloads, which typically consist of a single container holding a large list, such as
+     * {@code {"module:container":{"list":[{...}, {...}, ...], ...}}}. A structural pre-scan of the input locates the
+     * list with most entries among the members of the sole top-level member. Its entries are split into up to
+     * {@code parallelism} chunks, each of which is parsed by a task submitted to {@code executor}, while the remainder
+     * of the document, which retains the first entry of the list, is parsed by the calling thread. Entries of the
+     * chunks are then merged, in document order, into the list and the document is emitted into the backing
+     * {@link NormalizedNodeStreamWriter}.
+     *
+     * <p>
+     * Documents of any other shape and documents whose list is too small to be worth splitting are parsed as if by
+     * {@link #parse(JsonReader)}. Either way, the events emitted into the backing writer are the same as those
+     * emitted by {@link #parse(JsonReader)}, including the handling of duplicate list entries. The same exceptions
+     * are thrown, too. Where more than one part of the document
+     * is malformed, the failure reported is the one of the first chunk of the list, or of the rest of the document if
+     * all chunks were parsed successfully, which may be different from the failure {@link #parse(JsonReader)} would
+     * report. Nothing is emitted into the backing writer unless all parts have been parsed successfully.
+     *
+     * @param input UTF-8 encoded document
+     * @param executor Executor to run chunk parsing tasks
+     * @param parallelism Maximum number of chunks to split the list into
+     * @return This parser
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @Beta
+    public JsonParserStream parseParallel(final byte[] input, final Executor executor, final int parallelism) {
+        checkArgument(parallelism > 0, "Invalid parallelism %s", parallelism);
+        requireNonNull(executor);
+        final var splitter = parallelism > 1 ? JsonListSplitter.of(input) : null;
+        if (splitter != null) {
+            final int chunks = Math.min(parallelism, splitter.entryCount() / JsonListSplitter.MIN_CHUNK_ENTRIES);
+            if (chunks > 1 && parseParallel(splitter, executor, chunks)) {
+                return this;
+            }
+        }
+        return parse(JsonReaderFactory.createUtf8JsonReader(new ByteArrayInputStream(input)));
+    }
+
+    private boolean parseParallel(final JsonListSplitter splitter, final Executor executor, final int chunks) {
+        // The first entry stays in the rest
+        final int count = splitter.entryCount() - 1;
+        final var futures = new ArrayList<CompletableFuture<CompositeNodeDataWithSchema<?>>>(chunks + 1);
+        for (int i = 0; i < chunks; ++i) {
+            futures.add(parseDetached(splitter.chunk(1 + count * i / chunks, 1 + count * (i + 1) / chunks),
+                executor));
+        }
+        // Run the rest on this thread
+        futures.add(parseDetached(splitter.rest(), Runnable::run));
+
+        final var results = new ArrayList<CompositeNodeDataWithSchema<?>>(chunks + 1);
+        for (var future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                futures.forEach(f -> f.cancel(false));
+                final var cause = e.getCause();
+                Throwables.throwIfUnchecked(cause);
+                throw new JsonParseException("Failed to parse JSON input", e);
+            }
+        }
+
+        final var rest = results.remove(chunks);
+        if (!SplitListMerger.merge(rest, results)) {
+            return false;
+        }
+        try {
+            rest.write(writer);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return true;
+    }
+
+    private CompletableFuture<CompositeNodeDataWithSchema<?>> parseDetached(final InputStream input,
+            final Executor executor) {
+        // Instantiate the parser here, so that workers do not access our stack. It only reads the document into a tree,
+        // hence it never touches the writer.
+        final var parser = new JsonParserStream(writer, codecs, stack.copy(), lenient);
+        final var tree = new CompositeNodeDataWithSchema<>(parentNode);
+        return CompletableFuture.supplyAsync(() -> {
+            parser.parse(JsonReaderFactory.createUtf8JsonReader(input), tree, false);
+            return tree;
+        }, executor);
+    }
+
     private void traverseAnyXmlValue(final JsonReader in, final Document doc, final Element parentElement)
             throws IOException {
         switch (in.peek()) {
@@ -287,7 +494,7 @@ public final class JsonParserStream implements Closeable, Flushable {
                 in.endArray();
                 return;
             case BEGIN_OBJECT:
-                final Set<String> namesakes = new HashSet<>();
+                final SeenMembers seen = enterObject();
                 in.beginObject();
                 /*
                  * This allows parsing of incorrectly /as showcased/
@@ -301,48 +508,298 @@ public final class JsonParserStream implements Closeable, Flushable {
                 }
                 while (in.hasNext()) {
                     final String jsonElementName = in.nextName();
-                    final DataSchemaNode parentSchema = parent.getSchema();
-                    final Entry<String, XMLNamespace> namespaceAndName =
-                        resolveNamespace(jsonElementName, parentSchema);
-                    final String localName = namespaceAndName.getKey();
-                    final XMLNamespace namespace = namespaceAndName.getValue();
-                    if (lenient && (localName == null || namespace == null)) {
-                        LOG.debug("Schema node with name {} was not found under {}", localName,
-                            parentSchema.getQName());
-                        in.skipValue();
-                        continue;
+                    final Member member = enterMember(in, jsonElementName, parent.getSchema(), seen);
+                    if (member != null) {
+                        readChild(in, (CompositeNodeDataWithSchema<?>) parent, member, jsonElementName);
+                        removeNamespace();
                     }
-                    addNamespace(namespace);
-                    if (!namesakes.add(jsonElementName)) {
-                        throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
-                    }
-
-                    final Deque<DataSchemaNode> childDataSchemaNodes =
-                            ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, localName,
-                                getCurrentNamespace());
-                    checkState(!childDataSchemaNodes.isEmpty(),
-                        "Schema for node with name %s and namespace %s does not exist at %s",
-                        localName, getCurrentNamespace(), parentSchema);
-
-                    final QName qname = childDataSchemaNodes.peekLast().getQName();
-                    final AbstractNodeDataWithSchema<?> newChild = ((CompositeNodeDataWithSchema<?>) parent)
-                            .addChild(childDataSchemaNodes, ChildReusePolicy.NOOP);
-                    if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
-                        readAnyXmlValue(in, anyxml, jsonElementName);
-                    } else {
-                        stack.enterDataTree(qname);
-                        read(in, newChild);
-                        stack.exit();
-                    }
-                    removeNamespace();
                 }
                 in.endObject();
+                exitObject();
                 return;
             default:
                 break;
         }
     }
 
+    /**
+     * Start reading an object, returning the tracker of its members. The caller is responsible for calling
+     * {@link #exitObject()} once the object is consumed.
+     */
+    private SeenMembers enterObject() {
+        if (objectDepth == seenMembers.size()) {
+            seenMembers.add(new SeenMembers());
+        }
+        final var seen = seenMembers.get(objectDepth++);
+        seen.reset();
+        return seen;
+    }
+
+    private void exitObject() {
+        objectDepth--;
+    }
+
+    /**
+     * Resolve the schema of an object member and enter its namespace. If the member is to be skipped, its value is
+     * consumed and {@code null} is returned, otherwise the caller is responsible for calling {@link #removeNamespace()}
+     * once the value is consumed. Resolved members are cached, so that each distinct name is resolved only once for
+     * each schema node.
+     */
+    private @Nullable Member enterMember(final JsonReader in, final String jsonElementName,
+            final DataSchemaNode parentSchema, final SeenMembers seen) throws IOException {
+        final var context = getCurrentNamespace();
+        final var parentMembers = members.computeIfAbsent(parentSchema, key -> new HashMap<>());
+        var member = parentMembers.get(jsonElementName);
+        if (member == null || !Objects.equals(context, member.context())) {
+            member = resolveMember(jsonElementName, parentSchema, context,
+                member == null ? parentMembers.size() : member.index());
+            if (member == null) {
+                // Skipped members are not cached, so that unknown names do not grow the cache
+                in.skipValue();
+                return null;
+            }
+            parentMembers.put(jsonElementName, member);
+        }
+
+        addNamespace(member.namespace());
+        if (!seen.add(member)) {
+            throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
+        }
+        return member;
+    }
+
+    private @Nullable Member resolveMember(final String jsonElementName, final DataSchemaNode parentSchema,
+            final @Nullable XMLNamespace context, final int index) {
+        final Entry<String, XMLNamespace> namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
+        final String localName = namespaceAndName.getKey();
+        final XMLNamespace namespace = namespaceAndName.getValue();
+        if (lenient && (localName == null || namespace == null)) {
+            LOG.debug("Schema node with name {} was not found under {}", localName, parentSchema.getQName());
+            return null;
+        }
+
+        final Deque<DataSchemaNode> childDataSchemaNodes =
+                ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, localName, namespace);
+        checkState(!childDataSchemaNodes.isEmpty(),
+            "Schema for node with name %s and namespace %s does not exist at %s", localName, namespace, parentSchema);
+        return new Member(context, namespace, ImmutableList.copyOf(childDataSchemaNodes), index);
+    }
+
+    private void readChild(final JsonReader in, final CompositeNodeDataWithSchema<?> parent, final Member member,
+            final String jsonElementName) throws IOException {
+        // addChild() consumes the schema nodes it is given
+        final AbstractNodeDataWithSchema<?> newChild = parent.addChild(new ArrayDeque<>(member.schemas()),
+            ChildReusePolicy.NOOP);
+        if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
+            readAnyXmlValue(in, anyxml, jsonElementName);
+        } else {
+            stack.enterDataTree(member.schema().getQName());
+            read(in, newChild);
+            stack.exit();
+        }
+    }
+
+    /**
+     * Stream the members of a JSON object as children of specified schema node. If {@code mapEntry} is {@code true},
+     * the schema node is a keyed list and the corresponding map entry is started as soon as all of its key leaves have
+     * been read. Members preceding that point are buffered, as are any choice members, which are emitted when the
+     * object ends.
+     */
+    private void streamMembers(final JsonReader in, final DataSchemaNode parentSchema, final boolean mapEntry)
+            throws IOException {
+        final SeenMembers seen = enterObject();
+        // Key leaves read so far, non-null only until the map entry is started
+        Map<QName, LeafNodeDataWithSchema> keys = mapEntry ? new HashMap<>() : null;
+        // Members read before the map entry has been started
+        CompositeNodeDataWithSchema<?> pending = null;
+        // Members of choices
+        CompositeNodeDataWithSchema<?> deferred = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            final String jsonElementName = in.nextName();
+            final Member member = enterMember(in, jsonElementName, parentSchema, seen);
+            if (member == null) {
+                continue;
+            }
+
+            final DataSchemaNode childSchema = member.schema();
+            if (member.isInChoice()) {
+                // Nested in a choice
+                if (deferred == null) {
+                    deferred = new CompositeNodeDataWithSchema<>(parentSchema);
+                }
+                readChild(in, deferred, member, jsonElementName);
+            } else if (keys == null) {
+                streamChild(in, childSchema, jsonElementName);
+            } else {
+                final var list = (ListSchemaNode) parentSchema;
+                if (childSchema instanceof LeafSchemaNode && list.getKeyDefinition().contains(childSchema.getQName())) {
+                    final var key = (LeafNodeDataWithSchema) AbstractNodeDataWithSchema.of(childSchema);
+                    stack.enterDataTree(childSchema.getQName());
+                    read(in, key);
+                    stack.exit();
+                    keys.put(childSchema.getQName(), key);
+
+                    if (keys.size() == list.getKeyDefinition().size()) {
+                        startMapEntry(list, keys);
+                        if (pending != null) {
+                            pending.write(writer);
+                            pending = null;
+                        }
+                        keys = null;
+                    }
+                } else {
+                    if (pending == null) {
+                        pending = new CompositeNodeDataWithSchema<>(parentSchema);
+                    }
+                    readChild(in, pending, member, jsonElementName);
+                }
+            }
+            removeNamespace();
+        }
+        in.endObject();
+        exitObject();
+
+        if (keys != null) {
+            final var missing = new ArrayList<>(((ListSchemaNode) parentSchema).getKeyDefinition());
+            missing.removeAll(keys.keySet());
+            throw new IllegalStateException("Entry of list " + parentSchema.getQName() + " is missing keys " + missing);
+        }
+        if (deferred != null) {
+            deferred.write(writer);
+        }
+    }
+
+    private void streamChild(final JsonReader in, final DataSchemaNode schema, final String jsonElementName)
+            throws IOException {
+        if (schema instanceof ContainerLike) {
+            checkObject(in, schema);
+            stack.enterDataTree(schema.getQName());
+            writer.nextDataSchemaNode(schema);
+            writer.startContainerNode(NodeIdentifier.create(schema.getQName()),
+                NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            streamMembers(in, schema, false);
+            writer.endNode();
+            stack.exit();
+        } else if (schema instanceof ListSchemaNode list) {
+            stack.enterDataTree(list.getQName());
+            streamList(in, list);
+            stack.exit();
+        } else if (schema instanceof LeafListSchemaNode leafList) {
+            stack.enterDataTree(leafList.getQName());
+            streamLeafList(in, leafList);
+            stack.exit();
+        } else {
+            // Leaves, anyxml and anydata are small enough to go through the usual buffering
+            final var child = AbstractNodeDataWithSchema.of(schema);
+            if (child instanceof AnyXmlNodeDataWithSchema anyxml) {
+                readAnyXmlValue(in, anyxml, jsonElementName);
+            } else {
+                stack.enterDataTree(schema.getQName());
+                read(in, child);
+                stack.exit();
+            }
+            child.write(writer);
+        }
+    }
+
+    private void streamList(final JsonReader in, final ListSchemaNode schema) throws IOException {
+        final var identifier = NodeIdentifier.create(schema.getQName());
+        final boolean keyed = !schema.getKeyDefinition().isEmpty();
+        writer.nextDataSchemaNode(schema);
+        if (!keyed) {
+            writer.startUnkeyedList(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else if (schema.isUserOrdered()) {
+            writer.startOrderedMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        if (in.peek() == JsonToken.BEGIN_ARRAY) {
+            in.beginArray();
+            while (in.hasNext()) {
+                streamListEntry(in, schema, identifier, keyed);
+            }
+            in.endArray();
+        } else {
+            // Single entry without the wrapping array, see read()
+            streamListEntry(in, schema, identifier, keyed);
+        }
+        writer.endNode();
+    }
+
+    private void streamListEntry(final JsonReader in, final ListSchemaNode schema, final NodeIdentifier identifier,
+            final boolean keyed) throws IOException {
+        checkObject(in, schema);
+        if (!keyed) {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+        streamMembers(in, schema, keyed);
+        writer.endNode();
+    }
+
+    private void startMapEntry(final ListSchemaNode schema, final Map<QName, LeafNodeDataWithSchema> keys)
+            throws IOException {
+        final var keyDef = schema.getKeyDefinition();
+        final NodeIdentifierWithPredicates identifier;
+        if (keyDef.size() == 1) {
+            final var key = keyDef.get(0);
+            identifier = NodeIdentifierWithPredicates.of(schema.getQName(), key, keys.get(key).getValue());
+        } else {
+            final var predicates = ImmutableMap.<QName, Object>builderWithExpectedSize(keyDef.size());
+            for (var key : keyDef) {
+                predicates.put(key, keys.get(key).getValue());
+            }
+            identifier = NodeIdentifierWithPredicates.of(schema.getQName(), predicates.build());
+        }
+
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        for (var key : keyDef) {
+            keys.get(key).write(writer);
+        }
+    }
+
+    private void streamLeafList(final JsonReader in, final LeafListSchemaNode schema) throws IOException {
+        final var token = in.peek();
+        checkArgument(token == JsonToken.BEGIN_ARRAY, "Expected an array for %s, found %s", schema.getQName(), token);
+        final var qname = schema.getQName();
+        writer.nextDataSchemaNode(schema);
+        if (schema.isUserOrdered()) {
+            writer.startOrderedLeafSet(NodeIdentifier.create(qname), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(NodeIdentifier.create(qname), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            final String value = switch (in.peek()) {
+                case STRING, NUMBER -> in.nextString();
+                case BOOLEAN -> Boolean.toString(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    yield null;
+                }
+                default -> throw new IllegalStateException("Found an unexpected " + in.peek() + " nested under "
+                    + qname);
+            };
+            final Object translatedValue = requireNonNull(translateValueByType(value, schema));
+            writer.nextDataSchemaNode(schema);
+            writer.startLeafSetEntryNode(new NodeWithValue<>(qname, translatedValue));
+            writer.scalarValue(translatedValue);
+            writer.endNode();
+        }
+        in.endArray();
+        writer.endNode();
+    }
+
+    private static void checkObject(final JsonReader in, final DataSchemaNode schema) throws IOException {
+        final var token = in.peek();
+        checkArgument(token == JsonToken.BEGIN_OBJECT, "Expected an object for %s, found %s", schema.getQName(), token);
+    }
+
     private static boolean isArray(final AbstractNodeDataWithSchema<?> parent) {
         return parent instanceof ListNodeDataWithSchema || parent instanceof LeafListNodeDataWithSchema;
     }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import com.google.common.annotations.Beta;
+import com.google.gson.stream.JsonReader;
+import java.io.InputStream;
+
+/**
+ * Factory Method class for JsonReader creation.
+ */
+@Beta
+public final class JsonReaderFactory {
+    private JsonReaderFactory() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Create a new JsonReader, which reads UTF-8 encoded input directly from the specified input stream. This avoids
+     * the overhead of decoding the input through a {@link java.io.Reader} and of allocating repeated member names,
+     * hence it is preferable to wrapping the stream with an {@link java.io.InputStreamReader}, for example when
+     * feeding {@link JsonParserStream}.
+     *
+     * <p>
+     * The returned reader always enforces RFC8259 syntax, comments and unquoted or single-quoted strings are rejected
+     * even when it is set to be lenient. Leniency only allows multiple top-level values to be read.
+     *
+     * @param stream Input stream
+     * @return A JsonReader instance
+     * @throws NullPointerException if {@code stream} is null
+     */
+    public static JsonReader createUtf8JsonReader(final InputStream stream) {
+        return new Utf8JsonReader(stream);
+    }
+}
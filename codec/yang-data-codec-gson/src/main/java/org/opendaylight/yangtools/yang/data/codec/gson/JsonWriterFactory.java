@@ -7,7 +7,9 @@
  */
 package org.opendaylight.yangtools.yang.data.codec.gson;
 
+import com.google.common.annotations.Beta;
 import com.google.gson.stream.JsonWriter;
+import java.io.OutputStream;
 import java.io.Writer;
 
 /**
@@ -40,4 +42,33 @@ public final class JsonWriterFactory {
         jsonWriter.setIndent(" ".repeat(indentSize));
         return jsonWriter;
     }
+
+    /**
+     * Create a new JsonWriter, which writes UTF-8 encoded output directly to the specified output stream. This avoids
+     * the overhead of encoding the output through a {@link Writer} and of escaping repeated member names, hence it is
+     * preferable to wrapping the stream with an {@link java.io.OutputStreamWriter}. Output is buffered internally, it
+     * is written out when {@link JsonWriter#flush()} or {@link JsonWriter#close()} is invoked.
+     *
+     * @param stream Output stream
+     * @return A JsonWriter instance
+     * @throws NullPointerException if {@code stream} is null
+     */
+    @Beta
+    public static JsonWriter createUtf8JsonWriter(final OutputStream stream) {
+        return new Utf8JsonWriter(stream, "");
+    }
+
+    /**
+     * Create a new JsonWriter, which writes UTF-8 encoded output directly to the specified output stream, as
+     * {@link #createUtf8JsonWriter(OutputStream)} does.
+     *
+     * @param stream Output stream
+     * @param indentSize size of the indent
+     * @return A JsonWriter instance
+     * @throws NullPointerException if {@code stream} is null
+     */
+    @Beta
+    public static JsonWriter createUtf8JsonWriter(final OutputStream stream, final int indentSize) {
+        return new Utf8JsonWriter(stream, " ".repeat(indentSize));
+    }
 }
@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A {@link JsonReader} tokenizing UTF-8 encoded bytes directly, without decoding them through a {@link Reader} first.
+ * Member names are looked up in a small direct-mapped table keyed by their encoded bytes, so that names repeating
+ * throughout a document, such as those of list entry members, are decoded once and subsequent occurrences are
+ * returned without allocating.
+ *
+ * <p>
+ * This reader implements the RFC8259 grammar. Unlike {@link JsonReader}, {@link #setLenient(boolean)} only controls
+ * whether multiple top-level values are accepted: comments, unquoted and single-quoted strings are always rejected.
+ * Paths are not tracked, hence {@link #getPath()} does not reflect the position of this reader.
+ */
+final class Utf8JsonReader extends JsonReader {
+    private static final int BUFFER_SIZE = 8192;
+    // Must be a power of two
+    private static final int NAME_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_NAME_LENGTH = 64;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+    private static final int CLOSED = 7;
+
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+    private final byte[][] nameBytes = new byte[NAME_CACHE_SIZE][];
+    private final String[] nameStrings = new String[NAME_CACHE_SIZE];
+    private final InputStream in;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private char[] chars;
+    private int pos;
+    private int limit;
+    // Number of bytes discarded from the start of buffer, used to report error locations
+    private long offset;
+
+    private int[] stack = new int[32];
+    private int stackSize;
+
+    private JsonToken peeked;
+    private boolean peekedBoolean;
+    // Properties of the last string scanned by scanString()
+    private boolean stringEscaped;
+    private boolean stringNonAscii;
+
+    Utf8JsonReader(final InputStream in) {
+        super(Reader.nullReader());
+        this.in = requireNonNull(in);
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stackSize--;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stackSize--;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final var token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        var token = peeked;
+        if (token == null) {
+            peeked = token = doPeek();
+        }
+        return token;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        final int end = scanString();
+        final String name = !stringEscaped && !stringNonAscii ? cachedName(end) : decodeString(end);
+        pos = end + 1;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final var token = peek();
+        return switch (token) {
+            case STRING -> {
+                peeked = null;
+                final int end = scanString();
+                final String str = decodeString(end);
+                pos = end + 1;
+                yield str;
+            }
+            case NUMBER -> {
+                peeked = null;
+                final int length = scanNumber();
+                final String str = new String(buffer, pos, length, StandardCharsets.ISO_8859_1);
+                pos += length;
+                yield str;
+            }
+            default -> throw unexpected("a string", token);
+        };
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        return peekedBoolean;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        final double result = Double.parseDouble(nextNumber("a double"));
+        if (!isLenient() && (Double.isNaN(result) || Double.isInfinite(result))) {
+            throw syntaxError("JSON forbids NaN and infinities: " + result);
+        }
+        return result;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return Long.parseLong(nextNumber("a long"));
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return Integer.parseInt(nextNumber("an int"));
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            final var token = peek();
+            switch (token) {
+                case BEGIN_ARRAY -> {
+                    push(EMPTY_ARRAY);
+                    depth++;
+                }
+                case BEGIN_OBJECT -> {
+                    push(EMPTY_OBJECT);
+                    depth++;
+                }
+                case END_ARRAY, END_OBJECT -> {
+                    if (depth == 0) {
+                        throw unexpected("a value", token);
+                    }
+                    stackSize--;
+                    depth--;
+                }
+                case NAME, STRING -> pos = scanString() + 1;
+                case NUMBER -> {
+                    // scanNumber() may move pos, hence it has to be invoked before pos is read
+                    final int length = scanNumber();
+                    pos += length;
+                }
+                case BOOLEAN, NULL -> {
+                    // Already consumed by doPeek()
+                }
+                case END_DOCUMENT -> throw unexpected("a value", token);
+                default -> throw new IllegalStateException("Unhandled token " + token);
+            }
+            peeked = null;
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        stack[0] = CLOSED;
+        stackSize = 1;
+        in.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + location();
+    }
+
+    private void expect(final JsonToken expected) throws IOException {
+        final var token = peek();
+        if (token != expected) {
+            throw unexpected(expected.toString(), token);
+        }
+        peeked = null;
+    }
+
+    private String nextNumber(final String expected) throws IOException {
+        final var token = peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw unexpected(expected, token);
+        }
+        return nextString();
+    }
+
+    private void push(final int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    /**
+     * Determine the next token, consuming any separators preceding it. Brackets and literals are consumed as well,
+     * strings and names are consumed up to and including their opening quote, numbers are not consumed at all.
+     */
+    private JsonToken doPeek() throws IOException {
+        final int scope = stack[stackSize - 1];
+        switch (scope) {
+            case EMPTY_ARRAY -> stack[stackSize - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> {
+                final int ch = nextNonWhitespace();
+                if (ch == ']') {
+                    pos++;
+                    return JsonToken.END_ARRAY;
+                }
+                if (ch != ',') {
+                    throw syntaxError("Unterminated array");
+                }
+                pos++;
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                stack[stackSize - 1] = DANGLING_NAME;
+                int ch = nextNonWhitespace();
+                if (ch == '}') {
+                    pos++;
+                    return JsonToken.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (ch != ',') {
+                        throw syntaxError("Unterminated object");
+                    }
+                    pos++;
+                    ch = nextNonWhitespace();
+                }
+                if (ch != '"') {
+                    throw syntaxError("Expected name");
+                }
+                pos++;
+                return JsonToken.NAME;
+            }
+            case DANGLING_NAME -> {
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                pos++;
+            }
+            case EMPTY_DOCUMENT -> stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+            case NONEMPTY_DOCUMENT -> {
+                if (skipWhitespace() == -1) {
+                    return JsonToken.END_DOCUMENT;
+                }
+                if (!isLenient()) {
+                    throw syntaxError("Multiple top-level values are allowed only in lenient mode");
+                }
+            }
+            default -> throw new IllegalStateException("JsonReader is closed");
+        }
+
+        final int ch = nextNonWhitespace();
+        if (ch == ']' && scope == EMPTY_ARRAY) {
+            pos++;
+            return JsonToken.END_ARRAY;
+        }
+        switch (ch) {
+            case '"' -> {
+                pos++;
+                return JsonToken.STRING;
+            }
+            case '{' -> {
+                pos++;
+                return JsonToken.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                pos++;
+                return JsonToken.BEGIN_ARRAY;
+            }
+            case 't' -> {
+                consumeLiteral(TRUE);
+                peekedBoolean = true;
+                return JsonToken.BOOLEAN;
+            }
+            case 'f' -> {
+                consumeLiteral(FALSE);
+                peekedBoolean = false;
+                return JsonToken.BOOLEAN;
+            }
+            case 'n' -> {
+                consumeLiteral(NULL);
+                return JsonToken.NULL;
+            }
+            default -> {
+                if (ch == '-' || isDigit(ch)) {
+                    return JsonToken.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) ch + "'");
+            }
+        }
+    }
+
+    private void consumeLiteral(final byte[] literal) throws IOException {
+        for (int i = 1; i < literal.length; i++) {
+            if (byteAt(i) != literal[i]) {
+                throw syntaxError("Malformed literal");
+            }
+        }
+        if (!isDelimiter(byteAt(literal.length))) {
+            throw syntaxError("Malformed literal");
+        }
+        pos += literal.length;
+    }
+
+    /**
+     * Scan the number starting at {@link #pos}, ensuring it is completely buffered.
+     *
+     * @return length of the number
+     */
+    private int scanNumber() throws IOException {
+        int length = 0;
+        int ch = byteAt(length);
+        if (ch == '-') {
+            ch = byteAt(++length);
+        }
+        if (ch == '0') {
+            ch = byteAt(++length);
+        } else if (isDigit(ch)) {
+            do {
+                ch = byteAt(++length);
+            } while (isDigit(ch));
+        } else {
+            throw syntaxError("Malformed number");
+        }
+        if (ch == '.') {
+            ch = byteAt(++length);
+            if (!isDigit(ch)) {
+                throw syntaxError("Malformed number");
+            }
+            do {
+                ch = byteAt(++length);
+            } while (isDigit(ch));
+        }
+        if (ch == 'e' || ch == 'E') {
+            ch = byteAt(++length);
+            if (ch == '+' || ch == '-') {
+                ch = byteAt(++length);
+            }
+            if (!isDigit(ch)) {
+                throw syntaxError("Malformed number");
+            }
+            do {
+                ch = byteAt(++length);
+            } while (isDigit(ch));
+        }
+        if (!isDelimiter(ch)) {
+            throw syntaxError("Malformed number");
+        }
+        return length;
+    }
+
+    /**
+     * Scan the string starting at {@link #pos}, just after its opening quote, ensuring it is completely buffered. Sets
+     * {@link #stringEscaped} and {@link #stringNonAscii} to reflect its contents.
+     *
+     * @return index of the closing quote in {@link #buffer}
+     */
+    private int scanString() throws IOException {
+        boolean escaped = false;
+        boolean nonAscii = false;
+        int index = pos;
+        while (true) {
+            while (index < limit) {
+                final byte b = buffer[index];
+                if (b == '"') {
+                    stringEscaped = escaped;
+                    stringNonAscii = nonAscii;
+                    return index;
+                }
+                if (b == '\\') {
+                    escaped = true;
+                    index += 2;
+                } else {
+                    nonAscii |= b < 0;
+                    index++;
+                }
+            }
+
+            final int scanned = index - pos;
+            if (!fill(scanned + 1)) {
+                throw new EOFException("Unterminated string" + location());
+            }
+            index = pos + scanned;
+        }
+    }
+
+    private String cachedName(final int end) {
+        final int length = end - pos;
+        if (length > MAX_CACHED_NAME_LENGTH) {
+            return new String(buffer, pos, length, StandardCharsets.ISO_8859_1);
+        }
+
+        int hash = 0;
+        for (int i = pos; i < end; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        final int slot = (hash ^ hash >>> 16) & NAME_CACHE_SIZE - 1;
+        final byte[] cached = nameBytes[slot];
+        if (cached != null && Arrays.equals(cached, 0, cached.length, buffer, pos, end)) {
+            return nameStrings[slot];
+        }
+
+        final String name = new String(buffer, pos, length, StandardCharsets.ISO_8859_1);
+        nameBytes[slot] = Arrays.copyOfRange(buffer, pos, end);
+        nameStrings[slot] = name;
+        return name;
+    }
+
+    private String decodeString(final int end) throws MalformedJsonException {
+        final int length = end - pos;
+        if (!stringEscaped && !stringNonAscii) {
+            return new String(buffer, pos, length, StandardCharsets.ISO_8859_1);
+        }
+
+        // Decoding never produces more chars than there are bytes
+        if (chars == null || chars.length < length) {
+            chars = new char[Math.max(length, 64)];
+        }
+        int count = 0;
+        int index = pos;
+        while (index < end) {
+            final byte b = buffer[index++];
+            if (b == '\\') {
+                final byte escape = buffer[index++];
+                chars[count++] = switch (escape) {
+                    case '"', '\\', '/' -> (char) escape;
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 't' -> '\t';
+                    case 'u' -> {
+                        if (index + 4 > end) {
+                            throw syntaxError("Unterminated escape sequence");
+                        }
+                        int value = 0;
+                        for (int i = 0; i < 4; i++) {
+                            final int digit = Character.digit(buffer[index++], 16);
+                            if (digit == -1) {
+                                throw syntaxError("Malformed escape sequence");
+                            }
+                            value = value << 4 | digit;
+                        }
+                        yield (char) value;
+                    }
+                    default -> throw syntaxError("Invalid escape sequence '\\" + (char) escape + "'");
+                };
+            } else if (b >= 0) {
+                chars[count++] = (char) b;
+            } else {
+                final int following;
+                int codePoint;
+                if ((b & 0xE0) == 0xC0) {
+                    following = 1;
+                    codePoint = b & 0x1F;
+                } else if ((b & 0xF0) == 0xE0) {
+                    following = 2;
+                    codePoint = b & 0x0F;
+                } else if ((b & 0xF8) == 0xF0) {
+                    following = 3;
+                    codePoint = b & 0x07;
+                } else {
+                    throw syntaxError("Malformed UTF-8 input");
+                }
+                if (index + following > end) {
+                    throw syntaxError("Malformed UTF-8 input");
+                }
+                for (int i = 0; i < following; i++) {
+                    final byte next = buffer[index++];
+                    if ((next & 0xC0) != 0x80) {
+                        throw syntaxError("Malformed UTF-8 input");
+                    }
+                    codePoint = codePoint << 6 | next & 0x3F;
+                }
+                if (!Character.isValidCodePoint(codePoint)) {
+                    throw syntaxError("Malformed UTF-8 input");
+                }
+                count += Character.toChars(codePoint, chars, count);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        final int ch = skipWhitespace();
+        if (ch == -1) {
+            throw new EOFException("End of input" + location());
+        }
+        return ch;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                return -1;
+            }
+            final int ch = buffer[pos] & 0xFF;
+            if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') {
+                return ch;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Return the byte at specified offset from {@link #pos}, reading more input if needed.
+     *
+     * @return unsigned byte value, or {@code -1} if the input ends before that offset
+     */
+    private int byteAt(final int index) throws IOException {
+        if (pos + index >= limit && !fill(index + 1)) {
+            return -1;
+        }
+        return buffer[pos + index] & 0xFF;
+    }
+
+    /**
+     * Ensure at least {@code minimum} bytes are available starting at {@link #pos}. This may move the buffered bytes,
+     * invalidating any indices other than {@link #pos} and {@link #limit}.
+     */
+    private boolean fill(final int minimum) throws IOException {
+        if (pos != 0) {
+            offset += pos;
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        if (minimum > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(minimum, buffer.length * 2));
+        }
+        while (limit < minimum) {
+            final int read = in.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                return false;
+            }
+            limit += read;
+        }
+        return true;
+    }
+
+    private MalformedJsonException syntaxError(final String message) {
+        return new MalformedJsonException(message + location());
+    }
+
+    private IllegalStateException unexpected(final String expected, final JsonToken actual) {
+        return new IllegalStateException("Expected " + expected + " but was " + actual + location());
+    }
+
+    private String location() {
+        return " at byte " + (offset + pos);
+    }
+
+    private static boolean isDigit(final int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isDelimiter(final int ch) {
+        return switch (ch) {
+            case -1, ' ', '\t', '\n', '\r', ',', ']', '}' -> true;
+            default -> false;
+        };
+    }
+}
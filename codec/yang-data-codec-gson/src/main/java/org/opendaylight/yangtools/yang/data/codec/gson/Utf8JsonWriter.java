@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A {@link JsonWriter} encoding its output to UTF-8 bytes directly, without going through a {@link Writer}. Strings are
+ * escaped exactly as {@link JsonWriter} does and encoded in a single pass into an internal buffer, which is written to
+ * the backing {@link OutputStream} when it fills up or when {@link #flush()} is invoked. Encoded member names are
+ * retained, so that names repeating throughout a document, such as those of list entry members, are encoded only once.
+ *
+ * <p>
+ * Indentation is fixed when this writer is instantiated, {@link #setIndent(String)} has no effect.
+ */
+final class Utf8JsonWriter extends JsonWriter {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_CACHED_NAMES = 1024;
+    // Longest encoding of a single char, which is a six-character unicode escape
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] COLON = ascii(":");
+    private static final byte[] COLON_SPACE = ascii(": ");
+    private static final byte[] LINE_SEPARATOR = unicodeEscape('\u2028');
+    private static final byte[] PARAGRAPH_SEPARATOR = unicodeEscape('\u2029');
+
+    // Same replacements JsonWriter uses
+    private static final byte[][] REPLACEMENT_BYTES;
+    private static final byte[][] HTML_SAFE_REPLACEMENT_BYTES;
+
+    static {
+        final var replacements = new byte[128][];
+        for (int i = 0; i < 0x20; i++) {
+            replacements[i] = unicodeEscape(i);
+        }
+        replacements['"'] = ascii("\\\"");
+        replacements['\\'] = ascii("\\\\");
+        replacements['\t'] = ascii("\\t");
+        replacements['\b'] = ascii("\\b");
+        replacements['\n'] = ascii("\\n");
+        replacements['\r'] = ascii("\\r");
+        replacements['\f'] = ascii("\\f");
+        REPLACEMENT_BYTES = replacements;
+
+        final var htmlSafe = replacements.clone();
+        htmlSafe['<'] = unicodeEscape('<');
+        htmlSafe['>'] = unicodeEscape('>');
+        htmlSafe['&'] = unicodeEscape('&');
+        htmlSafe['='] = unicodeEscape('=');
+        htmlSafe['\''] = unicodeEscape('\'');
+        HTML_SAFE_REPLACEMENT_BYTES = htmlSafe;
+    }
+
+    private final HashMap<String, byte[]> names = new HashMap<>();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final OutputStream out;
+    private final byte[] indent;
+    private final byte[] separator;
+    private int pos;
+
+    private int[] stack = new int[32];
+    private int stackSize;
+    private String deferredName;
+
+    Utf8JsonWriter(final OutputStream out, final String indent) {
+        super(Writer.nullWriter());
+        this.out = requireNonNull(out);
+        if (indent.isEmpty()) {
+            this.indent = null;
+            separator = COLON;
+        } else {
+            this.indent = indent.getBytes(StandardCharsets.UTF_8);
+            separator = COLON_SPACE;
+        }
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writeDeferredName();
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writeDeferredName();
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        requireNonNull(name, "name == null");
+        if (deferredName != null) {
+            throw new IllegalStateException("Already wrote a name, expecting a value.");
+        }
+        final int context = peekScope();
+        if (context != EMPTY_OBJECT && context != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Please begin an object before writing a name.");
+        }
+        deferredName = name;
+        return this;
+    }
+
+    /**
+     * Write a member name, which has already been encoded by {@link #encodeName(String)}. This is equivalent to
+     * {@link #name(String)}, except the name is written out immediately and it is not subject to HTML-safe escaping.
+     *
+     * @param encodedName encoded name
+     * @throws IOException if an I/O error occurs
+     */
+    void name(final byte[] encodedName) throws IOException {
+        if (deferredName != null) {
+            throw new IllegalStateException("Already wrote a name, expecting a value.");
+        }
+        final int context = peekScope();
+        if (context == NONEMPTY_OBJECT) {
+            writeByte(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Please begin an object before writing a name.");
+        }
+        newline();
+        stack[stackSize - 1] = DANGLING_NAME;
+        writeBytes(encodedName);
+    }
+
+    /**
+     * Encode a member name for use with {@link #name(byte[])}. The result is the quoted and escaped UTF-8 encoding of
+     * the name.
+     *
+     * @param name name to encode
+     * @return encoded name
+     */
+    static byte[] encodeName(final String name) {
+        final var out = new ByteArrayOutputStream(name.length() + 2);
+        final var writer = new Utf8JsonWriter(out, "");
+        try {
+            writer.writeString(name);
+            writer.flushBuffer();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode " + name, e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(final float value) throws IOException {
+        if (!isLenient() && (Float.isNaN(value) || Float.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeDeferredName();
+        beforeValue();
+        writeRaw(Float.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final double value) throws IOException {
+        if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        writeDeferredName();
+        beforeValue();
+        writeRaw(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final long value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        final var str = value.toString();
+        if (!isLenient() && ("-Infinity".equals(str) || "Infinity".equals(str) || "NaN".equals(str))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + str);
+        }
+        writeDeferredName();
+        beforeValue();
+        writeRaw(str);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(final String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue();
+        writeRaw(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (deferredName != null) {
+            if (!getSerializeNulls()) {
+                // Skip the name and the value
+                deferredName = null;
+                return this;
+            }
+            writeDeferredName();
+        }
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+
+        if (stackSize > 1 || stackSize == 1 && stack[0] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+        stackSize = 0;
+    }
+
+    private JsonWriter close(final int empty, final int nonempty, final char closeBracket) throws IOException {
+        final int context = peekScope();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        if (deferredName != null) {
+            throw new IllegalStateException("Dangling name: " + deferredName);
+        }
+
+        stackSize--;
+        if (context == nonempty) {
+            newline();
+        }
+        writeByte(closeBracket);
+        return this;
+    }
+
+    private JsonWriter open(final int empty, final char openBracket) throws IOException {
+        beforeValue();
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = empty;
+        writeByte(openBracket);
+        return this;
+    }
+
+    private int peekScope() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredName != null) {
+            final int context = peekScope();
+            if (context == NONEMPTY_OBJECT) {
+                writeByte(',');
+            } else if (context != EMPTY_OBJECT) {
+                throw new IllegalStateException("Nesting problem.");
+            }
+            newline();
+            stack[stackSize - 1] = DANGLING_NAME;
+            writeName(deferredName);
+            deferredName = null;
+        }
+    }
+
+    private void beforeValue() throws IOException {
+        switch (peekScope()) {
+            case NONEMPTY_DOCUMENT -> {
+                if (!isLenient()) {
+                    throw new IllegalStateException("JSON must have only one top-level value.");
+                }
+            }
+            case EMPTY_DOCUMENT -> stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+            case EMPTY_ARRAY -> {
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                newline();
+            }
+            case NONEMPTY_ARRAY -> {
+                writeByte(',');
+                newline();
+            }
+            case DANGLING_NAME -> {
+                writeBytes(separator);
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+            }
+            default -> throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private void newline() throws IOException {
+        if (indent != null) {
+            writeByte('\n');
+            for (int i = 1; i < stackSize; i++) {
+                writeBytes(indent);
+            }
+        }
+    }
+
+    private void writeName(final String name) throws IOException {
+        final var cached = names.get(name);
+        if (cached != null) {
+            writeBytes(cached);
+            return;
+        }
+
+        // Reserve enough space to encode the name in one go, so it can be copied from the buffer afterwards. We do not
+        // cache names while HTML-safe escaping is enabled, as it can be disabled at any time.
+        final int maxLength = name.length() * MAX_CHAR_BYTES + 2;
+        if (isHtmlSafe() || names.size() >= MAX_CACHED_NAMES || maxLength > BUFFER_SIZE) {
+            writeString(name);
+            return;
+        }
+        if (buffer.length - pos < maxLength) {
+            flushBuffer();
+        }
+        final int start = pos;
+        writeString(name);
+        names.put(name, Arrays.copyOfRange(buffer, start, pos));
+    }
+
+    private void writeString(final String value) throws IOException {
+        final var replacements = isHtmlSafe() ? HTML_SAFE_REPLACEMENT_BYTES : REPLACEMENT_BYTES;
+        writeByte('"');
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (buffer.length - pos < MAX_CHAR_BYTES) {
+                flushBuffer();
+            }
+
+            final char ch = value.charAt(i);
+            if (ch < 0x80) {
+                final var replacement = replacements[ch];
+                if (replacement == null) {
+                    buffer[pos++] = (byte) ch;
+                } else {
+                    System.arraycopy(replacement, 0, buffer, pos, replacement.length);
+                    pos += replacement.length;
+                }
+            } else if (ch == '\u2028' || ch == '\u2029') {
+                final var replacement = ch == '\u2028' ? LINE_SEPARATOR : PARAGRAPH_SEPARATOR;
+                System.arraycopy(replacement, 0, buffer, pos, replacement.length);
+                pos += replacement.length;
+            } else {
+                i = encodeNonAscii(value, i, ch);
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeRaw(final String value) throws IOException {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (buffer.length - pos < MAX_CHAR_BYTES) {
+                flushBuffer();
+            }
+            final char ch = value.charAt(i);
+            if (ch < 0x80) {
+                buffer[pos++] = (byte) ch;
+            } else {
+                i = encodeNonAscii(value, i, ch);
+            }
+        }
+    }
+
+    /**
+     * Encode a non-ASCII character into the buffer, which needs to have at least 4 bytes available.
+     *
+     * @return index of the last character consumed
+     */
+    private int encodeNonAscii(final String value, final int index, final char ch) {
+        if (ch < 0x800) {
+            buffer[pos++] = (byte) (0xC0 | ch >> 6);
+            buffer[pos++] = (byte) (0x80 | ch & 0x3F);
+            return index;
+        }
+        if (Character.isSurrogate(ch)) {
+            final int next = index + 1;
+            if (Character.isHighSurrogate(ch) && next < value.length()
+                    && Character.isLowSurrogate(value.charAt(next))) {
+                final int codePoint = Character.toCodePoint(ch, value.charAt(next));
+                buffer[pos++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[pos++] = (byte) (0x80 | codePoint & 0x3F);
+                return next;
+            }
+            // Unpaired surrogate: replace it, just as the JDK's UTF-8 encoder does
+            buffer[pos++] = '?';
+            return index;
+        }
+        buffer[pos++] = (byte) (0xE0 | ch >> 12);
+        buffer[pos++] = (byte) (0x80 | ch >> 6 & 0x3F);
+        buffer[pos++] = (byte) (0x80 | ch & 0x3F);
+        return index;
+    }
+
+    private void writeLong(final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(Long.toString(value));
+            return;
+        }
+
+        // Sign and at most 19 digits
+        if (buffer.length - pos < 20) {
+            flushBuffer();
+        }
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[pos++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && remaining >= bound; bound *= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        pos += digits;
+    }
+
+    private void writeByte(final char ch) throws IOException {
+        if (pos == buffer.length) {
+            flushBuffer();
+        }
+        buffer[pos++] = (byte) ch;
+    }
+
+    private void writeBytes(final byte[] bytes) throws IOException {
+        if (buffer.length - pos < bytes.length) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (pos != 0) {
+            out.write(buffer, 0, pos);
+            pos = 0;
+        }
+    }
+
+    private static byte[] ascii(final String str) {
+        return str.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] unicodeEscape(final int ch) {
+        return ascii("\\u%04x".formatted(ch));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
+
+import com.google.gson.stream.JsonReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+
+/**
+ * Tests of {@link JSONNormalizedNodeSerializer}, checking it produces the same output as
+ * {@link JSONNormalizedNodeStreamWriter}.
+ */
+public class JSONNormalizedNodeSerializerTest extends AbstractComplexJsonTest {
+    @Test
+    public void testSameAsStreamWriter() throws IOException, URISyntaxException {
+        final var serializer = JSONNormalizedNodeSerializer.of(lhotkaCodecFactory);
+        for (var file : new String[] {
+            "complex-json.json", "anyxml-node-with-simple-value-in-container.json",
+            "anyxml-node-with-composite-value-in-container.json", "case-node-augmentation-in-choice-in-container.json",
+            "choice-node-in-container.json", "keyed-list-node-in-container.json", "leaflist-node-in-container.json",
+            "unkeyed-node-in-container.json", "type-empty.json"
+        }) {
+            assertSameAsStreamWriter(serializer, parse("/complexjson/" + file));
+        }
+    }
+
+    @Test
+    public void testEmptyContainersSameAsStreamWriter() throws IOException {
+        final var serializer = JSONNormalizedNodeSerializer.of(lhotkaCodecFactory);
+        // Empty non-presence containers are omitted, empty presence containers are not
+        assertSameAsStreamWriter(serializer, TestingNormalizedNodeStructuresCreator.topLevelContainer());
+        assertSameAsStreamWriter(serializer, TestingNormalizedNodeStructuresCreator.emptyContainerInContainer());
+        assertSameAsStreamWriter(serializer, TestingNormalizedNodeStructuresCreator.cont2Node());
+        assertSameAsStreamWriter(serializer, CONT1_WITH_EMPTYLEAF);
+    }
+
+    @Test
+    public void testSchemaMismatch() {
+        final var serializer = JSONNormalizedNodeSerializer.of(lhotkaCodecFactory);
+        final var data = TestingNormalizedNodeStructuresCreator.cont1Node(
+            ImmutableNodes.leafNode(QName.create(CONT_1, "cont11"), "value"));
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> serializer.write(new ByteArrayOutputStream(), data));
+        assertEquals("Node (ns:complex:json?revision=2014-08-11)cont11 is not a container", ex.getMessage());
+    }
+
+    private static void assertSameAsStreamWriter(final JSONNormalizedNodeSerializer serializer,
+            final NormalizedNode data) throws IOException {
+        for (int indent : new int[] { 0, 2 }) {
+            final var expected = new ByteArrayOutputStream();
+            try (var writer = NormalizedNodeWriter.forStreamWriter(JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+                    lhotkaCodecFactory, JsonWriterFactory.createUtf8JsonWriter(expected, indent)))) {
+                writer.write(data);
+            }
+
+            final var actual = new ByteArrayOutputStream();
+            serializer.write(actual, data, indent);
+            assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static NormalizedNode parse(final String path) throws IOException, URISyntaxException {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), lhotkaCodecFactory)
+            .parse(new JsonReader(new StringReader(loadTextFile(path))));
+        return result.getResult().data();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+
+/**
+ * Tests of {@link JsonParserStream#parseStreaming(JsonReader)}, checking it produces the same results as
+ * {@link JsonParserStream#parse(JsonReader)}.
+ */
+public class JsonStreamingParseTest extends AbstractComplexJsonTest {
+    private static final List<String> INPUTS = List.of(
+        "/complexjson/leaf-node-in-container.json",
+        "/complexjson/leaf-node-via-augmentation-in-container.json",
+        "/complexjson/leaflist-node-in-container.json",
+        "/complexjson/keyed-list-node-in-container.json",
+        "/complexjson/choice-node-in-container.json",
+        "/complexjson/case-node-augmentation-in-choice-in-container.json",
+        "/complexjson/case-node-external-augmentation-in-choice-in-container.json",
+        "/complexjson/choice-node-augmentation-in-container.json",
+        "/complexjson/unkeyed-node-in-container.json",
+        "/complexjson/missing-module-in-top-level.json",
+        "/complexjson/multiple-choice-augmentation-in-container.json",
+        "/complexjson/type-empty.json");
+
+    private static final QName LST11 = QName.create(CONT_1, "lst11");
+    private static final QName KEY111 = QName.create(CONT_1, "key111");
+    private static final QName LF111 = QName.create(CONT_1, "lf111");
+
+    /**
+     * A writer recording map entries as they are started.
+     */
+    private static final class EntryRecordingWriter extends ForwardingNormalizedNodeStreamWriter {
+        final NormalizationResultHolder result = new NormalizationResultHolder();
+        final List<NodeIdentifierWithPredicates> entries = new ArrayList<>();
+
+        private final NormalizedNodeStreamWriter delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+
+        @Override
+        protected NormalizedNodeStreamWriter delegate() {
+            return delegate;
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                throws IOException {
+            entries.add(identifier);
+            super.startMapEntryNode(identifier, childSizeHint);
+        }
+    }
+
+    @Test
+    public void testSameAsBuffered() throws IOException, URISyntaxException {
+        for (var input : INPUTS) {
+            final var json = loadTextFile(input);
+            assertEquals(input, parse(json, false), parse(json, true));
+        }
+    }
+
+    @Test
+    public void testKeysAfterOtherMembers() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lst11": [
+                  { "lf113": "first", "lf111": "b", "key111": "a" },
+                  { "key111": "c", "lf113": "second", "lf111": "d" }
+                ],
+                "lf13": "choice",
+                "lflst11": [ "one", "two" ]
+              }
+            }""";
+        final var buffered = parse(json, false);
+        assertNotNull(buffered);
+        assertEquals(buffered, parse(json, true));
+    }
+
+    @Test
+    public void testEntriesEmittedBeforeEnd() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lst11": [
+                  { "key111": "a", "lf111": "b" },
+                  { "lf113": "value", "lf111": "d", "key111": "c" },""";
+
+        final var streaming = new EntryRecordingWriter();
+        assertThrows(JsonSyntaxException.class,
+            () -> JsonParserStream.create(streaming, lhotkaCodecFactory).parseStreaming(newReader(json)));
+        assertEquals(List.of(
+            NodeIdentifierWithPredicates.of(LST11, ImmutableMap.<QName, Object>of(KEY111, "a", LF111, "b")),
+            NodeIdentifierWithPredicates.of(LST11, ImmutableMap.<QName, Object>of(KEY111, "c", LF111, "d"))),
+            streaming.entries);
+
+        final var buffered = new EntryRecordingWriter();
+        assertThrows(JsonSyntaxException.class,
+            () -> JsonParserStream.create(buffered, lhotkaCodecFactory).parse(newReader(json)));
+        assertEquals(List.of(), buffered.entries);
+    }
+
+    @Test
+    public void testMissingKey() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lst11": [ { "key111": "a", "lf113": "value" } ]
+              }
+            }""";
+        final var ex = assertThrows(IllegalStateException.class, () -> parse(json, true));
+        assertThat(ex.getMessage(), containsString("is missing keys"));
+        assertThat(ex.getMessage(), containsString("lf111"));
+    }
+
+    @Test
+    public void testDuplicateName() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lf11": 1,
+                "lf11": 2
+              }
+            }""";
+        final var ex = assertThrows(JsonSyntaxException.class, () -> parse(json, true));
+        assertEquals("Duplicate name lf11 in JSON input.", ex.getMessage());
+    }
+
+    @Test
+    public void testDuplicateNameInLaterEntry() {
+        // Members are resolved once, the same members in another entry are not duplicates, but those in the same are
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lst11": [
+                  { "key111": "a", "lf111": "b", "lf113": "first" },
+                  { "key111": "c", "lf111": "d", "lf113": "second", "lf113": "third" }
+                ]
+              }
+            }""";
+        for (boolean streaming : new boolean[] { false, true }) {
+            final var ex = assertThrows(JsonSyntaxException.class, () -> parse(json, streaming));
+            assertEquals("Duplicate name lf113 in JSON input.", ex.getMessage());
+        }
+    }
+
+    private static NormalizedNode parse(final String json, final boolean streaming) {
+        final var result = new NormalizationResultHolder();
+        final var parser = JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+            lhotkaCodecFactory);
+        if (streaming) {
+            parser.parseStreaming(newReader(json));
+        } else {
+            parser.parse(newReader(json));
+        }
+        return result.getResult().data();
+    }
+
+    private static JsonReader newReader(final String json) {
+        return new JsonReader(new StringReader(json));
+    }
+}
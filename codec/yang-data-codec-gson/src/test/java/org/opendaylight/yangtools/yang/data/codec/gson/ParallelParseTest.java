@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.transform.dom.DOMSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+
+/**
+ * Tests of {@link JsonParserStream#parseParallel(byte[], java.util.concurrent.Executor, int)}, checking it produces
+ * the same results as {@link JsonParserStream#parse(com.google.gson.stream.JsonReader)}.
+ */
+public class ParallelParseTest extends AbstractComplexJsonTest {
+    private static final int ENTRIES = 1000;
+
+    /**
+     * A writer recording all events it receives, including schema hints.
+     */
+    private static final class EventRecordingWriter implements NormalizedNodeStreamWriter {
+        final List<List<Object>> events = new ArrayList<>();
+
+        @Override
+        public void startLeafNode(final NodeIdentifier name) {
+            record("startLeafNode", name);
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            record("startLeafSet", name, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            record("startOrderedLeafSet", name, childSizeHint);
+        }
+
+        @Override
+        public void startLeafSetEntryNode(final NodeWithValue<?> name) {
+            record("startLeafSetEntryNode", name);
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startContainerNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) {
+            record("startUnkeyedList", name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) {
+            record("startUnkeyedListItem", name, childSizeHint);
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startMapNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint) {
+            record("startMapEntryNode", identifier, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startOrderedMapNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startChoiceNode", name, childSizeHint);
+        }
+
+        @Override
+        public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) {
+            record("startAnydataNode", name, objectModel);
+            return true;
+        }
+
+        @Override
+        public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) {
+            record("startAnyxmlNode", name, objectModel);
+            return true;
+        }
+
+        @Override
+        public void domSourceValue(final DOMSource value) {
+            record("domSourceValue", value);
+        }
+
+        @Override
+        public void endNode() {
+            record("endNode");
+        }
+
+        @Override
+        public void nextDataSchemaNode(final DataSchemaNode schema) {
+            record("nextDataSchemaNode", schema);
+        }
+
+        @Override
+        public void scalarValue(final Object value) {
+            record("scalarValue", value);
+        }
+
+        @Override
+        public void close() {
+            record("close");
+        }
+
+        @Override
+        public void flush() {
+            record("flush");
+        }
+
+        private void record(final Object... event) {
+            events.add(Arrays.asList(event));
+        }
+    }
+
+    private ExecutorService executor;
+
+    @Before
+    public void before() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelSameAsSequential() {
+        final var json = createJson("""
+            {"key111":"key%1$s","lf111":"lf%1$s","lf113":"value%1$s"}""");
+        final var splitter = JsonListSplitter.of(json);
+        assertNotNull(splitter);
+        assertEquals(ENTRIES, splitter.entryCount());
+
+        final var expected = parse(json);
+        for (int parallelism : new int[] { 1, 2, 3, 4, 16 }) {
+            assertEquals(expected, parseParallel(json, parallelism));
+        }
+    }
+
+    @Test
+    public void testEventsSameAsSequential() {
+        final var json = createJson("""
+            {"key111":"key%1$s","lf111":"lf%1$s","lf113":"value%1$s"}""");
+        final var expected = new EventRecordingWriter();
+        JsonParserStream.create(expected, lhotkaCodecFactory)
+            .parse(JsonReaderFactory.createUtf8JsonReader(new ByteArrayInputStream(json)));
+
+        final var tasks = new AtomicInteger();
+        final var actual = new EventRecordingWriter();
+        JsonParserStream.create(actual, lhotkaCodecFactory).parseParallel(json, task -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        }, 4);
+        assertEquals(4, tasks.get());
+        assertEquals(expected.events, actual.events);
+    }
+
+    @Test
+    public void testDuplicateEntriesSameAsSequential() {
+        // Keys repeat every 300 entries, with different values, some of them across chunk boundaries
+        final var json = createJson("""
+            {"key111":"key%2$s","lf111":"lf%2$s","lf113":"value%1$s"}""");
+        assertEquals(parse(json), parseParallel(json, 4));
+    }
+
+    @Test
+    public void testUnsupportedShapeSameAsSequential() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lflst11": [ "a", "b" ],
+                "lst11": [ { "key111": "key", "lf111": "lf", "lf113": "value" } ]
+              }
+            }""".getBytes(StandardCharsets.UTF_8);
+        assertNull(JsonListSplitter.of(
+            "{\"complexjson:cont1\":{\"lf11\":1},\"complexjson:cont2\":{}}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(parse(json), parseParallel(json, 4));
+    }
+
+    @Test
+    public void testErrorSameAsSequential() {
+        final var json = createJson("""
+            {"key111":"key%1$s","lf111":"lf%1$s","%3$s":"value%1$s"}""");
+        final var expected = assertThrows(IllegalStateException.class, () -> parse(json));
+        final var actual = assertThrows(IllegalStateException.class, () -> parseParallel(json, 4));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    /**
+     * Create a document with {@link #ENTRIES} entries of {@code lst11}, formatted from the specified template with
+     * the index of the entry, the index modulo 300 and the name of the third leaf, which is an unknown name for
+     * the entry at index 600.
+     */
+    private static byte[] createJson(final String entryTemplate) {
+        final var sb = new StringBuilder("{\"complexjson:cont1\":{\"lf11\":42,\"lst11\":[\n");
+        for (int i = 0; i < ENTRIES; ++i) {
+            if (i != 0) {
+                sb.append(",\n");
+            }
+            sb.append(entryTemplate.formatted(i, i % 300, i == 600 ? "lf114" : "lf113"));
+        }
+        return sb.append("],\"lflst11\":[\"a\",\"b\"]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static NormalizedNode parse(final byte[] json) {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), lhotkaCodecFactory)
+            .parse(JsonReaderFactory.createUtf8JsonReader(new ByteArrayInputStream(json)));
+        return result.getResult().data();
+    }
+
+    private NormalizedNode parseParallel(final byte[] json, final int parallelism) {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), lhotkaCodecFactory)
+            .parseParallel(json, executor, parallelism);
+        return result.getResult().data();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+
+/**
+ * Tests of readers and writers created by {@link JsonReaderFactory#createUtf8JsonReader(java.io.InputStream)} and
+ * {@link JsonWriterFactory#createUtf8JsonWriter(java.io.OutputStream)}, checking they behave the same as Gson's
+ * {@link JsonReader} and {@link JsonWriter}.
+ */
+public class Utf8JsonTest extends AbstractComplexJsonTest {
+    private static final List<String> INPUTS = List.of(
+        "/complexjson/leaf-node-in-container.json",
+        "/complexjson/leaflist-node-in-container.json",
+        "/complexjson/keyed-list-node-in-container.json",
+        "/complexjson/choice-node-in-container.json",
+        "/complexjson/case-node-augmentation-in-choice-in-container.json",
+        "/complexjson/unkeyed-node-in-container.json",
+        "/complexjson/multiple-choice-augmentation-in-container.json",
+        "/complexjson/type-empty.json");
+
+    // "zlutoucky kun" with its diacritics, followed by an emoji outside of the Basic Multilingual Plane
+    private static final String NON_ASCII = new String(new int[] {
+        0x17E, 'l', 'u', 0x165, 'o', 'u', 0x10D, 'k', 0xFD, ' ', 'k', 0x16F, 0x148, ' ', 0x1F600
+    }, 0, 15);
+    // LINE SEPARATOR and PARAGRAPH SEPARATOR, which are valid in JSON strings but not in JavaScript
+    private static final String SEPARATORS = String.valueOf(new char[] { 0x2028, 0x2029 });
+    private static final String STRINGS = """
+        {
+          "plain": "value",
+          "escaped\\tname": "quote \\" backslash \\\\ slash \\/ controls \\b\\f\\n\\r\\t\\u0001",
+          "unicode": "\\u017elu\\u0165ou\\u010dk\\u00fd k\\u016f\\u0148 \\ud83d\\ude00",
+          "utf-8": "%s %s",
+          "numbers": [ 0, -1, 12.5e-3, 1E+10, 18446744073709551615 ],
+          "literals": [ true, false, null ],
+          "empty": [ {}, [], "" ]
+        }""".formatted(NON_ASCII, SEPARATORS);
+
+    @Test
+    public void testTokensSameAsGson() throws IOException, URISyntaxException {
+        for (var input : INPUTS) {
+            assertSameTokens(loadTextFile(input));
+        }
+        assertSameTokens(STRINGS);
+    }
+
+    @Test
+    public void testParseSameAsGson() throws IOException, URISyntaxException {
+        for (var input : INPUTS) {
+            final var json = loadTextFile(input);
+            final var expected = parse(new JsonReader(new StringReader(json)));
+            assertNotNull(expected);
+            assertEquals(input, expected, parse(utf8Reader(json)));
+        }
+    }
+
+    @Test
+    public void testWriteSameAsGson() throws IOException, URISyntaxException {
+        for (var input : INPUTS) {
+            final var data = parse(new JsonReader(new StringReader(loadTextFile(input))));
+            for (int indent : new int[] { 0, 2 }) {
+                final var gson = new ByteArrayOutputStream();
+                write(data, JsonWriterFactory.createJsonWriter(
+                    new OutputStreamWriter(gson, StandardCharsets.UTF_8), indent));
+                final var utf8 = new ByteArrayOutputStream();
+                write(data, JsonWriterFactory.createUtf8JsonWriter(utf8, indent));
+                assertEquals(input, gson.toString(StandardCharsets.UTF_8), utf8.toString(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteStringsSameAsGson() throws IOException {
+        final var gson = new ByteArrayOutputStream();
+        final var utf8 = new ByteArrayOutputStream();
+        try (var gsonWriter = new JsonWriter(new OutputStreamWriter(gson, StandardCharsets.UTF_8));
+             var utf8Writer = JsonWriterFactory.createUtf8JsonWriter(utf8)) {
+            for (var writer : List.of(gsonWriter, utf8Writer)) {
+                writer.beginObject()
+                    .name("escaped\t\"name\"")
+                        .value("controls \b\f\n\r\t" + (char) 1 + " <html> & 'quotes' \\ " + SEPARATORS)
+                    .name("utf-8").value(NON_ASCII + " " + (char) 0xD83D)
+                    .name("numbers").beginArray()
+                        .value(0).value(-1).value(Long.MAX_VALUE).value(Long.MIN_VALUE).value(12.5).value(0.5F)
+                        .value((Number) 42)
+                    .endArray()
+                    .name("literals").beginArray().value(true).value(Boolean.FALSE).nullValue().endArray()
+                    .name("raw").jsonValue("{\"a\": [1]}")
+                    .endObject();
+            }
+        }
+        assertEquals(gson.toString(StandardCharsets.UTF_8), utf8.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNamesReused() throws IOException {
+        final var reader = utf8Reader("[{\"name\":1},{\"name\":2}]");
+        reader.beginArray();
+        reader.beginObject();
+        final var first = reader.nextName();
+        reader.skipValue();
+        reader.endObject();
+        reader.beginObject();
+        final var second = reader.nextName();
+        assertEquals("name", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testMalformedInput() {
+        assertThrows(MalformedJsonException.class, () -> utf8Reader("{\"a\" 1}").skipValue());
+        assertThrows(MalformedJsonException.class, () -> utf8Reader("[1,]").skipValue());
+        assertThrows(MalformedJsonException.class, () -> utf8Reader("[01]").skipValue());
+        assertThrows(MalformedJsonException.class, () -> utf8Reader("[tru]").skipValue());
+        assertThrows(MalformedJsonException.class, () -> utf8Reader("{'a': 1}").skipValue());
+    }
+
+    @Test
+    public void testTruncatedInput() {
+        final var json = """
+            {
+              "complexjson:cont1": {
+                "lf11": 1,""";
+        assertThrows(JsonSyntaxException.class, () -> parse(utf8Reader(json)));
+    }
+
+    private static void assertSameTokens(final String json) throws IOException {
+        final var expected = new JsonReader(new StringReader(json));
+        final var actual = utf8Reader(json);
+        while (true) {
+            final var token = expected.peek();
+            assertEquals(token, actual.peek());
+            switch (token) {
+                case BEGIN_ARRAY -> {
+                    expected.beginArray();
+                    actual.beginArray();
+                }
+                case END_ARRAY -> {
+                    expected.endArray();
+                    actual.endArray();
+                }
+                case BEGIN_OBJECT -> {
+                    expected.beginObject();
+                    actual.beginObject();
+                }
+                case END_OBJECT -> {
+                    expected.endObject();
+                    actual.endObject();
+                }
+                case NAME -> assertEquals(expected.nextName(), actual.nextName());
+                case STRING, NUMBER -> assertEquals(expected.nextString(), actual.nextString());
+                case BOOLEAN -> assertEquals(expected.nextBoolean(), actual.nextBoolean());
+                case NULL -> {
+                    expected.nextNull();
+                    actual.nextNull();
+                }
+                case END_DOCUMENT -> {
+                    return;
+                }
+                default -> throw new AssertionError("Unhandled token " + token);
+            }
+        }
+    }
+
+    private static NormalizedNode parse(final JsonReader reader) {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), lhotkaCodecFactory).parse(reader);
+        return result.getResult().data();
+    }
+
+    private static void write(final NormalizedNode data, final JsonWriter writer) throws IOException {
+        try (var nodeWriter = NormalizedNodeWriter.forStreamWriter(
+                JSONNormalizedNodeStreamWriter.createExclusiveWriter(lhotkaCodecFactory, writer))) {
+            nodeWriter.write(data);
+        }
+    }
+
+    private static JsonReader utf8Reader(final String json) {
+        return JsonReaderFactory.createUtf8JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -100,7 +100,25 @@ final class StreamWriterFacade extends ValueWriter {
             reuseNamespace = XMLConstants.DEFAULT_NS_PREFIX.equals(writer.getPrefix(namespace));
         }
 
+        startElement(qname, reuseNamespace);
+    }
+
+    /**
+     * Start an element, with the knowledge of whether its namespace is the current default namespace, which saves
+     * looking it up.
+     *
+     * @param qname element name
+     * @param reuseNamespace {@code true} if the element's namespace is the current default namespace
+     * @throws XMLStreamException if the writer reports it
+     */
+    void writeStartElement(final QName qname, final boolean reuseNamespace) throws XMLStreamException {
+        flushElement();
+        startElement(qname, reuseNamespace);
+    }
+
+    private void startElement(final QName qname, final boolean reuseNamespace) throws XMLStreamException {
         if (!reuseNamespace) {
+            final String namespace = qname.getNamespace().toString();
             writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, qname.getLocalName(), namespace);
             writer.writeDefaultNamespace(namespace);
         } else {
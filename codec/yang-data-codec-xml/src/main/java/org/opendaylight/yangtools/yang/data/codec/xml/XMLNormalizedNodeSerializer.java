@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.dom.DOMSource;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.AnydataNode;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyxmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedAnydata;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+
+/**
+ * A serializer of {@link NormalizedNode}s into an {@link XMLStreamWriter}, producing the same output as
+ * a {@link XMLStreamNormalizedNodeStreamWriter#create(XMLStreamWriter, EffectiveModelContext) schema-aware}
+ * {@link XMLStreamNormalizedNodeStreamWriter} driven by a
+ * {@link org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter}.
+ *
+ * <p>
+ * Rather than tracking schema, resolving leaf types and looking up the default namespace for each node it encounters,
+ * this serializer compiles each schema node it encounters, remembering its element name, whether the element needs to
+ * declare its namespace and, for leaves and leaf-lists, their resolved type and its codec. Serializing a node then is
+ * a walk over the data, emitting these precomputed parts. Schema nodes are compiled lazily, as data conforming to them
+ * is encountered, hence instances should be retained and reused, typically one per {@link EffectiveModelContext}.
+ * Instances are thread-safe.
+ */
+@Beta
+public final class XMLNormalizedNodeSerializer {
+    /**
+     * Serializer of a child of a data node container, corresponding to a single schema node.
+     */
+    private abstract static class ChildSerializer {
+        abstract void write(StreamWriterFacade facade, NormalizedNode node) throws IOException, XMLStreamException;
+
+        static IllegalArgumentException unexpectedNode(final NormalizedNode node, final String expected) {
+            return new IllegalArgumentException("Node " + node.name() + " is not " + expected);
+        }
+    }
+
+    /**
+     * Serializer of a child which is emitted as one or more elements.
+     */
+    private abstract static class ElementSerializer extends ChildSerializer {
+        private final @NonNull QName qname;
+        // Top-level elements need to look the default namespace up, as the writer may be in any state
+        private final boolean lookupNamespace;
+        private final boolean reuseNamespace;
+
+        ElementSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace) {
+            this.qname = requireNonNull(qname);
+            lookupNamespace = parentNamespace == null;
+            reuseNamespace = qname.getNamespace().equals(parentNamespace);
+        }
+
+        final void startElement(final StreamWriterFacade facade) throws XMLStreamException {
+            if (lookupNamespace) {
+                facade.writeStartElement(qname);
+            } else {
+                facade.writeStartElement(qname, reuseNamespace);
+            }
+        }
+    }
+
+    /**
+     * Serializer of children of a data node container, such as a container, a list entry or a choice.
+     */
+    private final class ChildrenSerializer {
+        private final ConcurrentHashMap<QName, ChildSerializer> children = new ConcurrentHashMap<>();
+        // Positioned at this node, never modified
+        private final @NonNull SchemaInferenceStack stack;
+        // Namespace of the enclosing element, null for top-level elements
+        private final @Nullable XMLNamespace namespace;
+
+        ChildrenSerializer(final SchemaInferenceStack stack, final @Nullable XMLNamespace namespace) {
+            this.stack = requireNonNull(stack);
+            this.namespace = namespace;
+        }
+
+        void writeChildren(final StreamWriterFacade facade, final Iterable<? extends NormalizedNode> body)
+                throws IOException, XMLStreamException {
+            for (var child : body) {
+                writeChild(facade, child);
+            }
+        }
+
+        void writeMapEntry(final StreamWriterFacade facade, final MapEntryNode entry)
+                throws IOException, XMLStreamException {
+            // Keys first, as RFC7950 requires and NormalizedNodeWriter does
+            final var keys = entry.name().keySet();
+            for (var key : keys) {
+                final var child = entry.childByArg(NodeIdentifier.create(key));
+                if (child != null) {
+                    writeChild(facade, child);
+                }
+            }
+            for (var child : entry.body()) {
+                if (!keys.contains(child.name().getNodeType())) {
+                    writeChild(facade, child);
+                }
+            }
+        }
+
+        void writeChild(final StreamWriterFacade facade, final NormalizedNode child)
+                throws IOException, XMLStreamException {
+            final var qname = child.name().getNodeType();
+            var serializer = children.get(qname);
+            if (serializer == null) {
+                serializer = children.computeIfAbsent(qname, ignored -> compileChild(child));
+            }
+            serializer.write(facade, child);
+        }
+
+        private @NonNull ChildSerializer compileChild(final NormalizedNode child) {
+            final var qname = child.name().getNodeType();
+            final var childStack = stack.copy();
+            if (child instanceof ChoiceNode) {
+                childStack.enterChoice(qname);
+                return new ChoiceSerializer(new ChildrenSerializer(childStack, namespace));
+            }
+
+            final var stmt = childStack.enterDataTree(qname);
+            if (stmt instanceof LeafSchemaNode leaf) {
+                return new LeafSerializer(qname, namespace, new ValueSerializer(streamUtils, leaf, childStack));
+            } else if (stmt instanceof LeafListSchemaNode leafList) {
+                return new LeafSetSerializer(qname, namespace,
+                    new ValueSerializer(streamUtils, leafList, childStack));
+            } else if (stmt instanceof ContainerLike) {
+                return new ContainerSerializer(qname, namespace,
+                    new ChildrenSerializer(childStack, qname.getNamespace()));
+            } else if (stmt instanceof ListSchemaNode) {
+                return new ListSerializer(qname, namespace, new ChildrenSerializer(childStack, qname.getNamespace()));
+            } else if (stmt instanceof AnyxmlSchemaNode) {
+                return new AnyxmlSerializer(qname, namespace);
+            } else if (stmt instanceof AnydataSchemaNode) {
+                return new AnydataSerializer(qname, namespace);
+            } else {
+                throw new IllegalArgumentException("Unsupported schema node " + stmt);
+            }
+        }
+    }
+
+    /**
+     * Encoder of leaf and leaf-list values.
+     */
+    private static final class ValueSerializer {
+        private final @NonNull SchemaAwareXMLStreamWriterUtils streamUtils;
+        private final @NonNull TypeDefinition<?> type;
+        private final @NonNull QNameModule module;
+        // Codec for types whose values do not interact with namespaces, null otherwise
+        private final @Nullable TypeDefinitionAwareCodec<Object, ?> codec;
+
+        ValueSerializer(final SchemaAwareXMLStreamWriterUtils streamUtils, final TypedDataSchemaNode schema,
+                final SchemaInferenceStack stack) {
+            this.streamUtils = requireNonNull(streamUtils);
+            final var schemaType = schema.getType();
+            type = schemaType instanceof LeafrefTypeDefinition leafref ? stack.resolveLeafref(leafref) : schemaType;
+            module = schema.getQName().getModule();
+            codec = XMLStreamWriterUtils.isNamespaceAware(type) ? null : TypeDefinitionAwareCodec.from(type);
+        }
+
+        void write(final StreamWriterFacade facade, final Object value) throws XMLStreamException {
+            facade.writeCharacters(encode(facade, value));
+        }
+
+        private String encode(final StreamWriterFacade facade, final Object value) throws XMLStreamException {
+            if (codec != null) {
+                try {
+                    return codec.serialize(value);
+                } catch (ClassCastException e) {
+                    // Fall back to the generic path, which deals with this
+                    return streamUtils.encodeValue(facade, type, value, module);
+                }
+            }
+            return streamUtils.encodeValue(facade, type, value, module);
+        }
+    }
+
+    private static final class LeafSerializer extends ElementSerializer {
+        private final @NonNull ValueSerializer value;
+
+        LeafSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace, final ValueSerializer value) {
+            super(qname, parentNamespace);
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws XMLStreamException {
+            if (!(node instanceof LeafNode<?> leaf)) {
+                throw unexpectedNode(node, "a leaf");
+            }
+            startElement(facade);
+            value.write(facade, leaf.body());
+            facade.writeEndElement();
+        }
+    }
+
+    private static final class LeafSetSerializer extends ElementSerializer {
+        private final @NonNull ValueSerializer value;
+
+        LeafSetSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace,
+                final ValueSerializer value) {
+            super(qname, parentNamespace);
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws XMLStreamException {
+            if (!(node instanceof LeafSetNode<?> leafSet)) {
+                throw unexpectedNode(node, "a leaf-list");
+            }
+            for (var entry : leafSet.body()) {
+                startElement(facade);
+                value.write(facade, entry.body());
+                facade.writeEndElement();
+            }
+        }
+    }
+
+    private static final class ContainerSerializer extends ElementSerializer {
+        private final @NonNull ChildrenSerializer children;
+
+        ContainerSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace,
+                final ChildrenSerializer children) {
+            super(qname, parentNamespace);
+            this.children = requireNonNull(children);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws IOException, XMLStreamException {
+            if (!(node instanceof ContainerNode container)) {
+                throw unexpectedNode(node, "a container");
+            }
+            startElement(facade);
+            children.writeChildren(facade, container.body());
+            facade.writeEndElement();
+        }
+    }
+
+    private static final class ListSerializer extends ElementSerializer {
+        private final @NonNull ChildrenSerializer entries;
+
+        ListSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace,
+                final ChildrenSerializer entries) {
+            super(qname, parentNamespace);
+            this.entries = requireNonNull(entries);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws IOException, XMLStreamException {
+            if (node instanceof MapNode map) {
+                for (var entry : map.body()) {
+                    startElement(facade);
+                    entries.writeMapEntry(facade, entry);
+                    facade.writeEndElement();
+                }
+            } else if (node instanceof UnkeyedListNode list) {
+                for (var entry : list.body()) {
+                    startElement(facade);
+                    entries.writeChildren(facade, entry.body());
+                    facade.writeEndElement();
+                }
+            } else {
+                throw unexpectedNode(node, "a list");
+            }
+        }
+    }
+
+    private static final class ChoiceSerializer extends ChildSerializer {
+        private final @NonNull ChildrenSerializer children;
+
+        ChoiceSerializer(final ChildrenSerializer children) {
+            this.children = requireNonNull(children);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws IOException, XMLStreamException {
+            if (!(node instanceof ChoiceNode choice)) {
+                throw unexpectedNode(node, "a choice");
+            }
+            children.writeChildren(facade, choice.body());
+        }
+    }
+
+    private static final class AnyxmlSerializer extends ElementSerializer {
+        AnyxmlSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace) {
+            super(qname, parentNamespace);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws IOException, XMLStreamException {
+            if (!(node instanceof AnyxmlNode<?> anyxml)) {
+                throw unexpectedNode(node, "anyxml");
+            }
+            if (!DOMSource.class.isAssignableFrom(anyxml.bodyObjectModel())) {
+                throw new IllegalStateException("It wasn't possible to serialize node " + node);
+            }
+            startElement(facade);
+            XMLStreamNormalizedNodeStreamWriter.writeAnyxmlValue(facade, (DOMSource) anyxml.body());
+            facade.writeEndElement();
+        }
+    }
+
+    private static final class AnydataSerializer extends ElementSerializer {
+        AnydataSerializer(final QName qname, final @Nullable XMLNamespace parentNamespace) {
+            super(qname, parentNamespace);
+        }
+
+        @Override
+        void write(final StreamWriterFacade facade, final NormalizedNode node) throws IOException, XMLStreamException {
+            if (!(node instanceof AnydataNode<?> anydata)) {
+                throw unexpectedNode(node, "anydata");
+            }
+            final var model = anydata.bodyObjectModel();
+            if (!DOMSourceAnydata.class.isAssignableFrom(model) && !NormalizedAnydata.class.isAssignableFrom(model)) {
+                throw new IllegalStateException("It wasn't possible to serialize node " + node);
+            }
+            startElement(facade);
+            XMLStreamNormalizedNodeStreamWriter.writeAnydataValue(facade, anydata.body());
+            facade.writeEndElement();
+        }
+    }
+
+    private final @NonNull SchemaAwareXMLStreamWriterUtils streamUtils;
+    private final @NonNull ChildrenSerializer root;
+
+    private XMLNormalizedNodeSerializer(final SchemaInferenceStack stack) {
+        streamUtils = new SchemaAwareXMLStreamWriterUtils(stack.getEffectiveModelContext());
+        root = new ChildrenSerializer(stack, null);
+    }
+
+    /**
+     * Create a new serializer for top-level data of an {@link EffectiveModelContext}.
+     *
+     * @param context Associated {@link EffectiveModelContext}
+     * @return A new serializer
+     * @throws NullPointerException if {@code context} is null
+     */
+    public static @NonNull XMLNormalizedNodeSerializer of(final EffectiveModelContext context) {
+        return new XMLNormalizedNodeSerializer(SchemaInferenceStack.of(context));
+    }
+
+    /**
+     * Create a new serializer for children of the specified data node container.
+     *
+     * @param parent Parent node inference
+     * @return A new serializer
+     * @throws NullPointerException if {@code parent} is null
+     */
+    public static @NonNull XMLNormalizedNodeSerializer of(final EffectiveStatementInference parent) {
+        return new XMLNormalizedNodeSerializer(SchemaInferenceStack.ofInference(parent));
+    }
+
+    /**
+     * Serialize a node into an {@link XMLStreamWriter}. The writer is flushed, but not closed.
+     *
+     * @param writer Output {@link XMLStreamWriter}
+     * @param data Node to serialize
+     * @throws IOException if the writer reports an error
+     * @throws IllegalArgumentException if the data does not conform to the schema
+     */
+    public void write(final XMLStreamWriter writer, final NormalizedNode data) throws IOException {
+        final var facade = new StreamWriterFacade(writer);
+        try {
+            root.writeChild(facade, data);
+            facade.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write " + data.name(), e);
+        }
+    }
+}
@@ -205,6 +205,10 @@ public abstract sealed class XMLStreamNormalizedNodeStreamWriter<T>
     }
 
     final void anydataValue(final Object value) throws IOException {
+        writeAnydataValue(facade, value);
+    }
+
+    static void writeAnydataValue(final StreamWriterFacade facade, final Object value) throws IOException {
         if (value instanceof DOMSourceAnydata) {
             try {
                 facade.anydataWriteStreamReader(((DOMSourceAnydata) value).toStreamReader());
@@ -223,6 +227,10 @@ public abstract sealed class XMLStreamNormalizedNodeStreamWriter<T>
     }
 
     final void anyxmlValue(final DOMSource domSource) throws IOException {
+        writeAnyxmlValue(facade, domSource);
+    }
+
+    static void writeAnyxmlValue(final StreamWriterFacade facade, final DOMSource domSource) throws IOException {
         if (domSource != null) {
             final Node domNode = requireNonNull(domSource.getNode());
             try {
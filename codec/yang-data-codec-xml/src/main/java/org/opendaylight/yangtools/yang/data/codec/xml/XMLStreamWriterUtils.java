@@ -61,6 +61,18 @@ abstract class XMLStreamWriterUtils {
         }
     }
 
+    /**
+     * Check whether values of a type may need to interact with XML namespaces when they are encoded. Values of other
+     * types are encoded just by their {@link TypeDefinitionAwareCodec}.
+     *
+     * @param type data type, with leafrefs already resolved
+     * @return {@code true} if values of the type may need to declare XML namespaces
+     */
+    static boolean isNamespaceAware(final @NonNull TypeDefinition<?> type) {
+        return type instanceof IdentityrefTypeDefinition || type instanceof InstanceIdentifierTypeDefinition
+            || isIdentityrefUnion(type) || isInstanceIdentifierUnion(type);
+    }
+
     private static boolean isIdentityrefUnion(final TypeDefinition<?> type) {
         if (type instanceof UnionTypeDefinition) {
             for (TypeDefinition<?> subtype : ((UnionTypeDefinition) type).getTypes()) {
@@ -72,7 +84,7 @@ abstract class XMLStreamWriterUtils {
         return false;
     }
 
-    private boolean isInstanceIdentifierUnion(final TypeDefinition<?> type) {
+    private static boolean isInstanceIdentifierUnion(final TypeDefinition<?> type) {
         if (type instanceof UnionTypeDefinition) {
             for (TypeDefinition<?> subtype : ((UnionTypeDefinition) type).getTypes()) {
                 if (subtype instanceof InstanceIdentifierTypeDefinition || isInstanceIdentifierUnion(subtype)) {
@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Splitter of a UTF-8 encoded XML document into documents holding consecutive elements of the longest run of
+ * same-named children of the root element and a document holding everything else, including the first element of the
+ * run, so that the run retains its position among its siblings. Each of the former documents has
+ * a copy of the root element's start tag, so that namespace declarations are retained. The run is located by
+ * a structural pre-scan, which does not validate anything beyond what is needed to find the boundaries of elements,
+ * leaving that to the parser.
+ */
+final class XmlListSplitter {
+    /**
+     * Minimum number of list entries in a chunk, so that per-chunk overheads do not dominate.
+     */
+    static final int MIN_CHUNK_ENTRIES = 128;
+
+    private static final byte[] BYTE_ORDER_MARK = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+    private final byte[] input;
+    private final byte[] rootStartTag;
+    private final byte[] rootEndTag;
+    // Start and end offsets of each entry
+    private final int[] entries;
+
+    private XmlListSplitter(final byte[] input, final byte[] rootStartTag, final byte[] rootEndTag,
+            final int[] entries) {
+        this.input = requireNonNull(input);
+        this.rootStartTag = requireNonNull(rootStartTag);
+        this.rootEndTag = requireNonNull(rootEndTag);
+        this.entries = requireNonNull(entries);
+    }
+
+    /**
+     * Scan a document and locate the longest run of same-named children of its root element.
+     *
+     * @param input UTF-8 encoded document
+     * @return A splitter, or {@code null} if the document does not have the expected shape
+     */
+    static @Nullable XmlListSplitter of(final byte[] input) {
+        return new Scanner(input).scan();
+    }
+
+    int entryCount() {
+        return entries.length / 2;
+    }
+
+    /**
+     * Return a document holding entries of the run, as children of the root element.
+     *
+     * @param from index of the first entry, inclusive
+     * @param to index of the last entry, exclusive
+     * @return A document
+     */
+    InputStream chunk(final int from, final int to) {
+        final int start = entries[from * 2];
+        return new SequenceInputStream(Collections.enumeration(List.of(new ByteArrayInputStream(rootStartTag),
+            new ByteArrayInputStream(input, start, entries[to * 2 - 1] - start),
+            new ByteArrayInputStream(rootEndTag))));
+    }
+
+    /**
+     * Return the document with all elements of the run except the first one removed.
+     *
+     * @return A document
+     */
+    InputStream rest() {
+        final int cutStart = entries[1];
+        final int cutEnd = entries[entries.length - 1];
+        return new SequenceInputStream(new ByteArrayInputStream(input, 0, cutStart),
+            new ByteArrayInputStream(input, cutEnd, input.length - cutEnd));
+    }
+
+    private static final class Scanner {
+        private final byte[] in;
+        private int pos;
+
+        Scanner(final byte[] in) {
+            this.in = requireNonNull(in);
+        }
+
+        @Nullable XmlListSplitter scan() {
+            if (startsWith(BYTE_ORDER_MARK)) {
+                pos = BYTE_ORDER_MARK.length;
+            }
+            if (startsWith("<?xml") && !isUtf8Declaration()) {
+                return null;
+            }
+            if (!skipMisc() || peek() != '<') {
+                return null;
+            }
+
+            // Root element start tag
+            final int rootStart = pos;
+            final int rootNameEnd = skipName();
+            if (rootNameEnd == -1 || !skipTagRest() || in[pos - 2] == '/') {
+                return null;
+            }
+            final int rootStartEnd = pos;
+
+            // Children: offsets of start, end and name end of each child, and whether only whitespace, comments and
+            // processing instructions precede it
+            final var children = new int[4][16];
+            int count = 0;
+            boolean clean = true;
+            while (true) {
+                // Character data
+                while (pos < in.length && in[pos] != '<') {
+                    clean &= isWhitespace(in[pos++]);
+                }
+                if (pos == in.length) {
+                    return null;
+                }
+                if (startsWith("<!--")) {
+                    if (!skipPast("-->")) {
+                        return null;
+                    }
+                } else if (startsWith("<?")) {
+                    if (!skipPast("?>")) {
+                        return null;
+                    }
+                } else if (startsWith("<![CDATA[")) {
+                    clean = false;
+                    if (!skipPast("]]>")) {
+                        return null;
+                    }
+                } else if (startsWith("</")) {
+                    break;
+                } else {
+                    final int start = pos;
+                    final int nameEnd = skipElement();
+                    if (nameEnd == -1) {
+                        return null;
+                    }
+                    if (count == children[0].length) {
+                        for (int i = 0; i < children.length; ++i) {
+                            children[i] = Arrays.copyOf(children[i], count * 2);
+                        }
+                    }
+                    children[0][count] = start;
+                    children[1][count] = pos;
+                    children[2][count] = nameEnd;
+                    children[3][count] = clean ? 1 : 0;
+                    count++;
+                    clean = true;
+                }
+            }
+
+            // Root element end tag, followed only by miscellanea
+            pos++;
+            final int rootEndNameStart = pos + 1;
+            final int rootEndNameEnd = skipName();
+            if (rootEndNameEnd == -1
+                    || !Arrays.equals(in, rootStart + 1, rootNameEnd, in, rootEndNameStart, rootEndNameEnd)) {
+                return null;
+            }
+            skipWhitespace();
+            if (peek() != '>') {
+                return null;
+            }
+            pos++;
+            if (!skipMisc() || pos != in.length) {
+                return null;
+            }
+
+            // Find the longest run of same-named children separated only by whitespace
+            int bestStart = 0;
+            int bestLength = 0;
+            int runStart = 0;
+            for (int i = 1; i <= count; ++i) {
+                if (i == count || children[3][i] == 0 || !sameName(children, runStart, i)) {
+                    if (i - runStart > bestLength) {
+                        bestStart = runStart;
+                        bestLength = i - runStart;
+                    }
+                    runStart = i;
+                }
+            }
+            if (bestLength == 0) {
+                return null;
+            }
+
+            // Namesakes elsewhere would be merged by the parser
+            for (int i = 0; i < count; ++i) {
+                if ((i < bestStart || i >= bestStart + bestLength) && sameName(children, bestStart, i)) {
+                    return null;
+                }
+            }
+
+            final int[] entries = new int[bestLength * 2];
+            for (int i = 0; i < bestLength; ++i) {
+                entries[i * 2] = children[0][bestStart + i];
+                entries[i * 2 + 1] = children[1][bestStart + i];
+            }
+
+            final var rootName = new String(in, rootStart + 1, rootNameEnd - rootStart - 1, StandardCharsets.UTF_8);
+            return new XmlListSplitter(in, Arrays.copyOfRange(in, rootStart, rootStartEnd),
+                ("</" + rootName + ">").getBytes(StandardCharsets.UTF_8), entries);
+        }
+
+        private boolean sameName(final int[][] children, final int first, final int second) {
+            // Names start right after '<'
+            return Arrays.equals(in, children[0][first] + 1, children[2][first],
+                in, children[0][second] + 1, children[2][second]);
+        }
+
+        /**
+         * Check whether the XML declaration at current position does not declare an encoding other than UTF-8.
+         */
+        private boolean isUtf8Declaration() {
+            final int end = indexOf("?>", pos);
+            if (end == -1) {
+                return false;
+            }
+            final var decl = new String(in, pos, end - pos, StandardCharsets.US_ASCII).toLowerCase(Locale.ROOT);
+            final int encoding = decl.indexOf("encoding");
+            if (encoding == -1) {
+                return true;
+            }
+            final var value = decl.substring(encoding + 8).replaceAll("[\\s='\"]", " ").trim();
+            return value.startsWith("utf-8 ") || value.equals("utf-8");
+        }
+
+        /**
+         * Skip whitespace, comments, processing instructions and the XML declaration. Document type declarations are
+         * not supported.
+         */
+        private boolean skipMisc() {
+            while (true) {
+                skipWhitespace();
+                if (startsWith("<?")) {
+                    if (!skipPast("?>")) {
+                        return false;
+                    }
+                } else if (startsWith("<!--")) {
+                    if (!skipPast("-->")) {
+                        return false;
+                    }
+                } else {
+                    return !startsWith("<!");
+                }
+            }
+        }
+
+        /**
+         * Skip an element starting at current position.
+         *
+         * @return end offset of the element's name, or -1 if the element is malformed
+         */
+        private int skipElement() {
+            final int nameEnd = skipName();
+            if (nameEnd == -1 || !skipTagRest()) {
+                return -1;
+            }
+            if (in[pos - 2] == '/') {
+                return nameEnd;
+            }
+
+            int depth = 1;
+            while (true) {
+                final int next = indexOf('<', pos);
+                if (next == -1) {
+                    return -1;
+                }
+                pos = next;
+                if (startsWith("<!--")) {
+                    if (!skipPast("-->")) {
+                        return -1;
+                    }
+                } else if (startsWith("<![CDATA[")) {
+                    if (!skipPast("]]>")) {
+                        return -1;
+                    }
+                } else if (startsWith("<?")) {
+                    if (!skipPast("?>")) {
+                        return -1;
+                    }
+                } else if (startsWith("</")) {
+                    final int close = indexOf('>', pos);
+                    if (close == -1) {
+                        return -1;
+                    }
+                    pos = close + 1;
+                    if (--depth == 0) {
+                        return nameEnd;
+                    }
+                } else {
+                    if (skipName() == -1 || !skipTagRest()) {
+                        return -1;
+                    }
+                    if (in[pos - 2] != '/') {
+                        depth++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Skip the '<' and the name of a tag at current position.
+         *
+         * @return end offset of the name, or -1 if it is empty
+         */
+        private int skipName() {
+            final int start = ++pos;
+            while (pos < in.length && !isWhitespace(in[pos]) && in[pos] != '/' && in[pos] != '>') {
+                pos++;
+            }
+            return pos != start && pos < in.length ? pos : -1;
+        }
+
+        /**
+         * Skip attributes and the end of a start tag, honoring quoted attribute values.
+         */
+        private boolean skipTagRest() {
+            while (pos < in.length) {
+                final byte b = in[pos++];
+                if (b == '>') {
+                    return true;
+                }
+                if (b == '"' || b == '\'') {
+                    final int close = indexOf(b, pos);
+                    if (close == -1) {
+                        return false;
+                    }
+                    pos = close + 1;
+                }
+            }
+            return false;
+        }
+
+        private boolean skipPast(final String terminator) {
+            final int index = indexOf(terminator, pos);
+            if (index == -1) {
+                return false;
+            }
+            pos = index + terminator.length();
+            return true;
+        }
+
+        private int indexOf(final String str, final int from) {
+            final int last = in.length - str.length();
+            for (int i = from; i <= last; ++i) {
+                if (startsWith(str, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int indexOf(final int ch, final int from) {
+            for (int i = from; i < in.length; ++i) {
+                if (in[i] == ch) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean startsWith(final String str) {
+            return startsWith(str, pos);
+        }
+
+        private boolean startsWith(final String str, final int offset) {
+            if (offset + str.length() > in.length) {
+                return false;
+            }
+            for (int i = 0; i < str.length(); ++i) {
+                if (in[offset + i] != str.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean startsWith(final byte[] bytes) {
+            return in.length >= bytes.length && Arrays.equals(in, 0, bytes.length, bytes, 0, bytes.length);
+        }
+
+        private int peek() {
+            return pos < in.length ? in[pos] : -1;
+        }
+
+        private void skipWhitespace() {
+            while (pos < in.length && isWhitespace(in[pos])) {
+                pos++;
+            }
+        }
+
+        private static boolean isWhitespace(final byte ch) {
+            return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+        }
+    }
+}
@@ -13,21 +13,30 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.base.VerifyException;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamConstants;
@@ -44,15 +53,20 @@ import org.opendaylight.yangtools.rfc7952.model.api.AnnotationSchemaNode;
 import org.opendaylight.yangtools.rfc8040.model.api.YangDataSchemaNode;
 import org.opendaylight.yangtools.rfc8528.model.api.MountPointSchemaNode;
 import org.opendaylight.yangtools.rfc8528.model.api.SchemaMountConstants;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.opendaylight.yangtools.yang.common.AnnotationName;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.common.YangConstants;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContext;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContextFactory.ContainerName;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.MetadataExtension;
 import org.opendaylight.yangtools.yang.data.util.AbstractMountPointDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
@@ -70,13 +84,16 @@ import org.opendaylight.yangtools.yang.data.util.MountPointData;
 import org.opendaylight.yangtools.yang.data.util.MultipleEntryDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
+import org.opendaylight.yangtools.yang.data.util.SplitListMerger;
 import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
@@ -332,6 +349,148 @@ public final class XmlParserStream implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * This method parses the XML source and emits node events into a NormalizedNodeStreamWriter based on the
+     * YANG-modeled data contained in the XML source. Unlike {@link #parse(XMLStreamReader)}, events are emitted as
+     * the corresponding elements are encountered, so that the memory required does not grow with the size of the XML
+     * source. Buffering is required only for:
+     * <ul>
+     *   <li>elements of a list entry preceding its key leaves, which are held until all keys have been read</li>
+     *   <li>members of choices, which are held until their parent element ends</li>
+     *   <li>anyxml and anydata values, which are represented by a DOM</li>
+     *   <li>containers and lists holding mount points, which are parsed as by {@link #parse(XMLStreamReader)}</li>
+     * </ul>
+     *
+     * <p>
+     * Entries of a list or a leaf-list are required to be contiguous, i.e. not interleaved with sibling elements,
+     * whereas {@link #parse(XMLStreamReader)} merges such entries. Since events are emitted while parsing, a malformed
+     * XML source may result in a partial sequence of events being emitted before an exception is thrown.
+     *
+     * @param reader
+     *              StAX reader which is to used to walk through the XML source
+     * @return
+     *              instance of XmlParserStream
+     * @throws XMLStreamException
+     *              if a well-formedness error or an unexpected processing condition occurs while parsing the XML, or
+     *              if entries of a list or a leaf-list are not contiguous
+     * @throws IOException
+     *              if an error occurs while parsing the value of an anyxml node or is reported by the writer
+     */
+    @Beta
+    public XmlParserStream parseStreaming(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        if (reader.hasNext()) {
+            reader.nextTag();
+            streamNode(reader, parentNode, reader.getLocalName());
+        }
+
+        return this;
+    }
+
+    /**
+     * This method parses a UTF-8 encoded XML source, parsing entries of its largest list in parallel, and emits node
+     * events into a NormalizedNodeStreamWriter. This is meant for bulk payloads, which typically consist of a root
+     * element holding a large list. A structural pre-scan of the input locates the longest run of same-named children
+     * of the root element. Those are split into up to {@code parallelism} chunks, each of which is parsed by a task
+     * submitted to {@code executor}, while the remainder of the source, which retains the first entry of the list, is
+     * parsed by the calling thread. Entries of the chunks are then merged, in document order, into the list and the
+     * root element is emitted.
+     *
+     * <p>
+     * Sources of any other shape, sources whose list is too small to be worth splitting and sources declaring an
+     * encoding other than UTF-8 or a document type are parsed as if by {@link #parse(XMLStreamReader)}. Either way, the
+     * events emitted are the same as those emitted by {@link #parse(XMLStreamReader)}, including the handling of
+     * duplicate list entries. The same exceptions are thrown, too. Where more than one part of the source is malformed,
+     * the failure reported is the one of the first chunk of the list, or of the rest of the source if all chunks were
+     * parsed successfully, which may be different from the failure {@link #parse(XMLStreamReader)} would report.
+     * Nothing is emitted unless all parts have been parsed successfully.
+     *
+     * @param input
+     *              UTF-8 encoded XML source
+     * @param executor
+     *              Executor to run chunk parsing tasks
+     * @param parallelism
+     *              Maximum number of chunks to split the list into
+     * @return
+     *              instance of XmlParserStream
+     * @throws XMLStreamException
+     *              if a well-formedness error or an unexpected processing condition occurs while parsing the XML
+     * @throws IOException
+     *              if an error occurs while parsing the value of an anyxml node or is reported by the writer
+     * @throws IllegalArgumentException
+     *              if {@code parallelism} is not positive
+     */
+    @Beta
+    public XmlParserStream parseParallel(final byte[] input, final Executor executor, final int parallelism)
+            throws XMLStreamException, IOException {
+        checkArgument(parallelism > 0, "Invalid parallelism %s", parallelism);
+        requireNonNull(executor);
+        final var splitter = parallelism > 1 ? XmlListSplitter.of(input) : null;
+        if (splitter != null) {
+            final int chunks = Math.min(parallelism, splitter.entryCount() / XmlListSplitter.MIN_CHUNK_ENTRIES);
+            if (chunks > 1 && parseParallel(splitter, executor, chunks)) {
+                return this;
+            }
+        }
+        return parse(UntrustedXML.createXMLStreamReader(new ByteArrayInputStream(input)));
+    }
+
+    private boolean parseParallel(final XmlListSplitter splitter, final Executor executor, final int chunks)
+            throws XMLStreamException, IOException {
+        // The first entry stays in the rest
+        final int count = splitter.entryCount() - 1;
+        final var futures = new ArrayList<CompletableFuture<AbstractNodeDataWithSchema<?>>>(chunks + 1);
+        for (int i = 0; i < chunks; ++i) {
+            futures.add(parseDetached(splitter.chunk(1 + count * i / chunks, 1 + count * (i + 1) / chunks),
+                executor));
+        }
+        // Run the rest on this thread
+        futures.add(parseDetached(splitter.rest(), Runnable::run));
+
+        final var results = new ArrayList<CompositeNodeDataWithSchema<?>>(chunks + 1);
+        for (var future : futures) {
+            final AbstractNodeDataWithSchema<?> result;
+            try {
+                result = future.join();
+            } catch (CompletionException e) {
+                futures.forEach(f -> f.cancel(false));
+                final var cause = e.getCause();
+                Throwables.throwIfInstanceOf(cause, XMLStreamException.class);
+                Throwables.throwIfInstanceOf(cause, IOException.class);
+                Throwables.throwIfUnchecked(cause);
+                throw new IOException("Failed to parse XML source", e);
+            }
+            if (!(result instanceof CompositeNodeDataWithSchema<?> composite)) {
+                return false;
+            }
+            results.add(composite);
+        }
+
+        final var rest = results.remove(chunks);
+        if (!SplitListMerger.merge(rest, results)) {
+            return false;
+        }
+        rest.write(writer);
+        return true;
+    }
+
+    private CompletableFuture<AbstractNodeDataWithSchema<?>> parseDetached(final InputStream input,
+            final Executor executor) {
+        // Instantiate the parser here, so that workers do not access our stack. It only reads the source into a tree,
+        // just as parse() does before emitting it, hence it never touches the writer.
+        final var parser = new XmlParserStream(writer, codecs, stack.copy(), strictParsing);
+        return CompletableFuture.supplyAsync(() -> {
+            final var tree = AbstractNodeDataWithSchema.of(parentNode);
+            try {
+                final var reader = UntrustedXML.createXMLStreamReader(input);
+                reader.nextTag();
+                parser.read(reader, tree, reader.getLocalName());
+            } catch (XMLStreamException e) {
+                throw new CompletionException(e);
+            }
+            return tree;
+        }, executor);
+    }
+
     /**
      * This method traverses a {@link DOMSource} and emits node events into a NormalizedNodeStreamWriter based on the
      * YANG-modeled data contained in the source.
@@ -519,14 +678,7 @@ public final class XmlParserStream implements Closeable, Flushable {
                     final String elementNS = in.getNamespaceURI();
                     final boolean added = namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
 
-                    final XMLNamespace nsUri;
-                    try {
-                        nsUri = rawXmlNamespace(elementNS).getNamespace();
-                    } catch (IllegalArgumentException e) {
-                        throw new XMLStreamException("Failed to convert namespace " + xmlElementName, in.getLocation(),
-                            e);
-                    }
-
+                    final XMLNamespace nsUri = elementNamespace(in, elementNS, xmlElementName);
                     final Deque<DataSchemaNode> childDataSchemaNodes =
                             ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, xmlElementName, nsUri);
                     if (!childDataSchemaNodes.isEmpty()) {
@@ -538,12 +690,8 @@ public final class XmlParserStream implements Closeable, Flushable {
                         }
 
                         // We have a match, proceed with it
-                        final QName qname = childDataSchemaNodes.peekLast().getQName();
-                        final AbstractNodeDataWithSchema<?> child = ((CompositeNodeDataWithSchema<?>) parent).addChild(
-                            childDataSchemaNodes, elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
-                        stack.enterDataTree(qname);
-                        read(in, child, rootElement);
-                        stack.exit();
+                        readChild(in, (CompositeNodeDataWithSchema<?>) parent, childDataSchemaNodes, elementList,
+                            rootElement);
                         continue;
                     }
 
@@ -602,6 +750,259 @@ public final class XmlParserStream implements Closeable, Flushable {
         }
     }
 
+    private void readChild(final XMLStreamReader in, final CompositeNodeDataWithSchema<?> parent,
+            final Deque<DataSchemaNode> childDataSchemaNodes, final boolean elementList, final String rootElement)
+                throws XMLStreamException {
+        final QName qname = childDataSchemaNodes.peekLast().getQName();
+        final AbstractNodeDataWithSchema<?> child = parent.addChild(childDataSchemaNodes,
+            elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
+        stack.enterDataTree(qname);
+        read(in, child, rootElement);
+        stack.exit();
+    }
+
+    private XMLNamespace elementNamespace(final XMLStreamReader in, final String elementNS,
+            final String xmlElementName) throws XMLStreamException {
+        try {
+            return rawXmlNamespace(elementNS).getNamespace();
+        } catch (IllegalArgumentException e) {
+            throw new XMLStreamException("Failed to convert namespace " + xmlElementName, in.getLocation(), e);
+        }
+    }
+
+    // Emit the node whose START_ELEMENT the reader is positioned at. Returns with the reader positioned at the tag
+    // following the node, just as read() does.
+    private void streamNode(final XMLStreamReader in, final DataSchemaNode schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        if (schema instanceof ListSchemaNode list && !hasMountPoint(schema)) {
+            streamList(in, list, rootElement);
+        } else if (schema instanceof LeafListSchemaNode leafList) {
+            streamLeafList(in, leafList);
+        } else if (schema instanceof ContainerLike && !hasMountPoint(schema)) {
+            streamComposite(in, schema, rootElement);
+        } else {
+            // Leaves, anyxml, anydata and mount points go through a temporary holder
+            final var node = AbstractNodeDataWithSchema.of(schema);
+            read(in, node, rootElement);
+            node.write(writer);
+        }
+    }
+
+    private void streamList(final XMLStreamReader in, final ListSchemaNode schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        final var identifier = NodeIdentifier.create(schema.getQName());
+        writer.nextDataSchemaNode(schema);
+        if (schema.getKeyDefinition().isEmpty()) {
+            writer.startUnkeyedList(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else if (schema.isUserOrdered()) {
+            writer.startOrderedMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startMapNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        final String localName = in.getLocalName();
+        final String namespaceURI = in.getNamespaceURI();
+        do {
+            streamComposite(in, schema, rootElement);
+        } while (isSameStartElement(in, localName, namespaceURI));
+        writer.endNode();
+    }
+
+    private void streamLeafList(final XMLStreamReader in, final LeafListSchemaNode schema)
+            throws XMLStreamException, IOException {
+        final var qname = schema.getQName();
+        writer.nextDataSchemaNode(schema);
+        if (schema.isUserOrdered()) {
+            writer.startOrderedLeafSet(NodeIdentifier.create(qname), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        } else {
+            writer.startLeafSet(NodeIdentifier.create(qname), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+
+        final String localName = in.getLocalName();
+        final String namespaceURI = in.getNamespaceURI();
+        do {
+            final var attributes = getElementAttributes(in);
+            final String text = in.getElementText();
+            final Object value = translateValueByType(text, schema, in.getNamespaceContext());
+            writer.nextDataSchemaNode(schema);
+            writer.startLeafSetEntryNode(new NodeWithValue<>(qname, value));
+            writeMetadata(attributes);
+            writer.scalarValue(value);
+            writer.endNode();
+            nextTag(in);
+        } while (isSameStartElement(in, localName, namespaceURI));
+        writer.endNode();
+    }
+
+    // Emit a container or a list entry. Members of keyed list entries are held until all keys are known and members of
+    // choices are held until the end of the element.
+    private void streamComposite(final XMLStreamReader in, final DataSchemaNode schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        final var attributes = getElementAttributes(in);
+        final List<QName> keyDef = schema instanceof ListSchemaNode list ? list.getKeyDefinition() : List.of();
+        // Key leaves read so far, non-null only until the map entry is started
+        Map<QName, LeafNodeDataWithSchema> keys = null;
+        if (keyDef.isEmpty()) {
+            final var identifier = NodeIdentifier.create(schema.getQName());
+            writer.nextDataSchemaNode(schema);
+            if (schema instanceof ListSchemaNode) {
+                writer.startUnkeyedListItem(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            } else {
+                writer.startContainerNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                writeMetadata(attributes);
+            }
+        } else {
+            keys = new HashMap<>();
+        }
+
+        final Set<Entry<String, String>> namesakes = new HashSet<>();
+        // Lists and leaf-lists already encountered
+        final Set<QName> elementLists = new HashSet<>();
+        // Members read before the map entry has been started
+        CompositeNodeDataWithSchema<?> pending = null;
+        // Members of choices
+        CompositeNodeDataWithSchema<?> deferred = null;
+
+        in.nextTag();
+        while (in.isStartElement()) {
+            final String xmlElementName = in.getLocalName();
+            final String elementNS = in.getNamespaceURI();
+            final boolean added = namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
+            final XMLNamespace nsUri = elementNamespace(in, elementNS, xmlElementName);
+            final Deque<DataSchemaNode> childDataSchemaNodes =
+                    ParserStreamUtils.findSchemaNodeByNameAndNamespace(schema, xmlElementName, nsUri);
+            if (childDataSchemaNodes.isEmpty()) {
+                if (strictParsing) {
+                    throw new XMLStreamException(String.format(
+                        "Schema for node with name %s and namespace %s does not exist in parent %s", xmlElementName,
+                        elementNS, schema), in.getLocation());
+                }
+
+                LOG.debug("Skipping unknown node ns=\"{}\" localName=\"{}\" in parent {}", elementNS, xmlElementName,
+                    schema);
+                skipUnknownNode(in);
+                continue;
+            }
+
+            final boolean elementList = isElementList(childDataSchemaNodes);
+            if (!added && !elementList) {
+                throw new XMLStreamException(String.format(
+                    "Duplicate element \"%s\" in namespace \"%s\" with parent \"%s\" in XML input",
+                    xmlElementName, elementNS, schema), in.getLocation());
+            }
+
+            final DataSchemaNode childSchema = childDataSchemaNodes.getLast();
+            if (childDataSchemaNodes.size() > 1) {
+                // Nested in a choice
+                if (deferred == null) {
+                    deferred = new CompositeNodeDataWithSchema<>(schema);
+                }
+                readChild(in, deferred, childDataSchemaNodes, elementList, rootElement);
+                continue;
+            }
+
+            final QName childQName = childSchema.getQName();
+            if (elementList && !elementLists.add(childQName)) {
+                throw new XMLStreamException(String.format(
+                    "Entries of \"%s\" with parent \"%s\" are not contiguous, which is not supported in streaming mode",
+                    childQName, schema), in.getLocation());
+            }
+
+            if (keys == null) {
+                stack.enterDataTree(childQName);
+                streamNode(in, childSchema, rootElement);
+                stack.exit();
+            } else if (childSchema instanceof LeafSchemaNode && keyDef.contains(childQName)) {
+                final var key = (LeafNodeDataWithSchema) AbstractNodeDataWithSchema.of(childSchema);
+                stack.enterDataTree(childQName);
+                read(in, key, rootElement);
+                stack.exit();
+                keys.put(childQName, key);
+
+                if (keys.size() == keyDef.size()) {
+                    startMapEntry((ListSchemaNode) schema, keys, attributes);
+                    if (pending != null) {
+                        pending.write(writer);
+                        pending = null;
+                    }
+                    keys = null;
+                }
+            } else {
+                if (pending == null) {
+                    pending = new CompositeNodeDataWithSchema<>(schema);
+                }
+                readChild(in, pending, childDataSchemaNodes, elementList, rootElement);
+            }
+        }
+
+        if (keys != null) {
+            final var missing = new ArrayList<>(keyDef);
+            missing.removeAll(keys.keySet());
+            throw new XMLStreamException("Entry of list " + schema.getQName() + " is missing keys " + missing,
+                in.getLocation());
+        }
+        if (deferred != null) {
+            deferred.write(writer);
+        }
+        writer.endNode();
+        nextTag(in);
+    }
+
+    private void startMapEntry(final ListSchemaNode schema, final Map<QName, LeafNodeDataWithSchema> keys,
+            final ImmutableMap<QName, Object> attributes) throws IOException {
+        final var keyDef = schema.getKeyDefinition();
+        final NodeIdentifierWithPredicates identifier;
+        if (keyDef.size() == 1) {
+            final var key = keyDef.get(0);
+            identifier = NodeIdentifierWithPredicates.of(schema.getQName(), key, keys.get(key).getValue());
+        } else {
+            final var predicates = ImmutableMap.<QName, Object>builderWithExpectedSize(keyDef.size());
+            for (var key : keyDef) {
+                predicates.put(key, keys.get(key).getValue());
+            }
+            identifier = NodeIdentifierWithPredicates.of(schema.getQName(), predicates.build());
+        }
+
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        writeMetadata(attributes);
+        for (var key : keyDef) {
+            keys.get(key).write(writer);
+        }
+    }
+
+    private void writeMetadata(final ImmutableMap<QName, Object> attributes) throws IOException {
+        if (!attributes.isEmpty()) {
+            final var metaWriter = writer.extension(MetadataExtension.class);
+            if (metaWriter != null) {
+                metaWriter.metadata(attributes);
+            }
+        }
+    }
+
+    private static boolean hasMountPoint(final DataSchemaNode schema) {
+        if (schema instanceof ContainerSchemaNode container) {
+            return MountPointSchemaNode.streamAll(container).findAny().isPresent();
+        } else if (schema instanceof ListSchemaNode list) {
+            return MountPointSchemaNode.streamAll(list).findAny().isPresent();
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean isSameStartElement(final XMLStreamReader in, final String localName,
+            final String namespaceURI) {
+        return in.isStartElement() && localName.equals(in.getLocalName())
+            && Objects.equals(namespaceURI, in.getNamespaceURI());
+    }
+
+    // Move past the current END_ELEMENT to the next tag, unless the document ends
+    private static void nextTag(final XMLStreamReader in) throws XMLStreamException {
+        if (!isNextEndDocument(in) && !isAtElement(in)) {
+            in.nextTag();
+        }
+    }
+
     // Return true if schema represents a construct which uses multiple sibling elements to represent its content. The
     // siblings MAY be interleaved as per RFC7950.
     private static boolean isElementList(final Deque<DataSchemaNode> childDataSchemaNodes) {
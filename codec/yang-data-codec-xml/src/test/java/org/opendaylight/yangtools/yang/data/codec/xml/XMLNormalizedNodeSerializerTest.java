@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Tests of {@link XMLNormalizedNodeSerializer}, checking it produces the same output as
+ * {@link XMLStreamNormalizedNodeStreamWriter}.
+ */
+@RunWith(Parameterized.class)
+public class XMLNormalizedNodeSerializerTest {
+    private static final QNameModule BAZ_MODULE = QNameModule.create(XMLNamespace.of("baz-namespace"));
+    private static final QName OUTER_CONTAINER = QName.create(BAZ_MODULE, "outer-container");
+    private static final QName PARENT_CONTAINER = QName.create(QNameModule.create(XMLNamespace.of("foo-namespace")),
+        "parent-container");
+
+    private static EffectiveModelContext schemaContext;
+
+    private final XMLOutputFactory factory;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        return TestFactories.junitParameters();
+    }
+
+    public XMLNormalizedNodeSerializerTest(final String factoryMode, final XMLOutputFactory factory) {
+        this.factory = factory;
+    }
+
+    @BeforeClass
+    public static void beforeClass() {
+        schemaContext = YangParserTestUtils.parseYangResourceDirectory("/");
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        schemaContext = null;
+    }
+
+    @Test
+    public void testSameAsStreamWriter() throws IOException, XMLStreamException {
+        final var serializer = XMLNormalizedNodeSerializer.of(schemaContext);
+        // Lists, leaf-lists and a choice
+        assertSameAsStreamWriter(serializer, parse("/baz.xml", OUTER_CONTAINER));
+        // Leaves of various types, including an identityref union, a leafref and an empty leaf, and anyxml
+        assertSameAsStreamWriter(serializer, parse("/foo.xml", PARENT_CONTAINER));
+    }
+
+    @Test
+    public void testEmptyContainerSameAsStreamWriter() throws IOException, XMLStreamException {
+        assertSameAsStreamWriter(XMLNormalizedNodeSerializer.of(schemaContext), Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(OUTER_CONTAINER))
+            .addChild(Builders.containerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(QName.create(BAZ_MODULE, "my-container-1")))
+                .build())
+            .build());
+    }
+
+    @Test
+    public void testSchemaMismatch() {
+        final var serializer = XMLNormalizedNodeSerializer.of(schemaContext);
+        final var data = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(OUTER_CONTAINER))
+            .addChild(ImmutableNodes.leafNode(QName.create(BAZ_MODULE, "my-container-1"), "value"))
+            .build();
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> serializer.write(factory.createXMLStreamWriter(new StringWriter()), data));
+        assertEquals("Node (baz-namespace)my-container-1 is not a container", ex.getMessage());
+    }
+
+    private void assertSameAsStreamWriter(final XMLNormalizedNodeSerializer serializer, final NormalizedNode data)
+            throws IOException, XMLStreamException {
+        final var expected = new StringWriter();
+        final var expectedWriter = factory.createXMLStreamWriter(expected);
+        try (var writer = NormalizedNodeWriter.forStreamWriter(
+                XMLStreamNormalizedNodeStreamWriter.create(expectedWriter, schemaContext))) {
+            writer.write(data);
+        }
+
+        final var actual = new StringWriter();
+        final var actualWriter = factory.createXMLStreamWriter(actual);
+        serializer.write(actualWriter, data);
+        actualWriter.close();
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    private static NormalizedNode parse(final String resource, final QName root)
+            throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        try (var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+                Inference.ofDataTreePath(schemaContext, root))) {
+            parser.parse(UntrustedXML.createXMLStreamReader(
+                XMLNormalizedNodeSerializerTest.class.getResourceAsStream(resource)));
+        }
+        return result.getResult().data();
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.dom.DOMSource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Tests of {@link XmlParserStream#parseParallel(byte[], java.util.concurrent.Executor, int)}, checking it produces the
+ * same results as {@link XmlParserStream#parse(javax.xml.stream.XMLStreamReader)}.
+ */
+public class XmlParallelParseTest {
+    private static final QNameModule BAZ_MODULE = QNameModule.create(XMLNamespace.of("baz-namespace"));
+    private static final QName OUTER_CONTAINER = QName.create(BAZ_MODULE, "outer-container");
+    private static final QName MY_CONTAINER_1 = QName.create(BAZ_MODULE, "my-container-1");
+    private static final int ENTRIES = 1000;
+
+    /**
+     * A writer recording all events it receives, including schema hints.
+     */
+    private static final class EventRecordingWriter implements NormalizedNodeStreamWriter {
+        final List<List<Object>> events = new ArrayList<>();
+
+        @Override
+        public void startLeafNode(final NodeIdentifier name) {
+            record("startLeafNode", name);
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            record("startLeafSet", name, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) {
+            record("startOrderedLeafSet", name, childSizeHint);
+        }
+
+        @Override
+        public void startLeafSetEntryNode(final NodeWithValue<?> name) {
+            record("startLeafSetEntryNode", name);
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startContainerNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) {
+            record("startUnkeyedList", name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) {
+            record("startUnkeyedListItem", name, childSizeHint);
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startMapNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint) {
+            record("startMapEntryNode", identifier, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startOrderedMapNode", name, childSizeHint);
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) {
+            record("startChoiceNode", name, childSizeHint);
+        }
+
+        @Override
+        public boolean startAnydataNode(final NodeIdentifier name, final Class<?> objectModel) {
+            record("startAnydataNode", name, objectModel);
+            return true;
+        }
+
+        @Override
+        public boolean startAnyxmlNode(final NodeIdentifier name, final Class<?> objectModel) {
+            record("startAnyxmlNode", name, objectModel);
+            return true;
+        }
+
+        @Override
+        public void domSourceValue(final DOMSource value) {
+            record("domSourceValue", value);
+        }
+
+        @Override
+        public void endNode() {
+            record("endNode");
+        }
+
+        @Override
+        public void nextDataSchemaNode(final DataSchemaNode schema) {
+            record("nextDataSchemaNode", schema);
+        }
+
+        @Override
+        public void scalarValue(final Object value) {
+            record("scalarValue", value);
+        }
+
+        @Override
+        public void close() {
+            record("close");
+        }
+
+        @Override
+        public void flush() {
+            record("flush");
+        }
+
+        private void record(final Object... event) {
+            events.add(Arrays.asList(event));
+        }
+    }
+
+    private static EffectiveModelContext schemaContext;
+    private static Inference myContainer1Schema;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        schemaContext = YangParserTestUtils.parseYangResourceDirectory("/");
+        myContainer1Schema = Inference.ofDataTreePath(schemaContext, OUTER_CONTAINER, MY_CONTAINER_1);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        schemaContext = null;
+        myContainer1Schema = null;
+    }
+
+    @Before
+    public void before() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelSameAsSequential() throws IOException, XMLStreamException {
+        final var xml = createXml("""
+            <my-keyed-list><my-key-leaf>key%1$s</my-key-leaf><my-leaf-in-list-1>%1$s</my-leaf-in-list-1></my-keyed-list>
+            """);
+        final var splitter = XmlListSplitter.of(xml);
+        assertNotNull(splitter);
+        assertEquals(ENTRIES, splitter.entryCount());
+
+        final var expected = parse(xml);
+        for (int parallelism : new int[] { 1, 2, 3, 4, 16 }) {
+            assertEquals(expected, parseParallel(xml, parallelism));
+        }
+    }
+
+    @Test
+    public void testEventsSameAsSequential() throws IOException, XMLStreamException {
+        final var xml = createXml("""
+            <my-keyed-list><my-key-leaf>key%1$s</my-key-leaf><my-leaf-in-list-1>%1$s</my-leaf-in-list-1></my-keyed-list>
+            """);
+        final var expected = new EventRecordingWriter();
+        XmlParserStream.create(expected, myContainer1Schema, true)
+            .parse(UntrustedXML.createXMLStreamReader(new ByteArrayInputStream(xml)));
+
+        final var tasks = new AtomicInteger();
+        final var actual = new EventRecordingWriter();
+        XmlParserStream.create(actual, myContainer1Schema, true).parseParallel(xml, task -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        }, 4);
+        assertEquals(4, tasks.get());
+        assertEquals(expected.events, actual.events);
+    }
+
+    @Test
+    public void testDuplicateEntriesSameAsSequential() throws IOException, XMLStreamException {
+        // Keys repeat every 300 entries, with different values, some of them across chunk boundaries
+        final var xml = createXml("""
+            <my-keyed-list><my-key-leaf>key%2$s</my-key-leaf><my-leaf-in-list-1>%1$s</my-leaf-in-list-1></my-keyed-list>
+            """);
+        assertEquals(parse(xml), parseParallel(xml, 4));
+    }
+
+    @Test
+    public void testUnsupportedShapeSameAsSequential() throws IOException, XMLStreamException {
+        final var xml = """
+            <my-container-1 xmlns="baz-namespace">
+              <my-keyed-list><my-key-leaf>one</my-key-leaf></my-keyed-list>
+              <my-leaf-1>value</my-leaf-1>
+              <my-keyed-list><my-key-leaf>two</my-key-leaf></my-keyed-list>
+            </my-container-1>""".getBytes(StandardCharsets.UTF_8);
+        assertNull(XmlListSplitter.of(xml));
+        assertEquals(parse(xml), parseParallel(xml, 4));
+    }
+
+    @Test
+    public void testErrorSameAsSequential() {
+        final var xml = createXml("""
+            <my-keyed-list><my-key-leaf>key%1$s</my-key-leaf><%3$s>%1$s</%3$s></my-keyed-list>
+            """);
+        final var expected = assertThrows(XMLStreamException.class, () -> parse(xml));
+        final var message = "Schema for node with name my-leaf-in-list-3 and namespace baz-namespace does not exist";
+        assertThat(expected.getMessage(), containsString(message));
+        final var actual = assertThrows(XMLStreamException.class, () -> parseParallel(xml, 4));
+        assertThat(actual.getMessage(), containsString(message));
+    }
+
+    /**
+     * Create a document with {@link #ENTRIES} entries of {@code my-keyed-list}, formatted from the specified template
+     * with the index of the entry, the index modulo 300 and the name of a leaf, which is an unknown name for the entry
+     * at index 600.
+     */
+    private static byte[] createXml(final String entryTemplate) {
+        final var sb = new StringBuilder("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <my-container-1 xmlns="baz-namespace">
+              <my-leaf-1>value</my-leaf-1>
+            """);
+        for (int i = 0; i < ENTRIES; ++i) {
+            sb.append(entryTemplate.formatted(i, i % 300, i == 600 ? "my-leaf-in-list-3" : "my-leaf-in-list-2"));
+        }
+        return sb.append("""
+              <my-leaf-list>a</my-leaf-list>
+              <my-leaf-list>b</my-leaf-list>
+            </my-container-1>""").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static NormalizedNode parse(final byte[] xml) throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), myContainer1Schema, true)
+            .parse(UntrustedXML.createXMLStreamReader(new ByteArrayInputStream(xml)));
+        return result.getResult().data();
+    }
+
+    private NormalizedNode parseParallel(final byte[] xml, final int parallelism)
+            throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), myContainer1Schema, true)
+            .parseParallel(xml, executor, parallelism);
+        return result.getResult().data();
+    }
+}
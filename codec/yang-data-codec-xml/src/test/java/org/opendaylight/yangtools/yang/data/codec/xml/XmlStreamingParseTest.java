@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Tests of {@link XmlParserStream#parseStreaming(XMLStreamReader)}, checking it produces the same results as
+ * {@link XmlParserStream#parse(XMLStreamReader)}.
+ */
+public class XmlStreamingParseTest {
+    private static final QNameModule BAZ_MODULE = QNameModule.create(XMLNamespace.of("baz-namespace"));
+    private static final QName OUTER_CONTAINER = QName.create(BAZ_MODULE, "outer-container");
+    private static final QName MY_CONTAINER_1 = QName.create(BAZ_MODULE, "my-container-1");
+    private static final QName MY_KEYED_LIST = QName.create(BAZ_MODULE, "my-keyed-list");
+    private static final QName MY_KEY_LEAF = QName.create(BAZ_MODULE, "my-key-leaf");
+    private static final QName MY_DOUBLY_KEYED_LIST = QName.create(BAZ_MODULE, "my-doubly-keyed-list");
+    private static final QName MY_FIRST_KEY_LEAF = QName.create(BAZ_MODULE, "my-first-key-leaf");
+    private static final QName MY_SECOND_KEY_LEAF = QName.create(BAZ_MODULE, "my-second-key-leaf");
+
+    /**
+     * A writer recording map entries as they are started.
+     */
+    private static final class EntryRecordingWriter extends ForwardingNormalizedNodeStreamWriter {
+        final NormalizationResultHolder result = new NormalizationResultHolder();
+        final List<NodeIdentifierWithPredicates> entries = new ArrayList<>();
+
+        private final NormalizedNodeStreamWriter delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+
+        @Override
+        protected NormalizedNodeStreamWriter delegate() {
+            return delegate;
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                throws IOException {
+            entries.add(identifier);
+            super.startMapEntryNode(identifier, childSizeHint);
+        }
+    }
+
+    private static EffectiveModelContext schemaContext;
+    private static Inference outerContainerSchema;
+
+    @BeforeClass
+    public static void setup() {
+        schemaContext = YangParserTestUtils.parseYangResourceDirectory("/");
+        outerContainerSchema = Inference.ofDataTreePath(schemaContext, OUTER_CONTAINER);
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        schemaContext = null;
+        outerContainerSchema = null;
+    }
+
+    @Test
+    public void testSameAsBuffered() throws IOException, XMLStreamException {
+        final var buffered = new EntryRecordingWriter();
+        XmlParserStream.create(buffered, outerContainerSchema).parse(
+            UntrustedXML.createXMLStreamReader(XmlStreamingParseTest.class.getResourceAsStream("/baz.xml")));
+
+        final var streaming = new EntryRecordingWriter();
+        XmlParserStream.create(streaming, outerContainerSchema).parseStreaming(
+            UntrustedXML.createXMLStreamReader(XmlStreamingParseTest.class.getResourceAsStream("/baz.xml")));
+
+        final var expected = buffered.result.getResult().data();
+        assertNotNull(expected);
+        assertEquals(expected, streaming.result.getResult().data());
+    }
+
+    @Test
+    public void testKeysAfterOtherMembers() throws IOException, XMLStreamException {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-2>
+                <my-leaf-in-case-2>case2value</my-leaf-in-case-2>
+                <inner-container>
+                  <my-leaf-2>value2</my-leaf-2>
+                </inner-container>
+                <my-leaf-3>value3</my-leaf-3>
+              </my-container-2>
+              <my-container-3>
+                <my-doubly-keyed-list>
+                  <my-leaf-in-list-3>listleafvalue1</my-leaf-in-list-3>
+                  <my-second-key-leaf>second1</my-second-key-leaf>
+                  <my-first-key-leaf>first1</my-first-key-leaf>
+                </my-doubly-keyed-list>
+                <my-doubly-keyed-list>
+                  <my-second-key-leaf>second2</my-second-key-leaf>
+                  <my-leaf-in-list-3>listleafvalue2</my-leaf-in-list-3>
+                  <my-first-key-leaf>first2</my-first-key-leaf>
+                </my-doubly-keyed-list>
+              </my-container-3>
+            </outer-container>""";
+        final var buffered = parse(xml, false);
+        assertNotNull(buffered);
+        assertEquals(buffered, parse(xml, true));
+    }
+
+    @Test
+    public void testEntriesEmittedBeforeEnd() {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-1>
+                <my-keyed-list>
+                  <my-key-leaf>one</my-key-leaf>
+                </my-keyed-list>
+                <my-keyed-list>
+                  <my-leaf-in-list-1>value</my-leaf-in-list-1>
+                  <my-key-leaf>two</my-key-leaf>
+                </my-keyed-list>""";
+
+        final var streaming = new EntryRecordingWriter();
+        assertThrows(XMLStreamException.class, () -> XmlParserStream.create(streaming, outerContainerSchema)
+            .parseStreaming(UntrustedXML.createXMLStreamReader(new StringReader(xml))));
+        assertEquals(List.of(
+            NodeIdentifierWithPredicates.of(MY_KEYED_LIST, MY_KEY_LEAF, "one"),
+            NodeIdentifierWithPredicates.of(MY_KEYED_LIST, MY_KEY_LEAF, "two")), streaming.entries);
+
+        final var buffered = new EntryRecordingWriter();
+        assertThrows(XMLStreamException.class, () -> XmlParserStream.create(buffered, outerContainerSchema)
+            .parse(UntrustedXML.createXMLStreamReader(new StringReader(xml))));
+        assertEquals(List.of(), buffered.entries);
+    }
+
+    @Test
+    public void testListWithoutNamespace() throws IOException, XMLStreamException {
+        // Entries of the root list are matched by their local name, hence they need not have a namespace
+        final var xml = """
+            <entries>
+              <my-keyed-list>
+                <my-key-leaf xmlns="baz-namespace">one</my-key-leaf>
+              </my-keyed-list>
+              <my-keyed-list>
+                <my-key-leaf xmlns="baz-namespace">two</my-key-leaf>
+              </my-keyed-list>
+            </entries>""";
+        final var reader = UntrustedXML.createXMLStreamReader(new StringReader(xml));
+        // Position the reader at the wrapper element
+        reader.nextTag();
+
+        final var streaming = new EntryRecordingWriter();
+        XmlParserStream.create(streaming,
+            Inference.ofDataTreePath(schemaContext, OUTER_CONTAINER, MY_CONTAINER_1, MY_KEYED_LIST))
+            .parseStreaming(reader);
+        assertEquals(List.of(
+            NodeIdentifierWithPredicates.of(MY_KEYED_LIST, MY_KEY_LEAF, "one"),
+            NodeIdentifierWithPredicates.of(MY_KEYED_LIST, MY_KEY_LEAF, "two")), streaming.entries);
+    }
+
+    @Test
+    public void testDoublyKeyedIdentifier() throws IOException, XMLStreamException {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-3>
+                <my-doubly-keyed-list>
+                  <my-second-key-leaf>second</my-second-key-leaf>
+                  <my-first-key-leaf>first</my-first-key-leaf>
+                </my-doubly-keyed-list>
+              </my-container-3>
+            </outer-container>""";
+        final var streaming = new EntryRecordingWriter();
+        XmlParserStream.create(streaming, outerContainerSchema)
+            .parseStreaming(UntrustedXML.createXMLStreamReader(new StringReader(xml)));
+        assertEquals(List.of(NodeIdentifierWithPredicates.of(MY_DOUBLY_KEYED_LIST,
+            ImmutableMap.<QName, Object>of(MY_FIRST_KEY_LEAF, "first", MY_SECOND_KEY_LEAF, "second"))),
+            streaming.entries);
+    }
+
+    @Test
+    public void testMissingKey() {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-3>
+                <my-doubly-keyed-list>
+                  <my-first-key-leaf>first</my-first-key-leaf>
+                  <my-leaf-in-list-3>value</my-leaf-in-list-3>
+                </my-doubly-keyed-list>
+              </my-container-3>
+            </outer-container>""";
+        final var ex = assertThrows(XMLStreamException.class, () -> parse(xml, true));
+        assertThat(ex.getMessage(), containsString("is missing keys"));
+        assertThat(ex.getMessage(), containsString("my-second-key-leaf"));
+    }
+
+    @Test
+    public void testNonContiguousEntries() throws IOException, XMLStreamException {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-1>
+                <my-leaf-list>lflvalue1</my-leaf-list>
+                <my-leaf-1>value1</my-leaf-1>
+                <my-leaf-list>lflvalue2</my-leaf-list>
+              </my-container-1>
+            </outer-container>""";
+        assertNotNull(parse(xml, false));
+
+        final var ex = assertThrows(XMLStreamException.class, () -> parse(xml, true));
+        assertThat(ex.getMessage(), containsString("are not contiguous"));
+    }
+
+    @Test
+    public void testDuplicateLeaf() {
+        final var xml = """
+            <outer-container xmlns="baz-namespace">
+              <my-container-1>
+                <my-leaf-1>value1</my-leaf-1>
+                <my-leaf-1>value2</my-leaf-1>
+              </my-container-1>
+            </outer-container>""";
+        final var ex = assertThrows(XMLStreamException.class, () -> parse(xml, true));
+        assertThat(ex.getMessage(), containsString("Duplicate element \"my-leaf-1\""));
+    }
+
+    private static NormalizedNode parse(final String xml, final boolean streaming)
+            throws IOException, XMLStreamException {
+        final var result = new NormalizationResultHolder();
+        final var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result),
+            outerContainerSchema);
+        final var reader = UntrustedXML.createXMLStreamReader(new StringReader(xml));
+        if (streaming) {
+            parser.parseStreaming(reader);
+        } else {
+            parser.parse(reader);
+        }
+        return result.getResult().data();
+    }
+}
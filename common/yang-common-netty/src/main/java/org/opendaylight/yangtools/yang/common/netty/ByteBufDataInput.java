@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.common.netty;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.ModifiedUtf8;
+import org.opendaylight.yangtools.yang.common.ModifiedUtf8.IndexedBytes;
+
+/**
+ * A {@link DataInput} reading directly from a {@link ByteBuf}, starting at its reader index and advancing it as data
+ * is read. Unlike {@link ByteBufInputStream}, modified UTF-8 strings are decoded straight from the buffer rather than
+ * one byte at a time.
+ */
+public final class ByteBufDataInput implements DataInput {
+    private final @NonNull ByteBuf buf;
+    private final @NonNull IndexedBytes utfBytes;
+
+    /**
+     * Create a new instance reading from specified buffer.
+     *
+     * @param buf buffer
+     * @throws NullPointerException if {@code buf} is null
+     */
+    public ByteBufDataInput(final ByteBuf buf) {
+        this.buf = requireNonNull(buf);
+        utfBytes = buf::getByte;
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int off, final int len) throws IOException {
+        require(len);
+        buf.readBytes(bytes, off, len);
+    }
+
+    @Override
+    public int skipBytes(final int count) {
+        final int skip = Math.max(0, Math.min(count, buf.readableBytes()));
+        buf.skipBytes(skip);
+        return skip;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(Byte.BYTES);
+        return buf.readByte();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(Short.BYTES);
+        return buf.readShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        require(Character.BYTES);
+        return buf.readChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buf.readInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        require(Long.BYTES);
+        return buf.readLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        require(Float.BYTES);
+        return buf.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        require(Double.BYTES);
+        return buf.readDouble();
+    }
+
+    @Override
+    public String readLine() {
+        if (!buf.isReadable()) {
+            return null;
+        }
+
+        final var sb = new StringBuilder();
+        while (buf.isReadable()) {
+            final char ch = (char) buf.readUnsignedByte();
+            if (ch == '\n') {
+                break;
+            }
+            if (ch == '\r') {
+                if (buf.isReadable() && buf.getByte(buf.readerIndex()) == '\n') {
+                    buf.skipBytes(1);
+                }
+                break;
+            }
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        final int utflen = readUnsignedShort();
+        require(utflen);
+
+        final int start = buf.readerIndex();
+        final var str = ModifiedUtf8.decode(utfBytes, start, utflen);
+        buf.readerIndex(start + utflen);
+        return str;
+    }
+
+    private void require(final int size) throws EOFException {
+        if (buf.readableBytes() < size) {
+            throw new EOFException("Required " + size + " bytes, only " + buf.readableBytes() + " available");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.common.netty;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A {@link DataOutput} writing directly to a {@link ByteBuf}, starting at its writer index and advancing it as data is
+ * written. The buffer is expanded as needed. Unlike {@link ByteBufOutputStream}, modified UTF-8 strings are encoded
+ * straight into the buffer rather than one byte at a time.
+ */
+public final class ByteBufDataOutput implements DataOutput {
+    private final @NonNull ByteBuf buf;
+
+    /**
+     * Create a new instance writing to specified buffer.
+     *
+     * @param buf buffer
+     * @throws NullPointerException if {@code buf} is null
+     */
+    public ByteBufDataOutput(final ByteBuf buf) {
+        this.buf = requireNonNull(buf);
+    }
+
+    @Override
+    public void write(final int value) {
+        buf.writeByte(value);
+    }
+
+    @Override
+    public void write(final byte[] bytes) {
+        buf.writeBytes(bytes);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int off, final int len) {
+        buf.writeBytes(bytes, off, len);
+    }
+
+    @Override
+    public void writeBoolean(final boolean value) {
+        buf.writeBoolean(value);
+    }
+
+    @Override
+    public void writeByte(final int value) {
+        buf.writeByte(value);
+    }
+
+    @Override
+    public void writeShort(final int value) {
+        buf.writeShort(value);
+    }
+
+    @Override
+    public void writeChar(final int value) {
+        buf.writeChar(value);
+    }
+
+    @Override
+    public void writeInt(final int value) {
+        buf.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(final long value) {
+        buf.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(final float value) {
+        buf.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(final double value) {
+        buf.writeDouble(value);
+    }
+
+    @Override
+    public void writeBytes(final String str) {
+        final int len = str.length();
+        buf.ensureWritable(len);
+        for (int i = 0; i < len; ++i) {
+            buf.writeByte(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeChars(final String str) {
+        final int len = str.length();
+        buf.ensureWritable(len * Character.BYTES);
+        for (int i = 0; i < len; ++i) {
+            buf.writeChar(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void writeUTF(final String str) throws UTFDataFormatException {
+        final int strlen = str.length();
+        int utflen = strlen;
+        for (int i = 0; i < strlen; ++i) {
+            final char ch = str.charAt(i);
+            if (ch >= 0x80 || ch == 0) {
+                utflen += ch >= 0x800 ? 2 : 1;
+            }
+        }
+        if (utflen > 65535) {
+            throw new UTFDataFormatException("encoded string too long: " + utflen + " bytes");
+        }
+
+        buf.ensureWritable(Short.BYTES + utflen);
+        buf.writeShort(utflen);
+        if (utflen == strlen) {
+            // Pure ASCII, which is the same in modified UTF-8
+            buf.writeCharSequence(str, StandardCharsets.US_ASCII);
+            return;
+        }
+
+        for (int i = 0; i < strlen; ++i) {
+            final char ch = str.charAt(i);
+            if (ch != 0 && ch < 0x80) {
+                buf.writeByte(ch);
+            } else if (ch >= 0x800) {
+                buf.writeByte(0xE0 | ch >> 12 & 0x0F)
+                    .writeByte(0x80 | ch >> 6 & 0x3F)
+                    .writeByte(0x80 | ch & 0x3F);
+            } else {
+                buf.writeByte(0xC0 | ch >> 6 & 0x1F)
+                    .writeByte(0x80 | ch & 0x3F);
+            }
+        }
+    }
+}
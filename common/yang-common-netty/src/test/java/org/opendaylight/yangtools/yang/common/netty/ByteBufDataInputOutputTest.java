@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.common.netty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import org.junit.jupiter.api.Test;
+
+public class ByteBufDataInputOutputTest {
+    private static final String UTF = "ascii " + String.valueOf(new char[] { 0, ' ', 0xE9, ' ', 0x20AC, ' ', 0xFFFF });
+
+    @Test
+    public void testSameAsDataOutputStream() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            writePrimitives(out);
+        }
+
+        // Start with a tiny buffer to exercise expansion
+        final var buf = Unpooled.buffer(4);
+        writePrimitives(new ByteBufDataOutput(buf));
+        assertArrayEquals(bytes.toByteArray(), ByteBufUtil.getBytes(buf));
+
+        assertPrimitives(new ByteBufDataInput(buf));
+        assertFalse(buf.isReadable());
+        assertPrimitives(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    public void testDirectBuffer() throws IOException {
+        final var buf = Unpooled.directBuffer(4);
+        try {
+            writePrimitives(new ByteBufDataOutput(buf));
+            assertPrimitives(new ByteBufDataInput(buf));
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testUnderflow() {
+        final var in = new ByteBufDataInput(Unpooled.wrappedBuffer(new byte[] { 0, 5, 'a' }));
+        assertThrows(EOFException.class, in::readUTF);
+    }
+
+    @Test
+    public void testMalformedUTF() {
+        final var in = new ByteBufDataInput(Unpooled.wrappedBuffer(new byte[] { 0, 2, (byte) 0xC3, 'a' }));
+        assertThrows(UTFDataFormatException.class, in::readUTF);
+    }
+
+    @Test
+    public void testReadLine() throws IOException {
+        final var in = new ByteBufDataInput(Unpooled.wrappedBuffer(new byte[] { 'a', '\r', '\n', 'b', '\n' }));
+        assertEquals("a", in.readLine());
+        assertEquals("b", in.readLine());
+        assertNull(in.readLine());
+    }
+
+    private static void writePrimitives(final DataOutput out) throws IOException {
+        out.writeBoolean(true);
+        out.writeByte(-2);
+        out.writeShort(0xFEDC);
+        out.writeChar('x');
+        out.writeInt(0x12345678);
+        out.writeLong(0x123456789ABCDEF0L);
+        out.writeFloat(1.5F);
+        out.writeDouble(-2.5D);
+        out.writeUTF("ascii");
+        out.writeUTF(UTF);
+        out.write(new byte[] { 1, 2, 3 });
+    }
+
+    private static void assertPrimitives(final DataInput in) throws IOException {
+        assertTrue(in.readBoolean());
+        assertEquals(-2, in.readByte());
+        assertEquals(0xFEDC, in.readUnsignedShort());
+        assertEquals('x', in.readChar());
+        assertEquals(0x12345678, in.readInt());
+        assertEquals(0x123456789ABCDEF0L, in.readLong());
+        assertEquals(1.5F, in.readFloat());
+        assertEquals(-2.5D, in.readDouble());
+        assertEquals("ascii", in.readUTF());
+        assertEquals(UTF, in.readUTF());
+        final var bytes = new byte[3];
+        in.readFully(bytes);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytes);
+    }
+}
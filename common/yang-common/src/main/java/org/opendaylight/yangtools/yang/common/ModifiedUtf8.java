@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.common;
+
+import com.google.common.annotations.Beta;
+import java.io.DataInput;
+import java.io.UTFDataFormatException;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Decoder of the modified UTF-8 encoding used by {@link DataInput#readUTF()}, operating on random-access byte storage,
+ * such as a {@link java.nio.ByteBuffer}. This allows {@link DataInput} implementations backed by such storage to decode
+ * strings without copying their bytes first.
+ */
+@Beta
+public final class ModifiedUtf8 {
+    /**
+     * Random-access byte storage.
+     */
+    @FunctionalInterface
+    public interface IndexedBytes {
+        /**
+         * Return the byte at specified index.
+         *
+         * @param index Byte index
+         * @return Byte at specified index
+         */
+        byte getByte(int index);
+    }
+
+    private ModifiedUtf8() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Decode a string encoded in modified UTF-8.
+     *
+     * @param bytes Storage holding the encoded string
+     * @param offset Index of the first byte of the encoded string
+     * @param length Length of the encoded string, in bytes
+     * @return Decoded string
+     * @throws UTFDataFormatException if the bytes do not represent a valid modified UTF-8 encoding of a string
+     */
+    public static @NonNull String decode(final IndexedBytes bytes, final int offset, final int length)
+            throws UTFDataFormatException {
+        final int end = offset + length;
+        final char[] chars = new char[length];
+        int count = 0;
+        int pos = offset;
+
+        // Fast path for ASCII, which is what we encounter most of the time
+        while (pos < end) {
+            final byte ascii = bytes.getByte(pos);
+            if (ascii < 0) {
+                break;
+            }
+            chars[count++] = (char) ascii;
+            pos++;
+        }
+
+        while (pos < end) {
+            final int c1 = bytes.getByte(pos) & 0xFF;
+            switch (c1 >> 4) {
+                case 0, 1, 2, 3, 4, 5, 6, 7 -> {
+                    chars[count++] = (char) c1;
+                    pos++;
+                }
+                case 12, 13 -> {
+                    if (pos + 2 > end) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    final int c2 = bytes.getByte(pos + 1);
+                    if ((c2 & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("malformed input around byte " + (pos - offset));
+                    }
+                    chars[count++] = (char) ((c1 & 0x1F) << 6 | c2 & 0x3F);
+                    pos += 2;
+                }
+                case 14 -> {
+                    if (pos + 3 > end) {
+                        throw new UTFDataFormatException("malformed input: partial character at end");
+                    }
+                    final int c2 = bytes.getByte(pos + 1);
+                    final int c3 = bytes.getByte(pos + 2);
+                    if ((c2 & 0xC0) != 0x80 || (c3 & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("malformed input around byte " + (pos - offset));
+                    }
+                    chars[count++] = (char) ((c1 & 0x0F) << 12 | (c2 & 0x3F) << 6 | c3 & 0x3F);
+                    pos += 3;
+                }
+                default -> throw new UTFDataFormatException("malformed input around byte " + (pos - offset));
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+}
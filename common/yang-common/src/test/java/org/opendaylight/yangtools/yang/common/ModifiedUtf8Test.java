@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import org.junit.jupiter.api.Test;
+
+public class ModifiedUtf8Test {
+    @Test
+    public void testDecode() throws IOException {
+        final var str = "ascii " + String.valueOf(new char[] { 0, ' ', 0xE9, ' ', 0x20AC, ' ', 0xFFFF });
+        final var bos = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(bos)) {
+            dos.writeUTF(str);
+        }
+        final var bytes = bos.toByteArray();
+        assertEquals(str, ModifiedUtf8.decode(index -> bytes[index], 2, bytes.length - 2));
+    }
+
+    @Test
+    public void testMalformedInput() {
+        final byte[] continuation = { 'a', (byte) 0x80 };
+        assertThrows(UTFDataFormatException.class,
+            () -> ModifiedUtf8.decode(index -> continuation[index], 0, continuation.length));
+        final byte[] partial = { 'a', (byte) 0xE2, (byte) 0x82 };
+        assertThrows(UTFDataFormatException.class,
+            () -> ModifiedUtf8.decode(index -> partial[index], 0, partial.length));
+    }
+}
@@ -427,4 +427,86 @@ public interface NormalizedNodeStreamWriter extends Closeable, Flushable,
         NormalizedNodeStreamWriter startMountPoint(MountPointLabel label, MountPointContext mountCtx)
             throws IOException;
     }
+
+    /**
+     * An {@link Extension} exposed by stream writers which can accept primitive scalar values without them being boxed
+     * first. Each method is semantically equivalent to invoking {@link NormalizedNodeStreamWriter#scalarValue(Object)}
+     * with the corresponding boxed value and is subject to the same restrictions. Unsigned values are passed as their
+     * two's complement bits, as returned by, for example,
+     * {@link org.opendaylight.yangtools.yang.common.Uint32#intValue()}.
+     */
+    @Beta
+    interface ScalarValueExtension extends Extension {
+        /**
+         * Set the value of current node to a {@code boolean}.
+         *
+         * @param value node value
+         * @throws IOException if an underlying IO error occurs
+         */
+        void booleanValue(boolean value) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code int8}.
+         *
+         * @param value node value
+         * @throws IOException if an underlying IO error occurs
+         */
+        void int8Value(byte value) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code int16}.
+         *
+         * @param value node value
+         * @throws IOException if an underlying IO error occurs
+         */
+        void int16Value(short value) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code int32}.
+         *
+         * @param value node value
+         * @throws IOException if an underlying IO error occurs
+         */
+        void int32Value(int value) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code int64}.
+         *
+         * @param value node value
+         * @throws IOException if an underlying IO error occurs
+         */
+        void int64Value(long value) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code uint8}.
+         *
+         * @param bits node value bits
+         * @throws IOException if an underlying IO error occurs
+         */
+        void uint8Value(byte bits) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code uint16}.
+         *
+         * @param bits node value bits
+         * @throws IOException if an underlying IO error occurs
+         */
+        void uint16Value(short bits) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code uint32}.
+         *
+         * @param bits node value bits
+         * @throws IOException if an underlying IO error occurs
+         */
+        void uint32Value(int bits) throws IOException;
+
+        /**
+         * Set the value of current node to an {@code uint64}.
+         *
+         * @param bits node value bits
+         * @throws IOException if an underlying IO error occurs
+         */
+        void uint64Value(long bits) throws IOException;
+    }
 }
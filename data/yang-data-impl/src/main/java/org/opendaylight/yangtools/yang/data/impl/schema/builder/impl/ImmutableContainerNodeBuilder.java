@@ -37,10 +37,11 @@ public class ImmutableContainerNodeBuilder
     }
 
     public static @NonNull DataContainerNodeBuilder<NodeIdentifier, ContainerNode> create(final ContainerNode node) {
-        if (!(node instanceof ImmutableContainerNode immutableNode)) {
-            throw new UnsupportedOperationException("Cannot initialize from class " + node.getClass());
+        if (node instanceof ImmutableContainerNode immutableNode) {
+            return new ImmutableContainerNodeBuilder(immutableNode);
         }
-        return new ImmutableContainerNodeBuilder(immutableNode);
+        // Other implementations do not expose their storage, copy their children
+        return new ImmutableContainerNodeBuilder(node.size()).withNodeIdentifier(node.name()).withValue(node.body());
     }
 
     @Override
@@ -184,6 +184,29 @@ public class BuilderTest {
         assertNotNull(Builders.mapBuilder(mapNode));
     }
 
+    @Test
+    public void immutableMapNodeBuilderLargeSizeHintTest() {
+        final int size = 1000;
+        final var hinted = ImmutableMapNodeBuilder.create(size).withNodeIdentifier(NODE_IDENTIFIER_LIST);
+        final var unhinted = ImmutableMapNodeBuilder.create().withNodeIdentifier(NODE_IDENTIFIER_LIST);
+        for (int i = 0; i < size; ++i) {
+            final MapEntryNode entry = ImmutableNodes.mapEntry(LIST_MAIN, LIST_MAIN_CHILD_QNAME_1, i);
+            hinted.withChild(entry);
+            unhinted.withChild(entry);
+        }
+
+        final SystemMapNode mapNode = hinted.build();
+        assertEquals(size, mapNode.size());
+        assertEquals(unhinted.build(), mapNode);
+
+        // Modifying a copy does not affect the original
+        final SystemMapNode modified = Builders.mapBuilder(mapNode).withoutChild(LIST_MAIN_CHILD_1.name()).build();
+        assertEquals(size - 1, modified.size());
+        assertEquals(size, mapNode.size());
+        assertNotNull(mapNode.childByArg(LIST_MAIN_CHILD_1.name()));
+        assertNull(modified.childByArg(LIST_MAIN_CHILD_1.name()));
+    }
+
     @Test
     public void immutableUnkeyedListEntryNodeBuilderTest() {
         final UnkeyedListEntryNode unkeyedListEntryNode = ImmutableUnkeyedListEntryNodeBuilder.create()
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * A {@link DataTreeCandidate} returned from the default implementation of
+ * {@link ReadOnlyDataTree#diff(DataTreeSnapshot, DataTreeSnapshot)}.
+ */
+final class DataDiffCandidate implements DataTreeCandidate {
+    private final YangInstanceIdentifier rootPath;
+    private final DataDiffCandidateNode rootNode;
+
+    DataDiffCandidate(final YangInstanceIdentifier rootPath, final DataTreeSnapshot from, final DataTreeSnapshot to) {
+        this.rootPath = requireNonNull(rootPath);
+        final var root = YangInstanceIdentifier.of();
+        rootNode = DataDiffCandidateNode.ofRoot(from.readNode(root).orElse(null), to.readNode(root).orElse(null));
+    }
+
+    @Override
+    public DataTreeCandidateNode getRootNode() {
+        return rootNode;
+    }
+
+    @Override
+    public YangInstanceIdentifier getRootPath() {
+        return rootPath;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("rootPath", rootPath).add("rootNode", rootNode).toString();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A {@link DataTreeCandidateNode} describing the difference between two {@link NormalizedNode}s, backing the default
+ * implementation of {@link ReadOnlyDataTree#diff(DataTreeSnapshot, DataTreeSnapshot)}. Subtrees shared by the two
+ * nodes are recognized by the identity of their data and are not traversed, all other containers are compared
+ * child-by-child. Children of terminal nodes are reported as being written or deleted.
+ */
+final class DataDiffCandidateNode implements DataTreeCandidateNode {
+    private final @Nullable PathArgument name;
+    private final @Nullable NormalizedNode before;
+    private final @Nullable NormalizedNode after;
+    private final @NonNull ModificationType type;
+    // Only populated for SUBTREE_MODIFIED, contains only the children which have been modified
+    private final @NonNull ImmutableMap<PathArgument, DataDiffCandidateNode> children;
+
+    private DataDiffCandidateNode(final @Nullable PathArgument name, final @Nullable NormalizedNode before,
+            final @Nullable NormalizedNode after, final ModificationType type,
+            final ImmutableMap<PathArgument, DataDiffCandidateNode> children) {
+        this.name = name;
+        this.before = before;
+        this.after = after;
+        this.type = requireNonNull(type);
+        this.children = requireNonNull(children);
+    }
+
+    private DataDiffCandidateNode(final PathArgument name, final @Nullable NormalizedNode before,
+            final @Nullable NormalizedNode after, final ModificationType type) {
+        this(requireNonNull(name), before, after, type, ImmutableMap.of());
+    }
+
+    static @NonNull DataDiffCandidateNode ofRoot(final @Nullable NormalizedNode before,
+            final @Nullable NormalizedNode after) {
+        return of(null, before, after);
+    }
+
+    private static @NonNull DataDiffCandidateNode of(final @Nullable PathArgument name,
+            final @Nullable NormalizedNode before, final @Nullable NormalizedNode after) {
+        if (before == null) {
+            return new DataDiffCandidateNode(name, null, after,
+                after == null ? ModificationType.UNMODIFIED : ModificationType.WRITE, ImmutableMap.of());
+        }
+        if (after == null) {
+            return new DataDiffCandidateNode(name, before, null, ModificationType.DELETE, ImmutableMap.of());
+        }
+        if (before == after) {
+            return new DataDiffCandidateNode(name, before, after, ModificationType.UNMODIFIED, ImmutableMap.of());
+        }
+
+        final var beforeContainer = getContainer(before);
+        final var afterContainer = getContainer(after);
+        if (beforeContainer != null && afterContainer != null) {
+            final var builder = ImmutableMap.<PathArgument, DataDiffCandidateNode>builder();
+            for (var afterChild : afterContainer.body()) {
+                final var id = afterChild.name();
+                final var node = of(id, beforeContainer.childByArg(id), afterChild);
+                if (node.type != ModificationType.UNMODIFIED) {
+                    builder.put(id, node);
+                }
+            }
+            for (var beforeChild : beforeContainer.body()) {
+                final var id = beforeChild.name();
+                if (afterContainer.childByArg(id) == null) {
+                    builder.put(id, new DataDiffCandidateNode(id, beforeChild, null, ModificationType.DELETE));
+                }
+            }
+            final var modified = builder.build();
+            return new DataDiffCandidateNode(name, before, after,
+                modified.isEmpty() ? ModificationType.UNMODIFIED : ModificationType.SUBTREE_MODIFIED, modified);
+        }
+
+        return new DataDiffCandidateNode(name, before, after,
+            before.equals(after) ? ModificationType.UNMODIFIED : ModificationType.WRITE, ImmutableMap.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable DistinctNodeContainer<PathArgument, NormalizedNode> getContainer(
+            final @Nullable NormalizedNode data) {
+        return data instanceof DistinctNodeContainer<?, ?> container
+            ? (DistinctNodeContainer<PathArgument, NormalizedNode>) container : null;
+    }
+
+    @Override
+    public PathArgument name() {
+        if (name == null) {
+            throw new IllegalStateException("Attempted to get identifier of the root node");
+        }
+        return name;
+    }
+
+    @Override
+    public ModificationType modificationType() {
+        return type;
+    }
+
+    @Override
+    public NormalizedNode dataBefore() {
+        return before;
+    }
+
+    @Override
+    public NormalizedNode dataAfter() {
+        return after;
+    }
+
+    @Override
+    public Collection<DataTreeCandidateNode> childNodes() {
+        return switch (type) {
+            case SUBTREE_MODIFIED -> ImmutableList.copyOf(children.values());
+            case UNMODIFIED -> {
+                final var container = getContainer(after != null ? after : before);
+                yield container == null ? ImmutableList.of() : Collections2.transform(container.body(),
+                    child -> new DataDiffCandidateNode(child.name(), child, child, ModificationType.UNMODIFIED));
+            }
+            case APPEARED, DISAPPEARED, DELETE, WRITE -> {
+                // Terminal node, fake the expectations based on before/after data
+                final var beforeContainer = getContainer(before);
+                final var afterContainer = getContainer(after);
+                final var ret = new ArrayList<DataTreeCandidateNode>();
+                if (afterContainer != null) {
+                    for (var afterChild : afterContainer.body()) {
+                        final var id = afterChild.name();
+                        ret.add(new DataDiffCandidateNode(id,
+                            beforeContainer == null ? null : beforeContainer.childByArg(id), afterChild,
+                            ModificationType.WRITE));
+                    }
+                }
+                if (beforeContainer != null) {
+                    for (var beforeChild : beforeContainer.body()) {
+                        final var id = beforeChild.name();
+                        if (afterContainer == null || afterContainer.childByArg(id) == null) {
+                            ret.add(new DataDiffCandidateNode(id, beforeChild, null, ModificationType.DELETE));
+                        }
+                    }
+                }
+                yield ret;
+            }
+        };
+    }
+
+    @Override
+    public DataTreeCandidateNode modifiedChild(final PathArgument childName) {
+        final var identifier = requireNonNull(childName);
+        return switch (type) {
+            case SUBTREE_MODIFIED -> children.get(identifier);
+            case UNMODIFIED -> {
+                final var container = getContainer(after != null ? after : before);
+                final var child = container == null ? null : container.childByArg(identifier);
+                yield child == null ? null
+                    : new DataDiffCandidateNode(identifier, child, child, ModificationType.UNMODIFIED);
+            }
+            case APPEARED, DISAPPEARED, DELETE, WRITE -> {
+                final var beforeContainer = getContainer(before);
+                final var afterContainer = getContainer(after);
+                final var beforeChild = beforeContainer == null ? null : beforeContainer.childByArg(identifier);
+                final var afterChild = afterContainer == null ? null : afterContainer.childByArg(identifier);
+                if (afterChild != null) {
+                    yield new DataDiffCandidateNode(identifier, beforeChild, afterChild, ModificationType.WRITE);
+                }
+                yield beforeChild == null ? null
+                    : new DataDiffCandidateNode(identifier, beforeChild, null, ModificationType.DELETE);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("name", name)
+            .add("type", type)
+            .add("children", children.isEmpty() ? null : children.values())
+            .toString();
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.api;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
@@ -29,4 +31,36 @@ public interface DataTree extends DataTreeTip, ReadOnlyDataTree {
      * @param candidate data tree candidate
      */
     void commit(DataTreeCandidate candidate);
+
+    /**
+     * Validate, prepare and commit a batch of sealed modifications. Each modification is validated against the state
+     * resulting from all preceding modifications in the batch, as if it were validated against the
+     * {@link DataTreeCandidateTip} of its predecessor. Implementations are encouraged to publish the resulting state
+     * in a single step, so that the cost of committing is amortized across the entire batch.
+     *
+     * <p>
+     * The batch is processed atomically: if any modification fails to validate, no modification in the batch is
+     * committed and the failure is reported to the caller, who can then retry the remaining modifications
+     * individually.
+     *
+     * <p>
+     * Default implementation validates, prepares and commits each modification in turn, and hence is not atomic.
+     *
+     * @param modifications Modifications to commit, in commit order
+     * @return Candidates corresponding to each modification, in the same order
+     * @throws DataValidationFailedException if any of the modifications fails to validate
+     * @throws NullPointerException if {@code modifications} is, or contains, {@code null}
+     * @throws IllegalArgumentException if any of the modifications has not been sealed or belongs to another tree
+     */
+    default List<DataTreeCandidate> commitBatch(final List<? extends DataTreeModification> modifications)
+            throws DataValidationFailedException {
+        final var candidates = new ArrayList<DataTreeCandidate>(modifications.size());
+        for (var modification : modifications) {
+            validate(modification);
+            final var candidate = prepare(modification);
+            commit(candidate);
+            candidates.add(candidate);
+        }
+        return candidates;
+    }
 }
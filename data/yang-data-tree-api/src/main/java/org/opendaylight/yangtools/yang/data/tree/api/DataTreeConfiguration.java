@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.api;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
@@ -25,6 +26,9 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
  * <li>treeType</li>
  * <li>enable/disable unique indexes and unique constraint validation</li>
  * <li>enable/disable mandatory nodes validation</li>
+ * <li>parallel apply/validation threshold</li>
+ * <li>compact leaf storage</li>
+ * <li>leaf interning</li>
  * </ul>
  *
  * <p>
@@ -49,13 +53,20 @@ public class DataTreeConfiguration implements Immutable {
     private final @NonNull YangInstanceIdentifier rootPath;
     private final boolean uniqueIndexes;
     private final boolean mandatoryNodesValidation;
+    private final int parallelApplyThreshold;
+    private final boolean compactLeafStorage;
+    private final boolean leafInterning;
 
     DataTreeConfiguration(final TreeType treeType, final YangInstanceIdentifier rootPath, final boolean uniqueIndexes,
-            final boolean mandatoryNodesValidation) {
+            final boolean mandatoryNodesValidation, final int parallelApplyThreshold,
+            final boolean compactLeafStorage, final boolean leafInterning) {
         this.treeType = requireNonNull(treeType);
         this.rootPath = requireNonNull(rootPath);
         this.uniqueIndexes = uniqueIndexes;
         this.mandatoryNodesValidation = mandatoryNodesValidation;
+        this.parallelApplyThreshold = parallelApplyThreshold;
+        this.compactLeafStorage = compactLeafStorage;
+        this.leafInterning = leafInterning;
     }
 
     public @NonNull YangInstanceIdentifier getRootPath() {
@@ -74,11 +85,50 @@ public class DataTreeConfiguration implements Immutable {
         return mandatoryNodesValidation;
     }
 
+    /**
+     * Return the minimum number of child modifications of a single node, at which they are validated and applied
+     * in parallel, using the {@link java.util.concurrent.ForkJoinPool}. A value of {@code 0} indicates all
+     * modifications are processed sequentially.
+     *
+     * @return Parallel apply threshold, or {@code 0} if parallel processing is disabled
+     */
+    public int getParallelApplyThreshold() {
+        return parallelApplyThreshold;
+    }
+
+    /**
+     * Return {@code true} if the tree stores leaves compactly. Leaves then do not retain per-leaf version metadata,
+     * but are kept only in their parent's data and are materialized on access, with their parent's version. Values of
+     * leaves of integral types are furthermore packed into primitive slots of their parent container or list entry,
+     * laid out in schema order. This cuts memory overhead of frequently-updated leaves, such as those holding
+     * statistics, at the cost of rebuilding written subtrees and of conflict detection comparing leaf values rather
+     * than versions: a concurrent transaction writing the same value into a leaf is not reported as conflicting.
+     *
+     * @return {@code true} if compact leaf storage is enabled
+     */
+    public boolean isCompactLeafStorageEnabled() {
+        return compactLeafStorage;
+    }
+
+    /**
+     * Return {@code true} if leaves written into the tree are interned, so that identical leaves share a single
+     * instance. This reduces memory footprint of trees with a lot of redundancy in leaf values at the cost of
+     * traversing each written subtree.
+     *
+     * @return {@code true} if leaf interning is enabled
+     */
+    public boolean isLeafInterningEnabled() {
+        return leafInterning;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this).add("type", treeType).add("root", rootPath)
                 .add("mandatory", mandatoryNodesValidation)
-                .add("unique", uniqueIndexes).toString();
+                .add("unique", uniqueIndexes)
+                .add("parallelThreshold", parallelApplyThreshold)
+                .add("compactLeaves", compactLeafStorage)
+                .add("leafInterning", leafInterning).toString();
     }
 
     public static DataTreeConfiguration getDefault(final TreeType treeType) {
@@ -96,7 +146,10 @@ public class DataTreeConfiguration implements Immutable {
         return new Builder(treeType)
                 .setMandatoryNodesValidation(isMandatoryNodesValidationEnabled())
                 .setUniqueIndexes(isUniqueIndexEnabled())
-                .setRootPath(getRootPath());
+                .setRootPath(getRootPath())
+                .setParallelApplyThreshold(getParallelApplyThreshold())
+                .setCompactLeafStorage(isCompactLeafStorageEnabled())
+                .setLeafInterning(isLeafInterningEnabled());
     }
 
     public static class Builder implements Mutable {
@@ -105,6 +158,9 @@ public class DataTreeConfiguration implements Immutable {
         private YangInstanceIdentifier rootPath;
         private boolean uniqueIndexes;
         private boolean mandatoryNodesValidation;
+        private int parallelApplyThreshold;
+        private boolean compactLeafStorage;
+        private boolean leafInterning;
 
         public Builder(final TreeType treeType) {
             this.treeType = requireNonNull(treeType);
@@ -121,6 +177,43 @@ public class DataTreeConfiguration implements Immutable {
             return this;
         }
 
+        /**
+         * Set the minimum number of child modifications of a single node, at which they are processed in parallel.
+         * Parallel processing is disabled by default and can be disabled by setting this value to {@code 0}.
+         *
+         * @param parallelApplyThreshold Parallel apply threshold
+         * @return This builder
+         * @throws IllegalArgumentException if {@code parallelApplyThreshold} is negative
+         */
+        public @NonNull Builder setParallelApplyThreshold(final int parallelApplyThreshold) {
+            checkArgument(parallelApplyThreshold >= 0, "Invalid parallel apply threshold %s", parallelApplyThreshold);
+            this.parallelApplyThreshold = parallelApplyThreshold;
+            return this;
+        }
+
+        /**
+         * Enable or disable compact leaf storage. See {@link DataTreeConfiguration#isCompactLeafStorageEnabled()} for
+         * the trade-offs involved. Compact leaf storage is disabled by default.
+         *
+         * @param compactLeafStorage {@code true} to enable compact leaf storage
+         * @return This builder
+         */
+        public @NonNull Builder setCompactLeafStorage(final boolean compactLeafStorage) {
+            this.compactLeafStorage = compactLeafStorage;
+            return this;
+        }
+
+        /**
+         * Enable or disable interning of written leaves. Leaf interning is disabled by default.
+         *
+         * @param leafInterning {@code true} to enable leaf interning
+         * @return This builder
+         */
+        public @NonNull Builder setLeafInterning(final boolean leafInterning) {
+            this.leafInterning = leafInterning;
+            return this;
+        }
+
         public @NonNull Builder setRootPath(final YangInstanceIdentifier rootPath) {
             this.rootPath = rootPath.toOptimized();
             return this;
@@ -132,7 +225,8 @@ public class DataTreeConfiguration implements Immutable {
          * @return A DataTreeConfiguration
          */
         public @NonNull DataTreeConfiguration build() {
-            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation);
+            return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation,
+                parallelApplyThreshold, compactLeafStorage, leafInterning);
         }
     }
 }
@@ -33,4 +33,23 @@ public interface ReadOnlyDataTree {
      * @return Data tree snapshot.
      */
     DataTreeSnapshot takeSnapshot();
+
+    /**
+     * Compute the difference between two snapshots of this tree. The returned {@link DataTreeCandidate} is rooted at
+     * {@link #getRootPath()} and describes the changes which transform the contents of {@code from} into the contents
+     * of {@code to}. Implementations are expected to skip over subtrees shared by the two snapshots, so that the cost
+     * of this operation is proportional to the actual difference rather than to the size of the snapshots.
+     *
+     * <p>
+     * Default implementation compares the data of the two snapshots. It recognizes shared subtrees only by the identity
+     * of their data, hence it visits all children of each container whose data differs.
+     *
+     * @param from Snapshot to compare from
+     * @param to Snapshot to compare to
+     * @return A {@link DataTreeCandidate} describing the difference
+     * @throws IllegalArgumentException if either snapshot was not taken from this tree
+     */
+    default DataTreeCandidate diff(final DataTreeSnapshot from, final DataTreeSnapshot to) {
+        return new DataDiffCandidate(getRootPath(), from, to);
+    }
 }
@@ -12,8 +12,12 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Verify;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -41,7 +45,8 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
 
         Invisible(final NormalizedNodeContainerSupport<?, ?> support, final DataTreeConfiguration treeConfig,
                 final SchemaAwareApplyOperation<T> entryStrategy) {
-            super(support, treeConfig);
+            // Our children are entries, hence there are no leaves to store compactly
+            super(support, treeConfig, false);
             this.entryStrategy = requireNonNull(entryStrategy);
         }
 
@@ -65,7 +70,7 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
 
         Visible(final NormalizedNodeContainerSupport<?, ?> support, final DataTreeConfiguration treeConfig,
                 final T schema) {
-            super(support, treeConfig);
+            super(support, treeConfig, treeConfig.isCompactLeafStorageEnabled());
             this.schema = requireNonNull(schema);
         }
 
@@ -89,11 +94,19 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
 
     private final NormalizedNodeContainerSupport<?, ?> support;
     private final boolean verifyChildrenStructure;
+    private final int parallelThreshold;
+    private final boolean compactLeaves;
+    private final boolean packLeaves;
+    private final boolean internLeaves;
 
     AbstractNodeContainerModificationStrategy(final NormalizedNodeContainerSupport<?, ?> support,
-            final DataTreeConfiguration treeConfig) {
+            final DataTreeConfiguration treeConfig, final boolean compactLeaves) {
         this.support = requireNonNull(support);
         verifyChildrenStructure = treeConfig.getTreeType() == TreeType.CONFIGURATION;
+        parallelThreshold = treeConfig.getParallelApplyThreshold();
+        this.compactLeaves = compactLeaves;
+        packLeaves = treeConfig.isCompactLeafStorageEnabled();
+        internLeaves = treeConfig.isLeafInterningEnabled();
     }
 
     @Override
@@ -163,8 +176,10 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
     }
 
     @Override
-    protected TreeNode applyWrite(final ModifiedNode modification, final NormalizedNode newValue,
+    protected TreeNode applyWrite(final ModifiedNode modification, final NormalizedNode writtenValue,
             final Optional<? extends TreeNode> currentMeta, final Version version) {
+        final NormalizedNode interned = internLeaves ? internLeaves(writtenValue) : writtenValue;
+        final NormalizedNode newValue = packLeaves ? packLeaves(interned) : interned;
         final TreeNode newValueMeta = TreeNode.of(newValue, version);
 
         if (modification.getChildren().isEmpty()) {
@@ -198,6 +213,51 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
         return TreeNode.of(result.getData(), version);
     }
 
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    final NormalizedNode internLeaves(final NormalizedNode value) {
+        // Rebuild the container only if any of its children has changed
+        NormalizedNodeContainerBuilder builder = null;
+        for (var child : ((NormalizedNodeContainer<?>) value).body()) {
+            final var interned = resolveChildOperation(child.name()).internLeaves(child);
+            if (interned != child) {
+                if (builder == null) {
+                    builder = support.createBuilder(value);
+                }
+                builder.addChild(interned);
+            }
+        }
+        return builder == null ? value : builder.build();
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    final NormalizedNode packLeaves(final NormalizedNode value) {
+        // Pack the children first, rebuilding the container only if any of them has changed
+        NormalizedNodeContainerBuilder builder = null;
+        for (var child : ((NormalizedNodeContainer<?>) value).body()) {
+            final var packed = resolveChildOperation(child.name()).packLeaves(child);
+            if (packed != child) {
+                if (builder == null) {
+                    builder = support.createBuilder(value);
+                }
+                builder.addChild(packed);
+            }
+        }
+        return packData(builder == null ? value : builder.build());
+    }
+
+    /**
+     * Return the representation of this node's data to be stored in the tree. Children of the data are expected to have
+     * been packed already. The default implementation returns the data unchanged.
+     *
+     * @param data Data of this node
+     * @return Data equal to {@code data}
+     */
+    NormalizedNode packData(final NormalizedNode data) {
+        return data;
+    }
+
     /**
      * Applies write/remove diff operation for each modification child in modification subtree.
      * Operation also sets the Data tree references for each Tree Node (Index Node) in meta (MutableTreeNode) structure.
@@ -210,27 +270,68 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private TreeNode mutateChildren(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
-            final Version nodeVersion, final Iterable<ModifiedNode> modifications) {
-
-        for (final ModifiedNode mod : modifications) {
-            final PathArgument id = mod.getIdentifier();
-            final Optional<? extends TreeNode> cm = meta.findChildByArg(id);
-
-            final Optional<? extends TreeNode> result = resolveChildOperation(id).apply(mod, cm, nodeVersion);
-            if (result.isPresent()) {
-                final TreeNode tn = result.orElseThrow();
-                meta.putChild(tn);
-                data.addChild(tn.getData());
-            } else {
-                meta.removeChild(id);
-                data.removeChild(id);
+            final Version nodeVersion, final Collection<ModifiedNode> modifications) {
+        if (compactLeaves) {
+            meta.setCompactLeaves();
+        }
+        if (isParallel(modifications)) {
+            mutateChildrenParallel(meta, data, nodeVersion, modifications);
+        } else {
+            for (final ModifiedNode mod : modifications) {
+                final PathArgument id = mod.getIdentifier();
+                final Optional<? extends TreeNode> cm = meta.findChildByArg(id);
+                mutateChild(meta, data, id, resolveChildOperation(id).apply(mod, cm, nodeVersion));
             }
         }
 
-        meta.setData(data.build());
+        meta.setData(packData(data.build()));
         return meta.seal();
     }
 
+    /**
+     * Apply child modifications in parallel. Current children are looked up sequentially, as {@link MutableTreeNode}
+     * is not thread-safe, and the results are merged back in iteration order, so that the outcome does not depend on
+     * scheduling.
+     */
+    @SuppressWarnings("rawtypes")
+    private void mutateChildrenParallel(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
+            final Version nodeVersion, final Collection<ModifiedNode> modifications) {
+        final List<ModifiedNode> mods = List.copyOf(modifications);
+        final List<Optional<? extends TreeNode>> current = new ArrayList<>(mods.size());
+        for (final ModifiedNode mod : mods) {
+            current.add(meta.findChildByArg(mod.getIdentifier()));
+        }
+
+        final List<Optional<? extends TreeNode>> results = IntStream.range(0, mods.size()).parallel()
+            .<Optional<? extends TreeNode>>mapToObj(i -> {
+                final ModifiedNode mod = mods.get(i);
+                return resolveChildOperation(mod.getIdentifier()).apply(mod, current.get(i), nodeVersion);
+            })
+            .toList();
+
+        for (int i = 0; i < mods.size(); ++i) {
+            mutateChild(meta, data, mods.get(i).getIdentifier(), results.get(i));
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void mutateChild(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
+            final PathArgument id, final Optional<? extends TreeNode> result) {
+        if (result.isPresent()) {
+            final TreeNode tn = result.orElseThrow();
+            meta.putChild(tn);
+            data.addChild(tn.getData());
+        } else {
+            meta.removeChild(id);
+            data.removeChild(id);
+        }
+    }
+
+    @Override
+    final boolean isParallel(final Collection<? extends NodeModification> children) {
+        return parallelThreshold != 0 && children.size() >= parallelThreshold;
+    }
+
     @Override
     protected TreeNode applyMerge(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
         /*
@@ -406,7 +507,13 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
      */
     private void checkChildPreconditions(final ModificationPath path, final NodeModification modification,
             final TreeNode current, final Version version) throws DataValidationFailedException {
-        for (final NodeModification childMod : modification.getChildren()) {
+        final Collection<? extends NodeModification> children = modification.getChildren();
+        if (isParallel(children)) {
+            checkChildPreconditionsParallel(path, children, current, version);
+            return;
+        }
+
+        for (final NodeModification childMod : children) {
             final PathArgument childId = childMod.getIdentifier();
             final Optional<? extends TreeNode> childMeta = current.findChildByArg(childId);
 
@@ -419,8 +526,40 @@ abstract class AbstractNodeContainerModificationStrategy<T extends DataSchemaNod
         }
     }
 
+    /**
+     * Check child preconditions in parallel. Each child is checked with its own copy of {@code path}. If multiple
+     * children fail validation, we report the failure of the first one in iteration order, just as sequential
+     * processing would.
+     */
+    private void checkChildPreconditionsParallel(final ModificationPath path,
+            final Collection<? extends NodeModification> children, final TreeNode current, final Version version)
+                throws DataValidationFailedException {
+        final List<? extends NodeModification> mods = List.copyOf(children);
+        final Optional<DataValidationFailedException> failure = IntStream.range(0, mods.size()).parallel()
+            .mapToObj(i -> {
+                final NodeModification childMod = mods.get(i);
+                final PathArgument childId = childMod.getIdentifier();
+                final ModificationPath childPath = path.copy();
+                childPath.push(childId);
+                try {
+                    resolveChildOperation(childId).checkApplicable(childPath, childMod,
+                        current.findChildByArg(childId), version);
+                    return null;
+                } catch (DataValidationFailedException e) {
+                    return e;
+                }
+            })
+            .filter(Objects::nonNull)
+            .findFirst();
+        if (failure.isPresent()) {
+            throw failure.orElseThrow();
+        }
+    }
+
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
-        return helper.add("support", support).add("verifyChildren", verifyChildrenStructure);
+        return helper.add("support", support).add("verifyChildren", verifyChildrenStructure)
+            .add("parallelThreshold", parallelThreshold).add("compactLeaves", compactLeaves)
+            .add("packLeaves", packLeaves).add("internLeaves", internLeaves);
     }
 }
@@ -10,8 +10,10 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 
 abstract class AbstractReadyIterator {
@@ -19,11 +21,15 @@ abstract class AbstractReadyIterator {
     final ModifiedNode node;
     final ModificationApplyOperation op;
 
+    // Childless children, which are sealed in parallel once we have processed all children, null if not parallel
+    private final List<ModifiedNode> deferred;
+
     private AbstractReadyIterator(final ModifiedNode node, final Iterator<ModifiedNode> children,
             final ModificationApplyOperation operation) {
         this.children = requireNonNull(children);
         this.node = requireNonNull(node);
         this.op = requireNonNull(operation);
+        deferred = operation.isParallel(node.getChildren()) ? new ArrayList<>() : null;
     }
 
     static AbstractReadyIterator create(final ModifiedNode root, final ModificationApplyOperation operation) {
@@ -41,6 +47,11 @@ abstract class AbstractReadyIterator {
             final Collection<ModifiedNode> grandChildren = child.getChildren();
 
             if (grandChildren.isEmpty()) {
+                if (deferred != null) {
+                    deferred.add(child);
+                    continue;
+                }
+
                 // The child is empty, seal it
                 child.seal(childOp, version);
                 if (child.getOperation() == LogicalOperation.NONE) {
@@ -51,6 +62,13 @@ abstract class AbstractReadyIterator {
             }
         }
 
+        if (deferred != null && !deferred.isEmpty()) {
+            // Seal childless children in parallel, removing any no-ops afterwards. These are the only children which
+            // can still be NONE, as nested iterators have already removed theirs.
+            deferred.parallelStream().forEach(child -> child.seal(op.childByArg(child.getIdentifier()), version));
+            node.getChildren().removeIf(child -> child.getOperation() == LogicalOperation.NONE);
+        }
+
         // We are done with this node, seal it.
         node.seal(op, version);
 
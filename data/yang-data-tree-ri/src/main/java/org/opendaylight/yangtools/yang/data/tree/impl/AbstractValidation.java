@@ -11,6 +11,7 @@ import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Collection;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -44,6 +45,21 @@ abstract class AbstractValidation extends ModificationApplyOperation {
         return delegate.getChildPolicy();
     }
 
+    @Override
+    final boolean isParallel(final Collection<? extends NodeModification> children) {
+        return delegate.isParallel(children);
+    }
+
+    @Override
+    final NormalizedNode internLeaves(final NormalizedNode value) {
+        return delegate.internLeaves(value);
+    }
+
+    @Override
+    final NormalizedNode packLeaves(final NormalizedNode value) {
+        return delegate.packLeaves(value);
+    }
+
     @Override
     final void mergeIntoModifiedNode(final ModifiedNode node, final NormalizedNode value, final Version version) {
         delegate.mergeIntoModifiedNode(node, value, version);
@@ -74,7 +90,9 @@ abstract class AbstractValidation extends ModificationApplyOperation {
 
             // Deal with the result moving on us
             ret = delegate.apply(modification, storeMeta, version);
-            ret.ifPresent(meta -> enforceOnData(meta.getData()));
+            if (ret.isPresent()) {
+                enforceOnTreeNode(modification, storeMeta, ret.orElseThrow());
+            }
         }
         return ret;
     }
@@ -91,14 +109,14 @@ abstract class AbstractValidation extends ModificationApplyOperation {
 
         final ModifiedNode modified = (ModifiedNode) modification;
         if (delegate instanceof AbstractValidation) {
-            checkApplicable(path, verifyNotNull(modified.getValidatedNode(delegate, current)));
+            checkApplicable(path, modified, current, verifyNotNull(modified.getValidatedNode(delegate, current)));
             return;
         }
 
         // We need to actually perform the operation to deal with merge in a sane manner. We know the modification
         // is immutable, so the result of validation will probably not change. Note we should not be checking number
         final Optional<? extends TreeNode> applied = delegate.apply(modified, current, version);
-        checkApplicable(path, applied);
+        checkApplicable(path, modified, current, applied);
 
         // Everything passed. We now have a snapshot of the result node, it would be too bad if we just threw it out.
         // We know what the result of an apply operation is going to be *if* the following are kept unchanged:
@@ -109,11 +127,12 @@ abstract class AbstractValidation extends ModificationApplyOperation {
         modified.setValidatedNode(this, current, applied);
     }
 
-    private void checkApplicable(final ModificationPath path, final Optional<? extends TreeNode> applied)
-            throws DataValidationFailedException {
+    private void checkApplicable(final ModificationPath path, final ModifiedNode modification,
+            final Optional<? extends TreeNode> current, final Optional<? extends TreeNode> applied)
+                throws DataValidationFailedException {
         if (applied.isPresent()) {
             // We only enforce min/max on present data and rely on MandatoryLeafEnforcer to take care of the empty case
-            enforceOnData(path, applied.orElseThrow().getData());
+            enforceOnTreeNode(path, modification, current, applied.orElseThrow());
         }
     }
 
@@ -127,6 +146,35 @@ abstract class AbstractValidation extends ModificationApplyOperation {
         return delegate;
     }
 
+    /**
+     * Enforce this validation on the result of applying a modification. The default implementation defers to
+     * {@link #enforceOnData(ModificationPath, NormalizedNode)}. Implementations may override this method to take
+     * advantage of the knowledge of what the modification has changed compared to the current node.
+     *
+     * @param path Modification path
+     * @param modification Modification being applied
+     * @param current Current node, i.e. before the modification was applied
+     * @param applied Result of applying the modification
+     * @throws DataValidationFailedException if the validation fails
+     */
+    void enforceOnTreeNode(final ModificationPath path, final ModifiedNode modification,
+            final Optional<? extends TreeNode> current, final TreeNode applied) throws DataValidationFailedException {
+        enforceOnData(path, applied.getData());
+    }
+
+    /**
+     * Enforce this validation on the result of applying a modification. The default implementation defers to
+     * {@link #enforceOnData(NormalizedNode)}.
+     *
+     * @param modification Modification being applied
+     * @param current Current node, i.e. before the modification was applied
+     * @param applied Result of applying the modification
+     */
+    void enforceOnTreeNode(final ModifiedNode modification, final Optional<? extends TreeNode> current,
+            final TreeNode applied) {
+        enforceOnData(applied.getData());
+    }
+
     abstract void enforceOnData(ModificationPath path, NormalizedNode value) throws DataValidationFailedException;
 
     abstract void enforceOnData(@NonNull NormalizedNode data);
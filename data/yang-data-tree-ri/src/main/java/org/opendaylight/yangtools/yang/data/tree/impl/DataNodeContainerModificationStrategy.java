@@ -15,6 +15,7 @@ import java.lang.invoke.VarHandle;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.impl.AbstractNodeContainerModificationStrategy.Visible;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
@@ -42,6 +43,7 @@ class DataNodeContainerModificationStrategy<T extends DataSchemaNode & DataNodeC
     }
 
     private final @NonNull DataTreeConfiguration treeConfig;
+    private final @Nullable LeafSlotLayout layout;
 
     @SuppressWarnings("unused")
     private volatile ImmutableMap<PathArgument, ModificationApplyOperation> children = ImmutableMap.of();
@@ -50,6 +52,12 @@ class DataNodeContainerModificationStrategy<T extends DataSchemaNode & DataNodeC
             final DataTreeConfiguration treeConfig) {
         super(support, treeConfig, schema);
         this.treeConfig = requireNonNull(treeConfig, "treeConfig");
+        layout = treeConfig.isCompactLeafStorageEnabled() ? LeafSlotLayout.of(schema) : null;
+    }
+
+    @Override
+    final NormalizedNode packData(final NormalizedNode data) {
+        return layout == null ? data : layout.pack(data);
     }
 
     @Override
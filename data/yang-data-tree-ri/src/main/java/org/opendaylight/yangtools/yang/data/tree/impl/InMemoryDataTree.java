@@ -12,14 +12,22 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.base.MoreObjects;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeTip;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
@@ -134,6 +142,19 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
         return currentState().newSnapshot();
     }
 
+    @Override
+    public DataTreeCandidate diff(final DataTreeSnapshot from, final DataTreeSnapshot to) {
+        return DataTreeCandidates.newDataTreeCandidate(getRootPath(),
+            SnapshotDiffCandidateNode.ofRoot(checkSnapshot(from).getRootNode(), checkSnapshot(to).getRootNode()));
+    }
+
+    private static InMemoryDataTreeSnapshot checkSnapshot(final DataTreeSnapshot snapshot) {
+        if (!(snapshot instanceof InMemoryDataTreeSnapshot s)) {
+            throw new IllegalArgumentException("Invalid snapshot class " + snapshot.getClass());
+        }
+        return s;
+    }
+
     @Override
     public void commit(final DataTreeCandidate candidate) {
         if (candidate instanceof NoopDataTreeCandidate) {
@@ -143,11 +164,44 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             throw new IllegalArgumentException("Invalid candidate class " + candidate.getClass());
         }
 
+        updateRoot(c.getBeforeRoot(), c.getTipRoot());
+    }
+
+    @Override
+    public List<DataTreeCandidate> commitBatch(final List<? extends DataTreeModification> modifications)
+            throws DataValidationFailedException {
+        final var candidates = new ArrayList<DataTreeCandidate>(modifications.size());
+
+        // Validate and prepare each modification on top of its predecessor's candidate, remembering the first and
+        // last real candidates, which delimit the root swap we need to perform.
+        DataTreeTip tip = this;
+        InMemoryDataTreeCandidate first = null;
+        InMemoryDataTreeCandidate last = null;
+        for (var modification : modifications) {
+            tip.validate(modification);
+            final DataTreeCandidateTip candidate = tip.prepare(modification);
+            if (candidate instanceof InMemoryDataTreeCandidate c) {
+                if (first == null) {
+                    first = c;
+                }
+                last = c;
+            }
+            candidates.add(candidate);
+            tip = candidate;
+        }
+
+        if (first != null) {
+            LOG.debug("Committing batch of {} modifications", candidates.size());
+            updateRoot(first.getBeforeRoot(), last.getTipRoot());
+        }
+        return candidates;
+    }
+
+    private void updateRoot(final TreeNode oldRoot, final TreeNode newRoot) {
         if (LOG.isTraceEnabled()) {
-            LOG.trace("Data Tree is {}", NormalizedNodes.toStringTree(c.getTipRoot().getData()));
+            LOG.trace("Data Tree is {}", NormalizedNodes.toStringTree(newRoot.getData()));
         }
 
-        final TreeNode newRoot = c.getTipRoot();
         DataTreeState currentState;
         DataTreeState newState;
         do {
@@ -155,7 +209,6 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             final TreeNode currentRoot = currentState.getRoot();
             LOG.debug("Updating datastore from {} to {}", currentRoot, newRoot);
 
-            final TreeNode oldRoot = c.getBeforeRoot();
             if (oldRoot != currentRoot) {
                 final String oldStr = simpleToString(oldRoot);
                 final String currentStr = simpleToString(currentRoot);
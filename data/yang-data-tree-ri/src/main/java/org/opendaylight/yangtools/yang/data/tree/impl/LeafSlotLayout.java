@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.util.ImmutableOffsetMap;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafOperations;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+
+/**
+ * Layout of a {@link PackedDataContainerNode}. Each leaf of an integral type defined by the schema of a container or
+ * a list is assigned a slot in schema order. Values of these leaves are stored as bits of a {@code long} in their
+ * slot, all other children are stored as usual.
+ */
+final class LeafSlotLayout {
+    /**
+     * Type of a slot, i.e. the conversion between a value and its bits.
+     */
+    private enum SlotType {
+        INT8(Byte.class) {
+            @Override
+            Object decode(final long bits) {
+                return (byte) bits;
+            }
+        },
+        INT16(Short.class) {
+            @Override
+            Object decode(final long bits) {
+                return (short) bits;
+            }
+        },
+        INT32(Integer.class) {
+            @Override
+            Object decode(final long bits) {
+                return (int) bits;
+            }
+        },
+        INT64(Long.class) {
+            @Override
+            Object decode(final long bits) {
+                return bits;
+            }
+        },
+        UINT8(Uint8.class) {
+            @Override
+            Object decode(final long bits) {
+                return Uint8.fromByteBits((byte) bits);
+            }
+        },
+        UINT16(Uint16.class) {
+            @Override
+            Object decode(final long bits) {
+                return Uint16.fromShortBits((short) bits);
+            }
+        },
+        UINT32(Uint32.class) {
+            @Override
+            Object decode(final long bits) {
+                return Uint32.fromIntBits((int) bits);
+            }
+        },
+        UINT64(Uint64.class) {
+            @Override
+            Object decode(final long bits) {
+                return Uint64.fromLongBits(bits);
+            }
+        };
+
+        private final Class<?> valueClass;
+
+        SlotType(final Class<?> valueClass) {
+            this.valueClass = requireNonNull(valueClass);
+        }
+
+        final boolean accepts(final Object value) {
+            return valueClass.isInstance(value);
+        }
+
+        // All value classes are Numbers whose longValue() retains all bits needed by decode()
+        final long encode(final Object value) {
+            return ((Number) value).longValue();
+        }
+
+        abstract @NonNull Object decode(long bits);
+
+        static @Nullable SlotType of(final TypeDefinition<?> type) {
+            if (type instanceof Int8TypeDefinition) {
+                return INT8;
+            } else if (type instanceof Int16TypeDefinition) {
+                return INT16;
+            } else if (type instanceof Int32TypeDefinition) {
+                return INT32;
+            } else if (type instanceof Int64TypeDefinition) {
+                return INT64;
+            } else if (type instanceof Uint8TypeDefinition) {
+                return UINT8;
+            } else if (type instanceof Uint16TypeDefinition) {
+                return UINT16;
+            } else if (type instanceof Uint32TypeDefinition) {
+                return UINT32;
+            } else if (type instanceof Uint64TypeDefinition) {
+                return UINT64;
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private final @NonNull ImmutableMap<NodeIdentifier, Integer> offsets;
+    private final @NonNull NodeIdentifier[] ids;
+    private final @NonNull SlotType[] types;
+
+    private LeafSlotLayout(final ImmutableMap<NodeIdentifier, Integer> offsets, final SlotType[] types) {
+        this.offsets = requireNonNull(offsets);
+        this.types = requireNonNull(types);
+        ids = offsets.keySet().toArray(new NodeIdentifier[0]);
+    }
+
+    /**
+     * Create the layout for specified schema.
+     *
+     * @param schema Schema of a container or a list
+     * @return A layout, or {@code null} if the schema does not define any leaves which could be packed
+     */
+    static @Nullable LeafSlotLayout of(final DataNodeContainer schema) {
+        final var offsets = ImmutableMap.<NodeIdentifier, Integer>builder();
+        final var types = new ArrayList<SlotType>();
+        for (var child : schema.getChildNodes()) {
+            // Presence of slots is tracked in a long, hence we are limited in their number
+            if (child instanceof LeafSchemaNode leaf && types.size() < Long.SIZE) {
+                final var type = SlotType.of(leaf.getType());
+                if (type != null) {
+                    offsets.put(NodeIdentifier.create(leaf.getQName()), types.size());
+                    types.add(type);
+                }
+            }
+        }
+        return types.isEmpty() ? null : new LeafSlotLayout(offsets.build(), types.toArray(new SlotType[0]));
+    }
+
+    /**
+     * Pack the data of a node with this layout.
+     *
+     * @param data Data to pack
+     * @return A {@link PackedDataContainerNode}, or {@code data} if it cannot be packed
+     */
+    @NonNull NormalizedNode pack(final @NonNull NormalizedNode data) {
+        if (data instanceof PackedDataContainerNode<?, ?> packed && packed.layout() == this
+            || !(data instanceof MapEntryNode || data instanceof ContainerNode)) {
+            return data;
+        }
+
+        final var container = (DataContainerNode) data;
+        final var bits = new long[ids.length];
+        final var others = new HashMap<NodeIdentifier, Object>();
+        long present = 0;
+        for (var child : container.body()) {
+            final var id = child.name();
+            final var offset = offsets.get(id);
+            if (offset != null && child instanceof LeafNode<?> leaf) {
+                final var slot = offset.intValue();
+                final var value = leaf.body();
+                if (types[slot].accepts(value)) {
+                    bits[slot] = types[slot].encode(value);
+                    present |= 1L << slot;
+                    continue;
+                }
+            }
+            LazyLeafOperations.putChild(others, child);
+        }
+        if (present == 0) {
+            return data;
+        }
+
+        // Retain only the bits of present slots, in slot order
+        final var values = new long[Long.bitCount(present)];
+        int index = 0;
+        for (long remaining = present; remaining != 0; remaining &= remaining - 1) {
+            values[index++] = bits[Long.numberOfTrailingZeros(remaining)];
+        }
+        final var children = others.isEmpty() ? ImmutableMap.<NodeIdentifier, Object>of()
+            : ImmutableOffsetMap.unorderedCopyOf(others);
+
+        if (data instanceof MapEntryNode entry) {
+            return new PackedDataContainerNode.MapEntry(entry.name(), this, present, values, children);
+        }
+        return new PackedDataContainerNode.Container(((ContainerNode) data).name(), this, present, values, children);
+    }
+
+    int slotCount() {
+        return ids.length;
+    }
+
+    int offsetOf(final NodeIdentifier id) {
+        final var offset = offsets.get(id);
+        return offset == null ? -1 : offset.intValue();
+    }
+
+    @NonNull NodeIdentifier idOf(final int slot) {
+        return ids[slot];
+    }
+
+    @NonNull Object decode(final int slot, final long bits) {
+        return types[slot].decode(bits);
+    }
+}
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Collection;
 import java.util.Optional;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -102,6 +103,39 @@ abstract class ModificationApplyOperation implements StoreTreeNode<ModificationA
      */
     abstract ChildTrackingPolicy getChildPolicy();
 
+    /**
+     * Check whether a set of child modifications should be processed in parallel. The default implementation returns
+     * {@code false}.
+     *
+     * @param children Child modifications
+     * @return {@code true} if the children should be processed in parallel
+     */
+    boolean isParallel(final Collection<? extends NodeModification> children) {
+        return false;
+    }
+
+    /**
+     * Intern values of leaves contained in a value, so that they can be shared with other parts of the tree. The
+     * default implementation returns the value unchanged.
+     *
+     * @param value Value to process
+     * @return A value equal to {@code value}, with its leaves interned
+     */
+    NormalizedNode internLeaves(final NormalizedNode value) {
+        return value;
+    }
+
+    /**
+     * Convert a value into the representation stored in the tree, which stores values of some leaves compactly. The
+     * default implementation returns the value unchanged.
+     *
+     * @param value Value to process
+     * @return A value equal to {@code value}, with its leaves packed
+     */
+    NormalizedNode packLeaves(final NormalizedNode value) {
+        return value;
+    }
+
     /**
      * Stage a merge operation into a {@link ModifiedNode} such that it will be processed correctly by
      * {@link #apply(ModifiedNode, Optional, Version)}. This method is the context which is introducing this operation,
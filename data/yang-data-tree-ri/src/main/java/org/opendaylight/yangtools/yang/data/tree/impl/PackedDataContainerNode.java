@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.nodes.LazyLeafOperations;
+import org.opendaylight.yangtools.yang.data.spi.node.AbstractNormalizedNode;
+
+/**
+ * A {@link DataContainerNode} storing the values of its integral leaves as bits of {@code long}s, as laid out by
+ * a {@link LeafSlotLayout}. Only present slots are stored, in slot order, and their {@link LeafNode}s are instantiated
+ * on access. All other children are stored in a map, just as in immutable nodes, with which this class is
+ * interchangeable.
+ *
+ * @param <K> Type of node identifier
+ * @param <N> Implemented node type
+ */
+abstract sealed class PackedDataContainerNode<K extends PathArgument, N extends DataContainerNode>
+        extends AbstractNormalizedNode<K, N> implements DataContainerNode {
+    static final class MapEntry extends PackedDataContainerNode<NodeIdentifierWithPredicates, MapEntryNode>
+            implements MapEntryNode {
+        MapEntry(final NodeIdentifierWithPredicates name, final LeafSlotLayout layout, final long present,
+                final long[] values, final Map<NodeIdentifier, Object> children) {
+            super(name, layout, present, values, children);
+        }
+
+        @Override
+        protected Class<MapEntryNode> implementedType() {
+            return MapEntryNode.class;
+        }
+    }
+
+    static final class Container extends PackedDataContainerNode<NodeIdentifier, ContainerNode>
+            implements ContainerNode {
+        Container(final NodeIdentifier name, final LeafSlotLayout layout, final long present, final long[] values,
+                final Map<NodeIdentifier, Object> children) {
+            super(name, layout, present, values, children);
+        }
+
+        @Override
+        protected Class<ContainerNode> implementedType() {
+            return ContainerNode.class;
+        }
+    }
+
+    private final @NonNull LeafSlotLayout layout;
+    // Bitmask of present slots
+    private final long present;
+    // Bits of present slots, in slot order
+    private final long @NonNull [] values;
+    // Children which are not stored in slots, encoded by LazyLeafOperations
+    private final @NonNull Map<NodeIdentifier, Object> children;
+
+    private PackedDataContainerNode(final K name, final LeafSlotLayout layout, final long present,
+            final long[] values, final Map<NodeIdentifier, Object> children) {
+        super(name);
+        this.layout = requireNonNull(layout);
+        this.present = present;
+        this.values = requireNonNull(values);
+        this.children = requireNonNull(children);
+    }
+
+    final @NonNull LeafSlotLayout layout() {
+        return layout;
+    }
+
+    @Override
+    public final DataContainerChild childByArg(final NodeIdentifier child) {
+        final int slot = layout.offsetOf(child);
+        return slot == -1 ? LazyLeafOperations.getChild(children, child) : slotChild(slot);
+    }
+
+    @Override
+    public final Collection<DataContainerChild> body() {
+        final var builder = ImmutableList.<DataContainerChild>builderWithExpectedSize(size());
+        for (long remaining = present; remaining != 0; remaining &= remaining - 1) {
+            builder.add(slotLeaf(Long.numberOfTrailingZeros(remaining)));
+        }
+        for (var id : children.keySet()) {
+            builder.add(LazyLeafOperations.getChild(children, id));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public final int size() {
+        return Long.bitCount(present) + children.size();
+    }
+
+    @Override
+    protected final int valueHashCode() {
+        // Same as Map.hashCode() of the children of an immutable node, which are keyed by identifier and hold values
+        // of leaves
+        int result = children.hashCode();
+        for (long remaining = present; remaining != 0; remaining &= remaining - 1) {
+            final int slot = Long.numberOfTrailingZeros(remaining);
+            result += layout.idOf(slot).hashCode() ^ slotValue(slot).hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    protected final boolean valueEquals(final N other) {
+        if (other instanceof PackedDataContainerNode<?, ?> packed && layout == packed.layout) {
+            return present == packed.present && Arrays.equals(values, packed.values)
+                && children.equals(packed.children);
+        }
+        if (size() != other.size()) {
+            return false;
+        }
+        for (var child : body()) {
+            if (!child.equals(other.childByArg(child.name()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private @Nullable DataContainerChild slotChild(final int slot) {
+        return (present & 1L << slot) == 0 ? null : slotLeaf(slot);
+    }
+
+    private @NonNull DataContainerChild slotLeaf(final int slot) {
+        return ImmutableNodes.leafNode(layout.idOf(slot), slotValue(slot));
+    }
+
+    private @NonNull Object slotValue(final int slot) {
+        // Index of the slot among present slots
+        return layout.decode(slot, values[Long.bitCount(present & (1L << slot) - 1)]);
+    }
+}
@@ -26,6 +26,7 @@ import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+import org.opendaylight.yangtools.yang.data.util.LeafValueInterner;
 import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
@@ -55,7 +56,8 @@ abstract class SchemaAwareApplyOperation<T extends DataSchemaNode> extends Modif
         } else if (schemaNode instanceof LeafListSchemaNode leafList) {
             return MinMaxElementsValidation.from(new LeafSetModificationStrategy(leafList, treeConfig));
         } else if (schemaNode instanceof LeafSchemaNode leaf) {
-            return new ValueNodeModificationStrategy<>(LeafNode.class, leaf);
+            return new ValueNodeModificationStrategy<>(LeafNode.class, leaf,
+                treeConfig.isLeafInterningEnabled() ? LeafValueInterner.global() : null);
         } else if (schemaNode instanceof AnydataSchemaNode anydata) {
             return new ValueNodeModificationStrategy<>(AnydataNode.class, anydata);
         } else if (schemaNode instanceof AnyxmlSchemaNode anyxml) {
@@ -173,7 +175,7 @@ abstract class SchemaAwareApplyOperation<T extends DataSchemaNode> extends Modif
      * @param current current node in TreeNode for modification to apply
      * @throws DataValidationFailedException when a data dependency conflict is detected
      */
-    private static void checkWriteApplicable(final ModificationPath path, final NodeModification modification,
+    protected void checkWriteApplicable(final ModificationPath path, final NodeModification modification,
             final Optional<? extends TreeNode> current, final Version version) throws DataValidationFailedException {
         final Optional<? extends TreeNode> original = modification.getOriginal();
         if (original.isPresent() && current.isPresent()) {
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
+
+/**
+ * A {@link DataTreeCandidateNode} describing the difference between two {@link TreeNode}s taken from two snapshots of
+ * the same data tree. Subtrees shared by the two snapshots are recognized by the identity of their data or by their
+ * versions and are pruned without being traversed. Within a container written at the same version in both snapshots
+ * only the children it tracks as modified are visited. The difference is computed eagerly, so that the modification
+ * type of each node is known upfront.
+ */
+final class SnapshotDiffCandidateNode implements DataTreeCandidateNode {
+    private final @Nullable PathArgument name;
+    private final @Nullable TreeNode oldMeta;
+    private final @Nullable TreeNode newMeta;
+    private final @NonNull ModificationType type;
+    // Only populated for SUBTREE_MODIFIED, contains only the children which have been modified
+    private final @NonNull ImmutableMap<PathArgument, SnapshotDiffCandidateNode> children;
+
+    private SnapshotDiffCandidateNode(final @Nullable PathArgument name, final @Nullable TreeNode oldMeta,
+            final @Nullable TreeNode newMeta, final ModificationType type,
+            final ImmutableMap<PathArgument, SnapshotDiffCandidateNode> children) {
+        this.name = name;
+        this.oldMeta = oldMeta;
+        this.newMeta = newMeta;
+        this.type = requireNonNull(type);
+        this.children = requireNonNull(children);
+    }
+
+    private SnapshotDiffCandidateNode(final @Nullable PathArgument name, final @Nullable TreeNode oldMeta,
+            final @Nullable TreeNode newMeta, final ModificationType type) {
+        this(name, oldMeta, newMeta, type, ImmutableMap.of());
+    }
+
+    static @NonNull SnapshotDiffCandidateNode ofRoot(final TreeNode oldRoot, final TreeNode newRoot) {
+        return of(null, requireNonNull(oldRoot), requireNonNull(newRoot));
+    }
+
+    private static @NonNull SnapshotDiffCandidateNode of(final @Nullable PathArgument name,
+            final @Nullable TreeNode oldMeta, final @Nullable TreeNode newMeta) {
+        if (oldMeta == null) {
+            return new SnapshotDiffCandidateNode(name, null, newMeta,
+                newMeta == null ? ModificationType.UNMODIFIED : ModificationType.WRITE);
+        }
+        if (newMeta == null) {
+            return new SnapshotDiffCandidateNode(name, oldMeta, null, ModificationType.DELETE);
+        }
+
+        final var oldData = oldMeta.getData();
+        final var newData = newMeta.getData();
+        if (oldData == newData) {
+            return new SnapshotDiffCandidateNode(name, oldMeta, newMeta, ModificationType.UNMODIFIED);
+        }
+        if (oldData instanceof DistinctNodeContainer && newData instanceof DistinctNodeContainer) {
+            // Versions are unique to a particular modification, hence a subtree which has not been touched since it was
+            // last written retains both its version and subtree version. This does not hold for leaves, which may not
+            // be tracked by their parent.
+            if (oldMeta.getVersion() == newMeta.getVersion()
+                && oldMeta.getSubtreeVersion() == newMeta.getSubtreeVersion()) {
+                return new SnapshotDiffCandidateNode(name, oldMeta, newMeta, ModificationType.UNMODIFIED);
+            }
+            final var modified = diffChildren(oldMeta, newMeta);
+            return new SnapshotDiffCandidateNode(name, oldMeta, newMeta,
+                modified.isEmpty() ? ModificationType.UNMODIFIED : ModificationType.SUBTREE_MODIFIED, modified);
+        }
+
+        // Leaves do not retain their identity and unkeyed lists cannot be addressed by their children: compare data
+        return new SnapshotDiffCandidateNode(name, oldMeta, newMeta,
+            oldData.equals(newData) ? ModificationType.UNMODIFIED : ModificationType.WRITE);
+    }
+
+    private static ImmutableMap<PathArgument, SnapshotDiffCandidateNode> diffChildren(final TreeNode oldMeta,
+            final TreeNode newMeta) {
+        if (oldMeta.getVersion() == newMeta.getVersion()) {
+            final var oldModified = oldMeta.getModifiedChildren();
+            final var newModified = newMeta.getModifiedChildren();
+            if (oldModified != null && newModified != null) {
+                return diffModifiedChildren(oldMeta, newMeta, Sets.union(oldModified, newModified));
+            }
+        }
+        return diffAllChildren(oldMeta, newMeta);
+    }
+
+    private static ImmutableMap<PathArgument, SnapshotDiffCandidateNode> diffModifiedChildren(final TreeNode oldMeta,
+            final TreeNode newMeta, final Set<PathArgument> modified) {
+        // Both nodes were written at the same time, hence only the children modified since then in either of them can
+        // differ. Other children are shared, except for those removed without being modified first.
+        final var oldData = getContainer(oldMeta);
+        final var newData = getContainer(newMeta);
+        final var builder = ImmutableMap.<PathArgument, SnapshotDiffCandidateNode>builder();
+        int oldShared = oldData.size();
+        int newShared = newData.size();
+        for (var id : modified) {
+            final var oldChild = oldMeta.childByArg(id);
+            if (oldChild != null) {
+                oldShared--;
+            }
+            final var newChild = newMeta.childByArg(id);
+            if (newChild != null) {
+                newShared--;
+            }
+            final var node = of(id, oldChild, newChild);
+            if (node.type != ModificationType.UNMODIFIED) {
+                builder.put(id, node);
+            }
+        }
+
+        // Snapshots of a data tree form a linear history, hence the shared children removed in one of them are a subset
+        // of those removed in the other and the counts tell us whether there is anything to find. If there is, we have
+        // to search for it.
+        if (oldShared > newShared) {
+            for (var oldChild : oldData.body()) {
+                final var id = oldChild.name();
+                if (!modified.contains(id) && newData.childByArg(id) == null) {
+                    builder.put(id, new SnapshotDiffCandidateNode(id, oldMeta.childByArg(id), null,
+                        ModificationType.DELETE));
+                }
+            }
+        } else if (newShared > oldShared) {
+            for (var newChild : newData.body()) {
+                final var id = newChild.name();
+                if (!modified.contains(id) && oldData.childByArg(id) == null) {
+                    builder.put(id, new SnapshotDiffCandidateNode(id, null, newMeta.childByArg(id),
+                        ModificationType.WRITE));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static ImmutableMap<PathArgument, SnapshotDiffCandidateNode> diffAllChildren(final TreeNode oldMeta,
+            final TreeNode newMeta) {
+        final var oldData = getContainer(oldMeta);
+        final var newData = getContainer(newMeta);
+        final var builder = ImmutableMap.<PathArgument, SnapshotDiffCandidateNode>builder();
+
+        for (var newChild : newData.body()) {
+            final var id = newChild.name();
+            final var oldChild = oldData.childByArg(id);
+            // Fast path: shared data does not need even TreeNode instantiation
+            if (oldChild != newChild) {
+                final var node = of(id, oldChild == null ? null : oldMeta.childByArg(id), newMeta.childByArg(id));
+                if (node.type != ModificationType.UNMODIFIED) {
+                    builder.put(id, node);
+                }
+            }
+        }
+        for (var oldChild : oldData.body()) {
+            final var id = oldChild.name();
+            if (newData.childByArg(id) == null) {
+                builder.put(id, new SnapshotDiffCandidateNode(id, oldMeta.childByArg(id), null,
+                    ModificationType.DELETE));
+            }
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable DistinctNodeContainer<PathArgument, NormalizedNode> getContainer(
+            final @Nullable TreeNode meta) {
+        return meta != null && meta.getData() instanceof DistinctNodeContainer<?, ?> container
+            ? (DistinctNodeContainer<PathArgument, NormalizedNode>) container : null;
+    }
+
+    @Override
+    public PathArgument name() {
+        if (name == null) {
+            throw new IllegalStateException("Attempted to get identifier of the root node");
+        }
+        return name;
+    }
+
+    @Override
+    public ModificationType modificationType() {
+        return type;
+    }
+
+    @Override
+    public NormalizedNode dataBefore() {
+        return oldMeta == null ? null : oldMeta.getData();
+    }
+
+    @Override
+    public NormalizedNode dataAfter() {
+        return newMeta == null ? null : newMeta.getData();
+    }
+
+    @Override
+    public Collection<DataTreeCandidateNode> childNodes() {
+        return switch (type) {
+            case SUBTREE_MODIFIED -> ImmutableList.copyOf(children.values());
+            case UNMODIFIED -> {
+                final var container = getContainer(newMeta != null ? newMeta : oldMeta);
+                yield container == null ? ImmutableList.of()
+                    : Collections2.transform(container.body(), DataTreeCandidateNodes::unmodified);
+            }
+            case APPEARED, DISAPPEARED, DELETE, WRITE -> {
+                // Terminal node, fake the expectations based on before/after data
+                final var oldContainer = getContainer(oldMeta);
+                final var newContainer = getContainer(newMeta);
+                yield oldContainer == null && newContainer == null ? ImmutableList.of()
+                    : DataTreeCandidateNodes.containerDelta(oldContainer, newContainer);
+            }
+        };
+    }
+
+    @Override
+    public DataTreeCandidateNode modifiedChild(final PathArgument childName) {
+        final var identifier = requireNonNull(childName);
+        return switch (type) {
+            case SUBTREE_MODIFIED -> children.get(identifier);
+            case UNMODIFIED -> {
+                final var container = getContainer(newMeta != null ? newMeta : oldMeta);
+                final var child = container == null ? null : container.childByArg(identifier);
+                yield child == null ? null : DataTreeCandidateNodes.unmodified(child);
+            }
+            case APPEARED, DISAPPEARED, DELETE, WRITE -> {
+                final var oldContainer = getContainer(oldMeta);
+                final var newContainer = getContainer(newMeta);
+                yield oldContainer == null && newContainer == null ? null
+                    : DataTreeCandidateNodes.containerDelta(oldContainer, newContainer, identifier);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+            .add("name", name)
+            .add("type", type)
+            .add("children", children.isEmpty() ? null : children.values())
+            .toString();
+    }
+}
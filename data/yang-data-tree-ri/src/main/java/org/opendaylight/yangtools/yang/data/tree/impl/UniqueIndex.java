@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static com.google.common.base.Verify.verify;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.util.MapAdaptor;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.UniqueValidation.ExceptionSupplier;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Descendant;
+
+/**
+ * An index of value vectors of a {@code list} node, one map for each {@link UniqueValidator}. Each map associates
+ * a value vector with the {@link PathArgument} of the single entry it belongs to.
+ *
+ * <p>
+ * Instances are immutable and are backed by maps produced by {@link MapAdaptor}, hence large indices are persistent
+ * and can be updated in time proportional to the number of changed entries via
+ * {@link #update(ImmutableList, DistinctNodeContainer, DistinctNodeContainer, Collection, ExceptionSupplier)}.
+ */
+final class UniqueIndex implements Immutable {
+    // TrieMap does not support null keys, hence we use this object to stand in for null value vectors
+    private static final Object NULL_VALUES = new Object();
+
+    private final @NonNull ImmutableList<Map<Object, PathArgument>> maps;
+
+    private UniqueIndex(final ImmutableList<Map<Object, PathArgument>> maps) {
+        this.maps = requireNonNull(maps);
+    }
+
+    /**
+     * Create an index covering all entries of a {@code list}.
+     *
+     * @param validators Validators to index
+     * @param children List entries
+     * @param exceptionSupplier Supplier of exceptions to report violations
+     * @return A new index
+     * @throws T if any of the constraints is violated
+     */
+    static <T extends @NonNull Exception> @NonNull UniqueIndex of(final ImmutableList<UniqueValidator<?>> validators,
+            final Collection<? extends NormalizedNode> children, final ExceptionSupplier<T> exceptionSupplier)
+                throws T {
+        final List<Map<Object, PathArgument>> maps = new ArrayList<>(validators.size());
+        for (int i = 0; i < validators.size(); ++i) {
+            maps.add(MapAdaptor.getDefaultInstance().initialSnapshot(children.size()));
+        }
+        for (NormalizedNode child : children) {
+            indexEntry(validators, maps, child, exceptionSupplier);
+        }
+        return seal(maps);
+    }
+
+    /**
+     * Create an index derived from this index, reflecting changes in a set of entries.
+     *
+     * @param validators Validators this index was created with
+     * @param before List state this index reflects
+     * @param after List state the new index should reflect
+     * @param changed Identifiers of entries which may have changed between {@code before} and {@code after}
+     * @param exceptionSupplier Supplier of exceptions to report violations
+     * @return A new index
+     * @throws T if any of the constraints is violated
+     */
+    <T extends @NonNull Exception> @NonNull UniqueIndex update(final ImmutableList<UniqueValidator<?>> validators,
+            final DistinctNodeContainer<PathArgument, NormalizedNode> before,
+            final DistinctNodeContainer<PathArgument, NormalizedNode> after, final Collection<PathArgument> changed,
+            final ExceptionSupplier<T> exceptionSupplier) throws T {
+        final List<Map<Object, PathArgument>> newMaps = new ArrayList<>(maps.size());
+        for (Map<Object, PathArgument> map : maps) {
+            newMaps.add(MapAdaptor.getDefaultInstance().takeSnapshot(map));
+        }
+
+        // Remove all old entries first, so that entries swapping their values do not trigger a violation
+        for (PathArgument id : changed) {
+            final NormalizedNode oldEntry = before.childByArg(id);
+            if (oldEntry != null && oldEntry != after.childByArg(id)) {
+                unindexEntry(validators, newMaps, oldEntry);
+            }
+        }
+        for (PathArgument id : changed) {
+            final NormalizedNode newEntry = after.childByArg(id);
+            if (newEntry != null && newEntry != before.childByArg(id)) {
+                indexEntry(validators, newMaps, newEntry, exceptionSupplier);
+            }
+        }
+        return seal(newMaps);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("sizes", maps.stream().map(Map::size).toList()).toString();
+    }
+
+    private static @NonNull UniqueIndex seal(final List<Map<Object, PathArgument>> maps) {
+        return new UniqueIndex(maps.stream()
+            .map(map -> MapAdaptor.getDefaultInstance().optimize(map))
+            .collect(ImmutableList.toImmutableList()));
+    }
+
+    private static <T extends @NonNull Exception> void indexEntry(final ImmutableList<UniqueValidator<?>> validators,
+            final List<Map<Object, PathArgument>> maps, final NormalizedNode entry,
+            final ExceptionSupplier<T> exceptionSupplier) throws T {
+        final DataContainerNode cont = verifyEntry(entry);
+        final PathArgument id = cont.name();
+        final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
+        for (int i = 0; i < validators.size(); ++i) {
+            final UniqueValidator<?> validator = validators.get(i);
+            final Object values = validator.extractValues(valueCache, cont);
+            final Object masked = BinaryValue.wrap(values);
+            final PathArgument prev = maps.get(i).put(maskNull(masked), id);
+            if (prev != null && !id.equals(prev)) {
+                final Map<Descendant, @Nullable Object> index = validator.indexValues(values);
+                throw exceptionSupplier.get(cont.name()
+                    + " violates unique constraint on " + masked + " of " + index.keySet(), index);
+            }
+        }
+    }
+
+    private static void unindexEntry(final ImmutableList<UniqueValidator<?>> validators,
+            final List<Map<Object, PathArgument>> maps, final NormalizedNode entry) {
+        final DataContainerNode cont = verifyEntry(entry);
+        final PathArgument id = cont.name();
+        final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
+        for (int i = 0; i < validators.size(); ++i) {
+            final Object key = maskNull(BinaryValue.wrap(validators.get(i).extractValues(valueCache, cont)));
+            final Map<Object, PathArgument> map = maps.get(i);
+            if (id.equals(map.get(key))) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static DataContainerNode verifyEntry(final NormalizedNode entry) {
+        verify(entry instanceof DataContainerNode, "Unexpected child %s", entry);
+        return (DataContainerNode) entry;
+    }
+
+    private static @NonNull Object maskNull(final @Nullable Object masked) {
+        return masked != null ? masked : NULL_VALUES;
+    }
+}
@@ -13,23 +13,28 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.HashMultimap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.UniqueConstraintException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
@@ -47,6 +52,12 @@ final class UniqueValidation extends AbstractValidation {
     private static final Logger LOG = LoggerFactory.getLogger(UniqueValidation.class);
 
     private final @NonNull ImmutableList<UniqueValidator<?>> validators;
+    /**
+     * Indices of {@link TreeNode}s we have validated. Since TreeNodes are immutable and shared between the snapshots
+     * they are part of, each index is effectively attached to a particular version of the list. Modifications touching
+     * only a few entries derive their index from the index of the node they are being applied to.
+     */
+    private final Cache<TreeNode, UniqueIndex> indexes = CacheBuilder.newBuilder().weakKeys().build();
 
     private UniqueValidation(final ModificationApplyOperation delegate,
             final ImmutableList<UniqueValidator<?>> validators) {
@@ -94,25 +105,76 @@ final class UniqueValidation extends AbstractValidation {
             final ExceptionSupplier<T> exceptionSupplier) throws T {
         final Stopwatch sw = Stopwatch.createStarted();
         verify(data instanceof NormalizedNodeContainer, "Unexpected data %s", data);
-        final var children = ((NormalizedNodeContainer<?>) data).body();
-        final var collected = HashMultimap.<UniqueValidator<?>, Object>create(validators.size(), children.size());
-        for (NormalizedNode child : children) {
-            verify(child instanceof DataContainerNode, "Unexpected child %s", child);
-            final DataContainerNode cont = (DataContainerNode) child;
-
-            final Map<List<NodeIdentifier>, Object> valueCache = new HashMap<>();
-            for (UniqueValidator<?> validator : validators) {
-                final Object values = validator.extractValues(valueCache, cont);
-                final Object masked = BinaryValue.wrap(values);
-                if (!collected.put(validator, masked)) {
-                    final Map<Descendant, @Nullable Object> index = validator.indexValues(values);
-                    throw exceptionSupplier.get(cont.name()
-                        + " violates unique constraint on " + masked + " of " + index.keySet(), index);
-                }
-            }
+        UniqueIndex.of(validators, ((NormalizedNodeContainer<?>) data).body(), exceptionSupplier);
+        LOG.trace("Enforced {} validators in {}", validators.size(), sw);
+    }
+
+    @Override
+    void enforceOnTreeNode(final ModifiedNode modification, final Optional<? extends TreeNode> current,
+            final TreeNode applied) {
+        enforceOnTreeNode(modification, current, applied,
+            (message, values) -> new UniqueValidationFailedException(message));
+    }
+
+    @Override
+    void enforceOnTreeNode(final ModificationPath path, final ModifiedNode modification,
+            final Optional<? extends TreeNode> current, final TreeNode applied) throws UniqueConstraintException {
+        enforceOnTreeNode(modification, current, applied, (message, values) -> new UniqueConstraintException(
+            path.toInstanceIdentifier(), values, message));
+    }
+
+    private <T extends @NonNull Exception> void enforceOnTreeNode(final ModifiedNode modification,
+            final Optional<? extends TreeNode> current, final TreeNode applied,
+            final ExceptionSupplier<T> exceptionSupplier) throws T {
+        if (indexes.getIfPresent(applied) != null) {
+            // We have already validated this exact node, there is nothing left to do
+            return;
         }
 
-        LOG.trace("Enforced {} validators in {}", validators.size(), sw);
+        final Stopwatch sw = Stopwatch.createStarted();
+        final NormalizedNode data = applied.getData();
+        verify(data instanceof NormalizedNodeContainer, "Unexpected data %s", data);
+
+        final UniqueIndex index;
+        final UniqueIndex base = currentIndex(modification, current, data);
+        if (base != null) {
+            final Collection<PathArgument> changed = Collections2.transform(modification.getChildren(),
+                ModifiedNode::getIdentifier);
+            index = base.update(validators, asDistinct(current.orElseThrow().getData()), asDistinct(data), changed,
+                exceptionSupplier);
+            LOG.trace("Enforced {} validators on {} changed entries in {}", validators.size(), changed.size(), sw);
+        } else {
+            index = UniqueIndex.of(validators, ((NormalizedNodeContainer<?>) data).body(), exceptionSupplier);
+            LOG.trace("Enforced {} validators in {}", validators.size(), sw);
+        }
+        indexes.put(applied, index);
+    }
+
+    /**
+     * Return the index of the current node, if it can be incrementally updated to cover the result of applying
+     * a modification.
+     *
+     * @param modification Modification being applied
+     * @param current Current node
+     * @param data Result data
+     * @return Index of current node, or null if a full index needs to be built
+     */
+    private @Nullable UniqueIndex currentIndex(final ModifiedNode modification,
+            final Optional<? extends TreeNode> current, final NormalizedNode data) {
+        // A WRITE replaces the entire list, hence the only candidates are TOUCH and MERGE, which have their effects
+        // expanded into child modifications by the time we are called.
+        final LogicalOperation operation = modification.getOperation();
+        if (operation != LogicalOperation.TOUCH && operation != LogicalOperation.MERGE
+            || current.isEmpty() || !(data instanceof DistinctNodeContainer)) {
+            return null;
+        }
+        final TreeNode currentNode = current.orElseThrow();
+        return currentNode.getData() instanceof DistinctNodeContainer ? indexes.getIfPresent(currentNode) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DistinctNodeContainer<PathArgument, NormalizedNode> asDistinct(final NormalizedNode data) {
+        return (DistinctNodeContainer<PathArgument, NormalizedNode>) data;
     }
 
     @Override
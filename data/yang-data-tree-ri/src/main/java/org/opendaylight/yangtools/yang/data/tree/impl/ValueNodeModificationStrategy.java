@@ -13,22 +13,35 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.api.IncorrectDataStructureException;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+import org.opendaylight.yangtools.yang.data.util.LeafValueInterner;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 
 final class ValueNodeModificationStrategy<T extends DataSchemaNode, V extends NormalizedNode>
         extends SchemaAwareApplyOperation<T> {
     private final @NonNull Class<V> nodeClass;
     private final @NonNull T schema;
+    private final @Nullable LeafValueInterner interner;
 
     ValueNodeModificationStrategy(final Class<V> nodeClass, final T schema) {
+        this(nodeClass, schema, null);
+    }
+
+    ValueNodeModificationStrategy(final Class<V> nodeClass, final T schema,
+            final @Nullable LeafValueInterner interner) {
         this.nodeClass = requireNonNull(nodeClass);
         this.schema = requireNonNull(schema);
+        this.interner = interner;
     }
 
     @Override
@@ -66,7 +79,46 @@ final class ValueNodeModificationStrategy<T extends DataSchemaNode, V extends No
     @Override
     protected TreeNode applyWrite(final ModifiedNode modification, final NormalizedNode newValue,
             final Optional<? extends TreeNode> currentMeta, final Version version) {
-        return TreeNode.of(newValue, version);
+        return TreeNode.of(internLeaves(newValue), version);
+    }
+
+    @Override
+    NormalizedNode internLeaves(final NormalizedNode value) {
+        if (interner != null && value instanceof LeafNode<?> leaf) {
+            final Object body = leaf.body();
+            final Object interned = interner.intern(body);
+            if (interned != body) {
+                return ImmutableNodes.leafNode(leaf.name(), interned);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    protected void checkWriteApplicable(final ModificationPath path, final NodeModification modification,
+            final Optional<? extends TreeNode> current, final Version version) throws DataValidationFailedException {
+        super.checkWriteApplicable(path, modification, current, version);
+        checkValueNotConflicting(path, modification, current);
+    }
+
+    @Override
+    protected void checkMergeApplicable(final ModificationPath path, final NodeModification modification,
+            final Optional<? extends TreeNode> current, final Version version) throws DataValidationFailedException {
+        // A merge replaces the value, hence it conflicts only if the value has changed
+        checkValueNotConflicting(path, modification, current);
+    }
+
+    /*
+     * Parents with compact leaf storage do not track their leaf children, which then share the parent's version. Their
+     * values are the only indication of them having been changed by another transaction.
+     */
+    private static void checkValueNotConflicting(final ModificationPath path, final NodeModification modification,
+            final Optional<? extends TreeNode> current) throws ConflictingModificationAppliedException {
+        final Optional<? extends TreeNode> original = modification.getOriginal();
+        if (original.isPresent() && current.isPresent()) {
+            checkConflicting(path, original.orElseThrow().getData().equals(current.orElseThrow().getData()),
+                "Node was replaced by other transaction.");
+        }
     }
 
     @Override
@@ -97,7 +149,7 @@ final class ValueNodeModificationStrategy<T extends DataSchemaNode, V extends No
 
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
-        return helper.add("value", nodeClass.getSimpleName());
+        return helper.add("value", nodeClass.getSimpleName()).add("interning", interner != null);
     }
 
     private void verifyWrittenValue(final NormalizedNode value) {
@@ -31,6 +31,7 @@ import org.opendaylight.yangtools.yang.data.tree.impl.InMemoryDataTree;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.data.util.LeafValueInterner;
 import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
@@ -46,7 +47,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A factory for creating in-memory data trees.
+ * A factory for creating in-memory data trees. Trees created with
+ * {@link DataTreeConfiguration#isLeafInterningEnabled()} share leaf values through {@link LeafValueInterner#global()},
+ * which also provides interning statistics.
  */
 @Singleton
 @Component
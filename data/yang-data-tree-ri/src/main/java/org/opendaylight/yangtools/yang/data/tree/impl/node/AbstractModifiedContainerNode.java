@@ -10,7 +10,9 @@ package org.opendaylight.yangtools.yang.data.tree.impl.node;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import org.opendaylight.yangtools.util.MapAdaptor;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -37,6 +39,11 @@ abstract class AbstractModifiedContainerNode extends AbstractContainerNode {
         return MapAdaptor.getDefaultInstance().takeSnapshot(children);
     }
 
+    @Override
+    public Set<PathArgument> getModifiedChildren() {
+        return Collections.unmodifiableSet(children.keySet());
+    }
+
     @Override
     public final Version getSubtreeVersion() {
         return subtreeVersion;
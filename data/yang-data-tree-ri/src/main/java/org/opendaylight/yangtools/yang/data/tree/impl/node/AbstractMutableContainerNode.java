@@ -14,6 +14,7 @@ import java.util.Map;
 import org.opendaylight.yangtools.util.MapAdaptor;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
@@ -25,6 +26,7 @@ abstract class AbstractMutableContainerNode extends MutableTreeNode {
     private Map<PathArgument, TreeNode> children;
     private NormalizedNode data;
     private Version subtreeVersion;
+    private boolean compactLeaves;
 
     AbstractMutableContainerNode(final AbstractContainerNode parent, final Map<PathArgument, TreeNode> children) {
         data = parent.getData();
@@ -53,7 +55,8 @@ abstract class AbstractMutableContainerNode extends MutableTreeNode {
 
     @Override
     public final TreeNode putChild(final TreeNode child) {
-        return children.put(child.getIdentifier(), child);
+        final PathArgument id = child.getIdentifier();
+        return compactLeaves && child.getData() instanceof LeafNode ? children.remove(id) : children.put(id, child);
     }
 
     @Override
@@ -61,6 +64,11 @@ abstract class AbstractMutableContainerNode extends MutableTreeNode {
         return children.remove(requireNonNull(id));
     }
 
+    @Override
+    public final void setCompactLeaves() {
+        compactLeaves = true;
+    }
+
     @Override
     public final void setData(final NormalizedNode data) {
         this.data = requireNonNull(data);
@@ -85,7 +93,7 @@ abstract class AbstractMutableContainerNode extends MutableTreeNode {
             if (dataSize != childrenSize) {
                 verify(dataSize > childrenSize, "Detected %s modified children, data has only %s",
                     childrenSize, dataSize);
-                ret = new LazyContainerNode(data, version, newChildren, subtreeVersion);
+                ret = new LazyContainerNode(data, version, newChildren, subtreeVersion, compactLeaves);
             } else {
                 ret = new MaterializedContainerNode(data, version, newChildren, subtreeVersion);
             }
@@ -10,6 +10,7 @@ package org.opendaylight.yangtools.yang.data.tree.impl.node;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.Collections2;
 import java.util.Map;
+import java.util.Set;
 import org.opendaylight.yangtools.util.MapAdaptor;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -19,13 +20,16 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * instantiating a child node from data node. Resulting node is not cached.
  */
 final class LazyContainerNode extends AbstractModifiedContainerNode {
+    private final boolean compactLeaves;
+
     LazyContainerNode(final NormalizedNode data, final Version version, final Version subtreeVersion) {
-        this(data, version, MapAdaptor.getDefaultInstance().initialSnapshot(1), subtreeVersion);
+        this(data, version, MapAdaptor.getDefaultInstance().initialSnapshot(1), subtreeVersion, false);
     }
 
     LazyContainerNode(final NormalizedNode data, final Version version,
-            final Map<PathArgument, TreeNode> children, final Version subtreeVersion) {
+            final Map<PathArgument, TreeNode> children, final Version subtreeVersion, final boolean compactLeaves) {
         super(data, version, children, subtreeVersion);
+        this.compactLeaves = compactLeaves;
     }
 
     @Override
@@ -37,6 +41,12 @@ final class LazyContainerNode extends AbstractModifiedContainerNode {
         return new LazyMutableContainerNode(this, snapshot);
     }
 
+    @Override
+    public Set<PathArgument> getModifiedChildren() {
+        // Modified leaf children are not tracked
+        return compactLeaves ? null : super.getModifiedChildren();
+    }
+
     @Override
     public TreeNode childByArg(final PathArgument arg) {
         final TreeNode modified;
@@ -46,7 +56,7 @@ final class LazyContainerNode extends AbstractModifiedContainerNode {
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
         // Modified children add added by superclass. Here we filter the other children.
-        return super.addToStringAttributes(helper).add("untouched", Collections2.filter(castData().body(),
-            input -> getModifiedChild(input.name()) == null));
+        return super.addToStringAttributes(helper).add("compactLeaves", compactLeaves)
+            .add("untouched", Collections2.filter(castData().body(), input -> getModifiedChild(input.name()) == null));
     }
 }
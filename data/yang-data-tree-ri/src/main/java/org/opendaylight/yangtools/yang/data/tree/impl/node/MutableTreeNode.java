@@ -55,6 +55,13 @@ public abstract class MutableTreeNode implements StoreTreeNode<TreeNode> {
      */
     public abstract @Nullable TreeNode removeChild(PathArgument id);
 
+    /**
+     * Stop tracking {@link org.opendaylight.yangtools.yang.data.api.schema.LeafNode} children of this node. Leaf
+     * children subsequently passed to {@link #putChild(TreeNode)} are retained only in this node's data and will be
+     * materialized from it with this node's version. Their modifications are then detected by comparing their values.
+     */
+    public abstract void setCompactLeaves();
+
     /**
      * Finish node modification and return a read-only view of this node. After
      * this method is invoked, any further calls to this object's method result
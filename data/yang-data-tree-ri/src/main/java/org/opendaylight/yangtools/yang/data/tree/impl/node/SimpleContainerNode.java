@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl.node;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Set;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
@@ -29,6 +30,12 @@ final class SimpleContainerNode extends AbstractContainerNode {
         return getChildFromData(arg);
     }
 
+    @Override
+    public Set<PathArgument> getModifiedChildren() {
+        // Subtree version is the same as version, hence nothing has been modified
+        return Set.of();
+    }
+
     @Override
     public MutableTreeNode mutable() {
         return new LazyMutableContainerNode(this);
@@ -11,7 +11,9 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
@@ -101,6 +103,15 @@ public abstract class TreeNode implements Identifiable<PathArgument>, StoreTreeN
         return data;
     }
 
+    /**
+     * Get the identifiers of children which may have been created, replaced or removed since this node was last
+     * written, i.e. since {@link #getVersion()}. Any other child present in {@link #getData()} is known to be the same
+     * as at that point. Note that removals of such other children are not tracked.
+     *
+     * @return Identifiers of potentially-modified children, or {@code null} if this node does not track them
+     */
+    public abstract @Nullable Set<PathArgument> getModifiedChildren();
+
     /**
      * Get a mutable, isolated copy of the node.
      *
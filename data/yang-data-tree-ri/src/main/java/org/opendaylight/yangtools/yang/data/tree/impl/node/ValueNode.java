@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl.node;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Set;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -36,6 +37,11 @@ final class ValueNode extends TreeNode {
         return getVersion();
     }
 
+    @Override
+    public Set<PathArgument> getModifiedChildren() {
+        return Set.of();
+    }
+
     @Override
     public MutableTreeNode mutable() {
         /**
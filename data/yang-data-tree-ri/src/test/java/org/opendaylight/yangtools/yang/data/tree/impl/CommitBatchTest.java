@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+public class CommitBatchTest extends AbstractTestModelTest {
+    private DataTree tree;
+
+    @Before
+    public void before() throws DataValidationFailedException {
+        tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL, SCHEMA_CONTEXT);
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        mod.ready();
+        tree.commit(tree.prepare(mod));
+    }
+
+    @Test
+    public void testBatchMatchesIndividualCommits() throws DataValidationFailedException {
+        final DataTreeModification first = newModification();
+        first.write(entryPath(1), outerEntry(1));
+        final DataTreeModification noop = newModification();
+        final DataTreeModification second = newModification();
+        second.write(entryPath(2), outerEntry(2));
+        final DataTreeModification third = newModification();
+        third.delete(entryPath(1));
+
+        final List<DataTreeCandidate> candidates = tree.commitBatch(seal(first, noop, second, third));
+        assertEquals(4, candidates.size());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, candidates.get(0).getRootNode().modificationType());
+        assertEquals(ModificationType.UNMODIFIED, candidates.get(1).getRootNode().modificationType());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, candidates.get(2).getRootNode().modificationType());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, candidates.get(3).getRootNode().modificationType());
+
+        assertEquals(candidates.get(3).getRootNode().findDataAfter(), tree.takeSnapshot().readNode(
+            YangInstanceIdentifier.of()));
+        assertEquals(Optional.empty(), tree.takeSnapshot().readNode(entryPath(1)));
+        assertEquals(outerEntry(2), tree.takeSnapshot().readNode(entryPath(2)).orElseThrow());
+    }
+
+    @Test
+    public void testBatchIsAtomic() throws DataValidationFailedException {
+        final var before = tree.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow();
+
+        final DataTreeModification first = newModification();
+        first.write(entryPath(1), outerEntry(1));
+        final DataTreeModification second = newModification();
+        second.write(entryPath(2), outerEntry(2));
+        // Conflicts with first, as it was based on the same snapshot
+        final DataTreeModification third = newModification();
+        third.write(entryPath(1), outerEntry(1));
+
+        final var batch = seal(first, second, third);
+        assertThrows(ConflictingModificationAppliedException.class, () -> tree.commitBatch(batch));
+        assertSame(before, tree.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow());
+    }
+
+    @Test
+    public void testEmptyBatch() throws DataValidationFailedException {
+        final var before = tree.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow();
+        assertEquals(List.of(), tree.commitBatch(List.of()));
+        assertSame(before, tree.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow());
+    }
+
+    private DataTreeModification newModification() {
+        return tree.takeSnapshot().newModification();
+    }
+
+    private static List<DataTreeModification> seal(final DataTreeModification... modifications) {
+        for (DataTreeModification mod : modifications) {
+            mod.ready();
+        }
+        return List.of(modifications);
+    }
+
+    private static YangInstanceIdentifier entryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(
+            NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id)));
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        return ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id));
+    }
+}
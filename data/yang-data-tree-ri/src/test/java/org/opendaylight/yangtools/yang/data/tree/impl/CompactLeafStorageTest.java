@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+public class CompactLeafStorageTest extends AbstractTestModelTest {
+    private static final YangInstanceIdentifier ENTRY_PATH = TestModel.OUTER_LIST_PATH.node(
+        NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.ONE));
+    private static final YangInstanceIdentifier CHOICE_PATH = ENTRY_PATH.node(TestModel.OUTER_CHOICE_QNAME);
+    private static final YangInstanceIdentifier TWO_PATH = CHOICE_PATH.node(TestModel.TWO_QNAME);
+    private static final YangInstanceIdentifier THREE_PATH = CHOICE_PATH.node(TestModel.THREE_QNAME);
+
+    @Test
+    public void testCompactMatchesRegular() throws DataValidationFailedException {
+        final DataTree regular = createTree(false);
+        final DataTree compact = createTree(true);
+
+        for (DataTree tree : new DataTree[] { regular, compact }) {
+            for (int i = 0; i < 10; ++i) {
+                final DataTreeModification mod = tree.takeSnapshot().newModification();
+                mod.write(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "two" + i));
+                if (i % 3 == 0) {
+                    mod.delete(THREE_PATH);
+                } else {
+                    mod.merge(THREE_PATH, ImmutableNodes.leafNode(TestModel.THREE_QNAME, "three" + i));
+                }
+                commit(tree, mod);
+            }
+        }
+
+        final NormalizedNode expected = regular.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow();
+        assertEquals(expected, compact.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow());
+        assertEquals(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "two9"),
+            compact.takeSnapshot().readNode(TWO_PATH).orElseThrow());
+    }
+
+    @Test
+    public void testConcurrentLeafWriteConflicts() throws DataValidationFailedException {
+        for (boolean compactLeaves : new boolean[] { false, true }) {
+            final DataTree tree = createTree(compactLeaves);
+            final DataTreeModification first = tree.takeSnapshot().newModification();
+            first.write(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "first"));
+            final DataTreeModification second = tree.takeSnapshot().newModification();
+            second.write(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "second"));
+            commit(tree, first);
+
+            second.ready();
+            assertThrows(ConflictingModificationAppliedException.class, () -> tree.validate(second));
+        }
+    }
+
+    @Test
+    public void testConcurrentLeafMergeConflicts() throws DataValidationFailedException {
+        for (boolean compactLeaves : new boolean[] { false, true }) {
+            final DataTree tree = createTree(compactLeaves);
+            final DataTreeModification first = tree.takeSnapshot().newModification();
+            first.merge(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "first"));
+            final DataTreeModification second = tree.takeSnapshot().newModification();
+            second.merge(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "second"));
+            commit(tree, first);
+
+            second.ready();
+            assertThrows(ConflictingModificationAppliedException.class, () -> tree.validate(second));
+        }
+    }
+
+    @Test
+    public void testConcurrentSiblingWrite() throws DataValidationFailedException {
+        // Sibling leaves are independent regardless of how they are stored
+        for (boolean compactLeaves : new boolean[] { false, true }) {
+            final DataTree tree = createTree(compactLeaves);
+            final DataTreeModification second = writeSiblings(tree);
+            tree.validate(second);
+            tree.commit(tree.prepare(second));
+
+            assertEquals(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "first"),
+                tree.takeSnapshot().readNode(TWO_PATH).orElseThrow());
+            assertEquals(ImmutableNodes.leafNode(TestModel.THREE_QNAME, "second"),
+                tree.takeSnapshot().readNode(THREE_PATH).orElseThrow());
+        }
+    }
+
+    @Test
+    public void testPackedEntry() throws DataValidationFailedException {
+        final NormalizedNode regular = createTree(false).takeSnapshot().readNode(ENTRY_PATH).orElseThrow();
+        final NormalizedNode packed = createTree(true).takeSnapshot().readNode(ENTRY_PATH).orElseThrow();
+        assertThat(packed, instanceOf(PackedDataContainerNode.class));
+        assertEquals(regular, packed);
+        assertEquals(packed, regular);
+        assertEquals(regular.hashCode(), packed.hashCode());
+
+        final MapEntryNode entry = (MapEntryNode) packed;
+        assertEquals(2, entry.size());
+        assertEquals(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.ONE),
+            entry.childByArg(new NodeIdentifier(TestModel.ID_QNAME)));
+        assertNull(entry.childByArg(new NodeIdentifier(TestModel.INNER_LIST_QNAME)));
+        assertEquals(regular, Builders.mapEntryBuilder(entry).build());
+    }
+
+    private static DataTreeModification writeSiblings(final DataTree tree) throws DataValidationFailedException {
+        final DataTreeModification first = tree.takeSnapshot().newModification();
+        first.write(TWO_PATH, ImmutableNodes.leafNode(TestModel.TWO_QNAME, "first"));
+        final DataTreeModification second = tree.takeSnapshot().newModification();
+        second.write(THREE_PATH, ImmutableNodes.leafNode(TestModel.THREE_QNAME, "second"));
+        commit(tree, first);
+        second.ready();
+        return second;
+    }
+
+    private static DataTree createTree(final boolean compactLeaves) throws DataValidationFailedException {
+        final DataTree tree = new InMemoryDataTreeFactory().create(new DataTreeConfiguration.Builder(
+            TreeType.OPERATIONAL).setCompactLeafStorage(compactLeaves).build(), SCHEMA_CONTEXT);
+        final MapEntryNode entry = ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME,
+            Uint16.ONE)
+            .withChild(Builders.choiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "two"))
+                .withChild(ImmutableNodes.leafNode(TestModel.THREE_QNAME, "three"))
+                .build())
+            .build();
+
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+            .withChild(entry)
+            .build());
+        commit(tree, mod);
+
+        // Make sure the choice has been modified, so that its leaves are subject to compaction
+        final DataTreeModification touch = tree.takeSnapshot().newModification();
+        touch.write(THREE_PATH, ImmutableNodes.leafNode(TestModel.THREE_QNAME, "three"));
+        commit(tree, touch);
+        return tree;
+    }
+
+    private static void commit(final DataTree tree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+}
@@ -9,16 +9,21 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
@@ -27,10 +32,12 @@ import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModificationCursor;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
 import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
 import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
 import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateAggregator;
 import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
@@ -222,6 +229,68 @@ public class DataTreeCandidatesTest extends AbstractTestModelTest {
         assertEquals(ModificationType.SUBTREE_MODIFIED,aggregateCandidate.getRootNode().modificationType());
     }
 
+    @Test
+    public void testIncrementalAggregate() throws DataValidationFailedException {
+        final var initial = dataTree.takeSnapshot();
+        final var aggregator = new DataTreeCandidateAggregator(YangInstanceIdentifier.of());
+        assertTrue(aggregator.isEmpty());
+        assertThrows(IllegalStateException.class, aggregator::build);
+
+        aggregator.append(commit(mod -> mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(
+            TestModel.OUTER_LIST_QNAME).withChild(outerEntry(1, "one")).build())));
+        aggregator.append(commit(mod -> mod.write(outerEntryPath(2), outerEntry(2, "two"))));
+        assertAggregate(initial, aggregator.build());
+
+        aggregator.append(commit(mod -> mod.write(outerEntryPath(1).node(TestModel.OUTER_CHOICE_QNAME)
+            .node(TestModel.TWO_QNAME), ImmutableNodes.leafNode(TestModel.TWO_QNAME, "changed"))));
+        aggregator.append(commit(mod -> mod.delete(outerEntryPath(2))));
+        aggregator.append(commit(mod -> mod.merge(TestModel.INNER_CONTAINER_PATH,
+            ImmutableNodes.containerNode(TestModel.INNER_CONTAINER_QNAME))));
+        final var aggregate = aggregator.build();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, aggregate.getRootNode().modificationType());
+        assertAggregate(initial, aggregate);
+
+        assertThrows(IllegalArgumentException.class, () -> aggregator.append(DataTreeCandidates.newDataTreeCandidate(
+            TestModel.TEST_PATH, aggregate.getRootNode())));
+    }
+
+    private DataTreeCandidate commit(final Consumer<DataTreeModification> action)
+            throws DataValidationFailedException {
+        final var modification = dataTree.takeSnapshot().newModification();
+        action.accept(modification);
+        modification.ready();
+        dataTree.validate(modification);
+        final var candidate = dataTree.prepare(modification);
+        dataTree.commit(candidate);
+        return candidate;
+    }
+
+    // Applying the aggregate onto the initial snapshot has to result in current data tree state
+    private void assertAggregate(final DataTreeSnapshot initial, final DataTreeCandidate aggregate) {
+        final var modification = initial.newModification();
+        DataTreeCandidates.applyToModification(modification, aggregate);
+        modification.ready();
+        assertEquals(dataTree.takeSnapshot().readNode(YangInstanceIdentifier.of()),
+            modification.readNode(YangInstanceIdentifier.of()));
+    }
+
+    private static YangInstanceIdentifier outerEntryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME,
+            TestModel.ID_QNAME, Uint16.valueOf(id)));
+    }
+
+    private static MapEntryNode outerEntry(final int id, final String two) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME,
+                Uint16.valueOf(id)))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.valueOf(id)))
+            .withChild(Builders.choiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, two))
+                .build())
+            .build();
+    }
+
     private static void assertUnmodified(final int expSize, final Collection<DataTreeCandidateNode> nodes) {
         assertEquals(expSize, nodes.size());
         nodes.forEach(node -> assertEquals(ModificationType.UNMODIFIED, node.modificationType()));
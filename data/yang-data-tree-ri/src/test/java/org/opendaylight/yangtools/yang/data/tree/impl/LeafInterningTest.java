@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.util.LeafValueInterner;
+
+public class LeafInterningTest extends AbstractTestModelTest {
+    @Test
+    public void testSubtreeWritesAreInterned() throws DataValidationFailedException {
+        final long hits = LeafValueInterner.global().hitCount();
+        final DataTree tree = createTree(true);
+        write(tree, entryPath(1), outerEntry(1));
+        write(tree, entryPath(2), outerEntry(2));
+
+        final Object first = readTwo(tree, 1);
+        assertEquals("two", first);
+        assertSame(first, readTwo(tree, 2));
+        assertTrue(LeafValueInterner.global().hitCount() > hits);
+    }
+
+    @Test
+    public void testLeafWritesAreInterned() throws DataValidationFailedException {
+        final DataTree tree = createTree(true);
+        write(tree, entryPath(1), outerEntry(1));
+        write(tree, entryPath(2), outerEntry(2));
+        write(tree, twoPath(2), ImmutableNodes.leafNode(TestModel.TWO_QNAME, newTwo()));
+
+        assertSame(readTwo(tree, 1), readTwo(tree, 2));
+    }
+
+    @Test
+    public void testDisabledInterning() throws DataValidationFailedException {
+        final DataTree tree = createTree(false);
+        write(tree, entryPath(1), outerEntry(1));
+        write(tree, entryPath(2), outerEntry(2));
+
+        final Object first = readTwo(tree, 1);
+        assertEquals(first, readTwo(tree, 2));
+        assertNotSame(first, readTwo(tree, 2));
+    }
+
+    private static DataTree createTree(final boolean leafInterning) throws DataValidationFailedException {
+        final DataTree tree = new InMemoryDataTreeFactory().create(new DataTreeConfiguration.Builder(
+            TreeType.OPERATIONAL).setLeafInterning(leafInterning).build(), SCHEMA_CONTEXT);
+        write(tree, TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        write(tree, TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        return tree;
+    }
+
+    private static void write(final DataTree tree, final YangInstanceIdentifier path, final NormalizedNode data)
+            throws DataValidationFailedException {
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(path, data);
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static Object readTwo(final DataTree tree, final int id) {
+        return tree.takeSnapshot().readNode(twoPath(id)).orElseThrow().body();
+    }
+
+    private static YangInstanceIdentifier entryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(
+            NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id)));
+    }
+
+    private static YangInstanceIdentifier twoPath(final int id) {
+        return entryPath(id).node(TestModel.OUTER_CHOICE_QNAME).node(TestModel.TWO_QNAME);
+    }
+
+    private static MapEntryNode outerEntry(final int id) {
+        return ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id))
+            .withChild(Builders.choiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, newTwo()))
+                .build())
+            .build();
+    }
+
+    // Every invocation returns a distinct, but equal, value
+    private static String newTwo() {
+        return new StringBuilder("tw").append('o').toString();
+    }
+}
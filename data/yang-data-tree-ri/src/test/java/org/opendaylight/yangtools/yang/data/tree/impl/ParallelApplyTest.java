@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+
+public class ParallelApplyTest extends AbstractTestModelTest {
+    private static final int ENTRY_COUNT = 500;
+
+    @Test
+    public void testParallelMatchesSequential() throws DataValidationFailedException {
+        final DataTree sequential = createTree(0);
+        final DataTree parallel = createTree(2);
+
+        for (DataTree tree : new DataTree[] { sequential, parallel }) {
+            final DataTreeModification mod = tree.takeSnapshot().newModification();
+            for (int i = 0; i < ENTRY_COUNT; ++i) {
+                mod.write(entryPath(i), outerEntry(i, "foo"));
+            }
+            commit(tree, mod);
+
+            // Touch every other entry, remove every third
+            final DataTreeModification touch = tree.takeSnapshot().newModification();
+            for (int i = 0; i < ENTRY_COUNT; i += 2) {
+                touch.merge(entryPath(i), outerEntry(i, "bar"));
+            }
+            for (int i = 0; i < ENTRY_COUNT; i += 3) {
+                touch.delete(entryPath(i));
+            }
+            commit(tree, touch);
+        }
+
+        final NormalizedNode expected = sequential.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow();
+        assertEquals(expected, parallel.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow());
+    }
+
+    @Test
+    public void testParallelReportsFirstConflict() throws DataValidationFailedException {
+        final ConflictingModificationAppliedException sequential = assertConflict(createTree(0));
+        final ConflictingModificationAppliedException parallel = assertConflict(createTree(2));
+        assertEquals(sequential.getPath(), parallel.getPath());
+    }
+
+    private static ConflictingModificationAppliedException assertConflict(final DataTree tree)
+            throws DataValidationFailedException {
+        final DataTreeModification init = tree.takeSnapshot().newModification();
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            init.write(entryPath(i), outerEntry(i, "foo"));
+        }
+        commit(tree, init);
+
+        final DataTreeModification first = tree.takeSnapshot().newModification();
+        final DataTreeModification second = tree.takeSnapshot().newModification();
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            first.delete(entryPath(i));
+            second.write(entryPath(i), outerEntry(i, "bar"));
+        }
+        commit(tree, first);
+
+        second.ready();
+        return assertThrows(ConflictingModificationAppliedException.class, () -> tree.validate(second));
+    }
+
+    private static DataTree createTree(final int parallelThreshold) throws DataValidationFailedException {
+        final DataTree tree = new InMemoryDataTreeFactory().create(new DataTreeConfiguration.Builder(
+            TreeType.OPERATIONAL).setParallelApplyThreshold(parallelThreshold).build(), SCHEMA_CONTEXT);
+        final DataTreeModification mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        commit(tree, mod);
+        return tree;
+    }
+
+    private static void commit(final DataTree tree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static YangInstanceIdentifier entryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(
+            NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id)));
+    }
+
+    private static NormalizedNode outerEntry(final int id, final String name) {
+        return ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id))
+            .withChild(Builders.mapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.INNER_LIST_QNAME))
+                .withChild(ImmutableNodes.mapEntry(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME, name))
+                .withChild(ImmutableNodes.mapEntry(TestModel.INNER_LIST_QNAME, TestModel.NAME_QNAME, name + id))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.api.ReadOnlyDataTree;
+import org.opendaylight.yangtools.yang.data.tree.impl.di.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+public class SnapshotDiffTest extends AbstractTestModelTest {
+    private static final NodeIdentifier TEST = new NodeIdentifier(TestModel.TEST_QNAME);
+    private static final NodeIdentifier OUTER_LIST = new NodeIdentifier(TestModel.OUTER_LIST_QNAME);
+    private static final NodeIdentifier OUTER_CHOICE = new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME);
+    private static final NodeIdentifier TWO = new NodeIdentifier(TestModel.TWO_QNAME);
+
+    private DataTree tree;
+    private DataTreeSnapshot initial;
+
+    @Before
+    public void before() throws DataValidationFailedException {
+        tree = new InMemoryDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL, SCHEMA_CONTEXT);
+        final var entries = ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for (int i = 1; i <= 10; ++i) {
+            entries.withChild(outerEntry(i, "initial"));
+        }
+        final var mod = tree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        mod.write(TestModel.OUTER_LIST_PATH, entries.build());
+        commit(mod);
+        initial = tree.takeSnapshot();
+    }
+
+    @Test
+    public void testSameSnapshot() {
+        assertEquals(ModificationType.UNMODIFIED, tree.diff(initial, initial).getRootNode().modificationType());
+        assertEquals(ModificationType.UNMODIFIED,
+            tree.diff(initial, tree.takeSnapshot()).getRootNode().modificationType());
+    }
+
+    @Test
+    public void testPrunedDifference() throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.delete(entryPath(1));
+        mod.write(entryPath(2).node(OUTER_CHOICE).node(TWO), ImmutableNodes.leafNode(TestModel.TWO_QNAME, "changed"));
+        // Same value, but a different object: should not be reported
+        mod.write(entryPath(3), outerEntry(3, "initial"));
+        mod.write(entryPath(11), outerEntry(11, "added"));
+        commit(mod);
+        final var updated = tree.takeSnapshot();
+
+        final var candidate = tree.diff(initial, updated);
+        assertEquals(tree.getRootPath(), candidate.getRootPath());
+        final var outerList = modifiedChild(modifiedChild(candidate.getRootNode(), TEST), OUTER_LIST);
+        assertEquals(ModificationType.SUBTREE_MODIFIED, outerList.modificationType());
+        assertEquals(Set.of(entryId(1), entryId(2), entryId(11)),
+            outerList.childNodes().stream().map(DataTreeCandidateNode::name).collect(Collectors.toSet()));
+        assertNull(outerList.modifiedChild(entryId(3)));
+
+        assertEquals(ModificationType.DELETE, outerList.modifiedChild(entryId(1)).modificationType());
+        assertEquals(ModificationType.WRITE, outerList.modifiedChild(entryId(11)).modificationType());
+        final var two = modifiedChild(modifiedChild(outerList, entryId(2)), OUTER_CHOICE).modifiedChild(TWO);
+        assertEquals(ModificationType.WRITE, two.modificationType());
+        assertEquals(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "initial"), two.dataBefore());
+        assertEquals(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "changed"), two.dataAfter());
+
+        // Applying the difference onto the original snapshot results in the updated snapshot
+        final var mod2 = initial.newModification();
+        DataTreeCandidates.applyToModification(mod2, candidate);
+        mod2.ready();
+        assertEquals(updated.readNode(YangInstanceIdentifier.of()), mod2.readNode(YangInstanceIdentifier.of()));
+
+        // ... and the reverse difference undoes it
+        final var reverse = tree.diff(updated, initial);
+        final var mod3 = updated.newModification();
+        DataTreeCandidates.applyToModification(mod3, reverse);
+        mod3.ready();
+        assertEquals(initial.readNode(YangInstanceIdentifier.of()), mod3.readNode(YangInstanceIdentifier.of()));
+    }
+
+    @Test
+    public void testHistory() throws DataValidationFailedException {
+        // Modify an entry, so that the list starts tracking it, ...
+        var mod = tree.takeSnapshot().newModification();
+        mod.write(entryPath(2).node(OUTER_CHOICE).node(TWO), ImmutableNodes.leafNode(TestModel.TWO_QNAME, "changed"));
+        commit(mod);
+        final var modified = tree.takeSnapshot();
+
+        // ... then remove an entry the list does not track and modify the tracked one again
+        mod = tree.takeSnapshot().newModification();
+        mod.delete(entryPath(5));
+        mod.write(entryPath(2).node(OUTER_CHOICE).node(TWO), ImmutableNodes.leafNode(TestModel.TWO_QNAME, "again"));
+        commit(mod);
+        final var removed = tree.takeSnapshot();
+
+        assertEquals(Set.of(entryId(2), entryId(5)), modifiedEntries(tree.diff(initial, removed)));
+        assertEquals(Set.of(entryId(2), entryId(5)), modifiedEntries(tree.diff(modified, removed)));
+        assertEquals(Set.of(entryId(2), entryId(5)), modifiedEntries(tree.diff(removed, modified)));
+        assertEquals(Set.of(entryId(2)), modifiedEntries(tree.diff(initial, modified)));
+
+        final var reverse = modifiedChild(modifiedChild(tree.diff(removed, initial).getRootNode(), TEST), OUTER_LIST);
+        assertEquals(ModificationType.WRITE, reverse.modifiedChild(entryId(5)).modificationType());
+        assertEquals(ModificationType.SUBTREE_MODIFIED, reverse.modifiedChild(entryId(2)).modificationType());
+    }
+
+    @Test
+    public void testDefaultDiff() throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        mod.delete(entryPath(1));
+        mod.write(entryPath(2).node(OUTER_CHOICE).node(TWO), ImmutableNodes.leafNode(TestModel.TWO_QNAME, "changed"));
+        mod.write(entryPath(3), outerEntry(3, "initial"));
+        mod.write(entryPath(11), outerEntry(11, "added"));
+        commit(mod);
+        final var updated = tree.takeSnapshot();
+
+        // A tree relying on the default implementation reports the same changes
+        final var readOnly = new ReadOnlyDataTree() {
+            @Override
+            public YangInstanceIdentifier getRootPath() {
+                return tree.getRootPath();
+            }
+
+            @Override
+            public DataTreeSnapshot takeSnapshot() {
+                return tree.takeSnapshot();
+            }
+        };
+        final var candidate = readOnly.diff(initial, updated);
+        assertEquals(tree.getRootPath(), candidate.getRootPath());
+        assertEquals(Set.of(entryId(1), entryId(2), entryId(11)), modifiedEntries(candidate));
+        assertEquals(modifiedEntries(tree.diff(initial, updated)), modifiedEntries(candidate));
+
+        final var mod2 = initial.newModification();
+        DataTreeCandidates.applyToModification(mod2, candidate);
+        mod2.ready();
+        assertEquals(updated.readNode(YangInstanceIdentifier.of()), mod2.readNode(YangInstanceIdentifier.of()));
+    }
+
+    @Test
+    public void testForeignSnapshot() {
+        final var foreign = mock(DataTreeSnapshot.class);
+        assertThrows(IllegalArgumentException.class, () -> tree.diff(initial, foreign));
+        assertThrows(IllegalArgumentException.class, () -> tree.diff(foreign, initial));
+    }
+
+    private void commit(final DataTreeModification mod) throws DataValidationFailedException {
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static Set<PathArgument> modifiedEntries(final DataTreeCandidate candidate) {
+        return modifiedChild(modifiedChild(candidate.getRootNode(), TEST), OUTER_LIST).childNodes().stream()
+            .map(DataTreeCandidateNode::name)
+            .collect(Collectors.toSet());
+    }
+
+    private static DataTreeCandidateNode modifiedChild(final DataTreeCandidateNode parent, final PathArgument id) {
+        assertEquals(ModificationType.SUBTREE_MODIFIED, parent.modificationType());
+        final var child = parent.modifiedChild(id);
+        assertNotNull(child);
+        return child;
+    }
+
+    private static NodeIdentifierWithPredicates entryId(final int id) {
+        return NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id));
+    }
+
+    private static YangInstanceIdentifier entryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(entryId(id));
+    }
+
+    private static MapEntryNode outerEntry(final int id, final String two) {
+        return Builders.mapEntryBuilder()
+            .withNodeIdentifier(entryId(id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.valueOf(id)))
+            .withChild(Builders.choiceBuilder()
+                .withNodeIdentifier(OUTER_CHOICE)
+                .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, two))
+                .build())
+            .build();
+    }
+}
@@ -102,6 +102,26 @@ public class UniqueConstraintTest {
             "(foo?revision=2016-05-17)my-leaf-2");
     }
 
+    @Test
+    public void mergeMapTest() throws DataValidationFailedException {
+        final InMemoryDataTree inMemoryDataTree = initDataTree(TEST_MODEL, true);
+        writeMap(inMemoryDataTree, false);
+
+        // Entry 3 moves away from [l3, l4], which entry 4 takes over in the same merge
+        mergeMap(inMemoryDataTree, createMapEntry("3", "l5", "l6", "l7"), createMapEntry("4", "l3", "l4", "l8"));
+
+        verifyException(assertThrows(UniqueConstraintException.class,
+            () -> mergeMap(inMemoryDataTree, createMapEntry("5", "l5", "l6", "l9"))),
+            "(foo?revision=2016-05-17)task[{(foo?revision=2016-05-17)task-id=",
+            "}] violates unique constraint on [l5, l6] of ",
+            "(foo?revision=2016-05-17)my-leaf-1",
+            "(foo?revision=2016-05-17)my-leaf-2");
+
+        // Removed entries release their values
+        removeMapEntry(inMemoryDataTree, taskEntryKey("3"));
+        mergeMap(inMemoryDataTree, createMapEntry("5", "l5", "l6", "l9"));
+    }
+
     @Test
     public void mapEntryTest() throws DataValidationFailedException {
         final InMemoryDataTree inMemoryDataTree = initDataTree(TEST_MODEL, true);
@@ -188,6 +208,21 @@ public class UniqueConstraintTest {
         inMemoryDataTree.commit(prepare);
     }
 
+    private static void mergeMap(final InMemoryDataTree inMemoryDataTree, final MapEntryNode... entries)
+            throws DataValidationFailedException {
+        final var builder = Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(TASK));
+        for (MapEntryNode entry : entries) {
+            builder.withChild(entry);
+        }
+
+        final InMemoryDataTreeModification modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.merge(YangInstanceIdentifier.of(TASK_CONTAINER).node(TASK), builder.build());
+        modificationTree.ready();
+        inMemoryDataTree.validate(modificationTree);
+        final DataTreeCandidate prepare = inMemoryDataTree.prepare(modificationTree);
+        inMemoryDataTree.commit(prepare);
+    }
+
     private static void writeMapEntry(final InMemoryDataTree inMemoryDataTree, final Object taskIdValue,
             final Object myLeaf1Value, final Object myLeaf2Value, final Object myLeaf3Value)
             throws DataValidationFailedException {
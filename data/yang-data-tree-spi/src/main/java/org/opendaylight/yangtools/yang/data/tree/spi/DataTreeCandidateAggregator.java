@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.base.Verify.verifyNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.HashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+/**
+ * An incremental aggregator of {@link DataTreeCandidate}s. Candidates are {@link #append(DataTreeCandidate) appended}
+ * one at a time, each of them being merged into the running aggregate in a single pass. The aggregate can be
+ * {@link #build() built} at any time, without affecting subsequent appends.
+ *
+ * <p>
+ * The aggregate shares structure with the appended candidates: a subtree touched by only a single candidate is
+ * reported as that candidate's {@link DataTreeCandidateNode}, without being traversed. Once a node is written or
+ * deleted, subsequent changes to its subtree are tracked only through the node's data, hence the children of
+ * {@link ModificationType#WRITE} and {@link ModificationType#DELETE} nodes are never examined.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+@Beta
+public final class DataTreeCandidateAggregator {
+    private final @NonNull YangInstanceIdentifier rootPath;
+
+    private @Nullable AggregateNode root;
+
+    public DataTreeCandidateAggregator(final YangInstanceIdentifier rootPath) {
+        this.rootPath = requireNonNull(rootPath);
+    }
+
+    /**
+     * Return the root path of candidates accepted by this aggregator.
+     *
+     * @return Root path
+     */
+    public @NonNull YangInstanceIdentifier rootPath() {
+        return rootPath;
+    }
+
+    /**
+     * Check whether any candidates have been appended.
+     *
+     * @return {@code true} if no candidate has been appended
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Merge a candidate into the aggregate.
+     *
+     * @param candidate Candidate to merge
+     * @return This aggregator
+     * @throws IllegalArgumentException if the candidate has a different root path or if its modifications cannot be
+     *                                  applied on top of the current aggregate
+     */
+    public @NonNull DataTreeCandidateAggregator append(final DataTreeCandidate candidate) {
+        final var candidatePath = candidate.getRootPath();
+        checkArgument(rootPath.equals(candidatePath), "Expecting root path %s, encountered %s", rootPath,
+            candidatePath);
+
+        final var rootNode = candidate.getRootNode();
+        var local = root;
+        if (local == null) {
+            root = local = AggregateNode.ofRoot(rootNode.dataBefore());
+        }
+        local.merge(rootNode);
+        // Root data is always tracked, even if it claims to be unmodified
+        local.after = rootNode.dataAfter();
+        return this;
+    }
+
+    /**
+     * Build a {@link DataTreeCandidate} summarizing all the appended candidates.
+     *
+     * @return Aggregated candidate
+     * @throws IllegalStateException if no candidates have been appended
+     * @throws IllegalArgumentException if the aggregated modifications are not consistent
+     */
+    public @NonNull DataTreeCandidate build() {
+        final var local = root;
+        checkState(local != null, "No candidates have been appended");
+        final var rootNode = local.build();
+        return DataTreeCandidates.newDataTreeCandidate(rootPath, rootNode != null ? rootNode
+            : new AggregatedNode(null, ModificationType.UNMODIFIED, local.before, local.after, ImmutableMap.of()));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("rootPath", rootPath).add("root", root).toString();
+    }
+
+    /**
+     * Mutable state of a single node in the aggregate. A node is in one of three states:
+     * <ul>
+     *   <li>it has been modified by a single candidate, which is tracked in {@link #single}</li>
+     *   <li>it has been modified by multiple candidates, which are tracked in {@link #children}</li>
+     *   <li>it has been written or deleted, in which case it is {@link #terminal} and its children are derived from
+     *       its data</li>
+     * </ul>
+     */
+    private static final class AggregateNode {
+        private final @Nullable PathArgument name;
+        private final @Nullable NormalizedNode before;
+
+        private @Nullable NormalizedNode after;
+        private @NonNull ModificationType type = ModificationType.UNMODIFIED;
+        private @Nullable DataTreeCandidateNode single;
+        private @Nullable HashMap<PathArgument, AggregateNode> children;
+        private boolean terminal;
+
+        private AggregateNode(final @Nullable PathArgument name, final @Nullable NormalizedNode before) {
+            this.name = name;
+            this.before = before;
+            after = before;
+        }
+
+        static @NonNull AggregateNode ofRoot(final @Nullable NormalizedNode before) {
+            // The root is never shared, so that we report the aggregate before/after data
+            final var ret = new AggregateNode(null, before);
+            ret.children = new HashMap<>();
+            return ret;
+        }
+
+        void merge(final DataTreeCandidateNode node) {
+            final var nodeType = node.modificationType();
+            if (nodeType == ModificationType.UNMODIFIED) {
+                return;
+            }
+
+            type = compressModifications(type, nodeType, after == null);
+            after = node.dataAfter();
+            if (terminal) {
+                return;
+            }
+            var local = children;
+            if (local == null && single == null) {
+                // First modification, just remember it
+                single = node;
+                return;
+            }
+            if (nodeType == ModificationType.WRITE || nodeType == ModificationType.DELETE
+                || type == ModificationType.WRITE || type == ModificationType.DELETE) {
+                // Everything we know about children has been overwritten, do not look at them
+                terminal = true;
+                single = null;
+                children = null;
+                return;
+            }
+            if (local == null) {
+                // Second modification: unshare the first one
+                children = local = new HashMap<>();
+                mergeChildren(local, verifyNotNull(single));
+                single = null;
+            }
+            mergeChildren(local, node);
+        }
+
+        private static void mergeChildren(final HashMap<PathArgument, AggregateNode> map,
+                final DataTreeCandidateNode node) {
+            for (var child : node.childNodes()) {
+                final var childName = child.name();
+                var existing = map.get(childName);
+                if (existing == null) {
+                    existing = new AggregateNode(childName, child.dataBefore());
+                    map.put(childName, existing);
+                }
+                existing.merge(child);
+            }
+        }
+
+        // Returns null if this node does not contain any changes
+        @Nullable DataTreeCandidateNode build() {
+            return switch (type) {
+                case UNMODIFIED -> null;
+                case WRITE -> buildNode();
+                case DELETE -> before == null ? null : buildNode();
+                case APPEARED -> {
+                    if (before != null) {
+                        illegalModification(ModificationType.APPEARED, ModificationType.WRITE);
+                    }
+                    yield buildNonEmpty();
+                }
+                case DISAPPEARED -> before == null ? null : buildNonEmpty();
+                case SUBTREE_MODIFIED -> {
+                    if (before == null) {
+                        illegalModification(ModificationType.SUBTREE_MODIFIED, ModificationType.DELETE);
+                    }
+                    yield buildNonEmpty();
+                }
+            };
+        }
+
+        private @Nullable DataTreeCandidateNode buildNonEmpty() {
+            if (terminal) {
+                // Do not derive children just to find out they exist, data identity is good enough
+                return before != after ? buildNode() : null;
+            }
+            final var ret = buildNode();
+            return ret.childNodes().isEmpty() ? null : ret;
+        }
+
+        private @NonNull DataTreeCandidateNode buildNode() {
+            final var prev = single;
+            if (prev != null) {
+                return prev;
+            }
+
+            final var local = children;
+            if (local == null) {
+                return new AggregatedNode(name, type, before, after, null);
+            }
+
+            final var builder = ImmutableMap.<PathArgument, DataTreeCandidateNode>builderWithExpectedSize(local.size());
+            for (var child : local.values()) {
+                final var built = child.build();
+                if (built != null) {
+                    builder.put(requireNonNull(child.name), built);
+                }
+            }
+            return new AggregatedNode(name, type, before, after, builder.build());
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues()
+                .add("name", name)
+                .add("type", type)
+                .add("single", single)
+                .add("children", children)
+                .add("terminal", terminal ? Boolean.TRUE : null)
+                .toString();
+        }
+    }
+
+    /**
+     * Immutable result node. Its children are either explicit or, for nodes which have been written or deleted,
+     * derived from data.
+     */
+    private static final class AggregatedNode implements DataTreeCandidateNode {
+        private final @Nullable PathArgument name;
+        private final @NonNull ModificationType type;
+        private final @Nullable NormalizedNode before;
+        private final @Nullable NormalizedNode after;
+        // null indicates children should be derived from data
+        private final @Nullable ImmutableMap<PathArgument, DataTreeCandidateNode> children;
+
+        AggregatedNode(final @Nullable PathArgument name, final ModificationType type,
+                final @Nullable NormalizedNode before, final @Nullable NormalizedNode after,
+                final @Nullable ImmutableMap<PathArgument, DataTreeCandidateNode> children) {
+            this.name = name;
+            this.type = requireNonNull(type);
+            this.before = before;
+            this.after = after;
+            this.children = children;
+        }
+
+        @Override
+        public PathArgument name() {
+            if (name == null) {
+                throw new IllegalStateException("Attempted to get identifier of the root node");
+            }
+            return name;
+        }
+
+        @Override
+        public ModificationType modificationType() {
+            return type;
+        }
+
+        @Override
+        public NormalizedNode dataBefore() {
+            return before;
+        }
+
+        @Override
+        public NormalizedNode dataAfter() {
+            return after;
+        }
+
+        @Override
+        public Collection<DataTreeCandidateNode> childNodes() {
+            if (children != null) {
+                return children.values();
+            }
+            final var oldContainer = container(before);
+            final var newContainer = container(after);
+            return oldContainer == null && newContainer == null ? ImmutableList.of()
+                : DataTreeCandidateNodes.containerDelta(oldContainer, newContainer);
+        }
+
+        @Override
+        public DataTreeCandidateNode modifiedChild(final PathArgument childName) {
+            final var identifier = requireNonNull(childName);
+            if (children != null) {
+                return children.get(identifier);
+            }
+            final var oldContainer = container(before);
+            final var newContainer = container(after);
+            return oldContainer == null && newContainer == null ? null
+                : DataTreeCandidateNodes.containerDelta(oldContainer, newContainer, identifier);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static @Nullable DistinctNodeContainer<PathArgument, NormalizedNode> container(
+                final @Nullable NormalizedNode data) {
+            return data instanceof DistinctNodeContainer<?, ?> container
+                ? (DistinctNodeContainer<PathArgument, NormalizedNode>) container : null;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues()
+                .add("name", name)
+                .add("type", type)
+                .add("children", children)
+                .toString();
+        }
+    }
+
+    private static ModificationType compressModifications(final ModificationType firstModification,
+                                                          final ModificationType secondModification,
+                                                          final boolean hasNoDataBefore) {
+        switch (firstModification) {
+            case UNMODIFIED:
+                if (hasNoDataBefore) {
+                    return switch (secondModification) {
+                        case UNMODIFIED, WRITE, APPEARED -> secondModification;
+                        case DELETE -> illegalModification(ModificationType.DELETE, ModificationType.DELETE);
+                        case SUBTREE_MODIFIED ->
+                            illegalModification(ModificationType.SUBTREE_MODIFIED, ModificationType.DELETE);
+                        case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, ModificationType.DELETE);
+                        default ->
+                            throw new IllegalStateException("Unsupported modification type " + secondModification);
+                    };
+                }
+                if (secondModification == ModificationType.APPEARED) {
+                    return illegalModification(ModificationType.APPEARED, ModificationType.WRITE);
+                }
+                return secondModification;
+            case WRITE:
+                return switch (secondModification) {
+                    case UNMODIFIED, WRITE, SUBTREE_MODIFIED -> ModificationType.WRITE;
+                    case DELETE -> ModificationType.DELETE;
+                    case DISAPPEARED -> ModificationType.DISAPPEARED;
+                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
+                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
+                };
+            case DELETE:
+                return switch (secondModification) {
+                    case UNMODIFIED -> ModificationType.DELETE;
+                    case WRITE, APPEARED -> ModificationType.WRITE;
+                    case DELETE -> illegalModification(ModificationType.DELETE, firstModification);
+                    case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, firstModification);
+                    case SUBTREE_MODIFIED -> illegalModification(ModificationType.SUBTREE_MODIFIED, firstModification);
+                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
+                };
+            case APPEARED:
+                return switch (secondModification) {
+                    case UNMODIFIED, SUBTREE_MODIFIED -> ModificationType.APPEARED;
+                    case DELETE, DISAPPEARED -> ModificationType.UNMODIFIED;
+                    case WRITE -> ModificationType.WRITE;
+                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
+                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
+                };
+            case DISAPPEARED:
+                return switch (secondModification) {
+                    case UNMODIFIED, WRITE -> secondModification;
+                    case APPEARED -> ModificationType.SUBTREE_MODIFIED;
+                    case DELETE -> illegalModification(ModificationType.DELETE, firstModification);
+                    case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, firstModification);
+                    case SUBTREE_MODIFIED -> illegalModification(ModificationType.SUBTREE_MODIFIED, firstModification);
+                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
+                };
+            case SUBTREE_MODIFIED:
+                return switch (secondModification) {
+                    case UNMODIFIED, SUBTREE_MODIFIED -> ModificationType.SUBTREE_MODIFIED;
+                    case WRITE, DELETE, DISAPPEARED -> secondModification;
+                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
+                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
+                };
+            default:
+                throw new IllegalStateException("Unsupported modification type " + secondModification);
+        }
+    }
+
+    static ModificationType illegalModification(final ModificationType first, final ModificationType second) {
+        throw new IllegalArgumentException(first + " modification event on " + second + " node");
+    }
+}
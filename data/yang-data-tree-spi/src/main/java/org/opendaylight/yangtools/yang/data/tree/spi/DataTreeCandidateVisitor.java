@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import com.google.common.annotations.Beta;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+/**
+ * A streaming consumer of a {@link DataTreeCandidate}. Rather than navigating {@link DataTreeCandidateNode}s and their
+ * {@link NormalizedNode} data, implementations are notified of individual changes in depth-first order. Data of
+ * written nodes is emitted into a {@link NormalizedNodeStreamWriter} supplied by the implementation, while data of
+ * nodes before they were modified is made available as {@link StreamableData}. Consumers serializing candidates
+ * therefore do not need to have the data instantiated, as long as the candidate's source can stream it.
+ *
+ * <p>
+ * Nodes which have not been modified are not reported. The root of the candidate is reported with a {@code null}
+ * name.
+ */
+@Beta
+@NonNullByDefault
+public interface DataTreeCandidateVisitor {
+    /**
+     * Data of a node, which can be streamed into a {@link NormalizedNodeStreamWriter}. Instances are valid only for
+     * the duration of the callback they were passed to.
+     */
+    @FunctionalInterface
+    interface StreamableData {
+        /**
+         * Emit this data into a {@link NormalizedNodeStreamWriter}.
+         *
+         * @param writer Target writer
+         * @throws IOException if the writer reports an error
+         */
+        void streamTo(NormalizedNodeStreamWriter writer) throws IOException;
+    }
+
+    /**
+     * Invoked when a candidate is about to be reported.
+     *
+     * @param rootPath Root path of the candidate
+     * @throws IOException if an underlying error occurs
+     */
+    void startCandidate(YangInstanceIdentifier rootPath) throws IOException;
+
+    /**
+     * Invoked when entering a node whose children have been modified, i.e. a node of type
+     * {@link ModificationType#SUBTREE_MODIFIED}, {@link ModificationType#APPEARED} or
+     * {@link ModificationType#DISAPPEARED}. Its modified children are reported next, followed by a matching
+     * {@link #exitNode()}.
+     *
+     * @param name Node name, {@code null} for the candidate root
+     * @param type Modification type
+     * @throws IOException if an underlying error occurs
+     */
+    void enterNode(@Nullable PathArgument name, ModificationType type) throws IOException;
+
+    /**
+     * Invoked when leaving a node previously entered via {@link #enterNode(PathArgument, ModificationType)}.
+     *
+     * @throws IOException if an underlying error occurs
+     */
+    void exitNode() throws IOException;
+
+    /**
+     * Invoked when a node has been written. The data of the node after the write is emitted into the returned writer,
+     * after which {@link #endWrite()} is invoked.
+     *
+     * @param name Node name, {@code null} for the candidate root
+     * @param before Data before the write, {@code null} if it is not available. If the node did not exist, streaming
+     *               it does not emit any events
+     * @return Writer to receive the data after the write, or {@code null} if the data should be skipped
+     * @throws IOException if an underlying error occurs
+     */
+    @Nullable NormalizedNodeStreamWriter startWrite(@Nullable PathArgument name, @Nullable StreamableData before)
+        throws IOException;
+
+    /**
+     * Invoked when the data of a node reported via {@link #startWrite(PathArgument, StreamableData)} has been emitted.
+     *
+     * @throws IOException if an underlying error occurs
+     */
+    void endWrite() throws IOException;
+
+    /**
+     * Invoked when a node has been deleted.
+     *
+     * @param name Node name, {@code null} for the candidate root
+     * @param before Data before the delete, {@code null} if it is not available
+     * @throws IOException if an underlying error occurs
+     */
+    void deleteNode(@Nullable PathArgument name, @Nullable StreamableData before) throws IOException;
+
+    /**
+     * Invoked when the candidate has been completely reported.
+     *
+     * @throws IOException if an underlying error occurs
+     */
+    void endCandidate() throws IOException;
+}
@@ -12,7 +12,7 @@ import static com.google.common.base.Verify.verifyNotNull;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
@@ -20,12 +20,14 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.tree.api.CursorAwareDataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModificationCursor;
 import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateVisitor.StreamableData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,9 +90,63 @@ public final class DataTreeCandidates {
         }
     }
 
+    /**
+     * Report a {@link DataTreeCandidate} to a {@link DataTreeCandidateVisitor}. Data of written and deleted nodes is
+     * streamed from the {@link NormalizedNode}s held by the candidate.
+     *
+     * @param candidate Candidate to report
+     * @param visitor Visitor to notify
+     * @throws IOException if the visitor reports an error
+     * @throws NullPointerException if any argument is null
+     */
+    public static void accept(final DataTreeCandidate candidate, final DataTreeCandidateVisitor visitor)
+            throws IOException {
+        requireNonNull(visitor);
+        visitor.startCandidate(candidate.getRootPath());
+        acceptNode(null, candidate.getRootNode(), visitor);
+        visitor.endCandidate();
+    }
+
+    private static void acceptNode(final @Nullable PathArgument name, final DataTreeCandidateNode node,
+            final DataTreeCandidateVisitor visitor) throws IOException {
+        final var type = node.modificationType();
+        switch (type) {
+            case APPEARED, DISAPPEARED, SUBTREE_MODIFIED -> {
+                visitor.enterNode(name, type);
+                for (var child : node.childNodes()) {
+                    acceptNode(child.name(), child, visitor);
+                }
+                visitor.exitNode();
+            }
+            case DELETE -> visitor.deleteNode(name, dataBefore(node));
+            case WRITE -> {
+                final var writer = visitor.startWrite(name, dataBefore(node));
+                if (writer != null) {
+                    NormalizedNodeWriter.forStreamWriter(writer).write(verifyNotNull(node.dataAfter()));
+                }
+                visitor.endWrite();
+            }
+            case UNMODIFIED -> {
+                // No-op
+            }
+            default -> throw new IllegalArgumentException("Unsupported modification " + type);
+        }
+    }
+
+    // Note: some candidates do not retain their before-image, hence we access it only when asked to
+    private static @NonNull StreamableData dataBefore(final DataTreeCandidateNode node) {
+        return writer -> {
+            final var data = node.dataBefore();
+            if (data != null) {
+                NormalizedNodeWriter.forStreamWriter(writer).write(data);
+            }
+        };
+    }
+
     /**
      * Compress a list of DataTreeCandidates into a single DataTreeCandidate. The resulting candidate is a summarization
-     * of changes recorded in the input candidates.
+     * of changes recorded in the input candidates. Use {@link DataTreeCandidateAggregator} to aggregate candidates
+     * incrementally.
      *
      * @param candidates Input list, must be non-empty
      * @return Summarized DataTreeCandidate
@@ -106,19 +162,27 @@ public final class DataTreeCandidates {
             return first;
         }
         final YangInstanceIdentifier rootPath = first.getRootPath();
-        final List<DataTreeCandidateNode> roots = new ArrayList<>(candidates.size());
-        roots.add(first.getRootNode());
-        it.forEachRemaining(candidate -> {
-            final YangInstanceIdentifier root = candidate.getRootPath();
+        DataTreeCandidate last = first;
+        while (it.hasNext()) {
+            last = it.next();
+            final YangInstanceIdentifier root = last.getRootPath();
             checkArgument(rootPath.equals(root), "Expecting root path %s, encountered %s", rootPath, root);
-            roots.add(candidate.getRootNode());
-        });
-        return DataTreeCandidates.newDataTreeCandidate(rootPath, fastCompressNode(roots.get(0), roots));
+        }
+
+        final var terminal = terminalNode(first.getRootNode(), last.getRootNode());
+        if (terminal != null) {
+            return DataTreeCandidates.newDataTreeCandidate(rootPath, terminal);
+        }
+
+        // No luck, we need to merge all candidates
+        final var aggregator = new DataTreeCandidateAggregator(rootPath);
+        candidates.forEach(aggregator::append);
+        return aggregator.build();
     }
 
-    private static DataTreeCandidateNode fastCompressNode(final DataTreeCandidateNode first,
-                                                          final List<DataTreeCandidateNode> input) {
-        final var last = input.get(input.size() - 1);
+    // Fast path: the last candidate overwrites everything the previous ones did
+    private static @Nullable DataTreeCandidateNode terminalNode(final DataTreeCandidateNode first,
+                                                                final DataTreeCandidateNode last) {
         final var nodeModification = last.modificationType();
         final var dataBefore = first.dataBefore();
         final var dataAfter = last.dataAfter();
@@ -128,7 +192,7 @@ public final class DataTreeCandidates {
                 // Check if node had data before
                 if (previous == ModificationType.DELETE || previous == ModificationType.DISAPPEARED
                     || previous == ModificationType.UNMODIFIED && dataBefore == null) {
-                    illegalModification(ModificationType.DELETE, ModificationType.DELETE);
+                    DataTreeCandidateAggregator.illegalModification(ModificationType.DELETE, ModificationType.DELETE);
                 }
                 if (dataBefore == null) {
                     return new TerminalDataTreeCandidateNode(null, ModificationType.UNMODIFIED, null, null);
@@ -140,188 +204,12 @@ public final class DataTreeCandidates {
             case DISAPPEARED:
             case SUBTREE_MODIFIED:
             case UNMODIFIED:
-                // No luck, we need to iterate
-                return slowCompressNodes(first, input);
-            default:
-                throw new IllegalStateException("Unsupported modification type " + nodeModification);
-        }
-    }
-
-    private static DataTreeCandidateNode slowCompressNodes(final DataTreeCandidateNode first,
-                                                           final List<DataTreeCandidateNode> input) {
-        // finalNode contains summarized changes
-        TerminalDataTreeCandidateNode finalNode = new TerminalDataTreeCandidateNode(null, first.dataBefore());
-        input.forEach(node -> compressNode(finalNode, node, null));
-        finalNode.setAfter(input.get(input.size() - 1).dataAfter());
-        return cleanUpTree(finalNode);
-    }
-
-    private static void compressNode(final TerminalDataTreeCandidateNode finalNode, final DataTreeCandidateNode node,
-                                     final PathArgument parent) {
-        PathArgument identifier;
-        try {
-            identifier = node.name();
-        } catch (IllegalStateException e) {
-            identifier = null;
-        }
-        // Check if finalNode has stored any changes for node
-        if (finalNode.getNode(identifier).isEmpty()) {
-            TerminalDataTreeCandidateNode parentNode = finalNode.getNode(parent)
-                    .orElseThrow(() -> new IllegalArgumentException("No node found for " + parent + " identifier"));
-            TerminalDataTreeCandidateNode childNode = new TerminalDataTreeCandidateNode(
-                    identifier,
-                    node.dataBefore(),
-                    parentNode);
-            parentNode.addChildNode(childNode);
-        }
-
-        ModificationType nodeModification = node.modificationType();
-        switch (nodeModification) {
-            case UNMODIFIED:
-                // If node is unmodified there is no need iterate through its child nodes
-                break;
-            case WRITE:
-            case DELETE:
-            case APPEARED:
-            case DISAPPEARED:
-            case SUBTREE_MODIFIED:
-                finalNode.setModification(identifier,
-                        compressModifications(finalNode.getModification(identifier), nodeModification,
-                                finalNode.dataAfter(identifier) == null));
-                finalNode.setData(identifier, node.dataAfter());
-
-                for (DataTreeCandidateNode child : node.childNodes()) {
-                    compressNode(finalNode, child, identifier);
-                }
-                break;
-            default:
-                throw new IllegalStateException("Unsupported modification type " + nodeModification);
-        }
-    }
-
-    // Removes redundant changes
-    private static DataTreeCandidateNode cleanUpTree(final TerminalDataTreeCandidateNode finalNode) {
-        return cleanUpTree(finalNode, finalNode);
-    }
-
-    // Compare data before and after in order to find modified nodes without actual changes
-    private static DataTreeCandidateNode cleanUpTree(final TerminalDataTreeCandidateNode finalNode,
-                                                     final TerminalDataTreeCandidateNode node) {
-        final var identifier = node.name();
-        final var nodeModification = node.modificationType();
-        final var childNodes = node.childNodes();
-        for (var childNode : childNodes) {
-            cleanUpTree(finalNode, (TerminalDataTreeCandidateNode) childNode);
-        }
-        final var dataBefore = finalNode.dataBefore(identifier);
-
-        switch (nodeModification) {
-            case UNMODIFIED:
-                finalNode.deleteNode(identifier);
-                return finalNode;
-            case WRITE:
-                return finalNode;
-            case DELETE:
-                if (dataBefore == null) {
-                    finalNode.deleteNode(identifier);
-                }
-                return finalNode;
-            case APPEARED:
-                if (dataBefore != null) {
-                    illegalModification(ModificationType.APPEARED, ModificationType.WRITE);
-                }
-                if (childNodes.isEmpty()) {
-                    finalNode.deleteNode(identifier);
-                }
-                return finalNode;
-            case DISAPPEARED:
-                if (dataBefore == null || childNodes.isEmpty()) {
-                    finalNode.deleteNode(identifier);
-                }
-                return finalNode;
-            case SUBTREE_MODIFIED:
-                if (dataBefore == null) {
-                    illegalModification(ModificationType.SUBTREE_MODIFIED, ModificationType.DELETE);
-                }
-                if (childNodes.isEmpty()) {
-                    finalNode.deleteNode(identifier);
-                }
-                return finalNode;
+                return null;
             default:
                 throw new IllegalStateException("Unsupported modification type " + nodeModification);
         }
     }
 
-    private static ModificationType compressModifications(final ModificationType firstModification,
-                                                          final ModificationType secondModification,
-                                                          final boolean hasNoDataBefore) {
-        switch (firstModification) {
-            case UNMODIFIED:
-                if (hasNoDataBefore) {
-                    return switch (secondModification) {
-                        case UNMODIFIED, WRITE, APPEARED -> secondModification;
-                        case DELETE -> illegalModification(ModificationType.DELETE, ModificationType.DELETE);
-                        case SUBTREE_MODIFIED ->
-                            illegalModification(ModificationType.SUBTREE_MODIFIED, ModificationType.DELETE);
-                        case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, ModificationType.DELETE);
-                        default ->
-                            throw new IllegalStateException("Unsupported modification type " + secondModification);
-                    };
-                }
-                if (secondModification == ModificationType.APPEARED) {
-                    return illegalModification(ModificationType.APPEARED, ModificationType.WRITE);
-                }
-                return secondModification;
-            case WRITE:
-                return switch (secondModification) {
-                    case UNMODIFIED, WRITE, SUBTREE_MODIFIED -> ModificationType.WRITE;
-                    case DELETE -> ModificationType.DELETE;
-                    case DISAPPEARED -> ModificationType.DISAPPEARED;
-                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
-                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
-                };
-            case DELETE:
-                return switch (secondModification) {
-                    case UNMODIFIED -> ModificationType.DELETE;
-                    case WRITE, APPEARED -> ModificationType.WRITE;
-                    case DELETE -> illegalModification(ModificationType.DELETE, firstModification);
-                    case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, firstModification);
-                    case SUBTREE_MODIFIED -> illegalModification(ModificationType.SUBTREE_MODIFIED, firstModification);
-                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
-                };
-            case APPEARED:
-                return switch (secondModification) {
-                    case UNMODIFIED, SUBTREE_MODIFIED -> ModificationType.APPEARED;
-                    case DELETE, DISAPPEARED -> ModificationType.UNMODIFIED;
-                    case WRITE -> ModificationType.WRITE;
-                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
-                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
-                };
-            case DISAPPEARED:
-                return switch (secondModification) {
-                    case UNMODIFIED, WRITE -> secondModification;
-                    case APPEARED -> ModificationType.SUBTREE_MODIFIED;
-                    case DELETE -> illegalModification(ModificationType.DELETE, firstModification);
-                    case DISAPPEARED -> illegalModification(ModificationType.DISAPPEARED, firstModification);
-                    case SUBTREE_MODIFIED -> illegalModification(ModificationType.SUBTREE_MODIFIED, firstModification);
-                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
-                };
-            case SUBTREE_MODIFIED:
-                return switch (secondModification) {
-                    case UNMODIFIED, SUBTREE_MODIFIED -> ModificationType.SUBTREE_MODIFIED;
-                    case WRITE, DELETE, DISAPPEARED -> secondModification;
-                    case APPEARED -> illegalModification(ModificationType.APPEARED, firstModification);
-                    default -> throw new IllegalStateException("Unsupported modification type " + secondModification);
-                };
-            default:
-                throw new IllegalStateException("Unsupported modification type " + secondModification);
-        }
-    }
-
-    private static ModificationType illegalModification(final ModificationType first, final ModificationType second) {
-        throw new IllegalArgumentException(first + " modification event on " + second + " node");
-    }
-
     private static void applyToCursorAwareModification(final CursorAwareDataTreeModification modification,
                                                        final DataTreeCandidate candidate) {
         final YangInstanceIdentifier candidatePath = candidate.getRootPath();
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang.data.tree.spi;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -21,11 +22,22 @@ public class DataTreeConfigurationTest {
         DataTreeConfiguration.Builder builder = new DataTreeConfiguration.Builder(TreeType.CONFIGURATION);
         builder.setUniqueIndexes(true);
         builder.setMandatoryNodesValidation(true);
+        builder.setParallelApplyThreshold(100);
+        builder.setCompactLeafStorage(true);
+        builder.setLeafInterning(true);
 
         DataTreeConfiguration dataTreeConfiguration = builder.build();
         assertEquals(TreeType.CONFIGURATION, dataTreeConfiguration.getTreeType());
         assertTrue(dataTreeConfiguration.isUniqueIndexEnabled());
         assertTrue(dataTreeConfiguration.isMandatoryNodesValidationEnabled());
+        assertEquals(100, dataTreeConfiguration.getParallelApplyThreshold());
+        assertEquals(100, dataTreeConfiguration.copyBuilder().build().getParallelApplyThreshold());
+        assertTrue(dataTreeConfiguration.isCompactLeafStorageEnabled());
+        assertTrue(dataTreeConfiguration.copyBuilder().build().isCompactLeafStorageEnabled());
+        assertTrue(dataTreeConfiguration.isLeafInterningEnabled());
+        assertTrue(dataTreeConfiguration.copyBuilder().build().isLeafInterningEnabled());
+        assertThrows(IllegalArgumentException.class,
+            () -> new DataTreeConfiguration.Builder(TreeType.CONFIGURATION).setParallelApplyThreshold(-1));
 
         builder = new DataTreeConfiguration.Builder(TreeType.OPERATIONAL);
         builder.setUniqueIndexes(false);
@@ -35,6 +47,9 @@ public class DataTreeConfigurationTest {
         assertEquals(TreeType.OPERATIONAL, dataTreeConfiguration.getTreeType());
         assertFalse(dataTreeConfiguration.isUniqueIndexEnabled());
         assertFalse(dataTreeConfiguration.isMandatoryNodesValidationEnabled());
+        assertEquals(0, dataTreeConfiguration.getParallelApplyThreshold());
+        assertFalse(dataTreeConfiguration.isCompactLeafStorageEnabled());
+        assertFalse(dataTreeConfiguration.isLeafInterningEnabled());
 
         dataTreeConfiguration = DataTreeConfiguration.getDefault(TreeType.CONFIGURATION);
         assertEquals(TreeType.CONFIGURATION, dataTreeConfiguration.getTreeType());
@@ -162,6 +162,10 @@ public sealed class CompositeNodeDataWithSchema<T extends DataSchemaNode> extend
         return newChild == null ? addCompositeChild(schema, policy) : newChild;
     }
 
+    final List<AbstractNodeDataWithSchema<?>> children() {
+        return children;
+    }
+
     private AbstractNodeDataWithSchema<?> addSimpleChild(final DataSchemaNode schema, final ChildReusePolicy policy) {
         final SimpleNodeDataWithSchema<?> newChild;
         if (schema instanceof LeafSchemaNode leaf) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+
+/**
+ * Utility class for sharing values of {@link LeafNode}s. Unlike {@link LeafInterner}, which shares whole leaves and is
+ * restricted to types with low cardinality, this class interns values of any scalar type, such as strings, integers
+ * and {@link Decimal64}s. Since data containers retain only the values of their leaves, this is effective at
+ * reducing the heap retained by data with a lot of redundancy.
+ *
+ * <p>
+ * Interned values are held weakly, hence the interning table does not prevent them from being garbage-collected once
+ * they are no longer referenced. Each instance keeps track of the number of requests which were satisfied by
+ * a previously-interned value (hits) and those which were not (misses), so that the effectiveness of interning can be
+ * assessed at runtime.
+ */
+@Beta
+public final class LeafValueInterner {
+    private static final @NonNull LeafValueInterner GLOBAL = new LeafValueInterner();
+
+    private final Interner<Object> interner = Interners.newWeakInterner();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Return the globally-shared instance.
+     *
+     * @return The global LeafValueInterner
+     */
+    public static @NonNull LeafValueInterner global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Return a canonical instance equal to specified value. Values of unsupported types, such as {@code bits} and
+     * {@code binary}, are returned as-is and are not counted towards either hits or misses.
+     *
+     * @param <T> Value type
+     * @param value Value to intern
+     * @return Canonical instance
+     */
+    public <T> @NonNull T intern(final @NonNull T value) {
+        if (!isInternable(value)) {
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        final T ret = (T) interner.intern(value);
+        // Decimal64 instances compare equal even when their scale is different, which is visible to users
+        if (ret == value || ret instanceof Decimal64 dec && dec.scale() != ((Decimal64) value).scale()) {
+            misses.increment();
+            return value;
+        }
+        hits.increment();
+        return ret;
+    }
+
+    /**
+     * Return the number of {@link #intern(Object)} invocations which returned a previously-interned value.
+     *
+     * @return Number of hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Return the number of {@link #intern(Object)} invocations which returned the value passed to them.
+     *
+     * @return Number of misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("hits", hitCount()).add("misses", missCount()).toString();
+    }
+
+    private static boolean isInternable(final Object value) {
+        return value instanceof String || value instanceof Decimal64 || value instanceof QName
+            || value instanceof Uint8 || value instanceof Uint16 || value instanceof Uint32 || value instanceof Uint64
+            || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+            || value instanceof Boolean;
+    }
+}
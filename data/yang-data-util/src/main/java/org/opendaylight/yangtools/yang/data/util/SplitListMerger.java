@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import com.google.common.annotations.Beta;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+
+/**
+ * Utility for parsers which split a document with a large list into chunks holding its entries and the rest of the
+ * document, and parse those independently into {@link AbstractNodeDataWithSchema} trees. The rest is expected to retain
+ * the first entry of the list, so that the list keeps its position among its siblings. Each chunk is expected to hold
+ * only the list, enclosed in the same containers as in the rest. This class checks the trees conform to that
+ * expectation and moves the entries of the chunks, in chunk order, into the list in the rest. Writing the rest then
+ * emits the same events, including {@link NormalizedNodeStreamWriter#nextDataSchemaNode(DataSchemaNode)} hints, as
+ * parsing the document as a whole would.
+ */
+@Beta
+public final class SplitListMerger {
+    private SplitListMerger() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Merge the results of parsing a split document into the tree of its rest.
+     *
+     * @param rest tree of the document with all entries of the list except the first one removed
+     * @param chunks trees of chunks of the list, in document order
+     * @return {@code true} if the entries were merged, {@code false} if the trees do not have the expected shape, in
+     *         which case the caller should parse the document as a whole
+     */
+    public static boolean merge(final CompositeNodeDataWithSchema<?> rest,
+            final List<? extends CompositeNodeDataWithSchema<?>> chunks) {
+        if (chunks.isEmpty()) {
+            return false;
+        }
+
+        // Each chunk has to have a single composite child, all of them of the same schema
+        DataSchemaNode schema = null;
+        final var chunkChildren = new ArrayList<CompositeNodeDataWithSchema<?>>(chunks.size());
+        for (var chunk : chunks) {
+            final var children = chunk.children();
+            if (children.size() != 1 || !(children.get(0) instanceof CompositeNodeDataWithSchema<?> child)) {
+                return false;
+            }
+            if (schema == null) {
+                schema = child.getSchema();
+            } else if (!schema.equals(child.getSchema())) {
+                return false;
+            }
+            chunkChildren.add(child);
+        }
+
+        final var restChild = findChild(rest, schema);
+        if (restChild instanceof ListNodeDataWithSchema restList) {
+            // Anything but the first entry means the list also appears elsewhere, let the caller deal with that
+            final var entries = restList.children();
+            if (entries.size() != 1) {
+                return false;
+            }
+            for (var chunkList : chunkChildren) {
+                entries.addAll(chunkList.children());
+            }
+            return true;
+        }
+        return restChild instanceof ContainerNodeDataWithSchema restContainer && merge(restContainer, chunkChildren);
+    }
+
+    private static @Nullable AbstractNodeDataWithSchema<?> findChild(final CompositeNodeDataWithSchema<?> parent,
+            final DataSchemaNode schema) {
+        AbstractNodeDataWithSchema<?> found = null;
+        for (var child : parent.children()) {
+            if (schema.equals(child.getSchema())) {
+                if (found != null) {
+                    return null;
+                }
+                found = child;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+class LeafValueInternerTest {
+    private final LeafValueInterner interner = new LeafValueInterner();
+
+    @Test
+    void testInternString() {
+        final String first = new StringBuilder("fo").append('o').toString();
+        final String second = new StringBuilder("fo").append('o').toString();
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.hitCount());
+        assertEquals(1, interner.missCount());
+    }
+
+    @Test
+    void testInternUint64() {
+        final Uint64 first = Uint64.valueOf("12345678901234567890");
+        final Uint64 second = Uint64.valueOf("12345678901234567890");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    void testDecimal64ScaleIsRetained() {
+        final Decimal64 first = Decimal64.of(1, 10);
+        final Decimal64 second = Decimal64.of(2, 100);
+        assertEquals(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertSame(first, interner.intern(Decimal64.of(1, 10)));
+        assertEquals(1, interner.hitCount());
+        assertEquals(2, interner.missCount());
+    }
+
+    @Test
+    void testBinaryIsNotInterned() {
+        final byte[] bytes = { 1, 2, 3 };
+        assertSame(bytes, interner.intern(bytes));
+        assertEquals(0, interner.hitCount());
+        assertEquals(0, interner.missCount());
+    }
+}